@@ -314,6 +314,9 @@ CREATE TABLE `bookings` (
   KEY `idx_bookings_status_date` (`confirmation_status`,`start_date`),
   KEY `idx_bookings_payment_date` (`payment_status`,`start_date`),
   KEY `idx_bookings_payment_status` (`payment_status`),
+  KEY `idx_bookings_confirmation_created` (`confirmation_status`,`created_at`),
+  KEY `idx_bookings_payment_created` (`payment_status`,`created_at`),
+  KEY `idx_bookings_customer_email` (`customer_email`),
   CONSTRAINT `bookings_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE SET NULL,
   CONSTRAINT `bookings_ibfk_2` FOREIGN KEY (`tour_id`) REFERENCES `tours` (`id`) ON DELETE RESTRICT,
   CONSTRAINT `bookings_ibfk_3` FOREIGN KEY (`schedule_id`) REFERENCES `tour_schedules` (`id`) ON DELETE SET NULL,
@@ -332,6 +335,24 @@ INSERT INTO `bookings` VALUES (1,'BK77807711214',999,3,NULL,'Nguyễn Văn A','c
 /*!40000 ALTER TABLE `bookings` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `cache_invalidations`
+--
+
+DROP TABLE IF EXISTS `cache_invalidations`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `cache_invalidations` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `entity_name` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `entity_id` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `origin_node` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_cache_invalidations_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `cancellation_policies`
 --
@@ -730,6 +751,7 @@ CREATE TABLE `notifications` (
   KEY `idx_notifications_user_id` (`user_id`),
   KEY `idx_notifications_is_read` (`is_read`),
   KEY `idx_notifications_type` (`type`),
+  KEY `idx_notifications_created_at` (`created_at`),
   CONSTRAINT `notifications_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=282 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -744,6 +766,31 @@ INSERT INTO `notifications` VALUES (7,NULL,'Cập nhật hệ thống','Hệ th
 /*!40000 ALTER TABLE `notifications` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `outbox_messages`
+--
+
+DROP TABLE IF EXISTS `outbox_messages`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `outbox_messages` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `type` varchar(100) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `payload` mediumtext COLLATE utf8mb4_unicode_ci NOT NULL,
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `attempts` int NOT NULL DEFAULT '0',
+  `next_attempt_at` datetime(6) NOT NULL,
+  `claim_token` varchar(36) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `claimed_at` datetime(6) DEFAULT NULL,
+  `last_error` varchar(500) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `created_at` datetime(6) NOT NULL,
+  `processed_at` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_outbox_messages_status_next` (`status`,`next_attempt_at`),
+  KEY `idx_outbox_messages_claim_token` (`claim_token`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `partner_favorites`
 --
@@ -832,7 +879,10 @@ CREATE TABLE `partners` (
   PRIMARY KEY (`id`),
   KEY `idx_partners_type` (`type`),
   KEY `idx_partners_status` (`status`),
-  KEY `idx_partners_slug` (`slug`)
+  KEY `idx_partners_slug` (`slug`),
+  KEY `idx_partners_status_type` (`status`,`type`),
+  KEY `idx_partners_name` (`name`),
+  KEY `idx_partners_created_at` (`created_at`)
 ) ENGINE=InnoDB AUTO_INCREMENT=38 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -1091,6 +1141,26 @@ LOCK TABLES `refresh_tokens` WRITE;
 /*!40000 ALTER TABLE `refresh_tokens` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `review_helpful_votes`
+--
+
+DROP TABLE IF EXISTS `review_helpful_votes`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `review_helpful_votes` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `review_id` bigint NOT NULL,
+  `user_id` bigint NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_review_helpful_votes_review_user` (`review_id`,`user_id`),
+  KEY `idx_review_helpful_votes_user` (`user_id`),
+  CONSTRAINT `fk_review_helpful_votes_review` FOREIGN KEY (`review_id`) REFERENCES `reviews` (`id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_review_helpful_votes_user` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `reviews`
 --
@@ -1129,6 +1199,7 @@ CREATE TABLE `reviews` (
   KEY `idx_reviews_tour_status` (`tour_id`,`status`),
   KEY `idx_reviews_tour_rating` (`tour_id`,`rating`),
   KEY `idx_reviews_user_status` (`user_id`,`status`),
+  KEY `idx_reviews_created_at` (`created_at`),
   CONSTRAINT `reviews_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE SET NULL,
   CONSTRAINT `reviews_ibfk_2` FOREIGN KEY (`tour_id`) REFERENCES `tours` (`id`) ON DELETE CASCADE,
   CONSTRAINT `reviews_ibfk_3` FOREIGN KEY (`booking_id`) REFERENCES `bookings` (`id`) ON DELETE CASCADE,
@@ -1552,6 +1623,12 @@ CREATE TABLE `tours` (
   `latitude` double DEFAULT NULL,
   `longitude` double DEFAULT NULL,
   `weather_enabled` tinyint(1) DEFAULT '1' COMMENT 'Bật/tắt hiển thị thời tiết',
+  `rating_sum` bigint NOT NULL DEFAULT '0' COMMENT 'Sum of approved review ratings',
+  `rating_1_count` bigint NOT NULL DEFAULT '0',
+  `rating_2_count` bigint NOT NULL DEFAULT '0',
+  `rating_3_count` bigint NOT NULL DEFAULT '0',
+  `rating_4_count` bigint NOT NULL DEFAULT '0',
+  `rating_5_count` bigint NOT NULL DEFAULT '0',
   PRIMARY KEY (`id`),
   UNIQUE KEY `slug` (`slug`),
   KEY `idx_tours_tour_type` (`tour_type`),
@@ -1581,7 +1658,7 @@ CREATE TABLE `tours` (
 
 LOCK TABLES `tours` WRITE;
 /*!40000 ALTER TABLE `tours` DISABLE KEYS */;
-INSERT INTO `tours` VALUES (1,'Hà Nội - Hạ Long - Ninh Bình 3N2Đ','ha-noi-ha-long-ninh-binh-3n2d','Khám phá ba điểm đến nổi tiếng miền Bắc','Tour trọn gói khám phá Vịnh Hạ Long kỳ vĩ, Tràng An Ninh Bình thơ mộng và Hà Nội ngàn năm văn hiến. Tham quan các di tích lịch sử, thưởng thức ẩm thực đặc sản.','',2890000.00,2490000.00,1743000.00,NULL,3,4,30,6,'DOMESTIC','Hà Nội','Hạ Long - Ninh Bình','Hà Nội,Hạ Long,Ninh Bình','Miền Bắc',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'http://localhost:8080/uploads/1b21b498-3e02-4d49-b2fa-c4e6aaa5794d.jpg','ACTIVE',1,0,'2025-10-02 03:40:59','2025-11-06 08:02:49',NULL,NULL,4.75,4,20.2506,105.9745,1),(2,'Sapa - Fansipan - Cát Cát 2N3Đ','sapa-fansipan-cat-cat-2n3d','Chinh phục nóc nhà Đông Dương','Trekking chinh phục đỉnh Fansipan bằng cáp treo, khám phá bản Cát Cát, thưởng ngoạn ruộng bậc thang, trải nghiệm văn hóa dân tộc thiểu số.','',1890000.00,NULL,1323000.00,NULL,2,4,20,2,'DOMESTIC','Hà Nội','Sapa','Lào Cai,Sapa,Fansipan','Miền Bắc',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-12-22 22:42:54',NULL,NULL,4,3,22.3364,103.8438,1),(3,'Đà Lạt - Thành phố ngàn hoa 3N2Đ','da-lat-thanh-pho-ngan-hoa-3n2d','Lãng mạn thành phố sương mù','Tham quan thác Datanla, Hồ Tuyền Lâm, check-in cà phê đẹp, đi dạo Hồ Xuân Hương, chợ đêm Đà Lạt, nông trại dâu tây.','',2790000.00,NULL,1953000.00,NULL,3,4,25,5,'DOMESTIC','TP.HCM','Đà Lạt','Lâm Đồng,Đà Lạt','Miền Nam',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,4.6667,3,11.9404,108.4583,1),(4,'Tây Bắc - Điện Biên - Mộc Châu 5N4Đ','tay-bac-dien-bien-moc-chau-5n4d','Hành trình chinh phục Tây Bắc','Tour khám phá vùng Tây Bắc hùng vĩ: Điện Biên Phủ anh hùng, Mộc Châu thơ mộng, Sơn La núi rừng hùng vĩ, trải nghiệm văn hóa dân tộc.','',6890000.00,6490000.00,4543000.00,NULL,5,6,20,8,'DOMESTIC','Hà Nội','Điện Biên - Mộc Châu','Điện Biên,Sơn La,Mộc Châu','Miền Bắc',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-18 23:02:38',NULL,NULL,0,0,NULL,NULL,1),(5,'Tây Nguyên - Buôn Ma Thuột 4N3Đ','tay-nguyen-buon-ma-thuot-4n3d','Vùng đất huyền thoại','Khám phá vùng đất Tây Nguyên với cà phê nguyên chất, thác Dray Nur hùng vĩ, biển Hồ thơ mộng, văn hóa cồng chiêng độc đáo.','',4990000.00,NULL,3493000.00,NULL,4,4,25,3,'DOMESTIC','TP.HCM','Buôn Ma Thuột','Đắk Lắk,Buôn Ma Thuột','Miền Trung',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-18 23:19:57',NULL,NULL,0,0,NULL,NULL,1),(6,'Đà Nẵng - Hội An - Bà Nà 4N3Đ','da-nang-hoi-an-ba-na-4n3d','Biển xanh cát trắng phố cổ','Tour trọn gói khám phá Đà Nẵng hiện đại, phố cổ Hội An cổ kính, Sun World Bà Nà Hills với Cầu Vàng nổi tiếng. Tắm biển Mỹ Khê, check-in sống ảo.','',3990000.00,3490000.00,2443000.00,NULL,4,4,25,1,'DOMESTIC','Hà Nội','Đà Nẵng - Hội An','Đà Nẵng,Hội An,Bà Nà','Miền Trung',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559592413-7cec4d0cae2b?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-12-22 21:00:31',NULL,NULL,4.6667,3,15.8801,108.338,1),(7,'Huế - Động Phong Nha 3N2Đ','hue-dong-phong-nha-3n2d','Di sản văn hóa thế giới','Tham quan Đại Nội Huế, lăng tẩm các vua triều Nguyễn, thưởng ngoạn sông Hương thơ mộng, khám phá động Phong Nha - hang động đẹp nhất thế giới.','',3290000.00,NULL,2303000.00,NULL,3,4,25,3,'DOMESTIC','Đà Nẵng','Huế - Phong Nha','Thừa Thiên Huế,Quảng Bình','Miền Trung',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1585159812596-fac104f2f069?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-12-22 22:28:11',NULL,NULL,5,1,16.4637,107.5909,1),(8,'Quy Nhơn - Phú Yên 3N2Đ','quy-nhon-phu-yen-3n2d','Thiên đường biển ẩn mình','Khám phá thiên đường biển hoang sơ Quy Nhơn - Phú Yên: Gành Đá Đĩa kỳ thú, Eo Gió thơ mộng, bãi Xép tuyệt đẹp, Kỳ Co thiên đường.',NULL,2690000.00,2390000.00,1673000.00,NULL,3,4,25,1,'DOMESTIC','TP.HCM','Quy Nhơn - Phú Yên','Bình Định,Phú Yên','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,13.783,109.2196,1),(9,'Nha Trang - Tour 4 Đảo 3N2Đ','nha-trang-tour-4-dao-3n2d','Thiên đường biển Nha Trang','Du thuyền khám phá 4 đảo Nha Trang: lặn ngắm san hô, tắm bùn khoáng, thưởng thức hải sản tươi sống, check-in Vinpearl Land.',NULL,3190000.00,NULL,2233000.00,NULL,3,4,30,1,'DOMESTIC','TP.HCM','Nha Trang','Khánh Hòa,Nha Trang','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1506953823976-52e1fdc0149a?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,4,2,12.2388,109.1967,1),(10,'Phú Quốc - Thiên đường nghỉ dưỡng 4N3Đ','phu-quoc-thien-duong-nghi-duong-4n3d','Đảo ngọc Phú Quốc','Tour cao cấp nghỉ dưỡng resort 5 sao, tham quan Vinpearl Safari, Grand World, câu cá, lặn ngắm san hô, thưởng thức hải sản tươi sống.',NULL,5990000.00,5390000.00,3773000.00,NULL,4,4,25,1,'DOMESTIC','TP.HCM','Phú Quốc','Kiên Giang,Phú Quốc','Miền Nam',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,5,2,10.2897,103.9837,1),(11,'Côn Đảo - Hành trình về cội nguồn 3N2Đ','con-dao-hanh-trinh-ve-coi-nguon-3n2d','Đảo thiêng liêng','Tham quan nhà tù Côn Đảo, nghĩa trang Hàng Dương, lặn ngắm san hô, thưởng thức hải sản, check-in biển xanh cát trắng.',NULL,6490000.00,NULL,4543000.00,NULL,3,4,20,1,'DOMESTIC','TP.HCM','Côn Đảo','Bà Rịa - Vũng Tàu,Côn Đảo','Miền Nam',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,8.6833,106.6,1),(12,'Cần Thơ - Miền Tây sông nước 3N2Đ','can-tho-mien-tay-song-nuoc-3n2d','Miền Tây sông nước','Khám phá chợ nổi Cái Răng, vườn trái cây Mỹ Khánh, nhà cổ Bình Thủy, ẩm thực đặc sản miền Tây, trải nghiệm đi thuyền trên sông.',NULL,2290000.00,NULL,1603000.00,NULL,3,4,25,3,'DOMESTIC','TP.HCM','Cần Thơ','Cần Thơ,Vĩnh Long,An Giang','Miền Tây',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1552850638-02d977a2a788?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,10.0452,105.7469,1),(13,'Vịnh Lan Hạ - Cát Bà 2N1Đ','vinh-lan-ha-cat-ba-2n1d','Vịnh Lan Hạ tuyệt đẹp','Du thuyền sang trọng khám phá Vịnh Lan Hạ hoang sơ, chèo kayak, bơi lội, tắm nắng, thưởng thức hải sản tươi sống trên thuyền.',NULL,2490000.00,2290000.00,1603000.00,NULL,2,4,25,1,'DOMESTIC','Hà Nội','Cát Bà - Lan Hạ','Hải Phòng,Cát Bà','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1528127269322-539801943592?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,20.7272,106.9802,1),(14,'Ninh Bình - Tràng An - Tam Cốc 1N2Đ','ninh-binh-trang-an-tam-coc-1n2d','Vịnh Hạ Long trên cạn','Tour 1 ngày khám phá Tràng An, Tam Cốc, Hang Múa, Bái Đính, Vân Long, thưởng thức đặc sản dê núi, cơm cháy.',NULL,1490000.00,NULL,1043000.00,NULL,1,4,30,6,'DOMESTIC','Hà Nội','Ninh Bình','Ninh Bình,Tràng An','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1587979206897-e954cb4c0e98?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,20.2506,105.9745,1),(15,'Mai Châu - Pù Luông 2N1Đ','mai-chau-pu-luong-2n1d','Homestay bản làng','Trải nghiệm homestay bản làng, ngắm ruộng bậc thang, đạp xe qua cánh đồng, thưởng thức rượu cần, múa sạp dân tộc Thái.',NULL,1990000.00,NULL,1393000.00,NULL,2,4,20,5,'DOMESTIC','Hà Nội','Mai Châu - Pù Luông','Hòa Bình,Thanh Hóa','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559592413-7cec4d0cae2b?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,20.6783,105.0642,1),(16,'Hà Giang - Cao nguyên đá 4N3Đ','ha-giang-cao-nguyen-da-4n3d','Cao nguyên đá Đồng Văn','Phượt Hà Giang chinh phục đèo Mã Pí Lèng, cao nguyên đá Đồng Văn, phố cổ Đồng Văn, cột cờ Lũng Cú, ruộng bậc thang.',NULL,4290000.00,3990000.00,2793000.00,NULL,4,6,15,8,'DOMESTIC','Hà Nội','Hà Giang','Hà Giang,Đồng Văn,Mèo Vạc','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,22.8236,104.9784,1),(17,'Mũi Né - Phan Thiết 3N2Đ','mui-ne-phan-thiet-3n2d','Biển xanh cát trắng','Nghỉ dưỡng resort, tham quan đồi cát bay, suối tiên, làng chài, ngắm bình minh, thưởng thức hải sản tươi sống.',NULL,2590000.00,NULL,1813000.00,NULL,3,4,30,1,'DOMESTIC','TP.HCM','Mũi Né - Phan Thiết','Bình Thuận,Mũi Né','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,10.9333,108.1,1),(18,'Vũng Tàu - Hồ Cốc 2N1Đ','vung-tau-ho-coc-2n1d','Biển gần Sài Gòn','Tour cuối tuần tham quan Bạch Dinh, Tượng Chúa, Hải Đăng, tắm biển Hồ Cốc hoang sơ, check-in sống ảo.',NULL,1790000.00,NULL,1253000.00,NULL,2,4,30,1,'DOMESTIC','TP.HCM','Vũng Tàu','Bà Rịa - Vũng Tàu','Miền Nam',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,10.3459,107.0843,1),(19,'Quảng Bình - Thiên đường hang động 4N3Đ','quang-binh-thien-duong-hang-dong-4n3d','Vương quốc hang động','Khám phá động Thiên Đường, Sơn Đoòng (bên ngoài), Phong Nha, Paradise Cave, Dark Cave với zipline và kayak.',NULL,3790000.00,3330000.00,2331000.00,NULL,4,4,25,6,'DOMESTIC','Hà Nội','Quảng Bình','Quảng Bình,Động Phong Nha','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1585159812596-fac104f2f069?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(20,'Hạ Long - Yên Tử 3N2Đ','ha-long-yen-tu-3n2d','Thiên nhiên và tâm linh','Du thuyền Hạ Long 2N1Đ, leo chùa Yên Tử, cáp treo lên đỉnh Yên Tử, tham quan chùa Đồng, ngắm hoàng hôn trên vịnh.',NULL,3490000.00,NULL,2443000.00,NULL,3,4,25,6,'DOMESTIC','Hà Nội','Hạ Long - Yên Tử','Quảng Ninh,Yên Tử','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1528127269322-539801943592?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,20.9599,107.0431,1),(21,'Bình Ba - Đảo Tôm Hùm 2N1Đ','binh-ba-dao-tom-hum-2n1d','Đảo Tôm Hùm','Khám phá đảo Bình Ba hoang sơ, lặn ngắm san hô, tắm biển, thưởng thức tôm hùm giá rẻ, check-in sống ảo.',NULL,2190000.00,NULL,1533000.00,NULL,2,4,20,1,'DOMESTIC','Nha Trang','Bình Ba','Khánh Hòa,Bình Ba','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(22,'Côn Sơn - Kiếp Bạc 1N2Đ','con-son-kiep-bac-1n2d','Hành hương tâm linh','Tour 1 ngày tham quan chùa Côn Sơn, đền Kiếp Bạc, đền Bà Chúa Kho, ngắm cảnh non nước hữu tình.',NULL,890000.00,NULL,623000.00,NULL,1,4,30,3,'DOMESTIC','Hà Nội','Hải Dương','Hải Dương,Hưng Yên','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559592413-7cec4d0cae2b?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(23,'Bangkok - Pattaya 4N3Đ','bangkok-pattaya-4n3d','Thiên đường mua sắm','Tour Thái Lan tham quan chùa Vàng, Cung điện Hoàng gia, Safari World, show Alcazar, biển Pattaya, chợ đêm.','',6990000.00,5940000.00,4158000.00,NULL,4,10,30,6,'INTERNATIONAL','TP.HCM','Bangkok - Pattaya','Bangkok,Pattaya','Châu Á',NULL,NULL,NULL,NULL,NULL,'','',1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1563492065831-14b9bc1885fd?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(24,'Singapore - Garden City 4N3Đ','singapore-garden-city-4n3d','Đảo quốc sư tử','Tour Singapore tham quan Gardens by the Bay, Marina Bay Sands, Sentosa, Universal Studios, Merlion Park.',NULL,8990000.00,8090000.00,5663000.00,NULL,4,8,25,4,'INTERNATIONAL','TP.HCM','Singapore','Singapore','Đông Nam Á',NULL,'SG',NULL,NULL,NULL,NULL,NULL,0,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1525625293386-3f8f99389edd?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(25,'Seoul - Nami - Everland 5N4Đ','seoul-nami-everland-5n4d','Xứ sở kim chi','Tour Hàn Quốc tham quan cung điện Gyeongbokgung, làng Hanok, tháp N Seoul, đảo Nami, Everland, mua sắm Myeongdong.',NULL,12990000.00,11430000.00,8001000.00,NULL,5,10,25,4,'INTERNATIONAL','Hà Nội','Seoul','Seoul,Nami,Everland','Đông Bắc Á',NULL,'KR',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1538485399081-7191377e8241?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(26,'Tokyo - Phú Sĩ - Osaka 6N5Đ','tokyo-phu-si-osaka-6n5d','Xứ sở hoa anh đào','Tour Nhật Bản tham quan Tokyo Tower, núi Phú Sĩ, Disneyland, đền Sensoji, Osaka Castle, mua sắm Shinjuku.','',21990000.00,14999000.00,15393000.00,NULL,6,10,20,4,'INTERNATIONAL','Hà Nội','Tokyo - Osaka','Tokyo,Phú Sĩ,Osaka','Đông Bắc Á',NULL,NULL,NULL,NULL,NULL,'','',1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1540959733332-eab4deabeeaf?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(27,'Bali - Thiên đường nhiệt đới 5N4Đ','bali-thien-duong-nhiet-doi-5n4d','Đảo của các vị thần','Tour Bali tham quan đền Tanah Lot, ruộng bậc thang Tegalalang, núi lửa Batur, bãi biển Seminyak, nghỉ dưỡng resort.',NULL,9990000.00,9090000.00,6363000.00,NULL,5,8,25,4,'INTERNATIONAL','TP.HCM','Bali','Bali,Ubud,Seminyak','Đông Nam Á',NULL,'ID',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1537996194471-e657df975ab4?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(28,'Dubai - Abu Dhabi 5N4Đ','dubai-abu-dhabi-5n4d','Siêu thành phố sa mạc','Tour Dubai tham quan Burj Khalifa, đảo cọ, Dubai Mall, sa mạc Safari, Abu Dhabi Grand Mosque, mua sắm miễn thuế.',NULL,15990000.00,14710000.00,10297000.00,NULL,5,10,20,4,'INTERNATIONAL','TP.HCM','Dubai','Dubai,Abu Dhabi','Trung Đông',NULL,'AE',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1512453979798-5ea266f8880c?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(29,'Maldives - Thiên đường biển 6N5Đ','maldives-thien-duong-bien-6n5d','Thiên đường trên mặt nước','Tour Maldives nghỉ dưỡng resort 5 sao, biệt thự trên mặt nước, lặn ngắm san hô, câu cá, spa, honeymoon lý tưởng.',NULL,29990000.00,NULL,20993000.00,NULL,6,2,20,7,'INTERNATIONAL','TP.HCM','Maldives','Malé,Maldives','Nam Á',NULL,'MV',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1514282401047-d79a71a590e8?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1),(30,'Pháp - Thụy Sĩ - Ý 10N9Đ','phap-thuy-si-y-10n9d','Châu Âu cổ kính','Tour Châu Âu tham quan Paris, tháp Eiffel, Zurich, Milan, Venice, Roma, Vatican, ẩm thực Âu tinh tế.','',49990000.00,38999000.00,31493000.00,NULL,10,15,25,4,'INTERNATIONAL','Hà Nội','Paris - Zurich - Milan','Paris,Zurich,Milan,Roma','Châu Âu',NULL,NULL,NULL,NULL,NULL,'','',1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1502602898657-3e91760cbb34?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1);
+INSERT INTO `tours` VALUES (1,'Hà Nội - Hạ Long - Ninh Bình 3N2Đ','ha-noi-ha-long-ninh-binh-3n2d','Khám phá ba điểm đến nổi tiếng miền Bắc','Tour trọn gói khám phá Vịnh Hạ Long kỳ vĩ, Tràng An Ninh Bình thơ mộng và Hà Nội ngàn năm văn hiến. Tham quan các di tích lịch sử, thưởng thức ẩm thực đặc sản.','',2890000.00,2490000.00,1743000.00,NULL,3,4,30,6,'DOMESTIC','Hà Nội','Hạ Long - Ninh Bình','Hà Nội,Hạ Long,Ninh Bình','Miền Bắc',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'http://localhost:8080/uploads/1b21b498-3e02-4d49-b2fa-c4e6aaa5794d.jpg','ACTIVE',1,0,'2025-10-02 03:40:59','2025-11-06 08:02:49',NULL,NULL,4.75,4,20.2506,105.9745,1,0,0,0,0,0,0),(2,'Sapa - Fansipan - Cát Cát 2N3Đ','sapa-fansipan-cat-cat-2n3d','Chinh phục nóc nhà Đông Dương','Trekking chinh phục đỉnh Fansipan bằng cáp treo, khám phá bản Cát Cát, thưởng ngoạn ruộng bậc thang, trải nghiệm văn hóa dân tộc thiểu số.','',1890000.00,NULL,1323000.00,NULL,2,4,20,2,'DOMESTIC','Hà Nội','Sapa','Lào Cai,Sapa,Fansipan','Miền Bắc',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-12-22 22:42:54',NULL,NULL,4,3,22.3364,103.8438,1,0,0,0,0,0,0),(3,'Đà Lạt - Thành phố ngàn hoa 3N2Đ','da-lat-thanh-pho-ngan-hoa-3n2d','Lãng mạn thành phố sương mù','Tham quan thác Datanla, Hồ Tuyền Lâm, check-in cà phê đẹp, đi dạo Hồ Xuân Hương, chợ đêm Đà Lạt, nông trại dâu tây.','',2790000.00,NULL,1953000.00,NULL,3,4,25,5,'DOMESTIC','TP.HCM','Đà Lạt','Lâm Đồng,Đà Lạt','Miền Nam',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,4.6667,3,11.9404,108.4583,1,0,0,0,0,0,0),(4,'Tây Bắc - Điện Biên - Mộc Châu 5N4Đ','tay-bac-dien-bien-moc-chau-5n4d','Hành trình chinh phục Tây Bắc','Tour khám phá vùng Tây Bắc hùng vĩ: Điện Biên Phủ anh hùng, Mộc Châu thơ mộng, Sơn La núi rừng hùng vĩ, trải nghiệm văn hóa dân tộc.','',6890000.00,6490000.00,4543000.00,NULL,5,6,20,8,'DOMESTIC','Hà Nội','Điện Biên - Mộc Châu','Điện Biên,Sơn La,Mộc Châu','Miền Bắc',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-18 23:02:38',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(5,'Tây Nguyên - Buôn Ma Thuột 4N3Đ','tay-nguyen-buon-ma-thuot-4n3d','Vùng đất huyền thoại','Khám phá vùng đất Tây Nguyên với cà phê nguyên chất, thác Dray Nur hùng vĩ, biển Hồ thơ mộng, văn hóa cồng chiêng độc đáo.','',4990000.00,NULL,3493000.00,NULL,4,4,25,3,'DOMESTIC','TP.HCM','Buôn Ma Thuột','Đắk Lắk,Buôn Ma Thuột','Miền Trung',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-18 23:19:57',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(6,'Đà Nẵng - Hội An - Bà Nà 4N3Đ','da-nang-hoi-an-ba-na-4n3d','Biển xanh cát trắng phố cổ','Tour trọn gói khám phá Đà Nẵng hiện đại, phố cổ Hội An cổ kính, Sun World Bà Nà Hills với Cầu Vàng nổi tiếng. Tắm biển Mỹ Khê, check-in sống ảo.','',3990000.00,3490000.00,2443000.00,NULL,4,4,25,1,'DOMESTIC','Hà Nội','Đà Nẵng - Hội An','Đà Nẵng,Hội An,Bà Nà','Miền Trung',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559592413-7cec4d0cae2b?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-12-22 21:00:31',NULL,NULL,4.6667,3,15.8801,108.338,1,0,0,0,0,0,0),(7,'Huế - Động Phong Nha 3N2Đ','hue-dong-phong-nha-3n2d','Di sản văn hóa thế giới','Tham quan Đại Nội Huế, lăng tẩm các vua triều Nguyễn, thưởng ngoạn sông Hương thơ mộng, khám phá động Phong Nha - hang động đẹp nhất thế giới.','',3290000.00,NULL,2303000.00,NULL,3,4,25,3,'DOMESTIC','Đà Nẵng','Huế - Phong Nha','Thừa Thiên Huế,Quảng Bình','Miền Trung',NULL,NULL,NULL,NULL,NULL,'','',0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1585159812596-fac104f2f069?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-12-22 22:28:11',NULL,NULL,5,1,16.4637,107.5909,1,0,0,0,0,0,0),(8,'Quy Nhơn - Phú Yên 3N2Đ','quy-nhon-phu-yen-3n2d','Thiên đường biển ẩn mình','Khám phá thiên đường biển hoang sơ Quy Nhơn - Phú Yên: Gành Đá Đĩa kỳ thú, Eo Gió thơ mộng, bãi Xép tuyệt đẹp, Kỳ Co thiên đường.',NULL,2690000.00,2390000.00,1673000.00,NULL,3,4,25,1,'DOMESTIC','TP.HCM','Quy Nhơn - Phú Yên','Bình Định,Phú Yên','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,13.783,109.2196,1,0,0,0,0,0,0),(9,'Nha Trang - Tour 4 Đảo 3N2Đ','nha-trang-tour-4-dao-3n2d','Thiên đường biển Nha Trang','Du thuyền khám phá 4 đảo Nha Trang: lặn ngắm san hô, tắm bùn khoáng, thưởng thức hải sản tươi sống, check-in Vinpearl Land.',NULL,3190000.00,NULL,2233000.00,NULL,3,4,30,1,'DOMESTIC','TP.HCM','Nha Trang','Khánh Hòa,Nha Trang','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1506953823976-52e1fdc0149a?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,4,2,12.2388,109.1967,1,0,0,0,0,0,0),(10,'Phú Quốc - Thiên đường nghỉ dưỡng 4N3Đ','phu-quoc-thien-duong-nghi-duong-4n3d','Đảo ngọc Phú Quốc','Tour cao cấp nghỉ dưỡng resort 5 sao, tham quan Vinpearl Safari, Grand World, câu cá, lặn ngắm san hô, thưởng thức hải sản tươi sống.',NULL,5990000.00,5390000.00,3773000.00,NULL,4,4,25,1,'DOMESTIC','TP.HCM','Phú Quốc','Kiên Giang,Phú Quốc','Miền Nam',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,5,2,10.2897,103.9837,1,0,0,0,0,0,0),(11,'Côn Đảo - Hành trình về cội nguồn 3N2Đ','con-dao-hanh-trinh-ve-coi-nguon-3n2d','Đảo thiêng liêng','Tham quan nhà tù Côn Đảo, nghĩa trang Hàng Dương, lặn ngắm san hô, thưởng thức hải sản, check-in biển xanh cát trắng.',NULL,6490000.00,NULL,4543000.00,NULL,3,4,20,1,'DOMESTIC','TP.HCM','Côn Đảo','Bà Rịa - Vũng Tàu,Côn Đảo','Miền Nam',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,8.6833,106.6,1,0,0,0,0,0,0),(12,'Cần Thơ - Miền Tây sông nước 3N2Đ','can-tho-mien-tay-song-nuoc-3n2d','Miền Tây sông nước','Khám phá chợ nổi Cái Răng, vườn trái cây Mỹ Khánh, nhà cổ Bình Thủy, ẩm thực đặc sản miền Tây, trải nghiệm đi thuyền trên sông.',NULL,2290000.00,NULL,1603000.00,NULL,3,4,25,3,'DOMESTIC','TP.HCM','Cần Thơ','Cần Thơ,Vĩnh Long,An Giang','Miền Tây',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1552850638-02d977a2a788?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,10.0452,105.7469,1,0,0,0,0,0,0),(13,'Vịnh Lan Hạ - Cát Bà 2N1Đ','vinh-lan-ha-cat-ba-2n1d','Vịnh Lan Hạ tuyệt đẹp','Du thuyền sang trọng khám phá Vịnh Lan Hạ hoang sơ, chèo kayak, bơi lội, tắm nắng, thưởng thức hải sản tươi sống trên thuyền.',NULL,2490000.00,2290000.00,1603000.00,NULL,2,4,25,1,'DOMESTIC','Hà Nội','Cát Bà - Lan Hạ','Hải Phòng,Cát Bà','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1528127269322-539801943592?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,20.7272,106.9802,1,0,0,0,0,0,0),(14,'Ninh Bình - Tràng An - Tam Cốc 1N2Đ','ninh-binh-trang-an-tam-coc-1n2d','Vịnh Hạ Long trên cạn','Tour 1 ngày khám phá Tràng An, Tam Cốc, Hang Múa, Bái Đính, Vân Long, thưởng thức đặc sản dê núi, cơm cháy.',NULL,1490000.00,NULL,1043000.00,NULL,1,4,30,6,'DOMESTIC','Hà Nội','Ninh Bình','Ninh Bình,Tràng An','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1587979206897-e954cb4c0e98?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,20.2506,105.9745,1,0,0,0,0,0,0),(15,'Mai Châu - Pù Luông 2N1Đ','mai-chau-pu-luong-2n1d','Homestay bản làng','Trải nghiệm homestay bản làng, ngắm ruộng bậc thang, đạp xe qua cánh đồng, thưởng thức rượu cần, múa sạp dân tộc Thái.',NULL,1990000.00,NULL,1393000.00,NULL,2,4,20,5,'DOMESTIC','Hà Nội','Mai Châu - Pù Luông','Hòa Bình,Thanh Hóa','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559592413-7cec4d0cae2b?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,20.6783,105.0642,1,0,0,0,0,0,0),(16,'Hà Giang - Cao nguyên đá 4N3Đ','ha-giang-cao-nguyen-da-4n3d','Cao nguyên đá Đồng Văn','Phượt Hà Giang chinh phục đèo Mã Pí Lèng, cao nguyên đá Đồng Văn, phố cổ Đồng Văn, cột cờ Lũng Cú, ruộng bậc thang.',NULL,4290000.00,3990000.00,2793000.00,NULL,4,6,15,8,'DOMESTIC','Hà Nội','Hà Giang','Hà Giang,Đồng Văn,Mèo Vạc','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1583417319070-4a69db38a482?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,22.8236,104.9784,1,0,0,0,0,0,0),(17,'Mũi Né - Phan Thiết 3N2Đ','mui-ne-phan-thiet-3n2d','Biển xanh cát trắng','Nghỉ dưỡng resort, tham quan đồi cát bay, suối tiên, làng chài, ngắm bình minh, thưởng thức hải sản tươi sống.',NULL,2590000.00,NULL,1813000.00,NULL,3,4,30,1,'DOMESTIC','TP.HCM','Mũi Né - Phan Thiết','Bình Thuận,Mũi Né','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:42:07',NULL,NULL,0,0,10.9333,108.1,1,0,0,0,0,0,0),(18,'Vũng Tàu - Hồ Cốc 2N1Đ','vung-tau-ho-coc-2n1d','Biển gần Sài Gòn','Tour cuối tuần tham quan Bạch Dinh, Tượng Chúa, Hải Đăng, tắm biển Hồ Cốc hoang sơ, check-in sống ảo.',NULL,1790000.00,NULL,1253000.00,NULL,2,4,30,1,'DOMESTIC','TP.HCM','Vũng Tàu','Bà Rịa - Vũng Tàu','Miền Nam',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,10.3459,107.0843,1,0,0,0,0,0,0),(19,'Quảng Bình - Thiên đường hang động 4N3Đ','quang-binh-thien-duong-hang-dong-4n3d','Vương quốc hang động','Khám phá động Thiên Đường, Sơn Đoòng (bên ngoài), Phong Nha, Paradise Cave, Dark Cave với zipline và kayak.',NULL,3790000.00,3330000.00,2331000.00,NULL,4,4,25,6,'DOMESTIC','Hà Nội','Quảng Bình','Quảng Bình,Động Phong Nha','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1585159812596-fac104f2f069?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(20,'Hạ Long - Yên Tử 3N2Đ','ha-long-yen-tu-3n2d','Thiên nhiên và tâm linh','Du thuyền Hạ Long 2N1Đ, leo chùa Yên Tử, cáp treo lên đỉnh Yên Tử, tham quan chùa Đồng, ngắm hoàng hôn trên vịnh.',NULL,3490000.00,NULL,2443000.00,NULL,3,4,25,6,'DOMESTIC','Hà Nội','Hạ Long - Yên Tử','Quảng Ninh,Yên Tử','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1528127269322-539801943592?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-19 07:38:55',NULL,NULL,0,0,20.9599,107.0431,1,0,0,0,0,0,0),(21,'Bình Ba - Đảo Tôm Hùm 2N1Đ','binh-ba-dao-tom-hum-2n1d','Đảo Tôm Hùm','Khám phá đảo Bình Ba hoang sơ, lặn ngắm san hô, tắm biển, thưởng thức tôm hùm giá rẻ, check-in sống ảo.',NULL,2190000.00,NULL,1533000.00,NULL,2,4,20,1,'DOMESTIC','Nha Trang','Bình Ba','Khánh Hòa,Bình Ba','Miền Trung',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559827260-dc66d52bef19?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(22,'Côn Sơn - Kiếp Bạc 1N2Đ','con-son-kiep-bac-1n2d','Hành hương tâm linh','Tour 1 ngày tham quan chùa Côn Sơn, đền Kiếp Bạc, đền Bà Chúa Kho, ngắm cảnh non nước hữu tình.',NULL,890000.00,NULL,623000.00,NULL,1,4,30,3,'DOMESTIC','Hà Nội','Hải Dương','Hải Dương,Hưng Yên','Miền Bắc',NULL,'VN',NULL,NULL,NULL,NULL,NULL,0,NULL,0,NULL,NULL,NULL,'https://images.unsplash.com/photo-1559592413-7cec4d0cae2b?w=800','ACTIVE',0,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(23,'Bangkok - Pattaya 4N3Đ','bangkok-pattaya-4n3d','Thiên đường mua sắm','Tour Thái Lan tham quan chùa Vàng, Cung điện Hoàng gia, Safari World, show Alcazar, biển Pattaya, chợ đêm.','',6990000.00,5940000.00,4158000.00,NULL,4,10,30,6,'INTERNATIONAL','TP.HCM','Bangkok - Pattaya','Bangkok,Pattaya','Châu Á',NULL,NULL,NULL,NULL,NULL,'','',1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1563492065831-14b9bc1885fd?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(24,'Singapore - Garden City 4N3Đ','singapore-garden-city-4n3d','Đảo quốc sư tử','Tour Singapore tham quan Gardens by the Bay, Marina Bay Sands, Sentosa, Universal Studios, Merlion Park.',NULL,8990000.00,8090000.00,5663000.00,NULL,4,8,25,4,'INTERNATIONAL','TP.HCM','Singapore','Singapore','Đông Nam Á',NULL,'SG',NULL,NULL,NULL,NULL,NULL,0,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1525625293386-3f8f99389edd?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(25,'Seoul - Nami - Everland 5N4Đ','seoul-nami-everland-5n4d','Xứ sở kim chi','Tour Hàn Quốc tham quan cung điện Gyeongbokgung, làng Hanok, tháp N Seoul, đảo Nami, Everland, mua sắm Myeongdong.',NULL,12990000.00,11430000.00,8001000.00,NULL,5,10,25,4,'INTERNATIONAL','Hà Nội','Seoul','Seoul,Nami,Everland','Đông Bắc Á',NULL,'KR',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1538485399081-7191377e8241?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(26,'Tokyo - Phú Sĩ - Osaka 6N5Đ','tokyo-phu-si-osaka-6n5d','Xứ sở hoa anh đào','Tour Nhật Bản tham quan Tokyo Tower, núi Phú Sĩ, Disneyland, đền Sensoji, Osaka Castle, mua sắm Shinjuku.','',21990000.00,14999000.00,15393000.00,NULL,6,10,20,4,'INTERNATIONAL','Hà Nội','Tokyo - Osaka','Tokyo,Phú Sĩ,Osaka','Đông Bắc Á',NULL,NULL,NULL,NULL,NULL,'','',1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1540959733332-eab4deabeeaf?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(27,'Bali - Thiên đường nhiệt đới 5N4Đ','bali-thien-duong-nhiet-doi-5n4d','Đảo của các vị thần','Tour Bali tham quan đền Tanah Lot, ruộng bậc thang Tegalalang, núi lửa Batur, bãi biển Seminyak, nghỉ dưỡng resort.',NULL,9990000.00,9090000.00,6363000.00,NULL,5,8,25,4,'INTERNATIONAL','TP.HCM','Bali','Bali,Ubud,Seminyak','Đông Nam Á',NULL,'ID',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1537996194471-e657df975ab4?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(28,'Dubai - Abu Dhabi 5N4Đ','dubai-abu-dhabi-5n4d','Siêu thành phố sa mạc','Tour Dubai tham quan Burj Khalifa, đảo cọ, Dubai Mall, sa mạc Safari, Abu Dhabi Grand Mosque, mua sắm miễn thuế.',NULL,15990000.00,14710000.00,10297000.00,NULL,5,10,20,4,'INTERNATIONAL','TP.HCM','Dubai','Dubai,Abu Dhabi','Trung Đông',NULL,'AE',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1512453979798-5ea266f8880c?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(29,'Maldives - Thiên đường biển 6N5Đ','maldives-thien-duong-bien-6n5d','Thiên đường trên mặt nước','Tour Maldives nghỉ dưỡng resort 5 sao, biệt thự trên mặt nước, lặn ngắm san hô, câu cá, spa, honeymoon lý tưởng.',NULL,29990000.00,NULL,20993000.00,NULL,6,2,20,7,'INTERNATIONAL','TP.HCM','Maldives','Malé,Maldives','Nam Á',NULL,'MV',NULL,NULL,NULL,NULL,NULL,1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1514282401047-d79a71a590e8?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0),(30,'Pháp - Thụy Sĩ - Ý 10N9Đ','phap-thuy-si-y-10n9d','Châu Âu cổ kính','Tour Châu Âu tham quan Paris, tháp Eiffel, Zurich, Milan, Venice, Roma, Vatican, ẩm thực Âu tinh tế.','',49990000.00,38999000.00,31493000.00,NULL,10,15,25,4,'INTERNATIONAL','Hà Nội','Paris - Zurich - Milan','Paris,Zurich,Milan,Roma','Châu Âu',NULL,NULL,NULL,NULL,NULL,'','',1,NULL,1,NULL,NULL,NULL,'https://images.unsplash.com/photo-1502602898657-3e91760cbb34?w=800','ACTIVE',1,0,'2025-10-02 03:40:59','2025-10-15 16:15:11',NULL,NULL,0,0,NULL,NULL,1,0,0,0,0,0,0);
 /*!40000 ALTER TABLE `tours` ENABLE KEYS */;
 UNLOCK TABLES;
 
@@ -1608,6 +1685,7 @@ CREATE TABLE `user_activities` (
   KEY `idx_user_activities_user_id` (`user_id`),
   KEY `idx_user_activities_activity_type` (`activity_type`),
   KEY `idx_user_activities_created_at` (`created_at`),
+  KEY `idx_user_activities_type_created` (`activity_type`,`created_at`),
   KEY `idx_user_activities_session_id` (`session_id`),
   KEY `idx_user_activities_ip_address` (`ip_address`),
   KEY `idx_user_activities_type` (`activity_type`),
@@ -1668,8 +1746,10 @@ CREATE TABLE `user_sessions` (
   KEY `idx_user_sessions_device_type` (`device_type`),
   KEY `idx_user_sessions_country` (`country`),
   KEY `idx_user_sessions_active` (`is_active`),
+  KEY `idx_user_sessions_active_user_ip` (`is_active`,`user_id`,`ip_address`),
   KEY `idx_user_sessions_last_activity` (`last_activity`),
   KEY `idx_user_sessions_expires_at` (`expires_at`),
+  KEY `idx_user_sessions_created_at` (`created_at`),
   CONSTRAINT `user_sessions_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -1732,6 +1812,32 @@ INSERT INTO `users` VALUES (1,'Admin','admin@travelbooking.vn','$2a$10$GUjFW7ARH
 /*!40000 ALTER TABLE `users` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `vnpay_notifications`
+--
+
+DROP TABLE IF EXISTS `vnpay_notifications`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `vnpay_notifications` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `txn_ref` varchar(100) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `transaction_no` varchar(100) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `response_code` varchar(10) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `params` text COLLATE utf8mb4_unicode_ci NOT NULL,
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `attempts` int NOT NULL DEFAULT '0',
+  `next_attempt_at` datetime(6) NOT NULL,
+  `claimed_at` datetime(6) DEFAULT NULL,
+  `last_error` varchar(500) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `received_at` datetime(6) NOT NULL,
+  `processed_at` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_vnpay_notifications_txn` (`txn_ref`,`transaction_no`),
+  KEY `idx_vnpay_notifications_status_next` (`status`,`next_attempt_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `wishlists`
 --
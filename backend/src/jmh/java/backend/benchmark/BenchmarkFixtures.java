@@ -0,0 +1,117 @@
+package backend.benchmark;
+
+import backend.entity.Booking;
+import backend.entity.Category;
+import backend.entity.Tour;
+import backend.entity.TourItinerary;
+import backend.entity.TourSchedule;
+import backend.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detached entities shaped like production rows (JSON columns, Vietnamese text, 5-day itinerary)
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Tour tour(long id) {
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Du lịch biển");
+        category.setSlug("du-lich-bien");
+
+        Tour tour = new Tour();
+        tour.setId(id);
+        tour.setName("Phú Quốc - Đảo Ngọc 4N3Đ " + id);
+        tour.setSlug("phu-quoc-dao-ngoc-4n3d-" + id);
+        tour.setShortDescription("Khám phá Nam đảo, lặn ngắm san hô và hoàng hôn Sunset Town");
+        tour.setDescription("Hành trình 4 ngày 3 đêm tại Phú Quốc với khách sạn 4 sao sát biển. ".repeat(20));
+        tour.setPrice(new BigDecimal("5990000.00"));
+        tour.setSalePrice(new BigDecimal("5490000.00"));
+        tour.setChildPrice(new BigDecimal("4190000.00"));
+        tour.setInfantPrice(new BigDecimal("990000.00"));
+        tour.setDuration(4);
+        tour.setMaxPeople(30);
+        tour.setMinPeople(10);
+        tour.setMainImage("/uploads/tours/phu-quoc-main.jpg");
+        tour.setDepartureLocation("TP.HCM");
+        tour.setDestination("Phú Quốc");
+        tour.setDestinations("[\"Phú Quốc\",\"Hòn Thơm\",\"Sunset Town\",\"Grand World\"]");
+        tour.setRegion("Nam");
+        tour.setCountryCode("VN");
+        tour.setTransportation("Máy bay");
+        tour.setAccommodation("Khách sạn 4*");
+        tour.setMealsIncluded("Ăn sáng, Ăn trưa");
+        tour.setIncludedServices("[\"Vé máy bay khứ hồi\",\"Khách sạn 4*\",\"Cáp treo Hòn Thơm\",\"Hướng dẫn viên\",\"Bảo hiểm du lịch\"]");
+        tour.setExcludedServices("[\"Chi phí cá nhân\",\"Tip hướng dẫn viên\",\"VAT\"]");
+        tour.setHighlights("[\"Cáp treo vượt biển dài nhất thế giới\",\"Lặn ngắm san hô\",\"Chợ đêm Dinh Cậu\"]");
+        tour.setSuitableFor("Gia đình, Cặp đôi");
+        tour.setLatitude(10.2899);
+        tour.setLongitude(103.9840);
+        tour.setCreatedAt(LocalDateTime.of(2025, 3, 1, 9, 0));
+        tour.setUpdatedAt(LocalDateTime.of(2025, 9, 15, 14, 30));
+        tour.setCategory(category);
+
+        Set<TourItinerary> itineraries = new HashSet<>();
+        for (int day = 1; day <= 5; day++) {
+            TourItinerary itinerary = new TourItinerary();
+            itinerary.setId(id * 10 + day);
+            itinerary.setDayNumber(day);
+            itinerary.setTitle("Ngày " + day + ": Khám phá Phú Quốc");
+            itinerary.setDescription("Tham quan, nghỉ ngơi và thưởng thức hải sản địa phương. ".repeat(5));
+            itinerary.setActivities("[\"Tham quan\",\"Tắm biển\",\"Ăn tối hải sản\"]");
+            itinerary.setMeals("Sáng, Trưa");
+            itinerary.setAccommodation("Khách sạn 4*");
+            itinerary.setTour(tour);
+            itineraries.add(itinerary);
+        }
+        tour.setItineraries(itineraries);
+        return tour;
+    }
+
+    static Booking booking(long id, Tour tour) {
+        User user = new User();
+        user.setId(1000 + id);
+        user.setName("Nguyễn Văn An");
+        user.setEmail("customer" + id + "@example.com");
+        user.setPhone("0901234567");
+
+        TourSchedule schedule = new TourSchedule();
+        schedule.setId(500 + id);
+        schedule.setDepartureDate(LocalDate.of(2025, 12, 20));
+        schedule.setReturnDate(LocalDate.of(2025, 12, 23));
+        schedule.setAvailableSeats(12);
+
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setBookingCode("BK0000000000" + id);
+        booking.setStartDate(LocalDate.of(2025, 12, 20));
+        booking.setCustomerName("Nguyễn Văn An");
+        booking.setCustomerEmail("customer" + id + "@example.com");
+        booking.setCustomerPhone("0901234567");
+        booking.setCustomerAddress("123 Lê Lợi, Quận 1, TP.HCM");
+        booking.setNumAdults(2);
+        booking.setNumChildren(1);
+        booking.setNumInfants(0);
+        booking.setUnitPrice(tour.getEffectivePrice());
+        booking.setTotalPrice(new BigDecimal("14823000.00"));
+        booking.setDiscountAmount(new BigDecimal("500000.00"));
+        booking.setFinalAmount(new BigDecimal("14323000.00"));
+        booking.setSpecialRequests("Phòng tầng cao, có giường phụ cho bé");
+        booking.setConfirmationStatus(Booking.ConfirmationStatus.CONFIRMED);
+        booking.setPaymentStatus(Booking.PaymentStatus.PAID);
+        booking.setCreatedAt(LocalDateTime.of(2025, 10, 1, 8, 15));
+        booking.setUpdatedAt(LocalDateTime.of(2025, 10, 1, 8, 20));
+        booking.setUser(user);
+        booking.setTour(tour);
+        booking.setSchedule(schedule);
+        return booking;
+    }
+}
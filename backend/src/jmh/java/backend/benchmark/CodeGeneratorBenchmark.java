@@ -0,0 +1,54 @@
+package backend.benchmark;
+
+import backend.util.CodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Code generation throughput under contention (8 threads share one generator).
+ * legacyUuidCode is the previous voucher/payment scheme without its existsBy... DB probe,
+ * i.e. a lower bound on what the old path cost per code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CodeGeneratorBenchmark {
+
+    private CodeGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = new CodeGenerator(1);
+    }
+
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public String nextBookingCode() {
+        return generator.nextBookingCode();
+    }
+
+    @Benchmark
+    public String legacyUuidCode() {
+        return "PV" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
@@ -0,0 +1,116 @@
+package backend.benchmark;
+
+import backend.util.EmailTemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email rendering: compiled templates (EmailTemplateEngine) against the previous
+ * String.formatted text blocks, for one newsletter promotion email and one booking confirmation.
+ *
+ * The "formatted" variants rebuild the old format strings from the same template files
+ * ({{slot}} -> %s), so both sides produce the same HTML (apart from escaping).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EmailTemplateBenchmark {
+
+    private static final String FRONTEND_URL = "http://localhost:5173";
+    private static final BigDecimal MIN_ORDER = new BigDecimal("2000000");
+    private static final BigDecimal MAX_DISCOUNT = new BigDecimal("500000");
+
+    private EmailTemplateEngine engine;
+    private String promotionFormat;
+    private String bookingFormat;
+    private Object[] promotionModel;
+    private int subscriber;
+
+    @Setup
+    public void setup() throws IOException {
+        engine = new EmailTemplateEngine("");
+        promotionFormat = toFormatString(read("promotion"));
+        bookingFormat = toFormatString(read("booking-confirmation"));
+        promotionModel = new Object[] {
+                "discountTitle", "15%",
+                "promotionName", "Hè rực rỡ 2025",
+                "discountValue", "GIẢM 15%",
+                "promotionCode", "SUMMER15",
+                "discountDescription", "giảm giá <strong>15%</strong>",
+                "conditions", conditions(engine.formatMoney(MIN_ORDER), engine.formatMoney(MAX_DISCOUNT)),
+                "frontendUrl", FRONTEND_URL,
+                "email", null
+        };
+    }
+
+    private static String read(String template) throws IOException {
+        try (InputStream in = EmailTemplateBenchmark.class.getResourceAsStream("/templates/email/" + template + ".html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String toFormatString(String template) {
+        return template.replace("%", "%%").replaceAll("\\{\\{\\{?\\s*\\w+\\s*}}}?", "%s");
+    }
+
+    private static String conditions(String minOrder, String maxDiscount) {
+        return "<div style='text-align: left;'><div style='display: flex; align-items: start; margin-bottom: 12px;'>"
+                + "<span style='color: #D4AF37; margin-right: 12px; font-size: 18px;'>✓</span>"
+                + "<span style='color: #334155;'>Áp dụng cho đơn hàng từ <strong style='color: #1e293b;'>" + minOrder
+                + " VNĐ</strong></span></div><div style='display: flex; align-items: start; margin-bottom: 12px;'>"
+                + "<span style='color: #D4AF37; margin-right: 12px; font-size: 18px;'>✓</span>"
+                + "<span style='color: #334155;'>Giảm tối đa <strong style='color: #1e293b;'>" + maxDiscount
+                + " VNĐ</strong></span></div></div>";
+    }
+
+    private String nextEmail() {
+        return "subscriber" + (subscriber++ & 1023) + "@example.com";
+    }
+
+    /**
+     * Previous code path: amounts and conditions formatted again for every subscriber
+     */
+    @Benchmark
+    public String promotionFormatted() {
+        String conditions = conditions(String.format("%,.0f", MIN_ORDER), String.format("%,.0f", MAX_DISCOUNT));
+        return promotionFormat.formatted("15%", "Hè rực rỡ 2025", "GIẢM 15%", "SUMMER15",
+                "giảm giá <strong>15%</strong>", conditions, FRONTEND_URL, FRONTEND_URL, nextEmail());
+    }
+
+    @Benchmark
+    public String promotionCompiled() {
+        Object[] model = promotionModel.clone();
+        model[model.length - 1] = nextEmail();
+        return engine.render("promotion", model);
+    }
+
+    @Benchmark
+    public String bookingConfirmationFormatted() {
+        return bookingFormat.formatted("BK20250612ABC", "Hạ Long 3N2Đ <Du thuyền>", FRONTEND_URL);
+    }
+
+    @Benchmark
+    public String bookingConfirmationCompiled() {
+        return engine.render("booking-confirmation",
+                "bookingCode", "BK20250612ABC",
+                "tourName", "Hạ Long 3N2Đ <Du thuyền>",
+                "frontendUrl", FRONTEND_URL);
+    }
+}
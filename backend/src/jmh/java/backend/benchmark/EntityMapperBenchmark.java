@@ -0,0 +1,60 @@
+package backend.benchmark;
+
+import backend.dto.response.BookingResponse;
+import backend.dto.response.TourResponse;
+import backend.entity.Booking;
+import backend.entity.Tour;
+import backend.mapper.EntityMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for tour listings and booking lists.
+ * Most of the tour cost is the four JSON array columns parsed with Jackson.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EntityMapperBenchmark {
+
+    private EntityMapper mapper;
+    private Tour tour;
+    private Booking booking;
+
+    @Setup
+    public void setup() {
+        mapper = new EntityMapper(new ObjectMapper());
+        tour = BenchmarkFixtures.tour(1L);
+        booking = BenchmarkFixtures.booking(1L, tour);
+    }
+
+    /**
+     * Listing card (no images / itineraries)
+     */
+    @Benchmark
+    public TourResponse toTourResponse() {
+        return mapper.toTourResponse(tour);
+    }
+
+    /**
+     * Booking with tour, user, schedule and a 5-day itinerary
+     */
+    @Benchmark
+    public BookingResponse toBookingResponse() {
+        return mapper.toBookingResponse(booking);
+    }
+}
@@ -0,0 +1,65 @@
+package backend.benchmark;
+
+import backend.dto.response.BookingResponse;
+import backend.entity.Booking;
+import backend.entity.Tour;
+import backend.mapper.EntityMapper;
+import backend.service.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin booking export: CSV and XLSX for a page of already-mapped bookings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ExportServiceBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ExportService exportService;
+    private List<BookingResponse> bookings;
+
+    @Setup
+    public void setup() {
+        exportService = new ExportService();
+
+        EntityMapper mapper = new EntityMapper(new ObjectMapper());
+        List<Booking> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Tour tour = BenchmarkFixtures.tour(i % 50);
+            entities.add(BenchmarkFixtures.booking(i, tour));
+        }
+        bookings = mapper.toBookingResponseList(entities);
+    }
+
+    @Benchmark
+    public byte[] csv() throws IOException {
+        return exportService.exportBookingsToCsv(bookings);
+    }
+
+    @Benchmark
+    public byte[] xlsx() throws IOException {
+        return exportService.exportBookingsToExcel(bookings);
+    }
+}
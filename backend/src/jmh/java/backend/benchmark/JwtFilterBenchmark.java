@@ -0,0 +1,78 @@
+package backend.benchmark;
+
+import backend.security.JwtUtils;
+import backend.security.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token handling cost in JwtAuthenticationFilter.
+ * legacy = old path (decode key + verify twice); parseOnce = cache miss; cachedHit = cache hit.
+ * The blacklist lookup skipped on a hit is a DB round trip and is not part of this benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "dG91ckJvb2tpbmdTZWNyZXRLZXlGb3JEZXZlbG9wbWVudFB1cnBvc2VPbmx5MTIzNDU2Nzg5MA==";
+
+    private JwtUtils jwtUtils;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+        jwtUtils.init();
+
+        token = jwtUtils.generateTokenFromEmail("customer@example.com");
+        cache = new VerifiedTokenCache(10_000, 300);
+        cache.put(token, jwtUtils.parseVerifiedClaims(token));
+    }
+
+    /**
+     * Previous filter: validateJwtToken + getEmailFromJwtToken, key rebuilt each call
+     */
+    @Benchmark
+    public String legacyValidateThenParse() {
+        Jwts.parser().verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET))).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET))).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    /**
+     * Cache miss: one verify with the prebuilt parser
+     */
+    @Benchmark
+    public String parseOnce() {
+        return jwtUtils.parseVerifiedClaims(token).getSubject();
+    }
+
+    /**
+     * Cache hit: SHA-256 of the token + map lookup
+     */
+    @Benchmark
+    public String cachedHit() {
+        return cache.get(token).email();
+    }
+}
@@ -0,0 +1,71 @@
+package backend.benchmark;
+
+import backend.config.PasswordEncoderConfig;
+import backend.config.PasswordHashingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashes per second per core for each password hashing configuration.
+ * Single-threaded, so the throughput score is the per-core rate; multiply by
+ * app.password-hashing.max-concurrency for the node's login capacity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Param({"bcrypt-10", "bcrypt-12", "argon2-19m-2"})
+    public String config;
+
+    private PasswordEncoder encoder;
+    private String storedHash;
+
+    @Setup
+    public void setup() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        switch (config) {
+            case "bcrypt-10" -> properties.setBcryptStrength(10);
+            case "bcrypt-12" -> properties.setBcryptStrength(12);
+            case "argon2-19m-2" -> properties.setAlgorithm(PasswordEncoderConfig.ARGON2);
+            default -> throw new IllegalArgumentException("Unknown config: " + config);
+        }
+        encoder = PasswordEncoderConfig.delegatingPasswordEncoder(properties);
+        storedHash = encoder.encode(PASSWORD);
+    }
+
+    /**
+     * Registration / password change path
+     */
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    /**
+     * Login path
+     */
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, storedHash);
+    }
+}
@@ -0,0 +1,71 @@
+package backend.benchmark;
+
+import backend.entity.CancellationPolicy;
+import backend.entity.Promotion;
+import backend.util.BookingPriceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal money math on the booking and cancellation paths:
+ * BookingServiceImpl price calculation (via BookingPriceCalculator) and CancellationPolicy refunds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PricingBenchmark {
+
+    private BigDecimal basePrice;
+    private Promotion percentagePromotion;
+    private CancellationPolicy policy;
+    private BigDecimal paidAmount;
+
+    @Setup
+    public void setup() {
+        basePrice = new BigDecimal("5490000.00");
+
+        percentagePromotion = new Promotion();
+        percentagePromotion.setType(Promotion.PromotionType.PERCENTAGE);
+        percentagePromotion.setValue(new BigDecimal("15"));
+        percentagePromotion.setMaxDiscount(new BigDecimal("2000000"));
+
+        policy = new CancellationPolicy();
+        policy.setHoursBeforeDepartureFullRefund(720);
+        policy.setHoursBeforeDepartureHighRefund(480);
+        policy.setHoursBeforeDeparturePartialRefund(240);
+        policy.setCancellationFee(new BigDecimal("200000"));
+        policy.setProcessingFee(new BigDecimal("50000"));
+        paidAmount = new BigDecimal("14323000.00");
+    }
+
+    /**
+     * 2 adults + 1 child with a capped percentage promotion (createBooking / calculateTotalPrice)
+     */
+    @Benchmark
+    public BigDecimal bookingPrice() {
+        BigDecimal subtotal = BookingPriceCalculator.subtotal(basePrice, 2, 1);
+        return BookingPriceCalculator.applyPromotion(subtotal, percentagePromotion);
+    }
+
+    /**
+     * 70% tier (between 20 and 30 days before departure) minus fixed fees
+     */
+    @Benchmark
+    public BigDecimal refundAmount() {
+        return policy.calculateRefundAmount(paidAmount, 600);
+    }
+}
@@ -0,0 +1,282 @@
+package backend.benchmark;
+
+import backend.config.LogPayloadGuard;
+import backend.config.LogSamplingFilter;
+import backend.dto.request.BookingCreateRequest;
+import backend.dto.response.BookingResponse;
+import backend.dto.response.TourResponse;
+import backend.entity.Booking;
+import backend.entity.Tour;
+import backend.mapper.EntityMapper;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.log.LogFormatUtils;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+/**
+ * Logging cost of one GET /api/tours and one POST /api/bookings, with the statements those
+ * requests emit at the default profile levels (backend, org.springframework.web and
+ * org.springframework.security at DEBUG): Spring Security's "Securing ..." lines, the
+ * DispatcherServlet and message converter lines (which render the body via LogFormatUtils),
+ * and the BookingController info lines.
+ *
+ * "sync-text" is the previous setup: pattern layout written on the request thread, no filters.
+ * "async-json" is logback-spring.xml: sampling and payload guard turbo filters, MDC fields,
+ * Logstash JSON encoded by the AsyncAppender worker. Both write to a discarding stream, so a
+ * real console (a pipe that can stall) only widens the gap. The async queue never blocks: when
+ * the worker falls behind, INFO and below are shed; the lines actually written per iteration
+ * are printed at tear-down so shed load is visible next to the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RequestLoggingBenchmark {
+
+    @Param({"sync-text", "async-json"})
+    public String config;
+
+    private LoggerContext context;
+    private final LongAdder linesWritten = new LongAdder();
+
+    private Logger filterChain;
+    private Logger dispatcher;
+    private Logger handlerMapping;
+    private Logger bodyProcessor;
+    private Logger bookingController;
+
+    private List<TourResponse> tourPage;
+    private Tour tour;
+    private BookingCreateRequest bookingRequest;
+    private BookingResponse bookingResponse;
+    private Long userId;
+
+    @Setup
+    public void setup() {
+        EntityMapper mapper = new EntityMapper(new ObjectMapper());
+        tourPage = LongStream.rangeClosed(1, 20).mapToObj(id -> mapper.toTourResponse(BenchmarkFixtures.tour(id))).toList();
+        tour = BenchmarkFixtures.tour(7);
+        Booking booking = BenchmarkFixtures.booking(1, tour);
+        bookingResponse = mapper.toBookingResponse(booking);
+        userId = booking.getUser().getId();
+        bookingRequest = new BookingCreateRequest();
+        bookingRequest.setTourId(tour.getId());
+        bookingRequest.setStartDate(LocalDate.of(2025, 12, 20));
+        bookingRequest.setNumAdults(2);
+        bookingRequest.setNumChildren(1);
+        bookingRequest.setContactPhone("0901234567");
+        bookingRequest.setSpecialRequests("Phòng tầng cao, gần thang máy. ".repeat(8));
+
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        boolean tuned = "async-json".equals(config);
+        if (tuned) {
+            LogSamplingFilter sampling = new LogSamplingFilter();
+            sampling.setLoggers("org.springframework.web,org.springframework.security,backend.security");
+            sampling.setKeepOneIn(10);
+            sampling.setContext(context);
+            sampling.start();
+            context.addTurboFilter(sampling);
+
+            LogPayloadGuard guard = new LogPayloadGuard();
+            guard.setContext(context);
+            guard.start();
+            context.addTurboFilter(guard);
+        }
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setName("sink");
+        sink.setContext(context);
+        sink.setEncoder(tuned ? jsonEncoder() : patternEncoder());
+        sink.setOutputStream(new LineCountingNullStream(linesWritten));
+        sink.start();
+
+        Appender<ILoggingEvent> root = sink;
+        if (tuned) {
+            AsyncAppender async = new AsyncAppender();
+            async.setName("async");
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(sink);
+            async.start();
+            root = async;
+        }
+        ch.qos.logback.classic.Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.INFO);
+        rootLogger.addAppender(root);
+        context.getLogger("backend").setLevel(Level.DEBUG);
+        context.getLogger("org.springframework.web").setLevel(Level.DEBUG);
+        context.getLogger("org.springframework.security").setLevel(Level.DEBUG);
+
+        filterChain = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        dispatcher = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        handlerMapping = context.getLogger("org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping");
+        bodyProcessor = context.getLogger("org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor");
+        bookingController = context.getLogger("backend.controller.BookingController");
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %msg%n");
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("logstash");
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+        return encoder;
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+    public void reportWritten() {
+        System.out.println("  [" + config + "] lines written this iteration: " + linesWritten.sumThenReset());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void toursRequest() {
+        String requestLine = "GET /api/tours?page=0&size=20";
+        beginRequest("GET /api/tours");
+        if (filterChain.isDebugEnabled()) {
+            filterChain.debug("Securing " + requestLine);
+        }
+        if (filterChain.isDebugEnabled()) {
+            filterChain.debug("Secured " + requestLine);
+        }
+        if (dispatcher.isDebugEnabled()) {
+            dispatcher.debug("GET \"/api/tours?page=0&size=20\", parameters={masked}");
+        }
+        if (handlerMapping.isDebugEnabled()) {
+            handlerMapping.debug("Mapped to backend.controller.TourController#getAllTours(int, int, String, String)");
+        }
+        if (bodyProcessor.isDebugEnabled()) {
+            bodyProcessor.debug("Using 'application/json', given [*/*] and supported [application/json, application/*+json]");
+        }
+        if (bodyProcessor.isDebugEnabled()) {
+            bodyProcessor.debug("Writing [" + LogFormatUtils.formatValue(tourPage, true) + "]");
+        }
+        if (dispatcher.isDebugEnabled()) {
+            dispatcher.debug("Completed 200 OK");
+        }
+        endRequest();
+    }
+
+    @Benchmark
+    public void bookingRequest() {
+        String requestLine = "POST /api/bookings";
+        beginRequest(requestLine);
+        if (filterChain.isDebugEnabled()) {
+            filterChain.debug("Securing " + requestLine);
+        }
+        if (dispatcher.isDebugEnabled()) {
+            dispatcher.debug("POST \"/api/bookings\", parameters={}");
+        }
+        if (bodyProcessor.isDebugEnabled()) {
+            bodyProcessor.debug("Read \"application/json;charset=UTF-8\" to [" + LogFormatUtils.formatValue(bookingRequest, true) + "]");
+        }
+        bookingController.info("Creating booking for tour: {} by user: {}", bookingRequest.getTourId(), "current_user");
+        bookingController.debug("📋 Booking request details: {}", bookingRequest);
+        bookingController.info("✅ Found tour: {} - {}", tour.getId(), tour.getName());
+        bookingController.info("🔍 Current authenticated user email: {}", bookingResponse.getCustomerEmail());
+        bookingController.info("✅ Found user: {} - {}", userId, bookingResponse.getCustomerEmail());
+        bookingController.info("💰 Set unit price: {}", tour.getEffectivePrice());
+        bookingController.info("✅ Created booking: {} for user: {} - Total price: {}, Final amount: {}",
+                bookingResponse.getBookingCode(), userId,
+                bookingResponse.getTotalPrice(), bookingResponse.getFinalAmount());
+        if (bodyProcessor.isDebugEnabled()) {
+            bodyProcessor.debug("Writing [" + LogFormatUtils.formatValue(bookingResponse, true) + "]");
+        }
+        endRequest();
+    }
+
+    private void beginRequest(String route) {
+        if ("async-json".equals(config)) {
+            MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+            MDC.put("route", route);
+            MDC.put("userId", "1001");
+        }
+    }
+
+    private void endRequest() {
+        if ("async-json".equals(config)) {
+            MDC.remove("traceId");
+            MDC.remove("route");
+            MDC.remove("userId");
+        }
+    }
+
+    /**
+     * Discards output, counting lines
+     */
+    private static final class LineCountingNullStream extends OutputStream {
+        private final LongAdder lines;
+
+        private LineCountingNullStream(LongAdder lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines.increment();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] == '\n') {
+                    lines.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package backend.benchmark;
+
+import backend.config.VnPayConfig;
+import backend.util.VnPayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VNPay request signing and return/IPN signature check (sorted params, URL encoding, HMAC-SHA512)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VnPayBenchmark {
+
+    private VnPayUtil vnPayUtil;
+    private Map<String, String> returnParams;
+
+    @Setup
+    public void setup() {
+        VnPayConfig config = new VnPayConfig();
+        config.setTmnCode("WRA43CK9");
+        config.setHashSecret("W9EMNEVNX5VLVZUP724M1G6FO21VT6LB");
+        config.setUrl("https://sandbox.vnpayment.vn/paymentv2/vpcpay.html");
+        config.setReturnUrl("http://localhost:5173/payment/vnpay-return");
+        config.setVersion("2.1.0");
+        config.setCommand("pay");
+        config.setCurrCode("VND");
+        config.setLocale("vn");
+
+        vnPayUtil = new VnPayUtil();
+        ReflectionTestUtils.setField(vnPayUtil, "vnPayConfig", config);
+
+        // A correctly signed callback: the query string of a freshly signed order URL
+        String url = vnPayUtil.createOrderUrl(123456L, new BigDecimal("14323000"),
+                "Thanh toan booking BK0000000001", "203.113.10.25");
+        returnParams = new HashMap<>();
+        for (String pair : URI.create(url).getRawQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            returnParams.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.US_ASCII),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.US_ASCII));
+        }
+        if (!vnPayUtil.validateSignature(new HashMap<>(returnParams))) {
+            throw new IllegalStateException("Fixture signature does not validate");
+        }
+    }
+
+    @Benchmark
+    public String createOrderUrl() {
+        return vnPayUtil.createOrderUrl(123456L, new BigDecimal("14323000"),
+                "Thanh toan booking BK0000000001", "203.113.10.25");
+    }
+
+    /**
+     * validateSignature removes vnp_SecureHash from its argument, so each call gets a copy
+     * (the controller also builds a fresh map per request)
+     */
+    @Benchmark
+    public boolean validateSignature() {
+        return vnPayUtil.validateSignature(new HashMap<>(returnParams));
+    }
+}
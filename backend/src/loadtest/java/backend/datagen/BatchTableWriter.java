@@ -0,0 +1,116 @@
+package backend.datagen;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JDBC batch insert into one table.
+ *
+ * Only columns that exist in the target table are written. The same generator therefore
+ * fills both the Hibernate-generated schema (H2 load tests) and the CSDL.sql schema (MySQL),
+ * e.g. tour_schedules.total_seats exists only in the latter.
+ */
+final class BatchTableWriter implements TableWriter {
+
+    private final Connection connection;
+    private final String table;
+    private final int batchSize;
+    private final int[] targetIndexes;   // declared column index -> statement parameter, -1 = skipped
+    private final PreparedStatement statement;
+
+    private int pending;
+    private long written;
+
+    BatchTableWriter(Connection connection, String table, List<String> columns, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.batchSize = batchSize;
+
+        boolean h2 = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("h2");
+        Map<String, String> existing = existingColumns(connection, table);
+
+        targetIndexes = new int[columns.size()];
+        List<String> names = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i);
+            String type = existing.get(column.toLowerCase(Locale.ROOT));
+            if (type == null) {
+                targetIndexes[i] = -1;
+                continue;
+            }
+            targetIndexes[i] = names.size() + 1;
+            names.add(column);
+            // H2 stores a plain string bound to a JSON column as a JSON string literal
+            placeholders.add(h2 && "JSON".equalsIgnoreCase(type) ? "? FORMAT JSON" : "?");
+        }
+        if (names.isEmpty()) {
+            throw new SQLException("Table " + table + " not found or has none of the generated columns");
+        }
+
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                + String.join(", ", placeholders) + ")";
+        statement = connection.prepareStatement(sql);
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (targetIndexes[i] > 0) {
+                statement.setObject(targetIndexes[i], values[i]);
+            }
+        }
+        statement.addBatch();
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        connection.commit();
+        written += pending;
+        pending = 0;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            statement.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return table + " (" + written + " rows)";
+    }
+
+    private static Map<String, String> existingColumns(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, String> columns = new HashMap<>();
+        for (String name : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), name, null)) {
+                while (rs.next()) {
+                    columns.put(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT), rs.getString("TYPE_NAME"));
+                }
+            }
+            if (!columns.isEmpty()) {
+                break;
+            }
+        }
+        return columns;
+    }
+}
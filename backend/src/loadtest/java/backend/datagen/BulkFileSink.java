@@ -0,0 +1,173 @@
+package backend.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one tab-separated file per table in MySQL {@code LOAD DATA} default format plus a
+ * {@code load.sql} that truncates the generated tables and loads the files, for datasets too
+ * large for JDBC inserts. Targets the CSDL.sql schema, so every declared column must exist there.
+ *
+ * <pre>
+ * cd &lt;dir&gt; &amp;&amp; mysql --local-infile=1 -u root -p doan &lt; load.sql
+ * </pre>
+ */
+final class BulkFileSink implements DataSink {
+
+    static final String LOAD_SCRIPT = "load.sql";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final String header;
+    private final List<String> loads = new ArrayList<>();
+    private final List<String> tables = new ArrayList<>();
+    private final List<String> afterLoad = new ArrayList<>();
+
+    /**
+     * @param header comment written at the top of load.sql (seed, anchor date)
+     */
+    BulkFileSink(Path directory, String header) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.header = header;
+    }
+
+    @Override
+    public TableWriter open(String table, List<String> columns) {
+        tables.add(table);
+        return new TsvWriter(table, columns);
+    }
+
+    /**
+     * The load script replaces the table contents, so reference tables are always written
+     */
+    @Override
+    public boolean isEmpty(String table) {
+        return true;
+    }
+
+    @Override
+    public void afterLoad(String sql) {
+        afterLoad.add(sql);
+    }
+
+    @Override
+    public void finish(Map<String, Long> rows) {
+        StringBuilder script = new StringBuilder();
+        script.append("-- ").append(header).append('\n')
+              .append("-- Rows: ").append(rows).append('\n')
+              .append("-- Run from this directory: mysql --local-infile=1 -u root -p doan < ").append(LOAD_SCRIPT).append("\n\n")
+              .append("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n\n");
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            script.append("TRUNCATE TABLE ").append(tables.get(i)).append(";\n");
+        }
+        script.append('\n');
+        loads.forEach(load -> script.append(load).append('\n'));
+        script.append("\nSET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n\n");
+        afterLoad.forEach(sql -> script.append(sql).append(";\n"));
+        try {
+            Files.writeString(directory.resolve(LOAD_SCRIPT), script, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class TsvWriter implements TableWriter {
+
+        private final String table;
+        private final List<String> columns;
+        private final boolean[] booleans;
+        private final BufferedWriter out;
+
+        TsvWriter(String table, List<String> columns) {
+            this.table = table;
+            this.columns = columns;
+            this.booleans = new boolean[columns.size()];
+            try {
+                this.out = Files.newBufferedWriter(directory.resolve(table + ".tsv"), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void row(Object... values) {
+            StringBuilder line = new StringBuilder(256);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append('\t');
+                }
+                Object value = values[i];
+                if (value instanceof Boolean) {
+                    booleans[i] = true;
+                }
+                appendValue(line, value);
+            }
+            line.append('\n');
+            try {
+                out.write(line.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Booleans go through a variable so they load into both TINYINT(1) and BIT(1) columns
+            List<String> targets = new ArrayList<>();
+            List<String> assignments = new ArrayList<>();
+            for (int i = 0; i < columns.size(); i++) {
+                if (booleans[i]) {
+                    targets.add("@b" + i);
+                    assignments.add(columns.get(i) + " = (@b" + i + " = '1')");
+                } else {
+                    targets.add(columns.get(i));
+                }
+            }
+            loads.add("LOAD DATA LOCAL INFILE '" + table + ".tsv' INTO TABLE " + table + " CHARACTER SET utf8mb4 ("
+                    + String.join(", ", targets) + ")"
+                    + (assignments.isEmpty() ? "" : " SET " + String.join(", ", assignments)) + ";");
+        }
+    }
+
+    /**
+     * LOAD DATA defaults: tab-separated, backslash escapes, \N for NULL
+     */
+    private static void appendValue(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+        String text = switch (value) {
+            case Boolean b -> b ? "1" : "0";
+            case BigDecimal d -> d.toPlainString();
+            case LocalDateTime t -> t.format(DATE_TIME);
+            default -> value.toString();
+        };
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                default -> line.append(c);
+            }
+        }
+    }
+}
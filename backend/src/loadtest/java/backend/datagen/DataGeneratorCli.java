@@ -0,0 +1,106 @@
+package backend.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Standalone entry point: fill a database (usually MySQL with the CSDL.sql schema) or write bulk
+ * load files. Same seed, sizes and anchor date give the same dataset.
+ *
+ * <pre>
+ * DataGeneratorCli --url=jdbc:mysql://localhost:3306/doan --user=root --password=1234 [--truncate=true] [size options]
+ * DataGeneratorCli --out=target/dataset [size options]       (then: cd target/dataset &amp;&amp; mysql --local-infile=1 doan &lt; load.sql)
+ *
+ * size options: --users=1000000 --tours=50000 --bookings=5000000 --seed=42 --anchor=2025-06-01
+ *               --popularity=1.0 --seasonality=1.0 --review-rate=0.35
+ * </pre>
+ */
+@Slf4j
+public class DataGeneratorCli {
+
+    private static final Set<String> OPTIONS = Set.of("url", "user", "password", "truncate", "out", "users", "tours",
+            "bookings", "seed", "anchor", "popularity", "seasonality", "review-rate");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0 || !OPTIONS.contains(arg.substring(2, eq))) {
+                throw new IllegalArgumentException("Unknown or malformed option: " + arg + " (expected --name=value, one of " + OPTIONS + ")");
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        if (values.containsKey("url") == values.containsKey("out")) {
+            throw new IllegalArgumentException("Give exactly one of --url (JDBC inserts) or --out (bulk files)");
+        }
+
+        DatasetSpec defaults = DatasetSpec.LOAD_TEST;
+        DatasetSpec spec = defaults
+                .withSize(intValue(values, "users", defaults.users()),
+                        intValue(values, "tours", defaults.tours()),
+                        intValue(values, "bookings", defaults.bookings()))
+                .withSeed(Long.parseLong(values.getOrDefault("seed", String.valueOf(defaults.seed()))))
+                .withDistributions(
+                        Double.parseDouble(values.getOrDefault("popularity", String.valueOf(defaults.tourPopularity()))),
+                        Double.parseDouble(values.getOrDefault("seasonality", String.valueOf(defaults.seasonality()))),
+                        Double.parseDouble(values.getOrDefault("review-rate", String.valueOf(defaults.reviewRate()))));
+        // Pin --anchor to reproduce a dataset on another day; dates are relative to it
+        LocalDate anchor = values.containsKey("anchor") ? LocalDate.parse(values.get("anchor")) : LocalDate.now();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(spec, anchor);
+
+        DatasetSummary summary;
+        if (values.containsKey("out")) {
+            Path directory = Path.of(values.get("out"));
+            summary = generator.writeFiles(directory);
+            log.info("Bulk files written to {}; load with: cd {} && mysql --local-infile=1 -u root -p doan < {}",
+                    directory.toAbsolutePath(), directory, BulkFileSink.LOAD_SCRIPT);
+        } else {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(withBatchRewrite(values.get("url")),
+                    values.getOrDefault("user", "root"), values.getOrDefault("password", ""));
+            if (Boolean.parseBoolean(values.get("truncate"))) {
+                truncate(dataSource);
+            }
+            summary = generator.generate(dataSource);
+        }
+        log.info("Dataset {} anchored on {}: {}", spec, anchor, summary.rows());
+    }
+
+    /**
+     * Empty the generated tables (MySQL). Other tables that reference them are left as they are.
+     */
+    private static void truncate(DriverManagerDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            for (int i = SyntheticDataGenerator.TABLES.size() - 1; i >= 0; i--) {
+                statement.execute("TRUNCATE TABLE " + SyntheticDataGenerator.TABLES.get(i));
+            }
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+        log.info("Truncated {}", SyntheticDataGenerator.TABLES);
+    }
+
+    /**
+     * Connector/J sends a JDBC batch as single-row inserts unless rewriteBatchedStatements is on
+     */
+    private static String withBatchRewrite(String url) {
+        if (!url.startsWith("jdbc:mysql:") || url.contains("rewriteBatchedStatements")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value.replace("_", "")) : defaultValue;
+    }
+}
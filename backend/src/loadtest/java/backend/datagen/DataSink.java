@@ -0,0 +1,29 @@
+package backend.datagen;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where the generator writes: straight into a database ({@link JdbcSink}) or into bulk files
+ * plus a load script ({@link BulkFileSink}). Tables are opened in foreign-key order.
+ */
+interface DataSink {
+
+    TableWriter open(String table, List<String> columns) throws SQLException;
+
+    /**
+     * Whether the table has no rows yet (reference tables such as roles are only seeded when empty)
+     */
+    boolean isEmpty(String table) throws SQLException;
+
+    /**
+     * Set-based statement to run once every table is loaded, e.g. refreshing cached aggregates
+     */
+    void afterLoad(String sql) throws SQLException;
+
+    /**
+     * Called last with the rows written per table
+     */
+    void finish(Map<String, Long> rows) throws SQLException;
+}
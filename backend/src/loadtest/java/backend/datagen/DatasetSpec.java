@@ -0,0 +1,56 @@
+package backend.datagen;
+
+/**
+ * Size and shape of a synthetic dataset. The same spec and seed always produce the same rows.
+ *
+ * @param seed                 random seed; every table derives its own stream from it
+ * @param users                total users (id 1 is the admin, the rest are customers)
+ * @param tours                tours, each with images, a day-by-day itinerary and schedules
+ * @param bookings             historical bookings, each with its payment attempts
+ * @param imagesPerTour        gallery images per tour
+ * @param schedulesPerTour     upcoming departures per tour
+ * @param tourPopularity       Zipf exponent for how bookings and traffic spread over tours (0 = uniform)
+ * @param seasonality          how strongly departures follow the Vietnamese travel calendar (0 = uniform, 1 = full peaks)
+ * @param reviewRate           share of completed bookings that leave a review
+ * @param notificationsPerUser mean notifications per customer
+ */
+public record DatasetSpec(
+        long seed,
+        int users,
+        int tours,
+        int bookings,
+        int imagesPerTour,
+        int schedulesPerTour,
+        double tourPopularity,
+        double seasonality,
+        double reviewRate,
+        int notificationsPerUser
+) {
+
+    public static final DatasetSpec LOAD_TEST = new DatasetSpec(42L, 50_000, 20_000, 100_000, 4, 4, 1.0, 1.0, 0.35, 3);
+
+    public DatasetSpec {
+        if (users < 2 || tours < 1 || bookings < 0) {
+            throw new IllegalArgumentException("Dataset needs at least 2 users and 1 tour");
+        }
+        if (tourPopularity < 0 || seasonality < 0 || seasonality > 1 || reviewRate < 0 || reviewRate > 1
+                || notificationsPerUser < 0) {
+            throw new IllegalArgumentException("Invalid distribution parameters");
+        }
+    }
+
+    public DatasetSpec withSize(int users, int tours, int bookings) {
+        return new DatasetSpec(seed, users, tours, bookings, imagesPerTour, schedulesPerTour,
+                tourPopularity, seasonality, reviewRate, notificationsPerUser);
+    }
+
+    public DatasetSpec withSeed(long seed) {
+        return new DatasetSpec(seed, users, tours, bookings, imagesPerTour, schedulesPerTour,
+                tourPopularity, seasonality, reviewRate, notificationsPerUser);
+    }
+
+    public DatasetSpec withDistributions(double tourPopularity, double seasonality, double reviewRate) {
+        return new DatasetSpec(seed, users, tours, bookings, imagesPerTour, schedulesPerTour,
+                tourPopularity, seasonality, reviewRate, notificationsPerUser);
+    }
+}
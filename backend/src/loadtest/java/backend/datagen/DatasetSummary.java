@@ -0,0 +1,25 @@
+package backend.datagen;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * What a generator run wrote.
+ *
+ * @param rows              rows written per table, in insertion order
+ * @param toursByPopularity tour ids ordered from most to least popular (index 0 = Zipf rank 1)
+ */
+public record DatasetSummary(
+        DatasetSpec spec,
+        LocalDate anchorDate,
+        Map<String, Long> rows,
+        long[] toursByPopularity
+) {
+
+    /**
+     * Tour id for a Zipf rank in [1, tours]
+     */
+    public long tourAtRank(int rank) {
+        return toursByPopularity[rank - 1];
+    }
+}
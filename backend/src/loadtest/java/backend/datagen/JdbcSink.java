@@ -0,0 +1,65 @@
+package backend.datagen;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes through JDBC batch inserts on one connection (auto-commit off, committed per batch).
+ * For MySQL add {@code rewriteBatchedStatements=true} to the URL so batches become multi-row inserts.
+ */
+final class JdbcSink implements DataSink {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final Connection connection;
+    private final boolean h2;
+
+    JdbcSink(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.h2 = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("h2");
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public TableWriter open(String table, List<String> columns) throws SQLException {
+        return new BatchTableWriter(connection, table, columns, BATCH_SIZE);
+    }
+
+    @Override
+    public boolean isEmpty(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1) == 0;
+        }
+    }
+
+    @Override
+    public void afterLoad(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+        connection.commit();
+    }
+
+    /**
+     * H2 does not move identity counters past explicitly inserted ids (MySQL AUTO_INCREMENT does)
+     */
+    @Override
+    public void finish(Map<String, Long> rows) throws SQLException {
+        if (!h2) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, Long> table : rows.entrySet()) {
+                statement.execute("ALTER TABLE " + table.getKey() + " ALTER COLUMN id RESTART WITH " + (table.getValue() + 1));
+            }
+        }
+        connection.commit();
+    }
+}
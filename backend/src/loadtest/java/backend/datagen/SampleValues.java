@@ -0,0 +1,144 @@
+package backend.datagen;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Vietnamese names, destinations and tour vocabulary used to make generated rows look like production data
+ */
+final class SampleValues {
+
+    record Destination(String name, String slug, String region, String countryCode,
+                       double latitude, double longitude, boolean international, boolean visaRequired) {
+    }
+
+    static final List<Destination> DESTINATIONS = List.of(
+            new Destination("Hà Nội", "ha-noi", "Bắc", "VN", 21.0285, 105.8542, false, false),
+            new Destination("Hạ Long", "ha-long", "Bắc", "VN", 20.9101, 107.1839, false, false),
+            new Destination("Sa Pa", "sa-pa", "Bắc", "VN", 22.3364, 103.8438, false, false),
+            new Destination("Ninh Bình", "ninh-binh", "Bắc", "VN", 20.2506, 105.9745, false, false),
+            new Destination("Huế", "hue", "Trung", "VN", 16.4637, 107.5909, false, false),
+            new Destination("Đà Nẵng", "da-nang", "Trung", "VN", 16.0544, 108.2022, false, false),
+            new Destination("Hội An", "hoi-an", "Trung", "VN", 15.8801, 108.3380, false, false),
+            new Destination("Quy Nhơn", "quy-nhon", "Trung", "VN", 13.7820, 109.2190, false, false),
+            new Destination("Nha Trang", "nha-trang", "Trung", "VN", 12.2388, 109.1967, false, false),
+            new Destination("Đà Lạt", "da-lat", "Trung", "VN", 11.9404, 108.4583, false, false),
+            new Destination("Mũi Né", "mui-ne", "Nam", "VN", 10.9333, 108.2833, false, false),
+            new Destination("TP.HCM", "tp-hcm", "Nam", "VN", 10.7769, 106.7009, false, false),
+            new Destination("Cần Thơ", "can-tho", "Nam", "VN", 10.0452, 105.7469, false, false),
+            new Destination("Phú Quốc", "phu-quoc", "Nam", "VN", 10.2899, 103.9840, false, false),
+            new Destination("Côn Đảo", "con-dao", "Nam", "VN", 8.6833, 106.6000, false, false),
+            new Destination("Bangkok", "bangkok", "Đông Nam Á", "TH", 13.7563, 100.5018, true, false),
+            new Destination("Singapore", "singapore", "Đông Nam Á", "SG", 1.3521, 103.8198, true, false),
+            new Destination("Bali", "bali", "Đông Nam Á", "ID", -8.4095, 115.1889, true, false),
+            new Destination("Seoul", "seoul", "Đông Bắc Á", "KR", 37.5665, 126.9780, true, true),
+            new Destination("Tokyo", "tokyo", "Đông Bắc Á", "JP", 35.6762, 139.6503, true, true),
+            new Destination("Đài Bắc", "dai-bac", "Đông Bắc Á", "TW", 25.0330, 121.5654, true, true),
+            new Destination("Paris", "paris", "Châu Âu", "FR", 48.8566, 2.3522, true, true),
+            new Destination("Sydney", "sydney", "Châu Úc", "AU", -33.8688, 151.2093, true, true)
+    );
+
+    static final List<String> CATEGORIES = List.of(
+            "Du lịch biển", "Du lịch núi", "Du lịch văn hóa", "Du lịch sinh thái", "Du lịch tâm linh",
+            "Du lịch ẩm thực", "Du lịch mạo hiểm", "Du lịch nghỉ dưỡng", "Tour nước ngoài",
+            "Tour gia đình", "Tour trăng mật", "Tour cuối tuần"
+    );
+
+    static final List<String> CATEGORY_SLUGS = List.of(
+            "du-lich-bien", "du-lich-nui", "du-lich-van-hoa", "du-lich-sinh-thai", "du-lich-tam-linh",
+            "du-lich-am-thuc", "du-lich-mao-hiem", "du-lich-nghi-duong", "tour-nuoc-ngoai",
+            "tour-gia-dinh", "tour-trang-mat", "tour-cuoi-tuan"
+    );
+
+    static final List<String> THEMES = List.of(
+            "Khám phá", "Trọn gói", "Nghỉ dưỡng", "Tiết kiệm", "Cao cấp", "Gia đình", "Trải nghiệm", "Ẩm thực"
+    );
+
+    static final List<String> ACTIVITIES = List.of(
+            "Tham quan", "Tắm biển", "Chèo kayak", "Lặn ngắm san hô", "Trekking", "Chợ đêm",
+            "Ăn tối hải sản", "Chụp ảnh hoàng hôn", "Tham quan bảo tàng", "Mua sắm", "Thưởng thức đặc sản"
+    );
+
+    static final String INCLUDED_SERVICES =
+            "[\"Xe đưa đón\",\"Khách sạn\",\"Hướng dẫn viên\",\"Vé tham quan\",\"Bảo hiểm du lịch\"]";
+    static final String INCLUDED_WITH_FLIGHT =
+            "[\"Vé máy bay khứ hồi\",\"Khách sạn\",\"Hướng dẫn viên\",\"Vé tham quan\",\"Bảo hiểm du lịch\"]";
+    static final String EXCLUDED_SERVICES = "[\"Chi phí cá nhân\",\"Tip hướng dẫn viên\",\"VAT\"]";
+
+    /**
+     * Review comments by rating (index 0 = 1 star)
+     */
+    private static final String[][] REVIEW_COMMENTS = {
+            {"Tour tổ chức kém, lịch trình bị cắt bớt nhiều.", "Khách sạn không như quảng cáo, rất thất vọng.",
+             "Hướng dẫn viên thiếu trách nhiệm, sẽ không quay lại."},
+            {"Xe đón trễ, bữa ăn chưa ngon.", "Lịch trình quá gấp, không có thời gian nghỉ.",
+             "Giá hơi cao so với chất lượng dịch vụ."},
+            {"Tour tạm ổn, cảnh đẹp nhưng dịch vụ bình thường.", "Khách sạn sạch sẽ, đồ ăn ở mức chấp nhận được.",
+             "Hướng dẫn viên nhiệt tình nhưng lịch trình hơi dày."},
+            {"Chuyến đi vui vẻ, hướng dẫn viên thân thiện.", "Cảnh đẹp, khách sạn tốt, giá hợp lý.",
+             "Gia đình tôi rất hài lòng, chỉ tiếc thời gian hơi ngắn."},
+            {"Tuyệt vời! Mọi thứ đều được sắp xếp chu đáo.", "Hướng dẫn viên rất nhiệt tình, đồ ăn ngon, sẽ quay lại.",
+             "Chuyến đi đáng nhớ nhất của gia đình, cảm ơn TourBooking!"}
+    };
+
+    record NotificationTemplate(String type, String title, String message, String link) {
+    }
+
+    static final List<NotificationTemplate> NOTIFICATIONS = List.of(
+            new NotificationTemplate("SUCCESS", "Đặt tour thành công", "Đơn đặt tour của bạn đã được ghi nhận.", "/bookings"),
+            new NotificationTemplate("SUCCESS", "Thanh toán thành công", "Chúng tôi đã nhận được thanh toán của bạn.", "/bookings"),
+            new NotificationTemplate("INFO", "Nhắc lịch khởi hành", "Tour của bạn sẽ khởi hành trong 3 ngày tới.", "/bookings"),
+            new NotificationTemplate("INFO", "Ưu đãi mới", "Giảm đến 20% cho các tour biển mùa hè.", "/tours"),
+            new NotificationTemplate("INFO", "Điểm thưởng", "Bạn vừa được cộng điểm thưởng.", "/loyalty"),
+            new NotificationTemplate("WARNING", "Thanh toán chưa hoàn tất", "Đơn đặt tour của bạn chưa được thanh toán.", "/bookings"),
+            new NotificationTemplate("ERROR", "Thanh toán thất bại", "Giao dịch không thành công, vui lòng thử lại.", "/bookings")
+    );
+
+    private static final String[] LAST_NAMES = {
+            "Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ", "Đặng", "Bùi", "Đỗ", "Hồ", "Ngô"
+    };
+    private static final String[] MIDDLE_NAMES = {"Văn", "Thị", "Minh", "Thu", "Đức", "Ngọc", "Hữu", "Thanh", "Quốc"};
+    private static final String[] FIRST_NAMES = {
+            "An", "Bình", "Chi", "Dũng", "Giang", "Hà", "Hải", "Hạnh", "Hùng", "Khánh", "Lan", "Linh", "Long",
+            "Mai", "Nam", "Ngân", "Phong", "Phương", "Quân", "Sơn", "Tâm", "Thảo", "Trang", "Tuấn", "Vy", "Yến"
+    };
+    private static final String[] STREETS = {
+            "Lê Lợi", "Nguyễn Huệ", "Trần Hưng Đạo", "Hai Bà Trưng", "Lý Thường Kiệt", "Điện Biên Phủ", "Pasteur"
+    };
+
+    private SampleValues() {
+    }
+
+    static String personName(SplittableRandom random) {
+        return pick(random, LAST_NAMES) + " " + pick(random, MIDDLE_NAMES) + " " + pick(random, FIRST_NAMES);
+    }
+
+    static String phone(SplittableRandom random) {
+        return "09" + String.format("%08d", random.nextInt(100_000_000));
+    }
+
+    static String address(SplittableRandom random) {
+        return (1 + random.nextInt(300)) + " " + pick(random, STREETS) + ", "
+                + DESTINATIONS.get(random.nextInt(15)).name();
+    }
+
+    static String activities(SplittableRandom random) {
+        StringBuilder json = new StringBuilder("[");
+        int count = 2 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(ACTIVITIES.get(random.nextInt(ACTIVITIES.size()))).append('"');
+        }
+        return json.append(']').toString();
+    }
+
+    static String reviewComment(SplittableRandom random, int rating) {
+        return pick(random, REVIEW_COMMENTS[rating - 1]);
+    }
+
+    static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
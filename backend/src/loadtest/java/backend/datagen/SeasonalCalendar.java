@@ -0,0 +1,53 @@
+package backend.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Departure dates following the Vietnamese travel calendar: Tết (Jan-Feb), the 30/4-1/5 holiday,
+ * the summer school break (Jun-Aug) and year-end trips are busy, Oct-Nov (rainy season in the
+ * centre) is quiet, and weekend departures are more common than midweek ones.
+ *
+ * Sampling is by rejection against the day weight, so it is exact and deterministic for a given
+ * random stream.
+ */
+final class SeasonalCalendar {
+
+    // Relative demand per month, Jan..Dec
+    private static final double[] MONTH_WEIGHTS = {1.3, 1.5, 0.8, 1.1, 1.2, 1.6, 1.7, 1.4, 0.9, 0.6, 0.6, 1.1};
+    private static final double WEEKEND_WEIGHT = 1.3;
+    private static final double MAX_WEIGHT = 1.7 * WEEKEND_WEIGHT;
+
+    private final double seasonality;
+
+    /**
+     * @param seasonality 0 = every day equally likely, 1 = full seasonal weights
+     */
+    SeasonalCalendar(double seasonality) {
+        this.seasonality = seasonality;
+    }
+
+    /**
+     * A date in [from, from + days)
+     */
+    LocalDate sample(SplittableRandom random, LocalDate from, int days) {
+        while (true) {
+            LocalDate date = from.plusDays(random.nextInt(days));
+            if (seasonality == 0 || random.nextDouble() * maxWeight() < weight(date)) {
+                return date;
+            }
+        }
+    }
+
+    double weight(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        double raw = MONTH_WEIGHTS[date.getMonthValue() - 1]
+                * (day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY ? WEEKEND_WEIGHT : 1.0);
+        return 1 + seasonality * (raw - 1);
+    }
+
+    private double maxWeight() {
+        return 1 + seasonality * (MAX_WEIGHT - 1);
+    }
+}
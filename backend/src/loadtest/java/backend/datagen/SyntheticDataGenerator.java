@@ -0,0 +1,781 @@
+package backend.datagen;
+
+import backend.datagen.SampleValues.Destination;
+import backend.datagen.SampleValues.NotificationTemplate;
+import backend.util.BookingPriceCalculator;
+import backend.util.CodeGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+/**
+ * Writes a synthetic dataset shaped like CSDL.sql: users, tours with images, itineraries and
+ * schedules, bookings with their payment attempts, reviews, loyalty point history and balances,
+ * and notifications.
+ *
+ * Rows are a pure function of (spec, anchor date): every table draws from its own random
+ * stream derived from the seed, and ids are assigned explicitly (1..n), so two runs with the
+ * same inputs produce the same data. The target tables must exist and be empty.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    public static final String DEFAULT_PASSWORD = "LoadTest123!";
+    public static final String ADMIN_EMAIL = "admin@loadtest.local";
+
+    /**
+     * Generated tables in foreign-key order
+     */
+    public static final List<String> TABLES = List.of(
+            "roles", "categories", "users", "tours", "tour_images", "tour_itineraries", "tour_schedules",
+            "bookings", "payments", "reviews", "point_transactions", "loyalty_points", "notifications");
+
+    static final long ROLE_ADMIN = 1L;
+    static final long ROLE_CUSTOMER = 3L;
+
+    private static final BigDecimal TEN_THOUSAND = BigDecimal.valueOf(10_000);
+    private static final int HISTORY_DAYS = 365;
+    private static final int UPCOMING_DAYS = 180;
+
+    private static final String[] CONFIRMATION = {"PENDING", "CONFIRMED", "COMPLETED", "CANCELLED"};
+    private static final byte PENDING = 0, CONFIRMED = 1, COMPLETED = 2, CANCELLED = 3;
+    private static final String[] PAYMENT = {"UNPAID", "PAID", "REFUNDED"};
+    private static final byte UNPAID = 0, PAID = 1, REFUNDED = 2;
+
+    // Same thresholds and review points as LoyaltyServiceImpl
+    private static final int[] LEVEL_THRESHOLDS = {0, 10_000, 30_000, 70_000, 100_000};
+    private static final String[] LEVELS = {"BRONZE", "SILVER", "GOLD", "PLATINUM", "DIAMOND"};
+    private static final double[] LEVEL_BONUS = {0.0, 0.05, 0.10, 0.15, 0.15};
+    private static final int REVIEW_POINTS = 50;
+    private static final int REVIEW_WITH_PHOTO_POINTS = 100;
+    private static final int VOUCHER_COST = 500;
+
+    /**
+     * Rebuild the running rating aggregates the way TourRepository.recomputeRatingAggregates does, set-based
+     */
+    private static final String REFRESH_TOUR_RATINGS = "UPDATE tours SET "
+            + "review_count = (SELECT COUNT(*) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED'), "
+            + "average_rating = COALESCE((SELECT AVG(r.rating) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED'), 0), "
+            + "rating_sum = COALESCE((SELECT SUM(r.rating) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED'), 0), "
+            + "rating_1_count = (SELECT COUNT(*) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED' AND r.rating = 1), "
+            + "rating_2_count = (SELECT COUNT(*) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED' AND r.rating = 2), "
+            + "rating_3_count = (SELECT COUNT(*) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED' AND r.rating = 3), "
+            + "rating_4_count = (SELECT COUNT(*) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED' AND r.rating = 4), "
+            + "rating_5_count = (SELECT COUNT(*) FROM reviews r WHERE r.tour_id = tours.id AND r.status = 'APPROVED' AND r.rating = 5)";
+
+    private final DatasetSpec spec;
+    private final LocalDate anchor;
+    private final Map<String, Long> rows = new LinkedHashMap<>();
+
+    // Per-tour attributes needed by schedules and bookings
+    private BigDecimal[] tourPrice;
+    private int[] tourMaxPeople;
+    private int[] tourDuration;
+    private long[] toursByPopularity;
+
+    // Per-booking attributes needed by payments, reviews and points (index = booking id)
+    private int[] bookingUser;
+    private int[] bookingTour;
+    private byte[] bookingConfirmation;
+    private byte[] bookingPayment;
+    private long[] bookingAmount;
+    private long[] bookingCreated;   // epoch seconds, UTC
+    private int[] bookingStart;      // epoch day
+    private int[] bookingReview;     // review id, 0 = none or not approved
+    private int[] bookingReviewPoints;
+    private long[] bookingReviewed;  // epoch seconds, UTC
+
+    public SyntheticDataGenerator(DatasetSpec spec, LocalDate anchor) {
+        this.spec = spec;
+        this.anchor = anchor;
+    }
+
+    public static String customerEmail(long userId) {
+        return "customer" + userId + "@loadtest.local";
+    }
+
+    public static String tourSlug(long tourId) {
+        return destination(tourId).slug() + "-" + tourId;
+    }
+
+    /**
+     * Every 20th tour is INACTIVE (cannot be booked)
+     */
+    public static boolean isActive(long tourId) {
+        return tourId % 20 != 0;
+    }
+
+    /**
+     * Destination names, usable as search keywords and locations
+     */
+    public static List<String> destinationNames() {
+        return SampleValues.DESTINATIONS.stream().map(Destination::name).toList();
+    }
+
+    /**
+     * Insert straight into the database with JDBC batches
+     */
+    public DatasetSummary generate(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return generate(new JdbcSink(connection));
+        }
+    }
+
+    /**
+     * Write one LOAD DATA file per table plus load.sql into the directory
+     */
+    public DatasetSummary writeFiles(Path directory) throws IOException, SQLException {
+        return generate(new BulkFileSink(directory,
+                "Synthetic dataset: " + spec + ", anchor " + anchor));
+    }
+
+    DatasetSummary generate(DataSink sink) throws SQLException {
+        long started = System.nanoTime();
+
+        writeRoles(sink);
+        writeCategories(sink);
+        writeUsers(sink);
+        writeTours(sink);
+        writeTourImages(sink);
+        writeTourItineraries(sink);
+        writeTourSchedules(sink);
+        writeBookings(sink);
+        writePayments(sink);
+        writeReviews(sink);
+        writePoints(sink);
+        writeNotifications(sink);
+
+        sink.afterLoad(REFRESH_TOUR_RATINGS);
+        sink.finish(rows);
+
+        log.info("Synthetic dataset (seed={}) written in {} s: {}",
+                spec.seed(), (System.nanoTime() - started) / 1_000_000_000, rows);
+        return new DatasetSummary(spec, anchor, Map.copyOf(rows), toursByPopularity);
+    }
+
+    private void writeRoles(DataSink sink) throws SQLException {
+        if (!sink.isEmpty("roles")) {
+            return; // CSDL.sql ships the role rows
+        }
+        try (TableWriter roles = sink.open("roles", List.of("id", "name", "description", "created_at"))) {
+            LocalDateTime now = anchor.atStartOfDay();
+            roles.row(ROLE_ADMIN, "Admin", "Quản trị viên hệ thống", now);
+            roles.row(2L, "Staff", "Nhân viên", now);
+            roles.row(ROLE_CUSTOMER, "Customer", "Khách hàng", now);
+        }
+        rows.put("roles", 3L);
+    }
+
+    private void writeCategories(DataSink sink) throws SQLException {
+        try (TableWriter categories = sink.open("categories",
+                List.of("id", "name", "slug", "description", "display_order", "is_featured", "status", "created_at", "updated_at"))) {
+            LocalDateTime created = anchor.minusYears(2).atStartOfDay();
+            for (int i = 0; i < SampleValues.CATEGORIES.size(); i++) {
+                String name = SampleValues.CATEGORIES.get(i);
+                categories.row((long) i + 1, name, SampleValues.CATEGORY_SLUGS.get(i), name + " cùng TourBooking",
+                        i, i < 6, "ACTIVE", created, created);
+            }
+        }
+        rows.put("categories", (long) SampleValues.CATEGORIES.size());
+    }
+
+    private void writeUsers(DataSink sink) throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder(10).encode(DEFAULT_PASSWORD);
+        SplittableRandom random = stream("users");
+
+        try (TableWriter users = sink.open("users",
+                List.of("id", "name", "email", "password", "status", "phone", "address", "dob", "gender",
+                        "email_verified_at", "created_at", "updated_at", "login_count", "total_bookings",
+                        "total_tour_views", "role_id"))) {
+            for (long id = 1; id <= spec.users(); id++) {
+                boolean admin = id == 1;
+                SplittableRandom profile = profile(id);
+                LocalDateTime created = anchor.minusDays(random.nextInt(730)).atTime(8 + random.nextInt(14), random.nextInt(60));
+                users.row(id,
+                        admin ? "Quản trị viên" : SampleValues.personName(profile),
+                        admin ? ADMIN_EMAIL : customerEmail(id),
+                        passwordHash,
+                        "ACTIVE",
+                        SampleValues.phone(profile),
+                        SampleValues.address(random),
+                        LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                        random.nextBoolean() ? "MALE" : "FEMALE",
+                        created.plusMinutes(5),
+                        created,
+                        created,
+                        0, 0, 0,
+                        admin ? ROLE_ADMIN : ROLE_CUSTOMER);
+            }
+        }
+        rows.put("users", (long) spec.users());
+    }
+
+    private void writeTours(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("tours");
+        int tours = spec.tours();
+        tourPrice = new BigDecimal[tours + 1];
+        tourMaxPeople = new int[tours + 1];
+        tourDuration = new int[tours + 1];
+
+        try (TableWriter writer = sink.open("tours",
+                List.of("id", "name", "slug", "short_description", "description", "price", "sale_price", "child_price",
+                        "infant_price", "duration", "max_people", "min_people", "status", "is_featured", "main_image",
+                        "tour_type", "departure_location", "destination", "destinations", "region", "country_code",
+                        "transportation", "accommodation", "meals_included", "included_services", "excluded_services",
+                        "highlights", "suitable_for", "visa_required", "flight_included", "view_count", "latitude",
+                        "longitude", "weather_enabled", "average_rating", "review_count", "rating_sum",
+                        "rating_1_count", "rating_2_count", "rating_3_count", "rating_4_count", "rating_5_count",
+                        "created_at", "updated_at", "category_id"))) {
+            for (int id = 1; id <= tours; id++) {
+                Destination destination = destination(id);
+                String theme = SampleValues.THEMES.get(random.nextInt(SampleValues.THEMES.size()));
+                int duration = destination.international() ? 4 + random.nextInt(4) : 2 + random.nextInt(4);
+                BigDecimal price = roundToTenThousand(destination.international()
+                        ? 12_000_000 + random.nextInt(33_000_000)
+                        : 1_500_000 * duration + random.nextInt(3_000_000));
+                BigDecimal salePrice = random.nextInt(100) < 30
+                        ? roundToTenThousand(price.doubleValue() * (0.85 + random.nextDouble() * 0.1))
+                        : null;
+                int maxPeople = 15 + random.nextInt(31);
+                boolean flight = destination.international() || random.nextInt(100) < 20;
+                LocalDateTime created = anchor.minusDays(random.nextInt(730)).atTime(9, 0);
+
+                tourPrice[id] = salePrice != null ? salePrice : price;
+                tourMaxPeople[id] = maxPeople;
+                tourDuration[id] = duration;
+
+                writer.row((long) id,
+                        destination.name() + " " + duration + "N" + (duration - 1) + "Đ - " + theme + " #" + id,
+                        tourSlug(id),
+                        theme + " " + destination.name() + " cùng hướng dẫn viên địa phương",
+                        ("Hành trình " + duration + " ngày tại " + destination.name() + ". ").repeat(8),
+                        price,
+                        salePrice,
+                        price.multiply(BigDecimal.valueOf(0.7)).setScale(0, RoundingMode.HALF_UP),
+                        price.multiply(BigDecimal.valueOf(0.2)).setScale(0, RoundingMode.HALF_UP),
+                        duration,
+                        maxPeople,
+                        5,
+                        isActive(id) ? "ACTIVE" : "INACTIVE",
+                        random.nextInt(100) < 2,
+                        "/uploads/tours/" + destination.slug() + "-1.jpg",
+                        destination.international() ? "INTERNATIONAL" : "DOMESTIC",
+                        random.nextBoolean() ? "Hà Nội" : "TP.HCM",
+                        destination.name(),
+                        "[\"" + destination.name() + "\"]",
+                        destination.region(),
+                        destination.countryCode(),
+                        flight ? "Máy bay" : "Ô tô",
+                        (3 + random.nextInt(3)) + "*",
+                        "Ăn sáng, Ăn trưa",
+                        flight ? SampleValues.INCLUDED_WITH_FLIGHT : SampleValues.INCLUDED_SERVICES,
+                        SampleValues.EXCLUDED_SERVICES,
+                        SampleValues.activities(random),
+                        random.nextBoolean() ? "Gia đình" : "Cặp đôi, Nhóm bạn",
+                        destination.visaRequired(),
+                        flight,
+                        random.nextInt(5_000),
+                        destination.latitude(),
+                        destination.longitude(),
+                        true,
+                        0.0,   // rating columns are refreshed from reviews after the load
+                        0L,
+                        0L,
+                        0L, 0L, 0L, 0L, 0L,
+                        created,
+                        created,
+                        (long) 1 + random.nextInt(SampleValues.CATEGORIES.size()));
+            }
+        }
+        rows.put("tours", (long) tours);
+
+        toursByPopularity = popularityOrder(tours, stream("popularity"));
+    }
+
+    private void writeTourImages(DataSink sink) throws SQLException {
+        long id = 0;
+        try (TableWriter images = sink.open("tour_images", List.of("id", "image_url", "tour_id"))) {
+            for (int tour = 1; tour <= spec.tours(); tour++) {
+                String slug = destination(tour).slug();
+                for (int n = 1; n <= spec.imagesPerTour(); n++) {
+                    images.row(++id, "/uploads/tours/" + slug + "-" + n + ".jpg", (long) tour);
+                }
+            }
+        }
+        rows.put("tour_images", id);
+    }
+
+    private void writeTourItineraries(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("tour_itineraries");
+        long id = 0;
+        try (TableWriter itineraries = sink.open("tour_itineraries",
+                List.of("id", "day_number", "title", "description", "location", "activities", "meals", "accommodation", "tour_id"))) {
+            for (int tour = 1; tour <= spec.tours(); tour++) {
+                Destination destination = destination(tour);
+                for (int day = 1; day <= tourDuration[tour]; day++) {
+                    itineraries.row(++id, day,
+                            "Ngày " + day + ": " + destination.name(),
+                            "Tham quan, nghỉ ngơi và thưởng thức đặc sản " + destination.name() + ".",
+                            destination.name(),
+                            SampleValues.activities(random),
+                            day == 1 ? "Trưa, Tối" : "Sáng, Trưa, Tối",
+                            day == tourDuration[tour] ? null : "Khách sạn " + (3 + random.nextInt(3)) + "*",
+                            (long) tour);
+                }
+            }
+        }
+        rows.put("tour_itineraries", id);
+    }
+
+    private void writeTourSchedules(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("tour_schedules");
+        LocalDateTime created = anchor.minusDays(30).atStartOfDay();
+        long id = 0;
+        try (TableWriter schedules = sink.open("tour_schedules",
+                List.of("id", "tour_id", "departure_date", "return_date", "total_seats", "available_seats", "booked_seats",
+                        "adult_price", "child_price", "status", "created_at", "updated_at"))) {
+            for (int tour = 1; tour <= spec.tours(); tour++) {
+                for (int n = 0; n < spec.schedulesPerTour(); n++) {
+                    LocalDate departure = anchor.plusDays(7 + n * 14L + random.nextInt(7));
+                    schedules.row(++id, (long) tour, departure, departure.plusDays(tourDuration[tour] - 1),
+                            tourMaxPeople[tour], tourMaxPeople[tour], 0,
+                            tourPrice[tour],
+                            tourPrice[tour].multiply(BigDecimal.valueOf(0.7)).setScale(0, RoundingMode.HALF_UP),
+                            "AVAILABLE", created, created);
+                }
+            }
+        }
+        rows.put("tour_schedules", id);
+    }
+
+    private void writeBookings(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("bookings");
+        ZipfSampler popularity = new ZipfSampler(spec.tours(), spec.tourPopularity());
+        SeasonalCalendar calendar = new SeasonalCalendar(spec.seasonality());
+        int count = spec.bookings();
+        bookingUser = new int[count + 1];
+        bookingTour = new int[count + 1];
+        bookingConfirmation = new byte[count + 1];
+        bookingPayment = new byte[count + 1];
+        bookingAmount = new long[count + 1];
+        bookingCreated = new long[count + 1];
+        bookingStart = new int[count + 1];
+
+        try (TableWriter bookings = sink.open("bookings",
+                List.of("id", "booking_code", "start_date", "customer_name", "customer_email", "customer_phone",
+                        "customer_address", "num_adults", "num_children", "num_infants", "unit_price", "total_price",
+                        "discount_amount", "final_amount", "contact_phone", "confirmation_status", "payment_status",
+                        "created_at", "updated_at", "reminder_sent", "user_id", "tour_id"))) {
+            for (int id = 1; id <= count; id++) {
+                int userId = 2 + random.nextInt(spec.users() - 1);
+                int tour = (int) toursByPopularity[popularity.sample(random) - 1];
+                int adults = 1 + random.nextInt(4);
+                int children = random.nextInt(100) < 35 ? 1 + random.nextInt(2) : 0;
+
+                // A year of history plus six months of upcoming departures
+                LocalDate startDate = calendar.sample(random, anchor.minusDays(HISTORY_DAYS), HISTORY_DAYS + UPCOMING_DAYS);
+                LocalDateTime created = startDate.minusDays(7 + random.nextInt(60)).atTime(7 + random.nextInt(16), random.nextInt(60));
+                if (!created.toLocalDate().isBefore(anchor)) {
+                    created = anchor.minusDays(1 + random.nextInt(3)).atTime(created.toLocalTime());
+                }
+                boolean past = startDate.isBefore(anchor);
+                int roll = random.nextInt(100);
+                byte confirmation;
+                byte payment;
+                if (roll < 8) {
+                    confirmation = CANCELLED;
+                    payment = roll < 3 ? REFUNDED : UNPAID;
+                } else if (past) {
+                    confirmation = COMPLETED;
+                    payment = PAID;
+                } else {
+                    confirmation = roll < 55 ? CONFIRMED : PENDING;
+                    payment = roll < 70 ? PAID : UNPAID;
+                }
+
+                BigDecimal total = BookingPriceCalculator.subtotal(tourPrice[tour], adults, children)
+                        .setScale(0, RoundingMode.HALF_UP);
+                SplittableRandom customer = profile(userId);
+                String name = SampleValues.personName(customer);
+                String phone = SampleValues.phone(customer);
+
+                bookingUser[id] = userId;
+                bookingTour[id] = tour;
+                bookingConfirmation[id] = confirmation;
+                bookingPayment[id] = payment;
+                bookingAmount[id] = total.longValueExact();
+                bookingCreated[id] = created.toEpochSecond(ZoneOffset.UTC);
+                bookingStart[id] = (int) startDate.toEpochDay();
+
+                bookings.row((long) id,
+                        CodeGenerator.BOOKING_PREFIX + CodeGenerator.encode(id),
+                        startDate,
+                        name,
+                        customerEmail(userId),
+                        phone,
+                        null,
+                        adults,
+                        children,
+                        0,
+                        tourPrice[tour],
+                        total,
+                        BigDecimal.ZERO,
+                        total,
+                        phone,
+                        CONFIRMATION[confirmation],
+                        PAYMENT[payment],
+                        created,
+                        created,
+                        past,
+                        (long) userId,
+                        (long) tour);
+            }
+        }
+        rows.put("bookings", (long) count);
+    }
+
+    /**
+     * VNPay attempts per booking: paid bookings have one completed payment (sometimes after a
+     * failed try), refunded ones a refunded payment, and some unpaid ones an abandoned or failed attempt.
+     */
+    private void writePayments(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("payments");
+        long id = 0;
+        try (TableWriter payments = sink.open("payments",
+                List.of("id", "booking_id", "payment_code", "amount", "payment_method", "payment_provider",
+                        "transaction_id", "provider_transaction_id", "status", "paid_at", "refunded_at",
+                        "refund_amount", "refund_reason", "payment_note", "created_at", "updated_at"))) {
+            for (int booking = 1; booking <= spec.bookings(); booking++) {
+                BigDecimal amount = BigDecimal.valueOf(bookingAmount[booking]);
+                LocalDateTime attempt = dateTime(bookingCreated[booking]).plusMinutes(1 + random.nextInt(10));
+                byte state = bookingPayment[booking];
+                boolean failedFirst = random.nextInt(100) < (state == UNPAID ? 25 : 8);
+
+                if (failedFirst) {
+                    payments.row(++id, (long) booking, paymentCode(id), amount, "VNPay", "VNPay",
+                            null, null, "FAILED", null, null, BigDecimal.ZERO, null,
+                            "Giao dịch không thành công (mã 24)", attempt, attempt.plusMinutes(15));
+                    attempt = attempt.plusMinutes(5 + random.nextInt(60));
+                }
+
+                if (state == PAID || state == REFUNDED) {
+                    String transactionNo = String.valueOf(10_000_000 + random.nextInt(90_000_000));
+                    LocalDateTime paid = attempt.plusMinutes(1 + random.nextInt(5));
+                    LocalDateTime refunded = state == REFUNDED ? paid.plusDays(1 + random.nextInt(5)) : null;
+                    payments.row(++id, (long) booking, paymentCode(id), amount, "VNPay", "VNPay",
+                            "VNP-" + transactionNo, transactionNo,
+                            state == REFUNDED ? "REFUNDED" : "COMPLETED",
+                            paid, refunded,
+                            state == REFUNDED ? amount : BigDecimal.ZERO,
+                            state == REFUNDED ? "Khách hủy tour" : null,
+                            null, attempt, refunded != null ? refunded : paid);
+                } else if (!failedFirst && bookingConfirmation[booking] != CANCELLED && random.nextInt(100) < 30) {
+                    // Customer opened VNPay and never came back
+                    payments.row(++id, (long) booking, paymentCode(id), amount, "VNPay", "VNPay",
+                            null, null, "PENDING", null, null, BigDecimal.ZERO, null, null, attempt, attempt);
+                }
+            }
+        }
+        rows.put("payments", id);
+    }
+
+    /**
+     * Reviews on completed bookings, written a few days after the trip. Ratings lean positive and
+     * a minority carry photos, helpful votes or an admin reply.
+     */
+    private void writeReviews(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("reviews");
+        bookingReview = new int[spec.bookings() + 1];
+        bookingReviewPoints = new int[spec.bookings() + 1];
+        bookingReviewed = new long[spec.bookings() + 1];
+        int id = 0;
+        long voteId = 0;
+        try (TableWriter reviews = sink.open("reviews",
+                List.of("id", "user_id", "tour_id", "booking_id", "rating", "comment", "images", "helpful_count",
+                        "helpful_user_ids", "admin_reply", "replied_by", "replied_at", "status", "rejection_reason",
+                        "is_spam", "is_suspicious", "created_at", "updated_at"));
+             TableWriter votes = sink.open("review_helpful_votes",
+                List.of("id", "review_id", "user_id", "created_at"))) {
+            for (int booking = 1; booking <= spec.bookings(); booking++) {
+                if (bookingConfirmation[booking] != COMPLETED || random.nextDouble() >= spec.reviewRate()) {
+                    continue;
+                }
+                LocalDate tripEnd = LocalDate.ofEpochDay(bookingStart[booking]).plusDays(tourDuration[bookingTour[booking]] - 1);
+                LocalDateTime created = tripEnd.plusDays(1 + random.nextInt(14)).atTime(8 + random.nextInt(15), random.nextInt(60));
+                if (!created.toLocalDate().isBefore(anchor)) {
+                    continue; // trip ended too recently
+                }
+
+                int rating = rating(random);
+                int photos = random.nextInt(100) < 20 ? 1 + random.nextInt(3) : 0;
+                int roll = random.nextInt(100);
+                String status = roll < 88 ? "APPROVED" : roll < 96 ? "PENDING" : "REJECTED";
+                boolean replied = "APPROVED".equals(status) && random.nextInt(100) < 30;
+                LocalDateTime repliedAt = replied ? created.plusDays(1 + random.nextInt(3)) : null;
+                TreeSet<Integer> helpfulVoters = helpfulVoters(random);
+
+                reviews.row((long) ++id,
+                        (long) bookingUser[booking],
+                        (long) bookingTour[booking],
+                        (long) booking,
+                        rating,
+                        SampleValues.reviewComment(random, rating),
+                        photos == 0 ? null : reviewImages(id, photos),
+                        helpfulVoters.size(),
+                        null,   // legacy voter list; votes live in review_helpful_votes
+                        replied ? "Cảm ơn quý khách đã tin tưởng TourBooking!" : null,
+                        replied ? ROLE_ADMIN : null,
+                        repliedAt,
+                        status,
+                        "REJECTED".equals(status) ? "Nội dung không phù hợp" : null,
+                        false,
+                        false,
+                        created,
+                        repliedAt != null ? repliedAt : created);
+
+                for (Integer voter : helpfulVoters) {
+                    votes.row(++voteId, (long) id, (long) voter, created);
+                }
+
+                if ("APPROVED".equals(status)) {
+                    bookingReview[booking] = id;
+                    bookingReviewPoints[booking] = photos > 0 ? REVIEW_WITH_PHOTO_POINTS : REVIEW_POINTS;
+                    bookingReviewed[booking] = created.toEpochSecond(ZoneOffset.UTC);
+                }
+            }
+        }
+        rows.put("reviews", (long) id);
+        rows.put("review_helpful_votes", voteId);
+    }
+
+    /**
+     * Point history replayed in trip order so balances and tier bonuses evolve like
+     * LoyaltyServiceImpl: points for completed bookings (1 per 10,000đ plus tier bonus) and approved
+     * reviews, occasional voucher redemptions. Balances end up in loyalty_points.
+     */
+    private void writePoints(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("point_transactions");
+        int users = spec.users();
+        int[] balance = new int[users + 1];
+        int[] earned = new int[users + 1];
+        int[] redeemed = new int[users + 1];
+        long[] first = new long[users + 1];
+        long[] last = new long[users + 1];
+        long id = 0;
+
+        try (TableWriter points = sink.open("point_transactions",
+                List.of("id", "user_id", "points", "transaction_type", "source_type", "source_id", "description",
+                        "balance_before", "balance_after", "expires_at", "is_expired", "created_at"))) {
+            for (int booking : completedBookingsByStart()) {
+                int user = bookingUser[booking];
+                int level = level(earned[user]);
+                int base = (int) (bookingAmount[booking] / 10_000);
+                int awarded = (int) Math.floor(base * (1 + LEVEL_BONUS[level]));
+                LocalDateTime at = LocalDate.ofEpochDay(bookingStart[booking])
+                        .plusDays(tourDuration[bookingTour[booking]]).atTime(2, 0);
+                id = earn(points, id, user, awarded, "BOOKING", booking, String.format(
+                        "Tích điểm từ booking #%d (cộng %.0f%% bonus hạng %s)", booking, LEVEL_BONUS[level] * 100, LEVELS[level]),
+                        at, balance, earned, first, last);
+
+                if (bookingReview[booking] != 0) {
+                    id = earn(points, id, user, bookingReviewPoints[booking], "REVIEW", bookingReview[booking],
+                            "Tích điểm từ đánh giá #" + bookingReview[booking], dateTime(bookingReviewed[booking]),
+                            balance, earned, first, last);
+                }
+
+                if (balance[user] >= VOUCHER_COST && random.nextInt(100) < 10) {
+                    LocalDateTime redeemedAt = at.plusDays(1 + random.nextInt(20));
+                    points.row(++id, (long) user, -VOUCHER_COST, "REDEEMED", "PROMOTION", null,
+                            "Đổi " + VOUCHER_COST + " điểm lấy voucher", balance[user], balance[user] - VOUCHER_COST,
+                            null, false, redeemedAt);
+                    balance[user] -= VOUCHER_COST;
+                    redeemed[user] += VOUCHER_COST;
+                    last[user] = redeemedAt.toEpochSecond(ZoneOffset.UTC);
+                }
+            }
+        }
+        rows.put("point_transactions", id);
+
+        long accounts = 0;
+        try (TableWriter loyalty = sink.open("loyalty_points",
+                List.of("id", "user_id", "points_balance", "total_earned", "total_redeemed", "total_expired", "level",
+                        "level_updated_at", "created_at", "updated_at"))) {
+            for (int user = 2; user <= users; user++) {
+                if (first[user] == 0) {
+                    continue;
+                }
+                int level = level(earned[user]);
+                loyalty.row(++accounts, (long) user, balance[user], earned[user], redeemed[user], 0, LEVELS[level],
+                        level > 0 ? dateTime(last[user]) : null, dateTime(first[user]), dateTime(last[user]));
+            }
+        }
+        rows.put("loyalty_points", accounts);
+    }
+
+    private long earn(TableWriter points, long id, int user, int amount, String source, long sourceId,
+                      String description, LocalDateTime at, int[] balance, int[] earned, long[] first, long[] last)
+            throws SQLException {
+        LocalDate expires = at.toLocalDate().plusMonths(12);
+        points.row(++id, (long) user, amount, "EARNED", source, sourceId, description,
+                balance[user], balance[user] + amount, expires, expires.isBefore(anchor), at);
+        balance[user] += amount;
+        earned[user] += amount;
+        long epoch = at.toEpochSecond(ZoneOffset.UTC);
+        if (first[user] == 0) {
+            first[user] = epoch;
+        }
+        last[user] = Math.max(last[user], epoch);
+        return id;
+    }
+
+    private void writeNotifications(DataSink sink) throws SQLException {
+        SplittableRandom random = stream("notifications");
+        List<NotificationTemplate> templates = SampleValues.NOTIFICATIONS;
+        long id = 0;
+        try (TableWriter notifications = sink.open("notifications",
+                List.of("id", "user_id", "title", "message", "type", "link", "recipient_type", "is_read", "created_at"))) {
+            // A few broadcasts to everyone
+            for (int i = 0; i < 20; i++) {
+                LocalDateTime created = anchor.minusDays(random.nextInt(HISTORY_DAYS)).atTime(9, 0);
+                notifications.row(++id, null, "Ưu đãi tháng " + created.getMonthValue(),
+                        "Khám phá các tour giảm giá trong tháng này.", "INFO", "/tours", "ALL", false, created);
+            }
+            for (long user = 2; user <= spec.users(); user++) {
+                int count = spec.notificationsPerUser() == 0 ? 0 : random.nextInt(2 * spec.notificationsPerUser() + 1);
+                for (int i = 0; i < count; i++) {
+                    NotificationTemplate template = templates.get(random.nextInt(templates.size()));
+                    int daysAgo = random.nextInt(180);
+                    LocalDateTime created = anchor.minusDays(daysAgo).atTime(random.nextInt(24), random.nextInt(60));
+                    notifications.row(++id, user, template.title(), template.message(), template.type(), template.link(),
+                            "USER", daysAgo > 7 || random.nextInt(100) < 40, created);
+                }
+            }
+        }
+        rows.put("notifications", id);
+    }
+
+    /**
+     * Completed booking ids ordered by departure day (counting sort; the day range is bounded)
+     */
+    private int[] completedBookingsByStart() {
+        int firstDay = (int) anchor.minusDays(HISTORY_DAYS).toEpochDay();
+        int[] perDay = new int[HISTORY_DAYS + UPCOMING_DAYS + 1];
+        int completed = 0;
+        for (int booking = 1; booking <= spec.bookings(); booking++) {
+            if (bookingConfirmation[booking] == COMPLETED) {
+                perDay[bookingStart[booking] - firstDay + 1]++;
+                completed++;
+            }
+        }
+        for (int day = 1; day < perDay.length; day++) {
+            perDay[day] += perDay[day - 1];
+        }
+        int[] ordered = new int[completed];
+        for (int booking = 1; booking <= spec.bookings(); booking++) {
+            if (bookingConfirmation[booking] == COMPLETED) {
+                ordered[perDay[bookingStart[booking] - firstDay]++] = booking;
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Roughly the shape of real tour reviews: mostly 4-5 stars with a tail of complaints
+     */
+    private static int rating(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 45 ? 5 : roll < 75 ? 4 : roll < 88 ? 3 : roll < 95 ? 2 : 1;
+    }
+
+    private TreeSet<Integer> helpfulVoters(SplittableRandom random) {
+        TreeSet<Integer> voters = new TreeSet<>();
+        if (random.nextInt(100) < 60) {
+            return voters;
+        }
+        // Geometric-ish: most reviews get a couple of votes, a few get many
+        int votes = 1 + (int) (-4 * Math.log(1 - random.nextDouble()));
+        for (int i = 0; i < Math.min(votes, 50); i++) {
+            voters.add(2 + random.nextInt(spec.users() - 1));
+        }
+        return voters;
+    }
+
+    private static String reviewImages(int reviewId, int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int n = 1; n <= count; n++) {
+            if (n > 1) {
+                json.append(',');
+            }
+            json.append("\"/uploads/reviews/review-").append(reviewId).append('-').append(n).append(".jpg\"");
+        }
+        return json.append(']').toString();
+    }
+
+    private static int level(int totalEarned) {
+        int level = 0;
+        while (level + 1 < LEVEL_THRESHOLDS.length && totalEarned >= LEVEL_THRESHOLDS[level + 1]) {
+            level++;
+        }
+        return level;
+    }
+
+    private static String paymentCode(long paymentId) {
+        return CodeGenerator.PAYMENT_PREFIX + CodeGenerator.encode(paymentId);
+    }
+
+    private static LocalDateTime dateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Tours cycle through destinations with a stride so neighbouring ids differ
+     */
+    private static Destination destination(long tourId) {
+        List<Destination> destinations = SampleValues.DESTINATIONS;
+        return destinations.get((int) ((tourId * 7) % destinations.size()));
+    }
+
+    /**
+     * Stable per-user stream so users and their bookings agree on name and phone
+     */
+    private SplittableRandom profile(long userId) {
+        return new SplittableRandom(spec.seed() * 0x9E3779B97F4A7C15L + userId);
+    }
+
+    private SplittableRandom stream(String table) {
+        return new SplittableRandom(spec.seed() ^ ((long) table.hashCode() << 32));
+    }
+
+    private static long[] popularityOrder(int tours, SplittableRandom random) {
+        long[] order = new long[tours];
+        for (int i = 0; i < tours; i++) {
+            order[i] = i + 1;
+        }
+        for (int i = tours - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    private static BigDecimal roundToTenThousand(double amount) {
+        return BigDecimal.valueOf(amount).divide(TEN_THOUSAND, 0, RoundingMode.HALF_UP).multiply(TEN_THOUSAND);
+    }
+}
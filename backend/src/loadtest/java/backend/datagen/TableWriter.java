@@ -0,0 +1,14 @@
+package backend.datagen;
+
+import java.sql.SQLException;
+
+/**
+ * Destination for the rows of one table; values follow the column order the writer was opened with
+ */
+interface TableWriter extends AutoCloseable {
+
+    void row(Object... values) throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
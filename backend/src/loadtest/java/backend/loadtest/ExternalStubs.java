@@ -0,0 +1,229 @@
+package backend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-ins for the services the backend calls out to, so a load test never leaves the machine:
+ * OpenWeatherMap (current, forecast, geocoding), the chatbot service, an SMTP sink that accepts
+ * and discards every message and an OTLP/HTTP trace collector that only counts spans. Upstream
+ * latency can be simulated with a fixed delay (not applied to the collector).
+ */
+@Slf4j
+class ExternalStubs implements AutoCloseable {
+
+    private static final String CURRENT_JSON = """
+            {"main":{"temp":30.4,"feels_like":34.2,"humidity":70,"pressure":1008},
+             "weather":[{"description":"mây rải rác","icon":"03d"}],
+             "wind":{"speed":3.5},"visibility":10000,"sys":{"sunrise":1760000000,"sunset":1760043000}}
+            """;
+
+    private static final String GEO_JSON = """
+            [{"name":"Da Nang","local_names":{"vi":"Đà Nẵng"},"lat":16.0544,"lon":108.2022}]
+            """;
+
+    private static final String REVIEW_SUMMARY_JSON = """
+            {"positive":"Hướng dẫn viên nhiệt tình","negative":"Lịch trình hơi dày","summary":"Khách hài lòng",
+             "total_reviews":12,"average_rating":4.5,"cached":true,"generated_at":"2025-01-01T00:00:00"}
+            """;
+
+    private final HttpServer http;
+    private final ServerSocket smtp;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long upstreamDelayMs;
+    private final String forecastJson = forecastJson();
+
+    private final AtomicLong weatherCalls = new AtomicLong();
+    private final AtomicLong chatbotCalls = new AtomicLong();
+    private final AtomicLong mailsAccepted = new AtomicLong();
+    private final AtomicLong traceExports = new AtomicLong();
+    private final AtomicLong spansCollected = new AtomicLong();
+
+    ExternalStubs(long upstreamDelayMs) throws IOException {
+        this.upstreamDelayMs = upstreamDelayMs;
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+
+        http = HttpServer.create(new InetSocketAddress(loopback, 0), 0);
+        http.setExecutor(executor);
+        http.createContext("/data/2.5/weather", exchange -> weather(exchange, CURRENT_JSON));
+        http.createContext("/data/2.5/forecast", exchange -> weather(exchange, forecastJson));
+        http.createContext("/geo/1.0/direct", exchange -> weather(exchange, GEO_JSON));
+        http.createContext("/chatbot/SumaryReview", exchange -> chatbot(exchange, REVIEW_SUMMARY_JSON));
+        http.createContext("/chatbot", exchange -> chatbot(exchange, "{\"results\":[]}"));
+        http.createContext("/v1/traces", this::collectTraces);
+        http.start();
+
+        smtp = new ServerSocket(0, 200, loopback);
+        executor.submit(this::acceptSmtp);
+    }
+
+    String weatherBaseUrl() {
+        return baseUrl() + "/data/2.5";
+    }
+
+    String geoUrl() {
+        return baseUrl() + "/geo/1.0";
+    }
+
+    String chatbotUrl() {
+        return baseUrl() + "/chatbot";
+    }
+
+    String otlpUrl() {
+        return baseUrl() + "/v1/traces";
+    }
+
+    int smtpPort() {
+        return smtp.getLocalPort();
+    }
+
+    String stats() {
+        return String.format(Locale.ROOT, "weather=%d chatbot=%d mails=%d traceExports=%d spans=%d",
+                weatherCalls.get(), chatbotCalls.get(), mailsAccepted.get(), traceExports.get(), spansCollected.get());
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + http.getAddress().getPort();
+    }
+
+    private void weather(HttpExchange exchange, String body) throws IOException {
+        weatherCalls.incrementAndGet();
+        respond(exchange, body);
+    }
+
+    private void chatbot(HttpExchange exchange, String body) throws IOException {
+        chatbotCalls.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        respond(exchange, body);
+    }
+
+    private void collectTraces(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        traceExports.incrementAndGet();
+        int spans = 0;
+        for (int i = body.indexOf("\"spanId\""); i >= 0; i = body.indexOf("\"spanId\"", i + 1)) {
+            spans++;
+        }
+        spansCollected.addAndGet(spans);
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        simulateLatency();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void acceptSmtp() {
+        while (!smtp.isClosed()) {
+            try {
+                Socket socket = smtp.accept();
+                executor.submit(() -> smtpSession(socket));
+            } catch (IOException e) {
+                if (!smtp.isClosed()) {
+                    log.warn("SMTP stub accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Just enough of RFC 5321 for JavaMail without STARTTLS or AUTH
+     */
+    private void smtpSession(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            reply(out, "220 loadtest-smtp ready");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase(Locale.ROOT) : line.toUpperCase(Locale.ROOT);
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 loadtest-smtp");
+                    case "DATA" -> {
+                        reply(out, "354 end with <CRLF>.<CRLF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // discard message body
+                        }
+                        simulateLatency();
+                        mailsAccepted.incrementAndGet();
+                        reply(out, "250 queued");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 bye");
+                        return;
+                    }
+                    default -> reply(out, "250 ok");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("SMTP stub session ended: {}", e.getMessage());
+        }
+    }
+
+    private static void reply(PrintWriter out, String line) {
+        out.print(line + "\r\n");
+        out.flush();
+    }
+
+    private void simulateLatency() {
+        if (upstreamDelayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(upstreamDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        http.stop(0);
+        smtp.close();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 5 days x 8 three-hour slots, starting today
+     */
+    private static String forecastJson() {
+        StringBuilder list = new StringBuilder();
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < 5; day++) {
+            for (int slot = 0; slot < 8; slot++) {
+                if (list.length() > 0) {
+                    list.append(',');
+                }
+                list.append(String.format(Locale.ROOT,
+                        "{\"dt_txt\":\"%s %02d:00:00\",\"main\":{\"temp\":%d.5,\"humidity\":75},"
+                                + "\"weather\":[{\"description\":\"mưa nhẹ\",\"icon\":\"10d\"}],"
+                                + "\"wind\":{\"speed\":2.0},\"rain\":{\"3h\":0.4}}",
+                        today.plusDays(day), slot * 3, 25 + slot));
+            }
+        }
+        return "{\"list\":[" + list + "]}";
+    }
+}
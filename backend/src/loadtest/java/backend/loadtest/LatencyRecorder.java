@@ -0,0 +1,64 @@
+package backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint latency samples for one virtual user. Not thread-safe: each virtual user owns
+ * one recorder and the runner merges them at the end, so recording never contends.
+ */
+final class LatencyRecorder {
+
+    static final class Samples {
+        private long[] nanos = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i]);
+            }
+            errors += other.errors;
+        }
+
+        int count() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private final Map<String, Samples> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Record one request; failed requests count towards latency and the error total
+     */
+    void record(String endpoint, long elapsedNanos, boolean ok) {
+        Samples samples = endpoints.computeIfAbsent(endpoint, k -> new Samples());
+        samples.add(elapsedNanos);
+        if (!ok) {
+            samples.errors++;
+        }
+    }
+
+    void mergeInto(Map<String, Samples> target) {
+        endpoints.forEach((endpoint, samples) ->
+                target.computeIfAbsent(endpoint, k -> new Samples()).addAll(samples));
+    }
+}
@@ -0,0 +1,76 @@
+package backend.loadtest;
+
+import backend.datagen.DatasetSpec;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, all in --name=value form. Unknown names are rejected so typos do not
+ * silently fall back to defaults.
+ */
+record LoadTestOptions(
+        int users,
+        Duration duration,
+        Duration warmup,
+        Duration rampUp,
+        long thinkTimeMs,
+        int bookingPercent,
+        long upstreamDelayMs,
+        DatasetSpec dataset,
+        Path outputDir,
+        String label,
+        boolean virtualThreads
+) {
+
+    static LoadTestOptions parse(String[] args, String defaultLabel) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        DatasetSpec dataset = DatasetSpec.LOAD_TEST
+                .withSize(intValue(values, "data-users", DatasetSpec.LOAD_TEST.users()),
+                        intValue(values, "data-tours", DatasetSpec.LOAD_TEST.tours()),
+                        intValue(values, "data-bookings", DatasetSpec.LOAD_TEST.bookings()))
+                .withSeed(Long.parseLong(values.getOrDefault("seed", String.valueOf(DatasetSpec.LOAD_TEST.seed()))));
+
+        String threads = values.getOrDefault("threads", "platform");
+        if (!threads.equals("platform") && !threads.equals("virtual")) {
+            throw new IllegalArgumentException("--threads must be platform or virtual, got: " + threads);
+        }
+        boolean virtualThreads = threads.equals("virtual");
+
+        LoadTestOptions options = new LoadTestOptions(
+                intValue(values, "users", 500),
+                Duration.parse(values.getOrDefault("duration", "PT3M")),
+                Duration.parse(values.getOrDefault("warmup", "PT30S")),
+                Duration.parse(values.getOrDefault("ramp-up", "PT30S")),
+                Long.parseLong(values.getOrDefault("think-ms", "1000")),
+                intValue(values, "booking-percent", 15),
+                Long.parseLong(values.getOrDefault("upstream-delay-ms", "50")),
+                dataset,
+                Path.of(values.getOrDefault("out", "target/loadtest")),
+                values.getOrDefault("label", virtualThreads ? defaultLabel + "-virtual" : defaultLabel),
+                virtualThreads);
+
+        values.keySet().removeAll(Set.of("users", "duration", "warmup", "ramp-up", "think-ms",
+                "booking-percent", "upstream-delay-ms", "data-users", "data-tours", "data-bookings", "seed", "out", "label", "threads"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value.replace("_", "")) : defaultValue;
+    }
+}
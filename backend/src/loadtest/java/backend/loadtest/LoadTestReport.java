@@ -0,0 +1,139 @@
+package backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Result of one load-test run. Serialized as JSON with sorted keys so reports from two commits
+ * diff line by line, and rendered as a Markdown table for humans.
+ */
+record LoadTestReport(
+        String label,
+        String startedAt,
+        int users,
+        long durationSeconds,
+        Map<String, Long> dataset,
+        Map<String, EndpointStats> endpoints
+) {
+
+    record EndpointStats(
+            long count,
+            long errors,
+            double throughputPerSecond,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs
+    ) {
+
+        static EndpointStats of(LatencyRecorder.Samples samples, double seconds) {
+            long[] sorted = samples.sorted();
+            long total = 0;
+            for (long value : sorted) {
+                total += value;
+            }
+            int n = sorted.length;
+            return new EndpointStats(n, samples.errors(), round(n / seconds),
+                    n == 0 ? 0 : millis(total / n),
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95),
+                    percentile(sorted, 99), n == 0 ? 0 : millis(sorted[n - 1]));
+        }
+
+        /**
+         * Nearest-rank percentile in milliseconds
+         */
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return millis(sorted[Math.max(rank, 1) - 1]);
+        }
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    static LoadTestReport of(String label, String startedAt, int users, double seconds,
+                             Map<String, Long> dataset, Map<String, LatencyRecorder.Samples> samples) {
+        Map<String, EndpointStats> endpoints = new TreeMap<>();
+        samples.forEach((endpoint, s) -> endpoints.put(endpoint, EndpointStats.of(s, seconds)));
+        return new LoadTestReport(label, startedAt, users, Math.round(seconds), new TreeMap<>(dataset), endpoints);
+    }
+
+    static LoadTestReport read(Path path) throws IOException {
+        return JSON.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    void write(Path json) throws IOException {
+        Files.createDirectories(json.toAbsolutePath().getParent());
+        JSON.writeValue(json.toFile(), this);
+        Files.writeString(Path.of(json.toString().replaceFirst("\\.json$", "") + ".md"), toMarkdown(), StandardCharsets.UTF_8);
+    }
+
+    String toMarkdown() {
+        StringBuilder md = new StringBuilder();
+        md.append("# Load test: ").append(label).append("\n\n")
+          .append(users).append(" virtual users, ").append(durationSeconds).append(" s measured, started ")
+          .append(startedAt).append("\n\nDataset: ").append(dataset).append("\n\n")
+          .append("| Endpoint | Requests | Errors | Req/s | Mean ms | p50 ms | p90 ms | p95 ms | p99 ms | Max ms |\n")
+          .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        endpoints.forEach((endpoint, s) -> md.append(String.format(Locale.ROOT,
+                "| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                endpoint, s.count(), s.errors(), s.throughputPerSecond(), s.meanMs(),
+                s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs())));
+        return md.toString();
+    }
+
+    /**
+     * Markdown table of head vs base per endpoint (positive latency delta = slower)
+     */
+    static String compare(LoadTestReport base, LoadTestReport head) {
+        StringBuilder md = new StringBuilder();
+        md.append("# ").append(base.label()).append(" -> ").append(head.label()).append("\n\n")
+          .append("| Endpoint | Req/s | p50 ms | p95 ms | p99 ms | Errors |\n")
+          .append("|---|---:|---:|---:|---:|---:|\n");
+        TreeSet<String> names = new TreeSet<>(base.endpoints().keySet());
+        names.addAll(head.endpoints().keySet());
+        EndpointStats empty = new EndpointStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        for (String endpoint : names) {
+            EndpointStats b = base.endpoints().getOrDefault(endpoint, empty);
+            EndpointStats h = head.endpoints().getOrDefault(endpoint, empty);
+            md.append("| ").append(endpoint)
+              .append(" | ").append(delta(b.throughputPerSecond(), h.throughputPerSecond()))
+              .append(" | ").append(delta(b.p50Ms(), h.p50Ms()))
+              .append(" | ").append(delta(b.p95Ms(), h.p95Ms()))
+              .append(" | ").append(delta(b.p99Ms(), h.p99Ms()))
+              .append(" | ").append(b.errors()).append(" -> ").append(h.errors())
+              .append(" |\n");
+        }
+        return md.toString();
+    }
+
+    private static String delta(double base, double head) {
+        if (base == 0) {
+            return String.format(Locale.ROOT, "%.1f", head);
+        }
+        return String.format(Locale.ROOT, "%.1f (%+.1f%%)", head, (head - base) / base * 100);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
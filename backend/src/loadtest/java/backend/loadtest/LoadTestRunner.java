@@ -0,0 +1,171 @@
+package backend.loadtest;
+
+import backend.BackendApplication;
+import backend.config.VnPayConfig;
+import backend.datagen.DatasetSummary;
+import backend.datagen.SyntheticDataGenerator;
+import backend.datagen.ZipfSampler;
+import backend.security.JwtUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * End-to-end load test: boots the backend on in-memory H2 with synthetic data and local stubs
+ * for SMTP, OpenWeatherMap and the chatbot, drives the scenario mix in {@link VirtualUser} and
+ * writes per-endpoint latency percentiles and throughput to {@code <out>/<label>.json|.md}.
+ *
+ * <pre>
+ * LoadTestRunner [--users=500] [--duration=PT3M] [--warmup=PT30S] [--ramp-up=PT30S] [--think-ms=1000]
+ *                [--booking-percent=15] [--upstream-delay-ms=50] [--data-users=50000] [--data-tours=20000]
+ *                [--data-bookings=100000] [--seed=42] [--out=target/loadtest] [--label=&lt;git commit&gt;]
+ *                [--threads=platform|virtual]
+ * LoadTestRunner compare &lt;base.json&gt; &lt;head.json&gt;
+ * </pre>
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "compare".equals(args[0])) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("Usage: compare <base.json> <head.json>");
+            }
+            System.out.println(LoadTestReport.compare(LoadTestReport.read(Path.of(args[1])),
+                    LoadTestReport.read(Path.of(args[2]))));
+            return;
+        }
+
+        LoadTestOptions options = LoadTestOptions.parse(args, gitCommit());
+        LoadTestReport report = run(options);
+
+        Path json = options.outputDir().resolve(options.label() + ".json");
+        report.write(json);
+        System.out.println(report.toMarkdown());
+        log.info("Report written to {}", json.toAbsolutePath());
+        System.exit(0); // application threads (schedulers, pools) are not all daemons
+    }
+
+    static LoadTestReport run(LoadTestOptions options) throws Exception {
+        try (ExternalStubs stubs = new ExternalStubs(options.upstreamDelayMs());
+             ConfigurableApplicationContext context = startBackend(stubs, options)) {
+
+            log.info("Seeding {} ...", options.dataset());
+            DatasetSummary dataset = new SyntheticDataGenerator(options.dataset(), LocalDate.now())
+                    .generate(context.getBean(DataSource.class));
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            JwtUtils jwtUtils = context.getBean(JwtUtils.class);
+            VnPayConfig vnPay = context.getBean(VnPayConfig.class);
+
+            String startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString();
+            long start = System.nanoTime();
+            long measureFrom = start + options.warmup().toNanos();
+            long stopAt = measureFrom + options.duration().toNanos();
+
+            // The client gets its own executor: it must outlive the user tasks, which the runner waits for
+            try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+                 ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(httpExecutor)
+                        .build();
+
+                VirtualUser.Target target = new VirtualUser.Target(http, "http://127.0.0.1:" + port, dataset,
+                        new ZipfSampler(options.dataset().tours(), options.dataset().tourPopularity()),
+                        SyntheticDataGenerator.destinationNames(), vnPay.getTmnCode(), vnPay.getHashSecret(),
+                        options, measureFrom, stopAt);
+
+                // Each virtual user signs in as its own customer (ids 2..n); tokens are minted directly
+                // because login (bcrypt) is not part of the measured mix
+                int customers = options.dataset().users() - 1;
+                List<VirtualUser> users = new ArrayList<>(options.users());
+                for (int i = 0; i < options.users(); i++) {
+                    String email = SyntheticDataGenerator.customerEmail(2 + (i % customers));
+                    users.add(new VirtualUser(target, jwtUtils.generateTokenFromEmail(email), options.dataset().seed() + i));
+                }
+
+                log.info("Running {} virtual users: warm-up {}, measure {}", options.users(), options.warmup(), options.duration());
+                long rampStep = options.users() > 1 ? options.rampUp().toNanos() / options.users() : 0;
+                List<Future<?>> running = new ArrayList<>(users.size());
+                for (int i = 0; i < users.size(); i++) {
+                    VirtualUser user = users.get(i);
+                    long delay = i * rampStep;
+                    running.add(pool.submit(() -> {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                        user.run();
+                        return null;
+                    }));
+                }
+                long deadline = stopAt + TimeUnit.MINUTES.toNanos(2);
+                for (Future<?> user : running) {
+                    try {
+                        user.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException e) {
+                        user.cancel(true);
+                    } catch (ExecutionException e) {
+                        log.warn("Virtual user stopped with an error", e.getCause());
+                    }
+                }
+
+                Map<String, LatencyRecorder.Samples> merged = new TreeMap<>();
+                users.forEach(user -> user.recorder().mergeInto(merged));
+                log.info("Stub traffic: {}", stubs.stats());
+                return LoadTestReport.of(options.label(), startedAt, options.users(),
+                        options.duration().toMillis() / 1000.0, dataset.rows(), merged);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startBackend(ExternalStubs stubs, LoadTestOptions options) {
+        Map<String, String> overrides = Map.of(
+                "server.port", "0",
+                "weather.api.base-url", stubs.weatherBaseUrl(),
+                "weather.api.geo-url", stubs.geoUrl(),
+                "app.chatbot.url", stubs.chatbotUrl(),
+                "app.tracing.otlp-endpoint", stubs.otlpUrl(),
+                "spring.threads.virtual.enabled", String.valueOf(options.virtualThreads()),
+                "spring.mail.host", "127.0.0.1",
+                "spring.mail.port", String.valueOf(stubs.smtpPort()));
+        // As command-line arguments: builder properties() are only defaults and lose to application.yml
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("loadtest")
+                .run(overrides.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+    }
+
+    private static String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String commit = new String(process.getInputStream().readAllBytes()).trim();
+            return process.waitFor() == 0 && !commit.isEmpty() ? commit : "local";
+        } catch (IOException e) {
+            return "local";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "local";
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package backend.loadtest;
+
+import backend.datagen.DatasetSummary;
+import backend.datagen.SyntheticDataGenerator;
+import backend.datagen.ZipfSampler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * One simulated customer looping over the scenario mix until the run ends:
+ * <ul>
+ *   <li>browse: search tours, then open 1-3 tour detail pages (Zipf-popular tours)</li>
+ *   <li>book: open a tour, create a booking, start a VNPay payment and come back through
+ *       the VNPay return URL signed as the gateway would</li>
+ * </ul>
+ * Think time between requests is exponentially distributed around the configured mean.
+ */
+final class VirtualUser implements Runnable {
+
+    static final String SEARCH = "GET /api/tours/search";
+    static final String TOUR_DETAIL = "GET /api/tours/slug/{slug}";
+    static final String CREATE_BOOKING = "POST /api/bookings";
+    static final String CREATE_PAYMENT = "POST /api/payment/vnpay/create-payment";
+    static final String PAYMENT_RETURN = "GET /api/payment/vnpay/payment-return";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final DateTimeFormatter VNPAY_DATE = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * State shared by all virtual users of a run
+     */
+    record Target(
+            HttpClient http,
+            String baseUrl,
+            DatasetSummary dataset,
+            ZipfSampler tourPopularity,
+            List<String> keywords,
+            String vnPayTmnCode,
+            String vnPayHashSecret,
+            LoadTestOptions options,
+            long measureFromNanos,
+            long stopAtNanos
+    ) {
+    }
+
+    private final Target target;
+    private final String token;
+    private final SplittableRandom random;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    VirtualUser(Target target, String token, long seed) {
+        this.target = target;
+        this.token = token;
+        this.random = new SplittableRandom(seed);
+    }
+
+    LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < target.stopAtNanos() && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (random.nextInt(100) < target.options().bookingPercent()) {
+                    book();
+                } else {
+                    browse();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void browse() throws InterruptedException {
+        String keyword = target.keywords().get(random.nextInt(target.keywords().size()));
+        call(SEARCH, get("/api/tours/search?keyword=" + encode(keyword) + "&page=" + random.nextInt(3)
+                + "&size=12&sortBy=createdAt&sortDirection=desc"));
+        think();
+
+        int pages = 1 + random.nextInt(3);
+        for (int i = 0; i < pages; i++) {
+            long tourId = target.dataset().tourAtRank(target.tourPopularity().sample(random));
+            call(TOUR_DETAIL, get("/api/tours/slug/" + SyntheticDataGenerator.tourSlug(tourId)));
+            think();
+        }
+    }
+
+    private void book() throws InterruptedException {
+        long tourId;
+        do {
+            tourId = target.dataset().tourAtRank(target.tourPopularity().sample(random));
+        } while (!SyntheticDataGenerator.isActive(tourId));
+
+        call(TOUR_DETAIL, get("/api/tours/slug/" + SyntheticDataGenerator.tourSlug(tourId)));
+        think();
+
+        // Past the seeded horizon, so generated history does not exhaust capacity
+        LocalDate startDate = LocalDate.now().plusDays(200 + random.nextInt(365));
+        String bookingJson = String.format(
+                "{\"tourId\":%d,\"startDate\":\"%s\",\"numAdults\":%d,\"numChildren\":%d,\"contactPhone\":\"0901234567\"}",
+                tourId, startDate, 1 + random.nextInt(3), random.nextInt(2));
+        JsonNode booking = call(CREATE_BOOKING, post("/api/bookings", bookingJson));
+        if (booking == null) {
+            return;
+        }
+        long bookingId = booking.path("data").path("id").asLong();
+        BigDecimal amount = booking.path("data").path("finalAmount").decimalValue();
+        think();
+
+        JsonNode payment = call(CREATE_PAYMENT, post("/api/payment/vnpay/create-payment",
+                "{\"bookingId\":" + bookingId + ",\"amount\":" + amount.toPlainString() + "}"));
+        if (payment == null) {
+            return;
+        }
+        // Time the customer spends on the VNPay page
+        Thread.sleep(2 * target.options().thinkTimeMs());
+
+        String responseCode = random.nextInt(100) < 90 ? "00" : "24";
+        call(PAYMENT_RETURN, get("/api/payment/vnpay/payment-return?"
+                + signedReturnQuery(payment.path("orderId").asText(), amount, responseCode)));
+        think();
+    }
+
+    /**
+     * Send, time and record one request. Returns the parsed body for 2xx responses, null otherwise.
+     */
+    private JsonNode call(String endpoint, HttpRequest request) throws InterruptedException {
+        long started = System.nanoTime();
+        boolean ok = false;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = target.http().send(request, HttpResponse.BodyHandlers.ofByteArray());
+            ok = response.statusCode() / 100 == 2;
+            if (ok) {
+                body = JSON.readTree(response.body());
+            }
+        } catch (IOException e) {
+            // connection refused / reset / timeout: counted as an error below
+        } finally {
+            if (started >= target.measureFromNanos()) {
+                recorder.record(endpoint, System.nanoTime() - started, ok);
+            }
+        }
+        return body;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(target.baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(target.baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void think() throws InterruptedException {
+        long mean = target.options().thinkTimeMs();
+        if (mean > 0) {
+            Thread.sleep((long) (-mean * Math.log(1 - random.nextDouble())));
+        }
+    }
+
+    /**
+     * The query string VNPay appends to the return URL, signed with the merchant secret
+     */
+    private String signedReturnQuery(String paymentId, BigDecimal amount, String responseCode) {
+        Map<String, String> params = new TreeMap<>();
+        params.put("vnp_Amount", amount.multiply(BigDecimal.valueOf(100)).toBigInteger().toString());
+        params.put("vnp_BankCode", "NCB");
+        params.put("vnp_BankTranNo", "VNP" + random.nextInt(100_000_000));
+        params.put("vnp_CardType", "ATM");
+        params.put("vnp_OrderInfo", "Thanh toan tour");
+        params.put("vnp_PayDate", LocalDateTime.now().format(VNPAY_DATE));
+        params.put("vnp_ResponseCode", responseCode);
+        params.put("vnp_TmnCode", target.vnPayTmnCode());
+        params.put("vnp_TransactionNo", String.valueOf(10_000_000 + random.nextInt(90_000_000)));
+        params.put("vnp_TransactionStatus", responseCode);
+        params.put("vnp_TxnRef", paymentId);
+
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(param.getKey()).append('=').append(URLEncoder.encode(param.getValue(), StandardCharsets.US_ASCII));
+        }
+        return query + "&vnp_SecureHash=" + hmacSha512(target.vnPayHashSecret(), query.toString());
+    }
+
+    private static String hmacSha512(String key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA512");
+            mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+            return HexFormat.of().formatHex(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot sign VNPay return", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,25 +1,47 @@
 package backend.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 /**
  * Configuration for asynchronous task execution.
  * Used for non-blocking operations like email sending and notifications.
+ * Every TaskDecorator bean (e.g. trace propagation) is applied to all executors.
+ *
+ * With spring.threads.virtual.enabled each executor starts a virtual thread per task instead;
+ * the old max pool size becomes a concurrency cap so downstream limits (the connection pool)
+ * see the same parallelism as before. The email and outbox executors stay on platform threads:
+ * JavaMail's SMTPTransport reads the socket inside synchronized methods, which pins the carrier
+ * for the whole SMTP round trip (VirtualThreadPinningMonitor reports it under EmailOutboxHandler).
  */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
+
+    private final ObjectProvider<TaskDecorator> decorators;
+    private final Environment environment;
     
     /**
      * Thread pool executor for general async tasks
      */
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreads()) {
+            return virtualExecutor("async-task-", 10, 60);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);                    // Số thread core
         executor.setMaxPoolSize(10);                    // Số thread tối đa
@@ -27,6 +49,7 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("async-task-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(taskDecorator());
         executor.initialize();
         return executor;
     }
@@ -44,6 +67,7 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("email-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(120);       // Email cần thời gian dài hơn
+        executor.setTaskDecorator(taskDecorator());
         executor.initialize();
         return executor;
     }
@@ -53,6 +77,9 @@ public class AsyncConfig {
      */
     @Bean(name = "notificationExecutor")
     public Executor notificationExecutor() {
+        if (virtualThreads()) {
+            return virtualExecutor("notification-", 5, 60);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
@@ -60,8 +87,74 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("notification-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(taskDecorator());
         executor.initialize();
         return executor;
     }
-}
+    
+    /**
+     * Workers for the outbox relay. The relay keeps one batch in flight, so the queue holds at
+     * most app.outbox.batch-size deliveries and is left unbounded: a submit never blocks or runs
+     * the delivery on the relay's (scheduler) thread.
+     */
+    @Bean(name = "outboxExecutor")
+    public Executor outboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    private boolean virtualThreads() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
 
+    /**
+     * Virtual thread per task; at most maxConcurrent run at once. Tasks over the limit park
+     * their own (cheap) thread, so @Async callers never block.
+     */
+    private Executor virtualExecutor(String threadNamePrefix, int maxConcurrent, int awaitTerminationSeconds) {
+        SimpleAsyncTaskExecutor executor = newVirtualExecutor(threadNamePrefix, awaitTerminationSeconds);
+        TaskDecorator chain = taskDecorator();
+        Semaphore permits = new Semaphore(maxConcurrent);
+        executor.setTaskDecorator(task -> {
+            Runnable decorated = chain.decorate(task);
+            return () -> {
+                permits.acquireUninterruptibly();
+                try {
+                    decorated.run();
+                } finally {
+                    permits.release();
+                }
+            };
+        });
+        return executor;
+    }
+
+    private SimpleAsyncTaskExecutor newVirtualExecutor(String threadNamePrefix, int awaitTerminationSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);   // Waited for on close()
+        return executor;
+    }
+
+    /**
+     * All TaskDecorator beans, applied in order
+     */
+    private TaskDecorator taskDecorator() {
+        List<TaskDecorator> chain = decorators.orderedStream().toList();
+        return task -> {
+            Runnable decorated = task;
+            for (TaskDecorator decorator : chain) {
+                decorated = decorator.decorate(decorated);
+            }
+            return decorated;
+        };
+    }
+}
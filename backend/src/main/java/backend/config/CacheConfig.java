@@ -47,9 +47,6 @@ public class CacheConfig {
             "reviews",                  // Tour reviews
             "reviewStats",              // Review statistics
             
-            // External API caches (cache lâu hơn)
-            "weatherData",              // Weather forecasts
-            
             // System caches
             "banners",                  // Active banners
             "statistics",               // Dashboard statistics
@@ -65,18 +62,27 @@ public class CacheConfig {
     }
     
     /**
-     * Cache riêng cho external API data (weather) - expire chậm hơn
+     * Cache riêng cho external API data (weather) - expire chậm hơn.
+     * Dùng bởi WeatherServiceImpl: "weatherData" theo tọa độ, "geocoding" theo tên thành phố
      */
     @SuppressWarnings("null")
     @Bean("weatherCacheManager")
     public CacheManager weatherCacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager("weatherData");
+        cacheManager.setAsyncCacheMode(true);           // In-flight futures are shared => concurrent misses coalesce
         
         cacheManager.setCaffeine(Caffeine.newBuilder()
             .maximumSize(500)
             .expireAfterWrite(30, TimeUnit.MINUTES)     // Weather cache 30 phút
             .recordStats());
         
+        // Geocoding (city -> coordinates) gần như không đổi, giữ lâu hơn dữ liệu thời tiết
+        cacheManager.registerCustomCache("geocoding", Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(7, TimeUnit.DAYS)
+            .recordStats()
+            .buildAsync());
+        
         return cacheManager;
     }
     
@@ -0,0 +1,30 @@
+package backend.config;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache region names.
+ * Every region here is created up front with the limits from {@link SecondLevelCacheProperties};
+ * an entity annotated with a region that is missing from this list gets an unbounded cache.
+ */
+public final class CacheRegions {
+
+    public static final String CATEGORY = "category";
+    public static final String COUNTRY = "country";
+    public static final String ROLE = "role";
+    public static final String TARGET_AUDIENCE = "target-audience";
+    public static final String CANCELLATION_POLICY = "cancellation-policy";
+    public static final String LOYALTY_CONFIG = "loyalty-config";
+    public static final String SYSTEM_SETTING = "system-setting";
+
+    // Hibernate's own regions for cached query results and per-table last-update timestamps
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+        CATEGORY, COUNTRY, ROLE, TARGET_AUDIENCE, CANCELLATION_POLICY, LOYALTY_CONFIG, SYSTEM_SETTING
+    );
+
+    private CacheRegions() {
+    }
+}
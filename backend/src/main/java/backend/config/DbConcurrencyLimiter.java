@@ -0,0 +1,134 @@
+package backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of JDBC connections checked out at once with a fair semaphore.
+ *
+ * With virtual threads there is no request thread pool to bound concurrency, so thousands of
+ * requests can reach the connection pool together. Waiting here (FIFO, parks the virtual thread
+ * cheaply) keeps the pool's own hand-off queue short and makes the wait visible in stats().
+ * A permit is taken in getConnection() and returned when the connection is closed.
+ */
+public class DbConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitMs = new LongAdder();
+    private final AtomicLong maxWaitMs = new AtomicLong();
+
+    public DbConcurrencyLimiter(int maxPermits, long acquireTimeoutMs) {
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public DataSource wrap(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                acquire();
+                return limited(() -> obtainTargetDataSource().getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                acquire();
+                return limited(() -> obtainTargetDataSource().getConnection(username, password));
+            }
+        };
+    }
+
+    void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            acquired.increment();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException("No database permit within " + acquireTimeoutMs
+                        + " ms (" + maxPermits + " connections in use, " + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+        long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        acquired.increment();
+        waited.increment();
+        totalWaitMs.add(waitMs);
+        maxWaitMs.accumulateAndGet(waitMs, Math::max);
+    }
+
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        // Only once the pool has the connection back, and only once per connection
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    public Map<String, Object> stats() {
+        long waits = waited.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("permits", maxPermits);
+        stats.put("inUse", maxPermits - permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("acquired", acquired.sum());
+        stats.put("waited", waits);
+        stats.put("avgWaitMs", waits > 0 ? Math.round(totalWaitMs.sum() * 100.0 / waits) / 100.0 : 0.0);
+        stats.put("maxWaitMs", maxWaitMs.get());
+        stats.put("timeouts", timeouts.sum());
+        return stats;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
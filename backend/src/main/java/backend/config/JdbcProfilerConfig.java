@@ -0,0 +1,90 @@
+package backend.config;
+
+import backend.service.impl.JdbcStatementProfiler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC statement profiling (app.jdbc.profiler.enabled, on by default).
+ *
+ * Only the application "dataSource" bean is wrapped with datasource-proxy, so with read replicas
+ * enabled every statement is counted once, whichever pool ends up serving it. The interceptor
+ * opens a per-request scope tagged with the controller method for N+1 detection.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.jdbc.profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcProfilerConfig implements WebMvcConfigurer {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<JdbcStatementProfiler> profiler;   // Absent in web slice tests
+
+    @Bean
+    public static BeanPostProcessor jdbcProfilerDataSourceWrapper(ObjectProvider<JdbcStatementProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                JdbcStatementProfiler listener = profiler.getIfAvailable();
+                if (listener == null) {
+                    return bean;
+                }
+                log.info("JDBC statement profiler enabled on DataSource '{}'", beanName);
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .build();
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        JdbcStatementProfiler profiler = this.profiler.getIfAvailable();
+        if (profiler == null) {
+            return;
+        }
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                     @NonNull Object handler) {
+                profiler.beginRequest(handlerName(request, handler));
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                        @NonNull Object handler, Exception ex) {
+                profiler.endRequest();
+            }
+        });
+    }
+
+    private static String handlerName(HttpServletRequest request, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+}
@@ -0,0 +1,22 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.jdbc.profiler")
+@Data
+public class JdbcProfilerProperties {
+
+    private boolean enabled = true;                 // Off: the DataSource is not wrapped at all
+
+    private long slowQueryMs = 500;                 // Statements at or above this go to the slow-query log
+
+    // Same statement shape executed this many times within one HTTP request is reported as N+1
+    private int repeatedStatementThreshold = 10;
+
+    private int maxStatements = 1000;               // Distinct statement shapes tracked; the rest are pooled as "(other)"
+
+    private int maxSqlLength = 1000;                // SQL is cut to this length in logs and on the admin endpoint
+}
@@ -0,0 +1,103 @@
+package backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Logback turbo filter that keeps large payloads out of the request thread.
+ *
+ * Before an event is formatted, arguments that would be expensive to render are replaced:
+ * strings longer than maxChars are cut, collections, maps and arrays with more than maxItems
+ * elements become "ArrayList(size=250)", and application objects (DTOs, entities, whose Lombok
+ * toString can walk lazy associations) become "&lt;BookingCreateRequest&gt;". Plain values
+ * (numbers, enums, dates, short strings) and throwables pass through untouched.
+ *
+ * The rewritten event is appended directly and the original denied, so this must be the last
+ * turbo filter. Enabled from logback-spring.xml (app.logging.payload-guard.*).
+ */
+public class LogPayloadGuard extends TurboFilter {
+
+    private static final String FQCN = Logger.class.getName();
+    private static final String APPLICATION_PACKAGE = "backend.";
+
+    private int maxChars = 256;
+    private int maxItems = 20;
+
+    public void setMaxChars(int maxChars) {
+        this.maxChars = Math.max(16, maxChars);
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = Math.max(0, maxItems);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (params == null || params.length == 0 || level == null
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Object[] guarded = null;
+        for (int i = 0; i < params.length; i++) {
+            Object summary = summarize(params[i]);
+            if (summary != params[i]) {
+                if (guarded == null) {
+                    guarded = params.clone();
+                }
+                guarded[i] = summary;
+            }
+        }
+        if (guarded == null) {
+            return FilterReply.NEUTRAL;
+        }
+        LoggingEvent event = new LoggingEvent(FQCN, logger, level, format, t, guarded);
+        if (marker != null) {
+            event.addMarker(marker);
+        }
+        logger.callAppenders(event);
+        return FilterReply.DENY;
+    }
+
+    /**
+     * @return the argument itself when it is cheap to render, otherwise a short replacement
+     */
+    Object summarize(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof Temporal || value instanceof UUID
+                || value instanceof Throwable) {
+            return value;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() <= maxChars
+                    ? value
+                    : text.subSequence(0, maxChars) + "...(" + text.length() + " chars)";
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size() <= maxItems ? value : sized(value, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size() <= maxItems ? value : sized(value, map.size());
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value) <= maxItems ? value : sized(value, Array.getLength(value));
+        }
+        if (value.getClass().getName().startsWith(APPLICATION_PACKAGE)) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        return value;
+    }
+
+    private static String sized(Object value, int size) {
+        return value.getClass().getSimpleName() + "(size=" + size + ")";
+    }
+}
@@ -0,0 +1,78 @@
+package backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that keeps one in keepOneIn INFO/DEBUG/TRACE events from chatty loggers
+ * (per-request framework debug output, auth filters). WARN and ERROR always pass.
+ *
+ * Configured in logback-spring.xml from app.logging.sampling.*; "loggers" is a comma-separated
+ * list of logger name prefixes. Events are dropped before they are built or formatted.
+ *
+ * Spring guards its debug output with isDebugEnabled() (format == null here) and only then builds
+ * the message. The sampling decision is taken at that check, so a dropped event costs nothing,
+ * and the log call that follows an admitted check on the same thread is let through uncounted.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final AtomicLong NOT_SAMPLED = new AtomicLong();
+
+    private List<String> prefixes = List.of();
+    private int keepOneIn = 1;
+
+    // Logger name -> event counter, or NOT_SAMPLED
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final ThreadLocal<Logger> admittedCheck = new ThreadLocal<>();
+
+    public void setLoggers(String loggers) {
+        this.prefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+        counters.clear();
+    }
+
+    public void setKeepOneIn(int keepOneIn) {
+        this.keepOneIn = Math.max(1, keepOneIn);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (keepOneIn == 1 || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = counters.computeIfAbsent(logger.getName(), this::counterFor);
+        if (counter == NOT_SAMPLED) {
+            return FilterReply.NEUTRAL;
+        }
+        if (format != null && admittedCheck.get() == logger) {
+            admittedCheck.remove();
+            return FilterReply.NEUTRAL;
+        }
+        boolean keep = counter.getAndIncrement() % keepOneIn == 0;
+        if (keep && format == null) {
+            admittedCheck.set(logger);
+        }
+        return keep ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private AtomicLong counterFor(String loggerName) {
+        for (String prefix : prefixes) {
+            if (loggerName.equals(prefix) || loggerName.startsWith(prefix + ".")) {
+                return new AtomicLong();
+            }
+        }
+        return NOT_SAMPLED;
+    }
+}
@@ -0,0 +1,131 @@
+package backend.config;
+
+import backend.security.UserDetailsImpl;
+import backend.service.impl.RequestTracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MDC fields for structured logs (see logback-spring.xml).
+ *
+ * traceId is set for every /api request before Spring Security runs: the sampled trace's id when
+ * RequestTracer is tracing the request, else the trace id of an incoming traceparent, else a
+ * fresh one. route ("GET /api/tours/{id}") and userId are filled in once the handler and the
+ * authenticated user are known. The TaskDecorator copies the MDC into the @Async executors.
+ */
+@Configuration
+public class LoggingContextConfig implements WebMvcConfigurer {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String USER_ID = "userId";
+    public static final String ROUTE = "route";
+
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> logContextFilter(ObjectProvider<RequestTracer> tracer) {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                            @NonNull FilterChain chain) throws ServletException, IOException {
+                MDC.put(TRACE_ID, traceId(tracer.getIfAvailable(), request.getHeader("traceparent")));
+                MDC.put(ROUTE, request.getMethod() + " " + request.getRequestURI());
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    MDC.remove(TRACE_ID);
+                    MDC.remove(ROUTE);
+                    MDC.remove(USER_ID);
+                }
+            }
+        });
+        registration.setName("logContextFilter");
+        registration.addUrlPatterns("/api/*");
+        // Just inside the tracing filter, so the sampled trace id is already known
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                     @NonNull Object handler) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                    MDC.put(ROUTE, request.getMethod() + " " + pattern);
+                }
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user) {
+                    MDC.put(USER_ID, String.valueOf(user.getId()));
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Picked up by AsyncConfig for every executor
+     */
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            if (context == null) {
+                return task;
+            }
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                MDC.setContextMap(context);
+                try {
+                    task.run();
+                } finally {
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        };
+    }
+
+    static String traceId(RequestTracer tracer, String traceparent) {
+        String traceId = tracer != null ? tracer.currentTraceId() : null;
+        if (traceId != null) {
+            return traceId;
+        }
+        if (traceparent != null && traceparent.length() == TRACEPARENT_LENGTH && traceparent.startsWith("00-")) {
+            return traceparent.substring(3, 35);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hex16(random.nextLong()) + hex16(random.nextLong());
+    }
+
+    private static String hex16(long value) {
+        String hex = Long.toHexString(value);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
@@ -0,0 +1,30 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox relay (outbox_messages): batching, retries and retention
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+@Data
+public class OutboxProperties {
+
+    private long pollIntervalMs = 1000;             // Commits also wake the relay; this catches retries and other nodes
+
+    private int batchSize = 100;                    // Rows claimed at once, delivered in parallel on outboxExecutor
+
+    private int maxBatchesPerPoll = 20;             // Keep draining while batches come back full
+
+    private int maxAttempts = 10;                   // Then FAILED (dead letter)
+
+    private long retryBaseSeconds = 30;             // Doubled per attempt
+
+    private long retryMaxSeconds = 3600;
+
+    private long staleAfterSeconds = 300;           // PROCESSING longer than this: the relay died, deliver again
+
+    private int retentionDays = 7;                  // SENT rows are deleted after this
+}
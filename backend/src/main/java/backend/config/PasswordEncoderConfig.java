@@ -1,16 +1,59 @@
 package backend.config;
 
+import backend.security.BoundedPasswordEncoder;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
+@RequiredArgsConstructor
 public class PasswordEncoderConfig {
     
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    
+    private final PasswordHashingProperties properties;
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder(properties),
+                properties.getMaxConcurrency(),
+                properties.getQueueCapacity(),
+                properties.getTimeoutMs());
+    }
+    
+    /**
+     * New hashes are written as "{id}hash" with the configured algorithm; stored hashes are
+     * verified by their prefix. Legacy hashes without prefix are plain BCrypt.
+     * upgradeEncoding() is true for legacy, other-algorithm or weaker-parameter hashes,
+     * which DaoAuthenticationProvider uses to rehash on successful login.
+     */
+    public static DelegatingPasswordEncoder delegatingPasswordEncoder(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        
+        PasswordHashingProperties.Argon2 argon2Props = properties.getArgon2();
+        Argon2PasswordEncoder argon2 = new Argon2PasswordEncoder(
+                argon2Props.getSaltLength(),
+                argon2Props.getHashLength(),
+                argon2Props.getParallelism(),
+                argon2Props.getMemoryKib(),
+                argon2Props.getIterations());
+        
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2);
+        
+        String idForEncode = ARGON2.equalsIgnoreCase(properties.getAlgorithm()) ? ARGON2 : BCRYPT;
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
-
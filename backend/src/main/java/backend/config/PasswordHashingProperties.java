@@ -0,0 +1,32 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.password-hashing")
+@Data
+public class PasswordHashingProperties {
+    
+    private String algorithm = "bcrypt";        // Encoder id for new hashes: bcrypt | argon2
+    
+    private int bcryptStrength = 10;            // log2 rounds; raising it rehashes users on next login
+    
+    private Argon2 argon2 = new Argon2();
+    
+    private int maxConcurrency = Runtime.getRuntime().availableProcessors(); // Hashing threads (CPU bound)
+    
+    private int queueCapacity = 100;            // Waiting hash jobs before requests are rejected
+    
+    private long timeoutMs = 5000;              // Max time a request waits for its hash
+    
+    @Data
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memoryKib = 19456;          // 19 MiB, OWASP minimum for Argon2id
+        private int iterations = 2;
+    }
+}
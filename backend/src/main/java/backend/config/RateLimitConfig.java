@@ -1,11 +1,16 @@
 package backend.config;
 
+import backend.service.SettingsSnapshot;
+import backend.service.SystemSettingService;
+import backend.service.SystemSettingsListener;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -15,12 +20,42 @@ import java.util.concurrent.ConcurrentHashMap;
  * - General API: 100 requests/minute per IP
  * - Auth endpoints: 5 requests/minute per IP
  * - Chatbot: 20 requests/minute per IP
+ *
+ * The limits can be overridden at runtime through system settings (rateLimit*PerMinute).
  */
 @Configuration
-public class RateLimitConfig {
+@Slf4j
+public class RateLimitConfig implements SystemSettingsListener {
+    
+    private static final int DEFAULT_GENERAL_PER_MINUTE = 100;
+    private static final int DEFAULT_AUTH_PER_MINUTE = 5;
+    private static final int DEFAULT_CHATBOT_PER_MINUTE = 20;
     
     private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
     
+    private volatile int generalPerMinute = DEFAULT_GENERAL_PER_MINUTE;
+    private volatile int authPerMinute = DEFAULT_AUTH_PER_MINUTE;
+    private volatile int chatbotPerMinute = DEFAULT_CHATBOT_PER_MINUTE;
+    
+    @Override
+    public void onSettingsChanged(SettingsSnapshot snapshot, Set<String> changedKeys) {
+        int general = positive(snapshot.getInt(SystemSettingService.RATE_LIMIT_GENERAL_PER_MINUTE, DEFAULT_GENERAL_PER_MINUTE), DEFAULT_GENERAL_PER_MINUTE);
+        int auth = positive(snapshot.getInt(SystemSettingService.RATE_LIMIT_AUTH_PER_MINUTE, DEFAULT_AUTH_PER_MINUTE), DEFAULT_AUTH_PER_MINUTE);
+        int chatbot = positive(snapshot.getInt(SystemSettingService.RATE_LIMIT_CHATBOT_PER_MINUTE, DEFAULT_CHATBOT_PER_MINUTE), DEFAULT_CHATBOT_PER_MINUTE);
+        if (general == generalPerMinute && auth == authPerMinute && chatbot == chatbotPerMinute) {
+            return;
+        }
+        generalPerMinute = general;
+        authPerMinute = auth;
+        chatbotPerMinute = chatbot;
+        cache.clear();   // Existing buckets keep their old capacity; new ones pick up the limits
+        log.info("Rate limits per minute: general={}, auth={}, chatbot={}", general, auth, chatbot);
+    }
+    
+    private static int positive(int value, int fallback) {
+        return value > 0 ? value : fallback;
+    }
+    
     /**
      * Get or create bucket for a specific key (IP address)
      */
@@ -34,8 +69,8 @@ public class RateLimitConfig {
      */
     private Bucket createNewBucket() {
         Bandwidth limit = Bandwidth.builder()
-            .capacity(100)  // capacity
-            .refillIntervally(100, Duration.ofMinutes(1))  // refill rate
+            .capacity(generalPerMinute)  // capacity
+            .refillIntervally(generalPerMinute, Duration.ofMinutes(1))  // refill rate
             .build();
         return Bucket.builder()
             .addLimit(limit)
@@ -52,8 +87,8 @@ public class RateLimitConfig {
     
     private Bucket createAuthBucket() {
         Bandwidth limit = Bandwidth.builder()
-            .capacity(5)  // capacity
-            .refillIntervally(5, Duration.ofMinutes(1))
+            .capacity(authPerMinute)  // capacity
+            .refillIntervally(authPerMinute, Duration.ofMinutes(1))
             .build();
         return Bucket.builder()
             .addLimit(limit)
@@ -70,8 +105,8 @@ public class RateLimitConfig {
     
     private Bucket createChatbotBucket() {
         Bandwidth limit = Bandwidth.builder()
-            .capacity(20)  // capacity
-            .refillIntervally(20, Duration.ofMinutes(1))
+            .capacity(chatbotPerMinute)  // capacity
+            .refillIntervally(chatbotPerMinute, Duration.ofMinutes(1))
             .build();
         return Bucket.builder()
             .addLimit(limit)
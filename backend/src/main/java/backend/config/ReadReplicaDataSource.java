@@ -0,0 +1,217 @@
+package backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connections for read-only transactions: round-robin over the replica pools that passed the
+ * last health check, falling back to the primary when none did or a replica refuses a connection.
+ *
+ * A replica is healthy when it answers the lag query within the timeout and is no more than
+ * maxLagSeconds behind. Checks run on a background thread so getConnection() never waits on one.
+ */
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource implements DisposableBean {
+
+    static final class Replica {
+        final String name;
+        final HikariDataSource pool;
+        final LongAdder connections = new LongAdder();
+        volatile boolean healthy = true;
+        volatile long lagSeconds;
+        volatile String lastError;
+
+        Replica(String name, HikariDataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagSeconds;
+    private final int checkTimeoutSeconds;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder fallbacks = new LongAdder();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReadReplicaDataSource(DataSource primary, Map<String, HikariDataSource> replicaPools, ReadReplicaProperties properties) {
+        this.primary = primary;
+        replicaPools.forEach((name, pool) -> replicas.add(new Replica(name, pool)));
+        this.maxLagSeconds = properties.getMaxLagSeconds();
+        this.checkTimeoutSeconds = properties.getHealthCheckTimeoutSeconds();
+        this.lagQuery = properties.getLagQuery();
+
+        checkHealth();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, properties.getHealthCheckIntervalMs(),
+                properties.getHealthCheckIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = nextHealthy();
+        if (replica != null) {
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica pools use their configured credentials");
+    }
+
+    private Replica nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Probe every replica once; also called by the background checker
+     */
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                long lag = measureLag(connection);
+                replica.lagSeconds = lag;
+                if (lag > maxLagSeconds) {
+                    markDown(replica, "lag " + lag + "s > " + maxLagSeconds + "s");
+                } else {
+                    if (!replica.healthy) {
+                        log.info("Replica {} is back (lag {}s), routing reads to it again", replica.name, lag);
+                    }
+                    replica.healthy = true;
+                    replica.lastError = null;
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            if (!connection.isValid(checkTimeoutSeconds)) {
+                throw new SQLException("Connection validation failed");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return 0; // SHOW REPLICA STATUS on a server that is not a replica
+                }
+                int column = lagColumn(rs.getMetaData());
+                long lag = rs.getLong(column);
+                if (rs.wasNull()) {
+                    throw new SQLException("Replication is not running"); // Seconds_Behind_Source is NULL
+                }
+                return lag;
+            }
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String label = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            log.warn("Replica {} taken out of read rotation: {}", replica.name, reason);
+        }
+        replica.healthy = false;
+        replica.lastError = reason;
+    }
+
+    /**
+     * Routing counters and pool usage per replica, for the admin dashboard
+     */
+    public Map<String, Object> stats() {
+        List<Map<String, Object>> pools = new ArrayList<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> pool = poolStats(replica.pool);
+            pool.put("name", replica.name);
+            pool.put("healthy", replica.healthy);
+            pool.put("lagSeconds", replica.lagSeconds);
+            pool.put("connectionsServed", replica.connections.sum());
+            pool.put("lastError", replica.lastError);
+            pools.add(pool);
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("replicas", pools);
+        stats.put("fallbacksToPrimary", fallbacks.sum());
+        stats.put("maxLagSeconds", maxLagSeconds);
+        return stats;
+    }
+
+    /**
+     * Hikari pool gauges (empty until the pool has started)
+     */
+    public static Map<String, Object> poolStats(HikariDataSource pool) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pool", pool.getPoolName());
+        stats.put("maximumPoolSize", pool.getMaximumPoolSize());
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean != null) {
+            stats.put("active", mxBean.getActiveConnections());
+            stats.put("idle", mxBean.getIdleConnections());
+            stats.put("total", mxBean.getTotalConnections());
+            stats.put("waiting", mxBean.getThreadsAwaitingConnection());
+        }
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+}
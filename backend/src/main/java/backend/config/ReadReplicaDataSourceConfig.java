@@ -0,0 +1,68 @@
+package backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read/write splitting (app.datasource.replicas.enabled=true).
+ *
+ * The application DataSource is a LazyConnectionDataSourceProxy over the primary pool: the
+ * physical connection is only fetched when the first statement runs, after the transaction
+ * manager has marked it read-only, so @Transactional(readOnly = true) work is served by
+ * {@link ReadReplicaDataSource} and everything else by the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * The primary pool, built from spring.datasource.* exactly like the auto-configured one
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaDataSource readReplicaDataSource(HikariDataSource primaryDataSource, ReadReplicaProperties properties) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (ReadReplicaProperties.Instance instance : properties.getInstances()) {
+            String name = instance.getName() != null ? instance.getName() : "replica-" + (pools.size() + 1);
+
+            // Same tuning as the primary (timeouts, auto-commit, driver), own URL and credentials
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(instance.getUrl());
+            config.setUsername(instance.getUsername() != null ? instance.getUsername() : primaryDataSource.getUsername());
+            config.setPassword(instance.getPassword() != null ? instance.getPassword() : primaryDataSource.getPassword());
+            config.setPoolName(primaryDataSource.getPoolName() + "-" + name);
+            config.setMaximumPoolSize(instance.getMaximumPoolSize());
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), instance.getMaximumPoolSize()));
+            config.setConnectionTimeout(instance.getConnectionTimeoutMs());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);  // Start even if a replica is down; health checks take it out
+            pools.put(name, new HikariDataSource(config));
+        }
+        return new ReadReplicaDataSource(primaryDataSource, pools, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        return dataSource;
+    }
+}
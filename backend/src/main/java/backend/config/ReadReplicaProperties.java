@@ -0,0 +1,38 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+@Data
+public class ReadReplicaProperties {
+    
+    private boolean enabled = false;                // Off: everything uses the primary pool
+    
+    private List<Instance> instances = new ArrayList<>();
+    
+    private long maxLagSeconds = 5;                 // Replicas further behind than this are skipped
+    
+    private long healthCheckIntervalMs = 5000;
+    
+    private int healthCheckTimeoutSeconds = 2;
+    
+    // MySQL 8.0.22+; the row's Seconds_Behind_Source is used (no row = not replicating = lag 0).
+    // Any query returning the lag in seconds as its first column works too; empty = liveness only
+    private String lagQuery = "SHOW REPLICA STATUS";
+    
+    @Data
+    public static class Instance {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 20;
+        private long connectionTimeoutMs = 2000;    // Short: a busy or dead replica spills reads to the primary
+    }
+}
@@ -1,20 +1,41 @@
 package backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * Configuration for RestTemplate bean.
  * Used for external API calls (e.g., Weather API).
+ * Both templates come from the Boot builder, so RestTemplateCustomizers (tracing) apply to them.
  */
 @Configuration
 public class RestTemplateConfig {
     
     @Bean
+    @Primary
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+        // Bounded timeouts so a slow upstream cannot pin request threads indefinitely
+        return builder
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(10))
+                .build();
     }
-}
 
+    /**
+     * Chatbot service (AI review summary, image search); model inference needs a longer read timeout
+     */
+    @Bean
+    public RestTemplate chatbotRestTemplate(RestTemplateBuilder builder,
+                                            @Value("${app.chatbot.read-timeout-seconds:60}") long readTimeoutSeconds) {
+        return builder
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(readTimeoutSeconds))
+                .build();
+    }
+}
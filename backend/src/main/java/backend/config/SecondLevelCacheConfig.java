@@ -0,0 +1,75 @@
+package backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache for read-mostly reference entities (app.cache.l2.enabled, on by default).
+ *
+ * Regions live in a Caffeine JCache manager built here, so every region is bounded and expires
+ * after ttlSeconds. Entities opt in with @Cache(region = CacheRegions.X); repository methods opt
+ * in to the query cache with the org.hibernate.cacheable hint.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache.l2", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CacheManager hibernateL2CacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            SecondLevelCacheProperties.Region override = properties.getRegions().get(region);
+            long maxEntries = override != null && override.getMaxEntries() != null ? override.getMaxEntries() : properties.getMaxEntries();
+            long ttlSeconds = override != null && override.getTtlSeconds() != null ? override.getTtlSeconds() : properties.getTtlSeconds();
+            createRegion(cacheManager, region, OptionalLong.of(maxEntries), OptionalLong.of(ttlSeconds));
+        }
+        createRegion(cacheManager, CacheRegions.QUERY_RESULTS,
+                OptionalLong.of(properties.getMaxEntries()), OptionalLong.of(properties.getTtlSeconds()));
+        // Timestamps must never be evicted before the query results that depend on them
+        createRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, OptionalLong.empty(), OptionalLong.empty());
+
+        log.info("Hibernate L2 cache regions: {}", cacheManager.getCacheNames());
+        return cacheManager;
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maxEntries, OptionalLong ttlSeconds) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);   // Left over from an earlier context in the same JVM (tests)
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);  // Hibernate stores immutable disassembled state; no copy needed
+        configuration.setMaximumSize(maxEntries);
+        if (ttlSeconds.isPresent()) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds.getAsLong())));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateL2CacheManager,
+                                                                    SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", true);
+            hibernateProperties.put("hibernate.cache.use_query_cache", true);
+            hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+            hibernateProperties.put("hibernate.javax.cache.cache_manager", hibernateL2CacheManager);
+            hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            hibernateProperties.put("hibernate.generate_statistics", properties.isStatisticsEnabled());
+            hibernateProperties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.l2")
+@Data
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;                 // Off: entities and queries always go to the database
+
+    private long maxEntries = 1000;                 // Per region, unless overridden below
+
+    // Backstop: even if a node misses an invalidation, it never serves an entry older than this
+    private long ttlSeconds = 600;
+
+    private Map<String, Region> regions = new HashMap<>();   // Keyed by CacheRegions name
+
+    private boolean statisticsEnabled = true;       // hibernate.generate_statistics (hit/miss/put per region)
+
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class Region {
+        private Long maxEntries;
+        private Long ttlSeconds;
+    }
+
+    /**
+     * Cross-node invalidation through the cache_invalidations table
+     */
+    @Data
+    public static class Invalidation {
+        private boolean enabled = true;
+        private String nodeId;                      // Defaults to a random id per start
+        private long pollIntervalMs = 2000;         // Worst-case staleness on other nodes
+        private long lookbackSeconds = 30;          // Covers late commits and clock skew between nodes
+        private long retentionMinutes = 60;
+        private int maxPending = 10_000;            // Beyond this, a single "evict everything" is sent instead
+    }
+}
@@ -0,0 +1,115 @@
+package backend.config;
+
+import backend.service.impl.RequestTracer;
+import backend.service.impl.RequestTracer.SpanKind;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens a span around every controller, @Service and Spring Data repository call made by a
+ * traced request. Untraced threads pay one ThreadLocal lookup per call.
+ *
+ * In debug mode (app.tracing.debug-headers) the outermost controller span also writes
+ * Server-Timing and X-Trace-Id onto the response; statements run later, while the body is
+ * serialized, only show up in the exported trace.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final RequestTracer tracer;
+    private final TracingProperties settings;
+
+    // Repository proxies report the Spring Data interface that declares the method; name them after ours
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("within(backend..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isActive()) {
+            return joinPoint.proceed();
+        }
+        RequestTracer.Span span = tracer.startSpan(SpanKind.CONTROLLER, methodName(joinPoint));
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            tracer.endSpan(span, error);
+            if (settings.isDebugHeaders() && span.isOutermost()) {
+                writeTimingHeaders();
+            }
+        }
+    }
+
+    @Around("within(backend..*) && @within(org.springframework.stereotype.Service)"
+            + " && !within(backend.service.impl.RequestTracer) && !within(backend.service.impl.TraceExporter)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isActive()) {
+            return joinPoint.proceed();
+        }
+        return proceedInSpan(joinPoint, SpanKind.SERVICE, methodName(joinPoint));
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isActive()) {
+            return joinPoint.proceed();
+        }
+        String name = repositoryName(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName();
+        return proceedInSpan(joinPoint, SpanKind.REPOSITORY, name);
+    }
+
+    private Object proceedInSpan(ProceedingJoinPoint joinPoint, SpanKind kind, String name) throws Throwable {
+        RequestTracer.Span span = tracer.startSpan(kind, name);
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            tracer.endSpan(span, error);
+        }
+    }
+
+    private void writeTimingHeaders() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        response.setHeader("Server-Timing", tracer.serverTiming());
+        response.setHeader("X-Trace-Id", tracer.currentTraceId());
+    }
+
+    private static String methodName(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+
+    private String repositoryName(Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getName().startsWith("backend.repository.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package backend.config;
+
+import backend.service.impl.RequestTracer;
+import backend.service.impl.RequestTracer.SpanKind;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Wiring for request tracing (app.tracing.enabled, on by default).
+ *
+ * The servlet filter sits in front of Spring Security and owns the root span of every sampled
+ * /api request. RestTemplates built from the Boot builder get a CLIENT span per call with a
+ * W3C traceparent header, and the TaskDecorator carries the trace into the @Async executors.
+ * Controller, service and repository spans come from TracingAspect.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    static final String TRACEPARENT = "traceparent";
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> tracingFilter(RequestTracer tracer) {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                            @NonNull FilterChain chain) throws ServletException, IOException {
+                RequestTracer.Span root = tracer.startRequest(
+                        request.getMethod() + " " + request.getRequestURI(), request.getHeader(TRACEPARENT));
+                if (root == null) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                Throwable error = null;
+                try {
+                    chain.doFilter(request, response);
+                } catch (IOException | ServletException | RuntimeException e) {
+                    error = e;
+                    throw e;
+                } finally {
+                    // Name by route template ("/api/tours/{id}") once the handler is known
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    if (pattern != null) {
+                        root.setName(request.getMethod() + " " + pattern);
+                    }
+                    root.setAttribute("http.method", request.getMethod());
+                    root.setAttribute("http.target", request.getRequestURI());
+                    root.setAttribute("http.status_code", response.getStatus());
+                    tracer.finishRequest(root, error);
+                }
+            }
+        });
+        registration.setName("tracingFilter");
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public RestTemplateCustomizer tracingRestTemplateCustomizer(RequestTracer tracer) {
+        ClientHttpRequestInterceptor interceptor = (request, body, execution) -> {
+            RequestTracer.Span span = tracer.startSpan(SpanKind.CLIENT,
+                    request.getMethod() + " " + request.getURI().getHost());
+            if (span == null) {
+                return execution.execute(request, body);
+            }
+            request.getHeaders().set(TRACEPARENT, tracer.traceparent(span));
+            span.setAttribute("http.url", request.getURI().getScheme() + "://"
+                    + request.getURI().getAuthority() + request.getURI().getPath());
+            IOException error = null;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                span.setAttribute("http.status_code", response.getStatusCode().value());
+                return response;
+            } catch (IOException e) {
+                error = e;
+                throw e;
+            } finally {
+                tracer.endSpan(span, error);
+            }
+        };
+        return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+    }
+
+    /**
+     * Picked up by AsyncConfig for every executor
+     */
+    @Bean
+    public TaskDecorator tracingTaskDecorator(RequestTracer tracer) {
+        return tracer::wrap;
+    }
+}
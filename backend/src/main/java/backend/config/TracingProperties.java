@@ -0,0 +1,38 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.tracing")
+@Data
+public class TracingProperties {
+
+    private boolean enabled = true;                 // Off: no filter, aspect or RestTemplate interceptor
+
+    private double sampleRate = 0.05;               // Share of requests traced (0..1); an incoming sampled traceparent always is
+
+    // Debug mode: every request is traced and answered with Server-Timing and X-Trace-Id headers
+    private boolean debugHeaders = false;
+
+    private int maxSpansPerTrace = 500;             // Further spans in the same request are only counted
+
+    private Exporter exporter = Exporter.FILE;
+
+    private String filePath = "logs/traces.jsonl";  // FILE: one JSON span per line
+
+    private long fileMaxBytes = 100L * 1024 * 1024; // FILE: rolled over to <file>.1 beyond this
+
+    private String otlpEndpoint = "http://localhost:4318/v1/traces";   // OTLP: OTLP/HTTP JSON collector
+
+    private String serviceName = "tour-booking-backend";
+
+    private int queueCapacity = 2048;               // Finished traces waiting for export; beyond this they are dropped
+
+    private long exportIntervalMs = 2000;
+
+    public enum Exporter {
+        NONE, FILE, OTLP
+    }
+}
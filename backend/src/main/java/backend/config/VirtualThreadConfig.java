@@ -0,0 +1,53 @@
+package backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Virtual-thread mode is switched by spring.threads.virtual.enabled: Boot then runs Tomcat
+ * requests and @Scheduled jobs on virtual threads, and AsyncConfig builds virtual executors.
+ *
+ * This class adds the DB concurrency limiter (app.virtual-threads.db-concurrency.enabled),
+ * wrapped around the application "dataSource" bean like the JDBC profiler. With read replicas
+ * that bean is the lazy routing proxy, so permits bound logical connections across all pools.
+ */
+@Configuration
+@Slf4j
+public class VirtualThreadConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.db-concurrency", name = "enabled", havingValue = "true")
+    public DbConcurrencyLimiter dbConcurrencyLimiter(VirtualThreadProperties properties, Environment environment) {
+        VirtualThreadProperties.DbConcurrency settings = properties.getDbConcurrency();
+        int permits = settings.getPermits() > 0
+                ? settings.getPermits()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, HIKARI_DEFAULT_POOL_SIZE);
+        log.info("DB concurrency limiter: {} permits, {} ms acquire timeout", permits, settings.getAcquireTimeoutMs());
+        return new DbConcurrencyLimiter(permits, settings.getAcquireTimeoutMs());
+    }
+
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimiterDataSourceWrapper(ObjectProvider<DbConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                DbConcurrencyLimiter dbConcurrencyLimiter = limiter.getIfAvailable();
+                return dbConcurrencyLimiter != null ? dbConcurrencyLimiter.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings that only matter in virtual-thread mode (spring.threads.virtual.enabled).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.virtual-threads")
+@Data
+public class VirtualThreadProperties {
+
+    private boolean pinningMonitor = true;          // Record jdk.VirtualThreadPinned JFR events in-process
+
+    private long pinningThresholdMs = 20;           // Shorter pins are not reported
+
+    private DbConcurrency dbConcurrency = new DbConcurrency();
+
+    @Data
+    public static class DbConcurrency {
+
+        private boolean enabled = false;            // Fair semaphore in front of the connection pool
+
+        private int permits = 0;                    // 0: spring.datasource.hikari.maximum-pool-size
+
+        private long acquireTimeoutMs = 30000;      // Then SQLTransientConnectionException, like Hikari's connection-timeout
+    }
+}
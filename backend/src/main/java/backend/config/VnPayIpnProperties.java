@@ -0,0 +1,26 @@
+package backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Background processing of VNPay IPNs recorded in vnpay_notifications
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.payment.vnpay.ipn")
+@Data
+public class VnPayIpnProperties {
+
+    private long pollIntervalMs = 5000;             // Picks up retries and notifications the executor rejected
+
+    private int batchSize = 50;                     // Notifications per poll
+
+    private int maxAttempts = 8;                    // Then FAILED (dead letter, needs a look by hand)
+
+    private long retryBaseSeconds = 10;             // Doubled per attempt
+
+    private long retryMaxSeconds = 3600;
+
+    private long staleAfterSeconds = 300;           // PROCESSING longer than this: the worker died, run it again
+}
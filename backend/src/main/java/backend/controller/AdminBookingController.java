@@ -3,7 +3,9 @@ package backend.controller;
 import backend.dto.request.BookingStatusUpdateRequest;
 import backend.dto.response.ApiResponse;
 import backend.dto.response.BookingResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Booking;
+import backend.exception.BadRequestException;
 import backend.mapper.EntityMapper;
 import backend.service.BookingService;
 import backend.service.ExportService;
@@ -14,7 +16,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,11 +24,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
@@ -58,126 +57,25 @@ public class AdminBookingController extends BaseController {
             @RequestParam(required = false) String dateFilter) {
         
         try {
-            // Fetch all bookings (without pagination first)
-            List<Booking> allBookings = bookingService.getAllBookings();
-            
-            // Apply filters
-            List<Booking> filteredList = allBookings.stream()
-                .filter(booking -> {
-                    // ALWAYS exclude CancellationRequested bookings (they are managed in /admin/cancellations)
-                    if (booking.getConfirmationStatus() == Booking.ConfirmationStatus.CANCELLATION_REQUESTED) {
-                        return false;
-                    }
-                    
-                    // Search filter (bookingCode, customerName, customerEmail)
-                    if (search != null && !search.isEmpty()) {
-                        String searchLower = search.toLowerCase();
-                        boolean matchesSearch = 
-                            (booking.getBookingCode() != null && booking.getBookingCode().toLowerCase().contains(searchLower)) ||
-                            (booking.getCustomerName() != null && booking.getCustomerName().toLowerCase().contains(searchLower)) ||
-                            (booking.getCustomerEmail() != null && booking.getCustomerEmail().toLowerCase().contains(searchLower));
-                        if (!matchesSearch) return false;
-                    }
-                    
-                    // Confirmation status filter
-                    if (confirmationStatus != null && !confirmationStatus.equalsIgnoreCase("all")) {
-                        if (booking.getConfirmationStatus() == null || 
-                            !booking.getConfirmationStatus().name().equalsIgnoreCase(confirmationStatus)) {
-                            return false;
-                        }
-                    }
-                    
-                    // Payment status filter
-                    if (paymentStatus != null && !paymentStatus.equalsIgnoreCase("all")) {
-                        if (booking.getPaymentStatus() == null || 
-                            !booking.getPaymentStatus().name().equalsIgnoreCase(paymentStatus)) {
-                            return false;
-                        }
-                    }
-                    
-                    // Date filter
-                    if (dateFilter != null && !dateFilter.equalsIgnoreCase("all")) {
-                        LocalDateTime now = LocalDateTime.now();
-                        LocalDateTime bookingDateTime = booking.getCreatedAt();
-                        
-                        if (bookingDateTime != null) {
-                            if (dateFilter.equalsIgnoreCase("today")) {
-                                LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-                                LocalDateTime endOfDay = startOfDay.plusDays(1);
-                                if (bookingDateTime.isBefore(startOfDay) || bookingDateTime.isAfter(endOfDay)) {
-                                    return false;
-                                }
-                            } else if (dateFilter.equalsIgnoreCase("week")) {
-                                LocalDateTime weekAgo = now.minusWeeks(1);
-                                if (bookingDateTime.isBefore(weekAgo)) {
-                                    return false;
-                                }
-                            } else if (dateFilter.equalsIgnoreCase("month")) {
-                                LocalDateTime monthAgo = now.minusMonths(1);
-                                if (bookingDateTime.isBefore(monthAgo)) {
-                                    return false;
-                                }
-                            }
-                        }
-                    }
-                    
-                    return true;
-                })
-                .collect(Collectors.toList());
-            
-            // Apply sorting
-            filteredList.sort((a, b) -> {
-                int comparison = 0;
-                
-                switch (sortBy.toLowerCase()) {
-                    case "id":
-                        comparison = Long.compare(a.getId(), b.getId());
-                        break;
-                    case "bookingcode":
-                        comparison = String.CASE_INSENSITIVE_ORDER.compare(
-                            a.getBookingCode() != null ? a.getBookingCode() : "",
-                            b.getBookingCode() != null ? b.getBookingCode() : ""
-                        );
-                        break;
-                    case "customername":
-                        comparison = String.CASE_INSENSITIVE_ORDER.compare(
-                            a.getCustomerName() != null ? a.getCustomerName() : "",
-                            b.getCustomerName() != null ? b.getCustomerName() : ""
-                        );
-                        break;
-                    case "totalprice":
-                    case "finalamount":
-                        comparison = a.getFinalAmount().compareTo(b.getFinalAmount());
-                        break;
-                    case "createdat":
-                        if (a.getCreatedAt() != null && b.getCreatedAt() != null) {
-                            comparison = a.getCreatedAt().compareTo(b.getCreatedAt());
-                        }
-                        break;
-                    default:
-                        comparison = Long.compare(a.getId(), b.getId());
-                }
-                
-                return sortDir.equalsIgnoreCase("desc") ? -comparison : comparison;
-            });
-            
-            // Paginate filtered results
-            int totalElements = filteredList.size();
-            Pageable pageable = PageRequest.of(page, size);
-            int start = (int) pageable.getOffset();
-            int end = Math.min(start + pageable.getPageSize(), totalElements);
-            
-            List<Booking> pageContent = start > totalElements ? new ArrayList<>() : filteredList.subList(start, end);
-            
-            // Convert to BookingResponse
-            List<BookingResponse> bookingResponses = pageContent.stream()
-                .map(entityMapper::toBookingResponse)
-                .collect(Collectors.toList());
-            
-            Page<BookingResponse> bookingsPage = new PageImpl<>(bookingResponses, pageable, totalElements);
+            Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+            String sortProperty = sortProperty(sortBy);
+            Sort sort = sortProperty.equals("id")
+                    ? Sort.by(direction, "id")
+                    : Sort.by(direction, sortProperty).and(Sort.by(direction, "id"));   // Stable order across pages
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100), sort);
+            
+            Page<BookingResponse> bookingsPage = bookingService.searchBookingsForAdmin(
+                            search,
+                            parseFilter(Booking.ConfirmationStatus.class, confirmationStatus),
+                            parseFilter(Booking.PaymentStatus.class, paymentStatus),
+                            createdSince(dateFilter),
+                            null, null, pageable)
+                    .map(entityMapper::toBookingSummaryResponse);
             
             return ResponseEntity.ok(success("Bookings retrieved successfully", bookingsPage));
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving bookings", e);
             return ResponseEntity.internalServerError()
@@ -185,6 +83,79 @@ public class AdminBookingController extends BaseController {
         }
     }
     
+    /**
+     * Entity property for the list's sortBy parameter; unknown values sort by id
+     */
+    private String sortProperty(String sortBy) {
+        return switch (sortBy.toLowerCase()) {
+            case "bookingcode" -> "bookingCode";
+            case "customername" -> "customerName";
+            case "totalprice", "finalamount" -> "finalAmount";
+            case "createdat" -> "createdAt";
+            default -> "id";
+        };
+    }
+    
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll bookings", description = "Keyset-paginated booking list, newest first; pass nextCursor from the previous response (Admin only)")
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public ResponseEntity<ApiResponse<CursorPageResponse<BookingResponse>>> scrollBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String confirmationStatus,
+            @RequestParam(required = false) String paymentStatus,
+            @RequestParam(required = false) String dateFilter,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        try {
+            Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+            
+            CursorPageResponse<BookingResponse> result = bookingService.scrollBookingsForAdmin(
+                            search,
+                            parseFilter(Booking.ConfirmationStatus.class, confirmationStatus),
+                            parseFilter(Booking.PaymentStatus.class, paymentStatus),
+                            createdSince(dateFilter),
+                            sortDirection, cursor, Math.min(Math.max(size, 1), 100), includeTotal)
+                    .map(entityMapper::toBookingSummaryResponse);
+            
+            return ResponseEntity.ok(success("Bookings retrieved successfully", result));
+        } catch (IllegalArgumentException | BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error scrolling bookings", e);
+            return ResponseEntity.internalServerError()
+                    .body(error("Failed to retrieve bookings: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Lower bound for the today/week/month date filter; null for "all"
+     */
+    private LocalDateTime createdSince(String dateFilter) {
+        if (dateFilter == null) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return switch (dateFilter.toLowerCase()) {
+            case "today" -> now.toLocalDate().atStartOfDay();
+            case "week" -> now.minusWeeks(1);
+            case "month" -> now.minusMonths(1);
+            default -> null;
+        };
+    }
+    
+    /**
+     * Parse an enum filter; null or "all" means no filter
+     */
+    private <E extends Enum<E>> E parseFilter(Class<E> enumType, String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("all")) {
+            return null;
+        }
+        return Enum.valueOf(enumType, value.trim().toUpperCase());
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get booking by ID", description = "Get booking details by ID (Admin only)")
     @org.springframework.transaction.annotation.Transactional(readOnly = true)
@@ -373,100 +344,22 @@ public class AdminBookingController extends BaseController {
     }
     
     /**
-     * Helper method to get filtered bookings (reused from getAllBookings)
+     * Every booking matching the list filters, newest first (for exports)
      */
     private List<BookingResponse> getFilteredBookings(
             String search, String confirmationStatus, String paymentStatus, 
             String dateFilter, Long tourId, String paymentMethod) {
         
-        // Fetch all bookings (without pagination)
-        List<Booking> allBookings = bookingService.getAllBookings();
-        
-        // Apply filters
-        List<Booking> filteredList = allBookings.stream()
-            .filter(booking -> {
-                // ALWAYS exclude CancellationRequested bookings
-                if (booking.getConfirmationStatus() == Booking.ConfirmationStatus.CANCELLATION_REQUESTED) {
-                    return false;
-                }
-                
-                // Search filter (bookingCode, customerName, customerEmail)
-                if (search != null && !search.isEmpty()) {
-                    String searchLower = search.toLowerCase();
-                    boolean matchesSearch = 
-                        (booking.getBookingCode() != null && booking.getBookingCode().toLowerCase().contains(searchLower)) ||
-                        (booking.getCustomerName() != null && booking.getCustomerName().toLowerCase().contains(searchLower)) ||
-                        (booking.getCustomerEmail() != null && booking.getCustomerEmail().toLowerCase().contains(searchLower));
-                    if (!matchesSearch) return false;
-                }
-                
-                // Confirmation status filter
-                if (confirmationStatus != null && !confirmationStatus.equalsIgnoreCase("all")) {
-                    if (booking.getConfirmationStatus() == null || 
-                        !booking.getConfirmationStatus().name().equalsIgnoreCase(confirmationStatus)) {
-                        return false;
-                    }
-                }
-                
-                // Payment status filter
-                if (paymentStatus != null && !paymentStatus.equalsIgnoreCase("all")) {
-                    if (booking.getPaymentStatus() == null || 
-                        !booking.getPaymentStatus().name().equalsIgnoreCase(paymentStatus)) {
-                        return false;
-                    }
-                }
-                
-                // Tour filter
-                if (tourId != null && (booking.getTour() == null || !booking.getTour().getId().equals(tourId))) {
-                    return false;
-                }
-                
-                // Payment method filter - Note: payments are LAZY loaded, so we skip this filter for now
-                // This can be implemented later by fetching payments separately or using a JOIN query
-                // For now, paymentMethod parameter is accepted but not applied to avoid LazyInitializationException
-                
-                // Date filter
-                if (dateFilter != null && !dateFilter.equalsIgnoreCase("all")) {
-                    LocalDateTime now = LocalDateTime.now();
-                    LocalDateTime bookingDateTime = booking.getCreatedAt();
-                    
-                    if (bookingDateTime != null) {
-                        if (dateFilter.equalsIgnoreCase("today")) {
-                            LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-                            LocalDateTime endOfDay = startOfDay.plusDays(1);
-                            if (bookingDateTime.isBefore(startOfDay) || bookingDateTime.isAfter(endOfDay)) {
-                                return false;
-                            }
-                        } else if (dateFilter.equalsIgnoreCase("week")) {
-                            LocalDateTime weekAgo = now.minusWeeks(1);
-                            if (bookingDateTime.isBefore(weekAgo)) {
-                                return false;
-                            }
-                        } else if (dateFilter.equalsIgnoreCase("month")) {
-                            LocalDateTime monthAgo = now.minusMonths(1);
-                            if (bookingDateTime.isBefore(monthAgo)) {
-                                return false;
-                            }
-                        }
-                    }
-                }
-                
-                return true;
-            })
-            .collect(Collectors.toList());
-        
-        // Sort by createdAt DESC
-        filteredList.sort((a, b) -> {
-            if (a.getCreatedAt() != null && b.getCreatedAt() != null) {
-                return b.getCreatedAt().compareTo(a.getCreatedAt());
-            }
-            return Long.compare(b.getId(), a.getId());
-        });
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
         
-        // Convert to BookingResponse
-        return filteredList.stream()
-            .map(entityMapper::toBookingResponse)
-            .collect(Collectors.toList());
+        return bookingService.searchBookingsForAdmin(
+                        search,
+                        parseFilter(Booking.ConfirmationStatus.class, confirmationStatus),
+                        parseFilter(Booking.PaymentStatus.class, paymentStatus),
+                        createdSince(dateFilter),
+                        tourId, paymentMethod, Pageable.unpaged(newestFirst))
+                .map(entityMapper::toBookingSummaryResponse)
+                .getContent();
     }
 }
 
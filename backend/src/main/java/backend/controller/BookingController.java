@@ -251,7 +251,7 @@ public class BookingController extends BaseController {
         
         try {
             log.info("Creating booking for tour: {} by user: {}", request.getTourId(), "current_user");
-            log.info("📋 Booking request details: {}", request);
+            log.debug("📋 Booking request details: {}", request);
             
             // Get tour and user entities
             Tour tour = tourService.getTourById(request.getTourId())
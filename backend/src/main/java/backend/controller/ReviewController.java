@@ -121,6 +121,7 @@ public class ReviewController extends BaseController {
             @Parameter(description = "Tour ID") @PathVariable Long tourId) {
         
         List<ReviewResponse> reviews = reviewService.getReviewsByTourId(tourId);
+        reviewService.markHelpfulVotes(reviews, currentUserIdOrNull());
         
         return ResponseEntity.ok(success(reviews));
     }
@@ -153,6 +154,7 @@ public class ReviewController extends BaseController {
         
         Pageable pageable = createPageable(page, size, sortBy, sortDirection);
         Page<ReviewResponse> reviews = reviewService.getReviewsByTourId(tourId, pageable);
+        reviewService.markHelpfulVotes(reviews.getContent(), currentUserIdOrNull());
         
         return ResponseEntity.ok(success(reviews));
     }
@@ -279,5 +281,15 @@ public class ReviewController extends BaseController {
         
         return ResponseEntity.ok(success(stats));
     }
+    
+    /**
+     * Current user ID, or null for anonymous visitors on public endpoints
+     */
+    private Long currentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
 }
-
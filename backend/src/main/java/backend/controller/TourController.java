@@ -41,6 +41,10 @@ public class TourController extends BaseController {
     
     @org.springframework.beans.factory.annotation.Value("${app.chatbot.url:http://localhost:5000}")
     private String chatbotUrl;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.beans.factory.annotation.Qualifier("chatbotRestTemplate")
+    private org.springframework.web.client.RestTemplate chatbotRestTemplate;
     
     @GetMapping
     @Operation(summary = "Get all tours with pagination")
@@ -342,7 +346,6 @@ public class TourController extends BaseController {
             // Call chatbot service for image search
             String url = chatbotUrl + "/SearchByImage";
             
-            org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate();
             org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
             headers.setContentType(org.springframework.http.MediaType.APPLICATION_JSON);
             
@@ -356,7 +359,7 @@ public class TourController extends BaseController {
             @SuppressWarnings("unchecked")
             org.springframework.http.ResponseEntity<java.util.Map<String, Object>> response = 
                 (org.springframework.http.ResponseEntity<java.util.Map<String, Object>>) 
-                (org.springframework.http.ResponseEntity<?>) restTemplate.postForEntity(
+                (org.springframework.http.ResponseEntity<?>) chatbotRestTemplate.postForEntity(
                     url, 
                     entity, 
                     java.util.Map.class
@@ -2,6 +2,7 @@ package backend.controller;
 
 import backend.dto.request.VnPayPaymentRequest;
 import backend.dto.response.VnPayPaymentResponse;
+import backend.service.VnPayIpnService;
 import backend.service.VnPayService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -22,6 +23,7 @@ import java.util.Map;
 public class VnPayController {
     
     private final VnPayService vnPayService;
+    private final VnPayIpnService vnPayIpnService;
     
     /**
      * Tạo URL thanh toán VNPay
@@ -96,7 +98,8 @@ public class VnPayController {
     
     /**
      * IPN (Instant Payment Notification) - Webhook từ VNPay
-     * VNPay sẽ gọi API này để thông báo kết quả thanh toán
+     * VNPay sẽ gọi API này để thông báo kết quả thanh toán.
+     * Chỉ kiểm tra chữ ký và lưu thông báo rồi trả lời ngay; cập nhật thanh toán chạy nền (VnPayIpnService).
      */
     @GetMapping("/payment-callback")
     public ResponseEntity<Map<String, String>> handlePaymentCallback(
@@ -113,20 +116,19 @@ public class VnPayController {
             params.put(paramName, paramValue);
         }
         
-        log.info("IPN params: {}", params);
+        log.info("IPN for txnRef {}", params.get("vnp_TxnRef"));
+        log.debug("IPN params: {}", params);
         
-        Map<String, String> response = new HashMap<>();
+        Map<String, String> response;
         
         try {
-            vnPayService.handlePaymentReturn(params);
-            
-            response.put("RspCode", "00");
-            response.put("Message", "Confirm Success");
+            response = vnPayIpnService.receive(params);
             
-            log.info("✅ IPN processed successfully");
+            log.info("✅ IPN acknowledged with RspCode {}", response.get("RspCode"));
         } catch (Exception e) {
             log.error("❌ Error processing IPN", e);
             
+            response = new HashMap<>();
             response.put("RspCode", "99");
             response.put("Message", "Unknown error");
         }
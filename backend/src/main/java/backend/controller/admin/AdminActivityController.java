@@ -1,20 +1,21 @@
 package backend.controller.admin;
 
 import backend.controller.BaseController;
+import backend.dto.response.ActivityFeedItem;
 import backend.dto.response.ApiResponse;
-import backend.entity.Booking;
-import backend.entity.Review;
-import backend.entity.User;
-import backend.repository.BookingRepository;
-import backend.repository.ReviewRepository;
-import backend.repository.UserRepository;
+import backend.dto.response.CursorPageResponse;
+import backend.exception.BadRequestException;
+import backend.service.ActivityFeedService;
+import backend.util.SortedMerge;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -31,91 +32,23 @@ import java.util.stream.Collectors;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminActivityController extends BaseController {
 
-    private final BookingRepository bookingRepository;
-    private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
+    private final ActivityFeedService activityFeedService;
 
     @GetMapping("/recent")
     @Operation(summary = "Get recent activities", description = "Get recent system activities for dashboard")
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getRecentActivities(
             @RequestParam(defaultValue = "10") int limit) {
         try {
-            List<Map<String, Object>> activities = new ArrayList<>();
-
-            // Get recent bookings
-            List<Booking> recentBookings = bookingRepository.findAll().stream()
-                .filter(b -> b.getCreatedAt() != null)
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(5)
-                .collect(Collectors.toList());
-
-            for (Booking booking : recentBookings) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("type", "booking");
-                activity.put("icon", "📦");
-                activity.put("title", "Booking mới");
-                // Force initialization
-                String tourName = (booking.getTour() != null ? booking.getTour().getName() : "tour");
-                activity.put("description", 
-                    (booking.getCustomerName() != null ? booking.getCustomerName() : "Khách hàng") + 
-                    " đặt " + tourName);
-                activity.put("time", booking.getCreatedAt());
-                activity.put("timeAgo", getTimeAgo(booking.getCreatedAt()));
-                activity.put("status", booking.getConfirmationStatus() != null ? booking.getConfirmationStatus().name() : "");
-                activities.add(activity);
-            }
-
-            // Get recent reviews
-            List<Review> recentReviews = reviewRepository.findAll().stream()
-                .filter(r -> r.getCreatedAt() != null)
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(3)
-                .collect(Collectors.toList());
-
-            for (Review review : recentReviews) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("type", "review");
-                activity.put("icon", "⭐");
-                activity.put("title", "Đánh giá mới");
-                // Force initialization
-                String userName = (review.getUser() != null && review.getUser().getName() != null ? review.getUser().getName() : "Khách");
-                activity.put("description", userName + " đánh giá " + review.getRating() + "/5");
-                activity.put("time", review.getCreatedAt());
-                activity.put("timeAgo", getTimeAgo(review.getCreatedAt()));
-                activity.put("status", review.getStatus() != null ? review.getStatus().name() : "");
-                activities.add(activity);
-            }
-
-            // Get recent users
-            List<User> recentUsers = userRepository.findAll().stream()
-                .filter(u -> u.getCreatedAt() != null)
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(3)
-                .collect(Collectors.toList());
-
-            for (User user : recentUsers) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("type", "user");
-                activity.put("icon", "👤");
-                activity.put("title", "User mới");
-                activity.put("description", 
-                    (user.getName() != null ? user.getName() : user.getEmail()) + 
-                    " đăng ký tài khoản");
-                activity.put("time", user.getCreatedAt());
-                activity.put("timeAgo", getTimeAgo(user.getCreatedAt()));
-                activity.put("status", "new");
-                activities.add(activity);
-            }
-
-            // Sort all activities by time and limit
-            List<Map<String, Object>> sortedActivities = activities.stream()
-                .sorted((a, b) -> {
-                    LocalDateTime timeA = (LocalDateTime) a.get("time");
-                    LocalDateTime timeB = (LocalDateTime) b.get("time");
-                    return timeB.compareTo(timeA);
-                })
-                .limit(limit)
+            // Top-N per source on the created_at index, then k-way merge
+            List<List<ActivityFeedItem>> runs = List.of(
+                activityFeedService.getLatest(ActivityFeedItem.Source.BOOKING, null, 5),
+                activityFeedService.getLatest(ActivityFeedItem.Source.REVIEW, null, 3),
+                activityFeedService.getLatest(ActivityFeedItem.Source.USER, null, 3)
+            );
+
+            List<Map<String, Object>> sortedActivities = SortedMerge.merge(runs, ActivityFeedItem.NEWEST_FIRST, limit)
+                .stream()
+                .map(this::toActivityMap)
                 .collect(Collectors.toList());
 
             return ResponseEntity.ok(success("Recent activities retrieved successfully", sortedActivities));
@@ -126,6 +59,42 @@ public class AdminActivityController extends BaseController {
         }
     }
 
+    @GetMapping("/feed")
+    @Operation(summary = "Get activity feed", description = "Merged activity feed, newest first; pass nextCursor to load more")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ActivityFeedItem>>> getActivityFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Set<ActivityFeedItem.Source> sources) {
+        try {
+            CursorPageResponse<ActivityFeedItem> feed = activityFeedService.getFeed(sources, cursor, Math.min(Math.max(limit, 1), 100));
+            return ResponseEntity.ok(success("Activity feed retrieved successfully", feed));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error getting activity feed", e);
+            return ResponseEntity.internalServerError()
+                    .body(error("Failed to get activity feed: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to live activities via Server-Sent Events")
+    public SseEmitter streamActivities() {
+        return activityFeedService.subscribe();
+    }
+
+    private Map<String, Object> toActivityMap(ActivityFeedItem item) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("type", item.getSource().getKey());
+        activity.put("icon", item.getIcon());
+        activity.put("title", item.getTitle());
+        activity.put("description", item.getDescription());
+        activity.put("time", item.getTimestamp());
+        activity.put("timeAgo", getTimeAgo(item.getTimestamp()));
+        activity.put("status", item.getStatus());
+        return activity;
+    }
+
     private String getTimeAgo(LocalDateTime dateTime) {
         if (dateTime == null) return "Vừa xong";
         
@@ -1,15 +1,27 @@
 package backend.controller.admin;
 
+import backend.config.DbConcurrencyLimiter;
+import backend.config.ReadReplicaDataSource;
 import backend.controller.BaseController;
+import backend.dto.response.ActivityFeedItem;
 import backend.dto.response.ApiResponse;
 import backend.entity.*;
 import backend.entity.TourItinerary;
 import backend.service.*;
 import backend.service.ExportService;
+import backend.service.impl.JdbcStatementProfiler;
+import backend.service.impl.RequestTracer;
+import backend.service.impl.SecondLevelCacheSynchronizer;
+import backend.service.impl.VirtualThreadPinningMonitor;
+import backend.util.SortedMerge;
+import com.zaxxer.hikari.HikariDataSource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
@@ -17,9 +29,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +54,17 @@ public class AdminDashboardController extends BaseController {
     private final PartnerService partnerService;
     private final CategoryService categoryService;
     private final ExportService exportService;
+    private final ActivityFeedService activityFeedService;
+    private final DataSource dataSource;
+    private final ObjectProvider<ReadReplicaDataSource> readReplicaDataSource;
+    private final ObjectProvider<SecondLevelCacheSynchronizer> secondLevelCache;
+    private final VnPayIpnService vnPayIpnService;
+    private final OutboxService outboxService;
+    private final ObjectProvider<JdbcStatementProfiler> jdbcProfiler;
+    private final ObjectProvider<RequestTracer> requestTracer;
+    private final ObjectProvider<DbConcurrencyLimiter> dbConcurrencyLimiter;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final Environment environment;
     
     // ================================
     // OVERVIEW STATISTICS
@@ -134,84 +160,17 @@ public class AdminDashboardController extends BaseController {
             @RequestParam(defaultValue = "20") int limit) {
         
         try {
-            List<Map<String, Object>> activities = new java.util.ArrayList<>();
-            
-            // Get recent bookings (last 24 hours)
-            LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-            List<Booking> recentBookings = bookingService.getAllBookings().stream()
-                    .filter(b -> b.getCreatedAt() != null && b.getCreatedAt().isAfter(last24Hours))
-                    .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                    .limit(limit / 2)
-                    .toList();
-            
-            for (Booking booking : recentBookings) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("id", "booking_" + booking.getId());
-                activity.put("type", "BOOKING_CREATED");
-                activity.put("description", String.format("Booking mới: %s (%s)", 
-                        booking.getTour() != null ? booking.getTour().getName() : "Unknown Tour",
-                        booking.getBookingCode()));
-                activity.put("timestamp", booking.getCreatedAt());
-                activity.put("userId", booking.getUser() != null ? booking.getUser().getId() : null);
-                activity.put("userName", booking.getUser() != null ? booking.getUser().getName() : booking.getCustomerName());
-                activity.put("amount", booking.getFinalAmount());
-                activity.put("status", booking.getConfirmationStatus().toString());
-                activities.add(activity);
-            }
+            // Indexed top-N per source within its time window, then k-way merge (newest first)
+            LocalDateTime now = LocalDateTime.now();
+            List<List<ActivityFeedItem>> runs = List.of(
+                    activityFeedService.getLatest(ActivityFeedItem.Source.BOOKING, now.minusHours(24), limit / 2),
+                    activityFeedService.getLatest(ActivityFeedItem.Source.USER, now.minusDays(7), limit / 3),
+                    activityFeedService.getLatest(ActivityFeedItem.Source.LOGIN, now.minusHours(2), limit / 4)
+            );
             
-            // Get recent user registrations (last 7 days)
-            LocalDateTime last7Days = LocalDateTime.now().minusDays(7);
-            org.springframework.data.domain.Pageable topUsersPageable = 
-                    org.springframework.data.domain.PageRequest.of(0, limit / 3, 
-                    org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "createdAt"));
-            List<backend.entity.User> recentUsers = userService.getAllUsers(topUsersPageable)
+            List<Map<String, Object>> limitedActivities = SortedMerge.merge(runs, ActivityFeedItem.NEWEST_FIRST, limit)
                     .stream()
-                    .filter(u -> u.getCreatedAt() != null && u.getCreatedAt().isAfter(last7Days))
-                    .toList();
-            
-            for (backend.entity.User user : recentUsers) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("id", "user_" + user.getId());
-                activity.put("type", "USER_REGISTRATION");
-                activity.put("description", String.format("User mới đăng ký: %s", user.getEmail()));
-                activity.put("timestamp", user.getCreatedAt());
-                activity.put("userId", user.getId());
-                activity.put("userName", user.getName());
-                activity.put("userRole", user.getRole() != null ? user.getRole().getName() : "Customer");
-                activities.add(activity);
-            }
-            
-            // Get recent sessions (last 2 hours - represents logins)
-            LocalDateTime last2Hours = LocalDateTime.now().minusHours(2);
-            List<UserSession> recentSessions = userSessionService.getActiveSessions().stream()
-                    .filter(s -> s.getCreatedAt() != null && s.getCreatedAt().isAfter(last2Hours))
-                    .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                    .limit(limit / 4)
-                    .toList();
-            
-            for (UserSession session : recentSessions) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("id", "session_" + session.getId());
-                activity.put("type", "USER_LOGIN");
-                activity.put("description", String.format("User đăng nhập từ %s", 
-                        session.getCountry() != null ? session.getCountry() : session.getIpAddress()));
-                activity.put("timestamp", session.getCreatedAt());
-                activity.put("userId", session.getUser() != null ? session.getUser().getId() : null);
-                activity.put("userName", session.getUser() != null ? session.getUser().getName() : "Unknown");
-                activity.put("deviceType", session.getDeviceType());
-                activity.put("ipAddress", session.getIpAddress());
-                activities.add(activity);
-            }
-            
-            // Sort all activities by timestamp (newest first) and limit
-            activities.sort((a, b) -> {
-                LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-                LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-                return timeB.compareTo(timeA);
-            });
-            
-            List<Map<String, Object>> limitedActivities = activities.stream()
-                    .limit(limit)
+                    .map(this::toDashboardActivity)
                     .toList();
             
             log.info("Retrieved {} recent activities", limitedActivities.size());
@@ -224,6 +183,29 @@ public class AdminDashboardController extends BaseController {
         }
     }
     
+    private Map<String, Object> toDashboardActivity(ActivityFeedItem item) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("id", item.getId());
+        activity.put("type", item.getType());
+        activity.put("description", item.getDescription());
+        activity.put("timestamp", item.getTimestamp());
+        activity.put("userId", item.getUserId());
+        activity.put("userName", item.getUserName());
+        switch (item.getSource()) {
+            case BOOKING -> {
+                activity.put("amount", item.getAmount());
+                activity.put("status", item.getStatus());
+            }
+            case USER -> activity.put("userRole", item.getUserRole());
+            case LOGIN -> {
+                activity.put("deviceType", item.getDeviceType());
+                activity.put("ipAddress", item.getIpAddress());
+            }
+            default -> { }
+        }
+        return activity;
+    }
+    
     // ================================
     // CHARTS DATA
     // ================================
@@ -344,25 +326,8 @@ public class AdminDashboardController extends BaseController {
         try {
             Map<String, Object> chartData = new HashMap<>();
             
-            // Get all users with pagination (get enough for analysis)
-            org.springframework.data.domain.Pageable pageable = 
-                    org.springframework.data.domain.PageRequest.of(0, 10000, 
-                    org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "createdAt"));
-            List<backend.entity.User> allUsers = userService.getAllUsers(pageable).getContent();
-            
-            // Filter users in date range
-            List<backend.entity.User> usersInRange = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                 u.getCreatedAt().isAfter(finalStartDate) && 
-                                 u.getCreatedAt().isBefore(finalEndDate))
-                    .toList();
-            
-            // Calculate daily registrations
-            Map<String, Long> dailyRegistrationsMap = new java.util.TreeMap<>();
-            for (backend.entity.User user : usersInRange) {
-                String dateKey = user.getCreatedAt().toLocalDate().toString();
-                dailyRegistrationsMap.merge(dateKey, 1L, Long::sum);
-            }
+            // Daily registrations (grouped in SQL)
+            Map<String, Long> dailyRegistrationsMap = userService.countRegistrationsPerDay(finalStartDate, finalEndDate);
             
             List<Map<String, Object>> registrationsData = dailyRegistrationsMap.entrySet().stream()
                     .map(entry -> Map.of(
@@ -395,12 +360,9 @@ public class AdminDashboardController extends BaseController {
             Map<String, Long> statusCountMap = new HashMap<>();
             long totalUsers = 0;
             
-            for (backend.entity.User user : allUsers) {
-                if (user.getStatus() != null) {
-                    String statusKey = user.getStatus().toString();
-                    statusCountMap.merge(statusKey, 1L, Long::sum);
-                    totalUsers++;
-                }
+            for (Map.Entry<backend.entity.User.UserStatus, Long> entry : userService.countUsersByStatus().entrySet()) {
+                statusCountMap.put(entry.getKey().toString(), entry.getValue());
+                totalUsers += entry.getValue();
             }
             
             final long finalTotalUsers = totalUsers > 0 ? totalUsers : 1;
@@ -581,14 +543,7 @@ public class AdminDashboardController extends BaseController {
                     (todayCancelled * 100.0 / todayNewBookings) : 0.0;
             
             // Get today's new users
-            org.springframework.data.domain.Pageable pageable = 
-                    org.springframework.data.domain.PageRequest.of(0, 10000);
-            List<backend.entity.User> allUsers = userService.getAllUsers(pageable).getContent();
-            long todayNewUsers = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                u.getCreatedAt().isAfter(todayStart) && 
-                                u.getCreatedAt().isBefore(now))
-                    .count();
+            long todayNewUsers = userService.countUsersCreatedBetween(todayStart, now);
             
             Long onlineUsersCount = userSessionService.countActiveSessions();
             
@@ -615,11 +570,7 @@ public class AdminDashboardController extends BaseController {
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
             
             long weekNewBookings = weekBookings.size();
-            long weekNewUsers = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                u.getCreatedAt().isAfter(weekStart) && 
-                                u.getCreatedAt().isBefore(now))
-                    .count();
+            long weekNewUsers = userService.countUsersCreatedBetween(weekStart, now);
             
             BigDecimal averageDaily = weekNewBookings > 0 ? 
                     weekRevenue.divide(BigDecimal.valueOf(7), 2, java.math.RoundingMode.HALF_UP) : 
@@ -646,11 +597,7 @@ public class AdminDashboardController extends BaseController {
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
             
             long monthNewBookings = monthBookings.size();
-            long monthNewUsers = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                u.getCreatedAt().isAfter(monthStart) && 
-                                u.getCreatedAt().isBefore(now))
-                    .count();
+            long monthNewUsers = userService.countUsersCreatedBetween(monthStart, now);
             
             // Last month for comparison
             List<Booking> lastMonthBookings = allBookings.stream()
@@ -693,11 +640,7 @@ public class AdminDashboardController extends BaseController {
                         .reduce(BigDecimal.ZERO, BigDecimal::add);
                 
                 long customNewBookings = customBookings.size();
-                long customNewUsers = allUsers.stream()
-                        .filter(u -> u.getCreatedAt() != null && 
-                                    u.getCreatedAt().isAfter(finalStartDate) && 
-                                    u.getCreatedAt().isBefore(finalEndDate))
-                        .count();
+                long customNewUsers = userService.countUsersCreatedBetween(finalStartDate, finalEndDate);
                 
                 long customCancelled = customBookings.stream()
                         .filter(b -> b.getConfirmationStatus() == Booking.ConfirmationStatus.CANCELLED)
@@ -821,6 +764,104 @@ public class AdminDashboardController extends BaseController {
         return ResponseEntity.ok(success("System health retrieved successfully", health));
     }
     
+    @GetMapping("/database-pools")
+    @Operation(summary = "Get connection pool usage and read-replica routing status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDatabasePools() {
+        Map<String, Object> pools = new LinkedHashMap<>();
+        try {
+            pools.put("primary", ReadReplicaDataSource.poolStats(dataSource.unwrap(HikariDataSource.class)));
+        } catch (SQLException e) {
+            log.warn("Primary DataSource is not a Hikari pool: {}", e.getMessage());
+        }
+        ReadReplicaDataSource replicas = readReplicaDataSource.getIfAvailable();
+        pools.put("readReplicas", replicas != null ? replicas.stats() : Map.of("enabled", false));
+        
+        return ResponseEntity.ok(success("Database pools retrieved successfully", pools));
+    }
+    
+    @GetMapping("/cache-regions")
+    @Operation(summary = "Get Hibernate second-level cache statistics per region")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheRegions() {
+        SecondLevelCacheSynchronizer cache = secondLevelCache.getIfAvailable();
+        Map<String, Object> stats = cache != null ? cache.stats() : Map.of("enabled", false);
+        
+        return ResponseEntity.ok(success("Cache regions retrieved successfully", stats));
+    }
+    
+    @PostMapping("/cache-regions/evict")
+    @Operation(summary = "Evict the second-level cache on every node")
+    public ResponseEntity<ApiResponse<Void>> evictCacheRegions() {
+        SecondLevelCacheSynchronizer cache = secondLevelCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.badRequest().body(error("Second-level cache is disabled"));
+        }
+        cache.evictAll();
+        
+        return ResponseEntity.ok(success("Cache regions evicted successfully", null));
+    }
+    
+    @GetMapping("/payment-notifications")
+    @Operation(summary = "Get VNPay IPN inbox counters (pending, processed, failed, duplicates)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPaymentNotifications() {
+        return ResponseEntity.ok(success("Payment notifications retrieved successfully", vnPayIpnService.stats()));
+    }
+    
+    @GetMapping("/outbox")
+    @Operation(summary = "Get outbox queue depth, lag and relay counters")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOutbox() {
+        return ResponseEntity.ok(success("Outbox retrieved successfully", outboxService.getStats()));
+    }
+    
+    @PostMapping("/outbox/retry-failed")
+    @Operation(summary = "Requeue dead-lettered outbox messages")
+    public ResponseEntity<ApiResponse<Integer>> retryFailedOutbox() {
+        return ResponseEntity.ok(success("Failed outbox messages requeued", outboxService.retryFailed()));
+    }
+    
+    @GetMapping("/jdbc-statements")
+    @Operation(summary = "Get the slowest SQL statements (latency percentiles) and N+1 offenders per controller method")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJdbcStatements(
+            @RequestParam(defaultValue = "20") int limit) {
+        JdbcStatementProfiler profiler = jdbcProfiler.getIfAvailable();
+        Map<String, Object> stats = profiler != null ? profiler.stats(Math.max(1, Math.min(limit, 200))) : Map.of("enabled", false);
+        
+        return ResponseEntity.ok(success("JDBC statement statistics retrieved successfully", stats));
+    }
+    
+    @PostMapping("/jdbc-statements/reset")
+    @Operation(summary = "Reset the JDBC statement statistics")
+    public ResponseEntity<ApiResponse<Void>> resetJdbcStatements() {
+        JdbcStatementProfiler profiler = jdbcProfiler.getIfAvailable();
+        if (profiler == null) {
+            return ResponseEntity.badRequest().body(error("JDBC statement profiler is disabled"));
+        }
+        profiler.reset();
+        
+        return ResponseEntity.ok(success("JDBC statement statistics reset", null));
+    }
+    
+    @GetMapping("/tracing")
+    @Operation(summary = "Get request tracing sampling and export statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTracingStats() {
+        RequestTracer tracer = requestTracer.getIfAvailable();
+        Map<String, Object> stats = tracer != null ? tracer.stats() : Map.of("enabled", false);
+        
+        return ResponseEntity.ok(success("Tracing statistics retrieved successfully", stats));
+    }
+    
+    @GetMapping("/threads")
+    @Operation(summary = "Get threading mode, DB concurrency limiter and virtual thread pinning statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getThreadingStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+        DbConcurrencyLimiter limiter = dbConcurrencyLimiter.getIfAvailable();
+        stats.put("dbConcurrency", limiter != null ? limiter.stats() : Map.of("enabled", false));
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        stats.put("pinning", monitor != null ? monitor.stats() : Map.of("enabled", false));
+        
+        return ResponseEntity.ok(success("Threading statistics retrieved successfully", stats));
+    }
+    
     // ================================
     // EXPORT DASHBOARD REPORT
     // ================================
@@ -840,11 +881,8 @@ public class AdminDashboardController extends BaseController {
             
             List<ExportService.DashboardReport> reports = new java.util.ArrayList<>();
             
-            // Get all bookings and users
+            // Get all bookings
             List<Booking> allBookings = bookingService.getAllBookings();
-            org.springframework.data.domain.Pageable pageable = 
-                    org.springframework.data.domain.PageRequest.of(0, 10000);
-            List<backend.entity.User> allUsers = userService.getAllUsers(pageable).getContent();
             Long onlineUsersCount = userSessionService.countActiveSessions();
             
             // Today's report
@@ -866,11 +904,7 @@ public class AdminDashboardController extends BaseController {
             double todayCancellationRate = todayBookings.size() > 0 ? 
                     (todayCancelled * 100.0 / todayBookings.size()) : 0.0;
             
-            long todayNewUsers = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                u.getCreatedAt().isAfter(todayStart) && 
-                                u.getCreatedAt().isBefore(now))
-                    .count();
+            long todayNewUsers = userService.countUsersCreatedBetween(todayStart, now);
             
             ExportService.DashboardReport todayReport = new ExportService.DashboardReport();
             todayReport.setPeriod("Hôm nay");
@@ -901,11 +935,7 @@ public class AdminDashboardController extends BaseController {
             double weekCancellationRate = weekBookings.size() > 0 ? 
                     (weekCancelled * 100.0 / weekBookings.size()) : 0.0;
             
-            long weekNewUsers = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                u.getCreatedAt().isAfter(weekStart) && 
-                                u.getCreatedAt().isBefore(now))
-                    .count();
+            long weekNewUsers = userService.countUsersCreatedBetween(weekStart, now);
             
             ExportService.DashboardReport weekReport = new ExportService.DashboardReport();
             weekReport.setPeriod("7 ngày qua");
@@ -936,11 +966,7 @@ public class AdminDashboardController extends BaseController {
             double monthCancellationRate = monthBookings.size() > 0 ? 
                     (monthCancelled * 100.0 / monthBookings.size()) : 0.0;
             
-            long monthNewUsers = allUsers.stream()
-                    .filter(u -> u.getCreatedAt() != null && 
-                                u.getCreatedAt().isAfter(monthStart) && 
-                                u.getCreatedAt().isBefore(now))
-                    .count();
+            long monthNewUsers = userService.countUsersCreatedBetween(monthStart, now);
             
             ExportService.DashboardReport monthReport = new ExportService.DashboardReport();
             monthReport.setPeriod("30 ngày qua");
@@ -972,11 +998,7 @@ public class AdminDashboardController extends BaseController {
                 double customCancellationRate = customBookings.size() > 0 ? 
                         (customCancelled * 100.0 / customBookings.size()) : 0.0;
                 
-                long customNewUsers = allUsers.stream()
-                        .filter(u -> u.getCreatedAt() != null && 
-                                    u.getCreatedAt().isAfter(startDate) && 
-                                    u.getCreatedAt().isBefore(endDate))
-                        .count();
+                long customNewUsers = userService.countUsersCreatedBetween(startDate, endDate);
                 
                 ExportService.DashboardReport customReport = new ExportService.DashboardReport();
                 customReport.setPeriod(String.format("Từ %s đến %s", 
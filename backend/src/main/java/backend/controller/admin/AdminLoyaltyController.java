@@ -2,6 +2,7 @@ package backend.controller.admin;
 
 import backend.controller.BaseController;
 import backend.dto.response.ApiResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.PageResponse;
 import backend.entity.Booking;
 import backend.entity.Booking.ConfirmationStatus;
@@ -10,9 +11,11 @@ import backend.entity.LoyaltyConfig;
 import backend.entity.PointTransaction;
 import backend.entity.PointTransaction.TransactionType;
 import backend.repository.BookingRepository;
+import backend.repository.KeysetSpecifications;
 import backend.repository.LoyaltyConfigRepository;
 import backend.repository.LoyaltyPointsRepository;
 import backend.repository.PointTransactionRepository;
+import backend.repository.TableStatisticsRepository;
 import backend.service.ExportService;
 import backend.service.LoyaltyService;
 import backend.service.impl.BookingCompletionScheduler;
@@ -27,6 +30,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -54,6 +59,7 @@ public class AdminLoyaltyController extends BaseController {
     private final PointTransactionRepository transactionRepository;
     private final LoyaltyPointsRepository loyaltyPointsRepository;
     private final ExportService exportService;
+    private final TableStatisticsRepository tableStatisticsRepository;
 
     @PostMapping("/test-scheduler")
     public ResponseEntity<Map<String, Object>> testScheduler() {
@@ -337,6 +343,53 @@ public class AdminLoyaltyController extends BaseController {
         }
     }
 
+    @GetMapping("/transactions/scroll")
+    @Operation(summary = "Scroll transactions", description = "Keyset-paginated point transactions, newest first; pass nextCursor from the previous response")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PointTransaction>>> scrollTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) TransactionType transactionType,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            LocalDateTime from = parseDateParam(startDate, false);
+            LocalDateTime to = parseDateParam(endDate, true);
+            Specification<PointTransaction> filter = Specification.allOf(
+                    (root, query, cb) -> userId == null ? null : cb.equal(root.get("user").get("id"), userId),
+                    (root, query, cb) -> transactionType == null ? null : cb.equal(root.get("transactionType"), transactionType),
+                    (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from),
+                    (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("createdAt"), to));
+            
+            CursorPageResponse<PointTransaction> transactions = KeysetSpecifications.scroll(transactionRepository, filter,
+                    cursor, Sort.Direction.DESC, Math.min(Math.max(size, 1), 100),
+                    PointTransaction::getCreatedAt, PointTransaction::getId);
+            if (includeTotal) {
+                transactions.withApproximateTotal(tableStatisticsRepository.approximateRowCount("point_transactions"));
+            }
+            return ResponseEntity.ok(success("Transactions retrieved successfully", transactions));
+        } catch (Exception e) {
+            log.error("Error scrolling transactions", e);
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * ISO date-time, or ISO date (start of day, or end of day for an upper bound); null when absent
+     */
+    private LocalDateTime parseDateParam(String value, boolean endOfDay) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            java.time.LocalDate date = java.time.LocalDate.parse(value.trim(), DateTimeFormatter.ISO_LOCAL_DATE);
+            return endOfDay ? date.atTime(23, 59, 59) : date.atStartOfDay();
+        }
+    }
+    
     @GetMapping("/transactions/stats")
     @Operation(summary = "Get transaction statistics", description = "Get statistics about point transactions")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getTransactionStats(
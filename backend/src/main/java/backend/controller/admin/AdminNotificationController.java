@@ -3,8 +3,10 @@ package backend.controller.admin;
 import backend.controller.BaseController;
 import backend.dto.request.NotificationRequest;
 import backend.dto.response.ApiResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.NotificationResponse;
 import backend.entity.Notification;
+import backend.exception.BadRequestException;
 import backend.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -60,6 +62,35 @@ public class AdminNotificationController extends BaseController {
         }
     }
     
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll notifications", description = "Keyset-paginated notification list, newest first; pass nextCursor from the previous response (Admin only)")
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public ResponseEntity<ApiResponse<CursorPageResponse<NotificationResponse>>> scrollNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        try {
+            Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+            Notification.NotificationType typeFilter = type == null || type.isBlank() || type.equalsIgnoreCase("all")
+                    ? null : Notification.NotificationType.valueOf(type.trim().toUpperCase());
+            
+            CursorPageResponse<NotificationResponse> response = notificationService
+                    .scrollNotifications(typeFilter, sortDirection, cursor, Math.min(Math.max(size, 1), 100), includeTotal)
+                    .map(this::toResponse);  // toResponse reads the lazy user inside this transaction
+            
+            return ResponseEntity.ok(success("Notifications retrieved successfully", response));
+        } catch (IllegalArgumentException | BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error scrolling notifications", e);
+            return ResponseEntity.internalServerError()
+                    .body(error("Failed to get notifications: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get notification by ID", description = "Get notification details by ID (Admin only)")
     @org.springframework.transaction.annotation.Transactional(readOnly = true)
@@ -3,10 +3,11 @@ package backend.controller.admin;
 import backend.controller.BaseController;
 import backend.dto.request.PartnerRequest;
 import backend.dto.response.ApiResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.PartnerResponse;
 import backend.entity.Partner;
+import backend.exception.BadRequestException;
 import backend.mapper.EntityMapper;
-import backend.repository.PartnerRepository;
 import backend.service.PartnerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/admin/partners")
 @RequiredArgsConstructor
@@ -31,7 +34,6 @@ import org.springframework.web.bind.annotation.*;
 public class AdminPartnerController extends BaseController {
     
     private final PartnerService partnerService;
-    private final PartnerRepository partnerRepository;
     private final EntityMapper mapper;
     
     @GetMapping
@@ -46,70 +48,18 @@ public class AdminPartnerController extends BaseController {
             @RequestParam(required = false) String type
     ) {
         try {
-            // Fetch all partners
-            java.util.List<Partner> partnersList = partnerRepository.findAll();
-            
-            // Apply filters
-            java.util.stream.Stream<Partner> stream = partnersList.stream();
-            
-            if (search != null && !search.isEmpty()) {
-                String searchLower = search.toLowerCase();
-                stream = stream.filter(p -> 
-                    p.getName().toLowerCase().contains(searchLower) ||
-                    (p.getEmail() != null && p.getEmail().toLowerCase().contains(searchLower))
-                );
-            }
-            
-            if (status != null && !status.equalsIgnoreCase("all")) {
-                stream = stream.filter(p -> 
-                    p.getStatus() != null && p.getStatus().name().equalsIgnoreCase(status)
-                );
-            }
-            
-            if (type != null && !type.equalsIgnoreCase("all")) {
-                stream = stream.filter(p -> 
-                    p.getType() != null && p.getType().name().equalsIgnoreCase(type)
-                );
-            }
-            
-            java.util.List<Partner> filteredList = stream.collect(java.util.stream.Collectors.toList());
-            
-            // Apply sorting
-            filteredList.sort((a, b) -> {
-                int comparison = 0;
-                switch (sortBy.toLowerCase()) {
-                    case "id":
-                        comparison = Long.compare(a.getId(), b.getId());
-                        break;
-                    case "name":
-                        comparison = a.getName().compareToIgnoreCase(b.getName());
-                        break;
-                    case "email":
-                        String emailA = a.getEmail() != null ? a.getEmail() : "";
-                        String emailB = b.getEmail() != null ? b.getEmail() : "";
-                        comparison = emailA.compareToIgnoreCase(emailB);
-                        break;
-                    default:
-                        comparison = Long.compare(a.getId(), b.getId());
-                }
-                return direction.equalsIgnoreCase("desc") ? -comparison : comparison;
-            });
-            
-            // Paginate
-            Pageable pageable = PageRequest.of(page, size);
-            int start = (int) pageable.getOffset();
-            int end = Math.min(start + pageable.getPageSize(), filteredList.size());
-            java.util.List<Partner> pageContent = start > filteredList.size() ? new java.util.ArrayList<>() : filteredList.subList(start, end);
+            Partner.PartnerStatus statusFilter = parseFilter(Partner.PartnerStatus.class, status);
+            Partner.PartnerType typeFilter = parseFilter(Partner.PartnerType.class, type);
             
-            java.util.List<PartnerResponse> responses = pageContent.stream()
-                .map(mapper::toPartnerResponse)
-                .collect(java.util.stream.Collectors.toList());
-            
-            Page<PartnerResponse> pageResult = new org.springframework.data.domain.PageImpl<>(
-                responses, pageable, filteredList.size()
-            );
+            // Filtering, sorting and paging are done by the database
+            Pageable pageable = PageRequest.of(page, size, resolveSort(sortBy, parseDirection(direction)));
+            Page<PartnerResponse> pageResult = partnerService
+                    .searchPartnersForAdmin(search, statusFilter, typeFilter, pageable)
+                    .map(mapper::toPartnerResponse);
             
             return ResponseEntity.ok(success("Partners retrieved successfully", pageResult));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
         } catch (Exception e) {
             log.error("Error getting partners", e);
             return ResponseEntity.internalServerError()
@@ -117,6 +67,94 @@ public class AdminPartnerController extends BaseController {
         }
     }
     
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll partners", description = "Keyset-paginated partner list; pass nextCursor from the previous response (Admin only)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PartnerResponse>>> scrollPartners(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type
+    ) {
+        try {
+            Partner.PartnerStatus statusFilter = parseFilter(Partner.PartnerStatus.class, status);
+            Partner.PartnerType typeFilter = parseFilter(Partner.PartnerType.class, type);
+            String sortField = sortProperty(sortBy);
+            
+            CursorPageResponse<PartnerResponse> result = partnerService
+                    .scrollPartnersForAdmin(search, statusFilter, typeFilter, sortField, parseDirection(direction),
+                            cursor, Math.min(Math.max(size, 1), 100))
+                    .map(mapper::toPartnerResponse);
+            
+            return ResponseEntity.ok(success("Partners retrieved successfully", result));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error scrolling partners", e);
+            return ResponseEntity.internalServerError()
+                    .body(error("Failed to get partners: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Get partner statistics", description = "Partner counts per status and per type (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPartnerStats() {
+        try {
+            return ResponseEntity.ok(success("Partner statistics retrieved successfully", partnerService.getPartnerStats()));
+        } catch (Exception e) {
+            log.error("Error getting partner statistics", e);
+            return ResponseEntity.internalServerError()
+                    .body(error("Failed to get partner statistics: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Sort by the requested attribute; id is always the tie-breaker
+     */
+    private Sort resolveSort(String sortBy, Sort.Direction direction) {
+        String property = sortProperty(sortBy);
+        Sort sort = Sort.by(direction, property);
+        return "id".equals(property) ? sort : sort.and(Sort.by(direction, "id"));
+    }
+    
+    /**
+     * Map the legacy sortBy values to entity attributes. The list and /scroll endpoints both
+     * reject anything else with 400; /scroll additionally rejects "email" (not a keyset column).
+     */
+    private String sortProperty(String sortBy) {
+        return switch (sortBy.trim().toLowerCase()) {
+            case "id" -> "id";
+            case "name" -> "name";
+            case "email" -> "email";
+            case "createdat" -> "createdAt";
+            default -> throw new BadRequestException("Invalid sortBy: " + sortBy);
+        };
+    }
+    
+    private Sort.Direction parseDirection(String direction) {
+        return Sort.Direction.fromOptionalString(direction.trim())
+                .orElseThrow(() -> new BadRequestException("Invalid direction: " + direction));
+    }
+    
+    /**
+     * Parse an enum filter; null or "all" means no filter. Matching ignores case and
+     * underscores, so the admin UI's "TourOperator" selects TOUR_OPERATOR.
+     */
+    private <E extends Enum<E>> E parseFilter(Class<E> enumType, String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("all")) {
+            return null;
+        }
+        String wanted = value.trim().replace("_", "");
+        for (E constant : enumType.getEnumConstants()) {
+            if (constant.name().replace("_", "").equalsIgnoreCase(wanted)) {
+                return constant;
+            }
+        }
+        throw new BadRequestException("Invalid " + enumType.getSimpleName() + ": " + value);
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get partner by ID", description = "Get partner details by ID (Admin only)")
     public ResponseEntity<ApiResponse<PartnerResponse>> getPartnerById(@PathVariable Long id) {
@@ -215,9 +253,7 @@ public class AdminPartnerController extends BaseController {
     @Operation(summary = "Get active partners count")
     public ResponseEntity<ApiResponse<Long>> getActivePartnersCount() {
         try {
-            long count = partnerRepository.findAll().stream()
-                .filter(p -> p.getStatus() == Partner.PartnerStatus.ACTIVE)
-                .count();
+            long count = partnerService.countPartnersByStatus(Partner.PartnerStatus.ACTIVE);
             return ResponseEntity.ok(success("Active partners count retrieved successfully", count));
         } catch (Exception e) {
             log.error("Error getting active partners count", e);
@@ -230,9 +266,7 @@ public class AdminPartnerController extends BaseController {
     @Operation(summary = "Get inactive partners count")
     public ResponseEntity<ApiResponse<Long>> getInactivePartnersCount() {
         try {
-            long count = partnerRepository.findAll().stream()
-                .filter(p -> p.getStatus() == Partner.PartnerStatus.INACTIVE)
-                .count();
+            long count = partnerService.countPartnersByStatus(Partner.PartnerStatus.INACTIVE);
             return ResponseEntity.ok(success("Inactive partners count retrieved successfully", count));
         } catch (Exception e) {
             log.error("Error getting inactive partners count", e);
@@ -245,9 +279,7 @@ public class AdminPartnerController extends BaseController {
     @Operation(summary = "Get suspended partners count")
     public ResponseEntity<ApiResponse<Long>> getSuspendedPartnersCount() {
         try {
-            long count = partnerRepository.findAll().stream()
-                .filter(p -> p.getStatus() == Partner.PartnerStatus.SUSPENDED)
-                .count();
+            long count = partnerService.countPartnersByStatus(Partner.PartnerStatus.SUSPENDED);
             return ResponseEntity.ok(success("Suspended partners count retrieved successfully", count));
         } catch (Exception e) {
             log.error("Error getting suspended partners count", e);
@@ -2,7 +2,10 @@ package backend.controller.admin;
 
 import backend.controller.BaseController;
 import backend.dto.response.ApiResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.ReviewResponse;
+import backend.entity.Review;
+import backend.exception.BadRequestException;
 import backend.service.ExportService;
 import backend.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,6 +59,33 @@ public class AdminReviewController extends BaseController {
         }
     }
     
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll reviews", description = "Keyset-paginated review list, newest first; pass nextCursor from the previous response (Admin only)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponse>>> scrollReviews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long tourId,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        try {
+            Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+            Review.ReviewStatus statusFilter = status == null || status.isBlank() || status.equalsIgnoreCase("all")
+                    ? null : Review.ReviewStatus.valueOf(status.trim().toUpperCase());
+            
+            CursorPageResponse<ReviewResponse> reviews = reviewService.scrollReviewsForAdmin(
+                    statusFilter, tourId, sortDirection, cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            return ResponseEntity.ok(success("Reviews retrieved successfully", reviews));
+        } catch (IllegalArgumentException | BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error scrolling reviews", e);
+            return ResponseEntity.internalServerError()
+                    .body(error("Failed to get reviews: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/status/{status}")
     @Operation(summary = "Get reviews by status", description = "Get reviews filtered by status (Admin only)")
     public ResponseEntity<ApiResponse<Page<ReviewResponse>>> getReviewsByStatus(
@@ -2,12 +2,15 @@ package backend.controller.admin;
 
 import backend.controller.BaseController;
 import backend.dto.response.ApiResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.PageResponse;
+import backend.dto.response.SuspiciousUserResponse;
 import backend.dto.response.UserResponse;
 import backend.entity.Role;
 import backend.entity.User;
 import backend.entity.UserActivity;
 import backend.entity.UserSession;
+import backend.exception.BadRequestException;
 import backend.mapper.EntityMapper;
 import backend.repository.RoleRepository;
 import backend.repository.UserRepository;
@@ -15,6 +18,7 @@ import backend.service.UserService;
 import backend.service.UserActivityService;
 import backend.service.UserSessionService;
 import backend.service.ExportService;
+import backend.service.SecurityMonitoringService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -53,6 +57,7 @@ public class AdminUserController extends BaseController {
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final ExportService exportService;
+    private final SecurityMonitoringService securityMonitoringService;
     
     // ================================
     // USER MANAGEMENT
@@ -90,6 +95,40 @@ public class AdminUserController extends BaseController {
         return ResponseEntity.ok(successPage(users));
     }
     
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll users", description = "Keyset-paginated user list, newest first; pass nextCursor from the previous response")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponse<CursorPageResponse<User>>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        try {
+            Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+            User.UserStatus statusFilter = status == null || status.isBlank() || status.equalsIgnoreCase("all")
+                    ? null : User.UserStatus.valueOf(status.trim().toUpperCase());
+            String roleFilter = role == null || role.equalsIgnoreCase("all") ? null : role;
+            
+            CursorPageResponse<User> users = userService.scrollUsersForAdmin(
+                    search, statusFilter, roleFilter, sortDirection, cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            
+            // Force load roles to avoid LazyInitializationException
+            users.getContent().forEach(user -> {
+                if (user.getRole() != null) {
+                    user.getRole().getName();
+                }
+            });
+            
+            return ResponseEntity.ok(success("Users retrieved successfully", users));
+        } catch (IllegalArgumentException | BadRequestException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
     public ResponseEntity<ApiResponse<User>> getUserById(@PathVariable Long id) {
@@ -417,98 +456,15 @@ public class AdminUserController extends BaseController {
     // ================================
     
     @GetMapping("/suspicious-activity")
-    @Operation(summary = "Get users with suspicious activity")
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getSuspiciousActivity() {
+    @Operation(summary = "Get users with suspicious activity",
+               description = "Top users by risk score (sessions, IPs, failed logins, account state)")
+    public ResponseEntity<ApiResponse<List<SuspiciousUserResponse>>> getSuspiciousActivity(
+            @RequestParam(defaultValue = "100") int limit) {
         try {
-            List<Map<String, Object>> suspiciousUsers = new java.util.ArrayList<>();
-            
-            // Get all users
-            Pageable pageable = PageRequest.of(0, 1000, Sort.by(Sort.Direction.DESC, "createdAt"));
-            List<User> allUsers = userService.getAllUsers(pageable).getContent();
-            
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime last7Days = now.minusDays(7);
-            LocalDateTime last24Hours = now.minusDays(1);
-            
-            for (User user : allUsers) {
-                List<String> suspiciousReasons = new java.util.ArrayList<>();
-                int suspicionScore = 0;
-                
-                // Check 1: Banned or Suspended status
-                if (user.getStatus() == User.UserStatus.BANNED) {
-                    suspiciousReasons.add("Account banned");
-                    suspicionScore += 100;
-                } else if (user.getStatus() == User.UserStatus.INACTIVE) {
-                    suspiciousReasons.add("Account inactive");
-                    suspicionScore += 20;
-                }
-                
-                // Check 2: Multiple active sessions from different IPs
-                List<UserSession> userSessions = userSessionService.getActiveSessions().stream()
-                        .filter(s -> s.getUser() != null && s.getUser().getId().equals(user.getId()))
-                        .toList();
-                
-                if (userSessions.size() > 3) {
-                    suspiciousReasons.add(String.format("Multiple active sessions (%d)", userSessions.size()));
-                    suspicionScore += 30;
-                }
-                
-                // Check 3: Multiple different IP locations
-                long distinctIPs = userSessions.stream()
-                        .filter(s -> s.getIpAddress() != null)
-                        .map(UserSession::getIpAddress)
-                        .distinct()
-                        .count();
-                
-                if (distinctIPs > 3) {
-                    suspiciousReasons.add(String.format("Multiple IP addresses (%d)", distinctIPs));
-                    suspicionScore += 40;
-                }
-                
-                // Check 4: Recent account creation (new accounts are often flagged for review)
-                if (user.getCreatedAt() != null && user.getCreatedAt().isAfter(last7Days)) {
-                    suspiciousReasons.add("Recently created account");
-                    suspicionScore += 15;
-                }
-                
-                // Check 5: Multiple sessions from same IP or device
-                // (We can expand this check later with booking data if needed)
-                long sameIPCount = userSessions.stream()
-                        .filter(s -> s.getIpAddress() != null)
-                        .collect(java.util.stream.Collectors.groupingBy(UserSession::getIpAddress, java.util.stream.Collectors.counting()))
-                        .values().stream()
-                        .max(Long::compareTo)
-                        .orElse(0L);
-                
-                if (sameIPCount > 5) {
-                    suspiciousReasons.add(String.format("Multiple sessions from same IP (%d)", sameIPCount));
-                    suspicionScore += 25;
-                }
-                
-                // Only add users with suspicion score >= 30
-                if (suspicionScore >= 30) {
-                    Map<String, Object> suspiciousUser = new java.util.HashMap<>();
-                    suspiciousUser.put("userId", user.getId());
-                    suspiciousUser.put("email", user.getEmail());
-                    suspiciousUser.put("name", user.getName());
-                    suspiciousUser.put("status", user.getStatus().toString());
-                    suspiciousUser.put("createdAt", user.getCreatedAt());
-                    suspiciousUser.put("suspicionScore", suspicionScore);
-                    suspiciousUser.put("reasons", suspiciousReasons);
-                    suspiciousUser.put("activeSessions", userSessions.size());
-                    suspiciousUser.put("distinctIPs", distinctIPs);
-                    
-                    suspiciousUsers.add(suspiciousUser);
-                }
-            }
-            
-            // Sort by suspicion score DESC
-            suspiciousUsers.sort((a, b) -> 
-                Integer.compare((Integer) b.get("suspicionScore"), (Integer) a.get("suspicionScore"))
-            );
+            List<SuspiciousUserResponse> suspiciousUsers = securityMonitoringService.getSuspiciousUsers(limit);
             
             log.info("Found {} users with suspicious activity", suspiciousUsers.size());
-        return ResponseEntity.ok(success("Suspicious activity retrieved", suspiciousUsers));
+            return ResponseEntity.ok(success("Suspicious activity retrieved", suspiciousUsers));
             
         } catch (Exception e) {
             log.error("Error detecting suspicious activity", e);
@@ -527,117 +483,9 @@ public class AdminUserController extends BaseController {
         final LocalDateTime finalEndDate = (endDate == null) ? LocalDateTime.now() : endDate;
         
         try {
-            List<Map<String, Object>> failedAttempts = new java.util.ArrayList<>();
-            
-            // Get failed login activities
-            List<UserActivity> failedLogins = userActivityService
-                    .getActivitiesByType(UserActivity.ActivityType.FAILED_LOGIN).stream()
-                    .filter(a -> a.getCreatedAt() != null && 
-                                 a.getCreatedAt().isAfter(finalStartDate) && 
-                                 a.getCreatedAt().isBefore(finalEndDate))
-                    .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                    .limit(limit)
-                    .toList();
-            
-            // Group by email/IP to detect patterns
-            Map<String, Long> attemptsByEmail = new java.util.HashMap<>();
-            Map<String, Long> attemptsByIP = new java.util.HashMap<>();
-            
-            for (UserActivity activity : failedLogins) {
-                Map<String, Object> attempt = new java.util.HashMap<>();
-                attempt.put("id", activity.getId());
-                attempt.put("timestamp", activity.getCreatedAt());
-                attempt.put("ipAddress", activity.getIpAddress());
-                attempt.put("userAgent", activity.getUserAgent());
-                
-                // Parse activity data (JSON) to get email
-                String activityData = activity.getActivityData();
-                String email = null;
-                if (activityData != null && activityData.contains("email")) {
-                    try {
-                        // Simple JSON parsing for email
-                        int emailStart = activityData.indexOf("\"email\"");
-                        if (emailStart > 0) {
-                            int valueStart = activityData.indexOf(":", emailStart) + 1;
-                            int valueEnd = activityData.indexOf(",", valueStart);
-                            if (valueEnd < 0) valueEnd = activityData.indexOf("}", valueStart);
-                            if (valueStart > 0 && valueEnd > valueStart) {
-                                email = activityData.substring(valueStart, valueEnd)
-                                        .trim()
-                                        .replace("\"", "")
-                                        .replace("'", "");
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.debug("Could not parse email from activity data: {}", e.getMessage());
-                    }
-                }
-                
-                attempt.put("email", email);
-                attempt.put("reason", "Invalid credentials");
-                
-                // Count attempts
-                if (email != null) {
-                    attemptsByEmail.merge(email, 1L, Long::sum);
-                    attempt.put("emailAttemptCount", attemptsByEmail.get(email));
-                }
-                
-                if (activity.getIpAddress() != null) {
-                    attemptsByIP.merge(activity.getIpAddress(), 1L, Long::sum);
-                    attempt.put("ipAttemptCount", attemptsByIP.get(activity.getIpAddress()));
-                }
-                
-                // Flag suspicious patterns
-                boolean suspicious = false;
-                List<String> flags = new java.util.ArrayList<>();
-                
-                if (email != null && attemptsByEmail.get(email) > 5) {
-                    suspicious = true;
-                    flags.add("Multiple attempts on same email");
-                }
-                
-                if (activity.getIpAddress() != null && attemptsByIP.get(activity.getIpAddress()) > 10) {
-                    suspicious = true;
-                    flags.add("Multiple attempts from same IP");
-                }
-                
-                attempt.put("suspicious", suspicious);
-                attempt.put("flags", flags);
-                
-                failedAttempts.add(attempt);
-            }
-            
-            // Add summary statistics
-            Map<String, Object> summary = new java.util.HashMap<>();
-            summary.put("totalAttempts", failedLogins.size());
-            summary.put("uniqueEmails", attemptsByEmail.size());
-            summary.put("uniqueIPs", attemptsByIP.size());
-            summary.put("dateRange", Map.of(
-                    "start", finalStartDate,
-                    "end", finalEndDate
-            ));
-            
-            // Find top offenders
-            List<Map<String, Object>> topEmails = attemptsByEmail.entrySet().stream()
-                    .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                    .limit(5)
-                    .map(e -> Map.of("email", (Object) e.getKey(), "attempts", e.getValue()))
-                    .toList();
-            
-            List<Map<String, Object>> topIPs = attemptsByIP.entrySet().stream()
-                    .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                    .limit(5)
-                    .map(e -> Map.of("ip", (Object) e.getKey(), "attempts", e.getValue()))
-                    .toList();
-            
-            summary.put("topEmails", topEmails);
-            summary.put("topIPs", topIPs);
-            
-            Map<String, Object> response = new java.util.HashMap<>();
-            response.put("attempts", failedAttempts);
-            response.put("summary", summary);
+            Map<String, Object> response = securityMonitoringService.getFailedLoginAttempts(finalStartDate, finalEndDate, limit);
             
-            log.info("Retrieved {} failed login attempts", failedLogins.size());
+            log.info("Retrieved failed login attempts between {} and {}", finalStartDate, finalEndDate);
             return ResponseEntity.ok(success("Failed login attempts retrieved", response));
             
         } catch (Exception e) {
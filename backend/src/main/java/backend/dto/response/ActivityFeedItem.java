@@ -0,0 +1,62 @@
+package backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * One entry of the admin activity feed (booking, review, registration or login).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityFeedItem {
+
+    /**
+     * Feed order: newest first, then by source, then by id (descending).
+     * Matches the ORDER BY of every per-source query so runs can be k-way merged.
+     */
+    public static final Comparator<ActivityFeedItem> NEWEST_FIRST = Comparator
+            .comparing(ActivityFeedItem::getTimestamp, Comparator.reverseOrder())
+            .thenComparing(ActivityFeedItem::getSource)
+            .thenComparing(ActivityFeedItem::getEntityId, Comparator.reverseOrder());
+
+    private String id;              // e.g. "booking_12"
+    private Source source;
+    private Long entityId;
+    private String type;            // BOOKING_CREATED, REVIEW_CREATED, USER_REGISTRATION, USER_LOGIN
+    private String title;
+    private String icon;
+    private String description;
+    private LocalDateTime timestamp;
+    private String status;
+    private Long userId;
+    private String userName;
+    private String userRole;
+    private BigDecimal amount;
+    private String deviceType;
+    private String ipAddress;
+
+    public enum Source {
+        BOOKING("booking"),
+        REVIEW("review"),
+        USER("user"),
+        LOGIN("session");
+
+        private final String key;
+
+        Source(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Response wrapper for keyset (cursor-based) pagination.
+ * Unlike {@link PageResponse} it carries no exact total count, so deep pages cost the same as the first one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;           // Actual data
+    private int size;                  // Requested page size
+    private boolean hasNext;           // Is there another page?
+    private String nextCursor;         // Cursor for the next page (null when last)
+    private Long approximateTotal;     // Estimated row count when requested (null otherwise)
+
+    /**
+     * Build a page from a list fetched with limit = size + 1.
+     * The extra row only signals that another page exists and is dropped.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, size, hasNext, nextCursor, null);
+    }
+
+    /**
+     * Map content to different type while preserving cursor metadata
+     */
+    public <U> CursorPageResponse<U> map(Function<T, U> mapper) {
+        return new CursorPageResponse<>(
+            content.stream().map(mapper).toList(),
+            size,
+            hasNext,
+            nextCursor,
+            approximateTotal
+        );
+    }
+
+    /**
+     * Attach an estimated total (e.g. from table statistics) for display like "about 1.2M bookings"
+     */
+    public CursorPageResponse<T> withApproximateTotal(Long approximateTotal) {
+        this.approximateTotal = approximateTotal;
+        return this;
+    }
+}
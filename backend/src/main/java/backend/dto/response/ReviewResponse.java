@@ -18,6 +18,7 @@ public class ReviewResponse {
     private String comment;
     private String status;
     private Integer helpfulCount;
+    private Boolean votedHelpful;   // Whether the current user voted helpful (only when signed in)
     private List<String> images;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,40 @@
+package backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A user flagged by the risk scoring in the admin security view.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuspiciousUserResponse {
+
+    /**
+     * Highest score first; ties broken by newest account, then id
+     */
+    public static final Comparator<SuspiciousUserResponse> HIGHEST_RISK_FIRST = Comparator
+            .comparingInt(SuspiciousUserResponse::getSuspicionScore).reversed()
+            .thenComparing(SuspiciousUserResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(SuspiciousUserResponse::getUserId, Comparator.reverseOrder());
+
+    private Long userId;
+    private String email;
+    private String name;
+    private String status;
+    private LocalDateTime createdAt;
+    private int suspicionScore;
+    private List<String> reasons;
+    private long activeSessions;
+    private long distinctIPs;
+    private long failedLogins24h;
+    private long failedLogins7d;
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -65,6 +66,9 @@ public class TourResponse {
     
     // Statistics
     private Integer viewCount;
+    private Double averageRating;
+    private Long reviewCount;
+    private Map<Integer, Long> ratingDistribution;   // 1..5 stars -> approved review count
     
     // Weather coordinates
     private Double latitude;
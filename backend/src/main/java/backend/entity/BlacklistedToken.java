@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "blacklisted_tokens", indexes = {
     @Index(name = "idx_blacklisted_tokens_expires_at", columnList = "expires_at"),
-    @Index(name = "idx_blacklisted_tokens_user_email", columnList = "user_email")
+    @Index(name = "idx_blacklisted_tokens_user_email", columnList = "user_email"),
+    @Index(name = "idx_blacklisted_tokens_blacklisted_at", columnList = "blacklisted_at")
 })
 @Data
 @NoArgsConstructor
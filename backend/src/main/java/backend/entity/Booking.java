@@ -19,7 +19,12 @@ import java.util.Set;
     @Index(name = "idx_bookings_tour", columnList = "tour_id"),
     @Index(name = "idx_bookings_confirmation_status", columnList = "confirmation_status"),
     @Index(name = "idx_bookings_payment_status", columnList = "payment_status"),
-    @Index(name = "idx_bookings_start_date", columnList = "start_date")
+    @Index(name = "idx_bookings_start_date", columnList = "start_date"),
+    @Index(name = "idx_bookings_created_at", columnList = "created_at"),
+    // Admin list: filter by status, newest first
+    @Index(name = "idx_bookings_confirmation_created", columnList = "confirmation_status, created_at"),
+    @Index(name = "idx_bookings_payment_created", columnList = "payment_status, created_at"),
+    @Index(name = "idx_bookings_customer_email", columnList = "customer_email")
 })
 @Data
 @NoArgsConstructor
@@ -1,15 +1,20 @@
 package backend.entity;
 
+import backend.config.CacheRegions;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LOYALTY_CONFIG)
 @Table(name = "loyalty_config", indexes = {
     @Index(name = "idx_config_type", columnList = "config_type"),
     @Index(name = "idx_config_active", columnList = "is_active")
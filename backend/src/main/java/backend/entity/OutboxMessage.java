@@ -0,0 +1,68 @@
+package backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A side effect (email, ...) recorded in the same transaction as the change that caused it.
+ * The outbox relay performs it after commit; rows are claimed in batches with claim_token.
+ */
+@Entity
+@Table(name = "outbox_messages", indexes = {
+    @Index(name = "idx_outbox_messages_status_next", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_outbox_messages_claim_token", columnList = "claim_token")
+})
+@Data
+@NoArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String type;                     // OutboxHandler.type()
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;                  // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    public enum Status {
+        PENDING, PROCESSING, SENT, FAILED
+    }
+}
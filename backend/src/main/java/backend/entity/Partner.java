@@ -11,7 +11,13 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "partners")
+@Table(name = "partners", indexes = {
+    @Index(name = "idx_partners_type", columnList = "type"),
+    @Index(name = "idx_partners_status", columnList = "status"),
+    @Index(name = "idx_partners_status_type", columnList = "status, type"),
+    @Index(name = "idx_partners_name", columnList = "name"),
+    @Index(name = "idx_partners_created_at", columnList = "created_at")
+})
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+    @Index(name = "idx_reviews_created_at", columnList = "created_at")
+})
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
@@ -34,7 +36,7 @@ public class Review {
     private Integer helpfulCount = 0; // Số lượt "hữu ích"
     
     @Column(columnDefinition = "TEXT")
-    private String helpfulUserIds; // Comma-separated list of user IDs who voted (e.g., "1,5,12")
+    private String helpfulUserIds; // Legacy comma-separated voter IDs; moved to review_helpful_votes on startup
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
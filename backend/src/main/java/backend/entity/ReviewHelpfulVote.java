@@ -0,0 +1,48 @@
+package backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One "helpful" vote of a user on a review. The unique key makes a vote idempotent;
+ * Review.helpfulCount is moved only when a row is actually inserted or deleted.
+ */
+@Entity
+@Table(name = "review_helpful_votes",
+    indexes = {
+        @Index(name = "idx_review_helpful_votes_user", columnList = "user_id")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_helpful_votes_review_user", columnNames = {"review_id", "user_id"})
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ReviewHelpfulVote {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,26 @@
+package backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter bumped in the same transaction as every system settings write.
+ * Nodes compare it with the version their snapshot was loaded at to pick up each other's changes.
+ */
+@Entity
+@Table(name = "system_settings_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SystemSettingsVersion {
+
+    public static final long ROW_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -1,14 +1,19 @@
 package backend.entity;
 
+import backend.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TARGET_AUDIENCE)
 @Table(name = "target_audiences")
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
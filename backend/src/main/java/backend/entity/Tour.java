@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Entity
@@ -156,13 +158,32 @@ public class Tour {
     @Column(name = "weather_enabled")
     private Boolean weatherEnabled = true; // Bật/tắt hiển thị thời tiết
     
-    // Cached rating fields for performance optimization
-    @Column(name = "average_rating")
+    // Running rating aggregates over approved reviews. Only written by the delta / reconcile
+    // UPDATEs in TourRepository (updatable = false), so saving a tour never overwrites them.
+    @Column(name = "average_rating", updatable = false)
     private Double averageRating = 0.0; // Cached average rating from approved reviews (0.0 - 5.0)
     
-    @Column(name = "review_count")
+    @Column(name = "review_count", updatable = false)
     private Long reviewCount = 0L; // Cached count of approved reviews
     
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum = 0L; // Sum of approved ratings (averageRating = ratingSum / reviewCount)
+    
+    @Column(name = "rating_1_count", nullable = false, updatable = false)
+    private Long rating1Count = 0L;
+    
+    @Column(name = "rating_2_count", nullable = false, updatable = false)
+    private Long rating2Count = 0L;
+    
+    @Column(name = "rating_3_count", nullable = false, updatable = false)
+    private Long rating3Count = 0L;
+    
+    @Column(name = "rating_4_count", nullable = false, updatable = false)
+    private Long rating4Count = 0L;
+    
+    @Column(name = "rating_5_count", nullable = false, updatable = false)
+    private Long rating5Count = 0L;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -253,6 +274,23 @@ public class Tour {
         return deletedAt != null;
     }
     
+    /**
+     * Approved-review histogram keyed by star (1..5), read from the running counters
+     */
+    public Map<Integer, Long> ratingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, nz(rating1Count));
+        distribution.put(2, nz(rating2Count));
+        distribution.put(3, nz(rating3Count));
+        distribution.put(4, nz(rating4Count));
+        distribution.put(5, nz(rating5Count));
+        return distribution;
+    }
+    
+    private static long nz(Long value) {
+        return value != null ? value : 0L;
+    }
+    
     // Helper method to get effective price
     public BigDecimal getEffectivePrice() {
         return salePrice != null ? salePrice : price;
@@ -15,7 +15,8 @@ import java.util.Set;
 @Entity
 @Table(name = "users", indexes = {
     @Index(name = "idx_users_role", columnList = "role_id"),
-    @Index(name = "idx_users_status", columnList = "status")
+    @Index(name = "idx_users_status", columnList = "status"),
+    @Index(name = "idx_users_created_at", columnList = "created_at")
 })
 @Data
 @NoArgsConstructor
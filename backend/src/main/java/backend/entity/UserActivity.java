@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_activities_user_id", columnList = "user_id"),
     @Index(name = "idx_user_activities_type", columnList = "activity_type"),
     @Index(name = "idx_user_activities_created_at", columnList = "created_at"),
+    @Index(name = "idx_user_activities_type_created", columnList = "activity_type, created_at"),
     @Index(name = "idx_user_activities_session", columnList = "session_id")
 })
 @Data
@@ -16,8 +16,10 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_sessions_user_id", columnList = "user_id"),
     @Index(name = "idx_user_sessions_session_id", columnList = "session_id"),
     @Index(name = "idx_user_sessions_active", columnList = "is_active"),
+    @Index(name = "idx_user_sessions_active_user_ip", columnList = "is_active, user_id, ip_address"),
     @Index(name = "idx_user_sessions_last_activity", columnList = "last_activity"),
-    @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at")
+    @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_user_sessions_created_at", columnList = "created_at")
 })
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -0,0 +1,70 @@
+package backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox row for a VNPay IPN. The unique key on (txn_ref, transaction_no) makes repeated
+ * deliveries of the same notification collapse into one row, applied once by the background worker.
+ */
+@Entity
+@Table(name = "vnpay_notifications",
+    uniqueConstraints = @UniqueConstraint(name = "uk_vnpay_notifications_txn", columnNames = {"txn_ref", "transaction_no"}),
+    indexes = @Index(name = "idx_vnpay_notifications_status_next", columnList = "status, next_attempt_at"))
+@Data
+@NoArgsConstructor
+public class VnPayNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "txn_ref", nullable = false, length = 100)
+    private String txnRef;                   // Our payment id
+
+    @Column(name = "transaction_no", nullable = false, length = 100)
+    private String transactionNo;            // VNPay transaction number ("" if absent)
+
+    @Column(name = "response_code", length = 10)
+    private String responseCode;
+
+    @Column(name = "params", nullable = false, columnDefinition = "TEXT")
+    private String params;                   // Signed IPN parameters as JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        receivedAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = receivedAt;
+        }
+    }
+
+    public enum Status {
+        PENDING, PROCESSING, PROCESSED, FAILED
+    }
+}
@@ -0,0 +1,10 @@
+package backend.event;
+
+import backend.dto.response.ActivityFeedItem;
+
+/**
+ * Published by the service layer when something shows up in the admin activity feed.
+ * Only ids are carried; the listener reloads the row after the transaction commits.
+ */
+public record ActivityFeedEvent(ActivityFeedItem.Source source, Long entityId) {
+}
@@ -0,0 +1,10 @@
+package backend.event;
+
+import java.util.Set;
+
+/**
+ * Published by SystemSettingService when settings are written; once the transaction commits
+ * the in-memory snapshot is reloaded and SystemSettingsListeners are notified.
+ */
+public record SystemSettingsChangedEvent(Set<String> keys) {
+}
@@ -0,0 +1,77 @@
+package backend.event;
+
+import backend.entity.Tour;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Published by TourService whenever a tour is created, updated, featured, re-statused or deleted.
+ * Carries the cache-relevant state before and after the change so listeners can evict
+ * exactly the affected keys instead of flushing whole caches.
+ */
+public record TourChangedEvent(Long tourId, State before, State after) {
+
+    /**
+     * Cache-relevant snapshot of a tour; null on the side that does not exist (create / delete)
+     */
+    public record State(String slug, Long categoryId, String destination, boolean featured, Tour.TourStatus status) {
+
+        public static State of(Tour tour) {
+            if (tour == null) {
+                return null;
+            }
+            return new State(
+                tour.getSlug(),
+                tour.getCategory() != null ? tour.getCategory().getId() : null,
+                tour.getDestination(),
+                Boolean.TRUE.equals(tour.getIsFeatured()),
+                tour.getStatus()
+            );
+        }
+    }
+
+    public static TourChangedEvent created(Tour tour) {
+        return new TourChangedEvent(tour.getId(), null, State.of(tour));
+    }
+
+    public static TourChangedEvent updated(Long tourId, State before, Tour after) {
+        return new TourChangedEvent(tourId, before, State.of(after));
+    }
+
+    public static TourChangedEvent deleted(Long tourId, State before) {
+        return new TourChangedEvent(tourId, before, null);
+    }
+
+    public Set<String> slugs() {
+        return collect(State::slug);
+    }
+
+    public Set<Long> categoryIds() {
+        return collect(State::categoryId);
+    }
+
+    public Set<String> destinations() {
+        return collect(State::destination);
+    }
+
+    /**
+     * Featured list changes if the tour was or is featured
+     */
+    public boolean affectsFeatured() {
+        return (before != null && before.featured()) || (after != null && after.featured());
+    }
+
+    private <T> Set<T> collect(Function<State, T> getter) {
+        Set<T> values = new LinkedHashSet<>();
+        if (before != null) {
+            values.add(getter.apply(before));
+        }
+        if (after != null) {
+            values.add(getter.apply(after));
+        }
+        values.remove(null);
+        return values;
+    }
+}
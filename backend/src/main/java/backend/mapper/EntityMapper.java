@@ -117,6 +117,9 @@ public class EntityMapper {
         
         // Statistics
         response.setViewCount(tour.getViewCount());
+        response.setAverageRating(tour.getAverageRating());
+        response.setReviewCount(tour.getReviewCount());
+        response.setRatingDistribution(tour.ratingDistribution());
         
         // Weather coordinates
         response.setLatitude(tour.getLatitude());
@@ -287,7 +290,10 @@ public class EntityMapper {
     }
     
     // ========== BOOKING MAPPING ==========
-    public BookingResponse toBookingResponse(Booking booking) {
+    /**
+     * Booking without itineraries, for lists and exports: touches only tour, user and schedule
+     */
+    public BookingResponse toBookingSummaryResponse(Booking booking) {
         if (booking == null) return null;
         
         BookingResponse response = new BookingResponse();
@@ -382,6 +388,13 @@ public class EntityMapper {
             response.setSchedule(scheduleInfo);
         }
         
+        return response;
+    }
+    
+    public BookingResponse toBookingResponse(Booking booking) {
+        BookingResponse response = toBookingSummaryResponse(booking);
+        if (response == null) return null;
+        
         // Itineraries from Tour
         if (booking.getTour() != null && booking.getTour().getItineraries() != null) {
             try {
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,6 +24,12 @@ public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTok
      */
     Optional<BlacklistedToken> findByToken(String token);
     
+    /**
+     * Tokens revoked since the given time, for invalidating other nodes' verified-token caches
+     */
+    @Query("SELECT bt.token FROM BlacklistedToken bt WHERE bt.blacklistedAt >= :since")
+    List<String> findTokensBlacklistedSince(@Param("since") LocalDateTime since);
+    
     /**
      * Delete expired tokens (cleanup)
      */
@@ -7,6 +7,7 @@ import backend.entity.Booking.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,7 +19,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
     
     /**
      * Find booking by booking code
@@ -204,4 +205,17 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
            "GROUP BY t.category.id " +
            "ORDER BY COUNT(b) DESC")
     List<Long> findCategoryIdsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Activity feed: newest bookings created after :since and strictly before the (before, beforeId) cursor.
+     * Served by the created_at index; pass PageRequest.of(0, n) to get a top-N without COUNT.
+     */
+    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.tour LEFT JOIN FETCH b.user " +
+           "WHERE b.createdAt >= :since " +
+           "AND (b.createdAt < :before OR (b.createdAt = :before AND b.id < :beforeId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findFeedPage(@Param("since") LocalDateTime since,
+                               @Param("before") LocalDateTime before,
+                               @Param("beforeId") Long beforeId,
+                               Pageable pageable);
 }
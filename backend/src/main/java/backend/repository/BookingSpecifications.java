@@ -0,0 +1,140 @@
+package backend.repository;
+
+import backend.entity.Booking;
+import backend.entity.Payment;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+/**
+ * Specifications for admin booking queries.
+ */
+public final class BookingSpecifications {
+
+    /**
+     * A whole booking code: CodeGenerator's BK + 13 Crockford base32 chars + check character,
+     * or the older BK + 9 to 11 digits. Anything shorter (e.g. "Bkhanh") is free text.
+     */
+    private static final Pattern BOOKING_CODE = Pattern.compile("(?i)BK(?:[0-9A-HJKMNP-TV-Z]{14}|[0-9]{9,11})");
+
+    /** Not a backslash: that needs escaping itself inside MySQL string literals */
+    private static final char LIKE_ESCAPE = '!';
+
+    private BookingSpecifications() {
+    }
+
+    /**
+     * Search by booking code, customer name or customer email.
+     * A complete booking code or an email is matched as a prefix on that column alone,
+     * which can use its index; anything else is a case-insensitive contains over all three.
+     * % and _ in the term are matched literally.
+     */
+    public static Specification<Booking> matchesSearch(String search) {
+        return (root, query, cb) -> {
+            if (search == null || search.isBlank()) {
+                return null;
+            }
+            String term = search.trim();
+            if (BOOKING_CODE.matcher(term).matches()) {
+                return cb.like(root.get("bookingCode"), escapeLike(term.toUpperCase()) + "%", LIKE_ESCAPE);
+            }
+            if (term.indexOf('@') > 0) {
+                return cb.like(root.get("customerEmail"), escapeLike(term.toLowerCase()) + "%", LIKE_ESCAPE);
+            }
+            String pattern = "%" + escapeLike(term.toLowerCase()) + "%";
+            return cb.or(
+                cb.like(cb.lower(root.get("bookingCode")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("customerName")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("customerEmail")), pattern, LIKE_ESCAPE)
+            );
+        };
+    }
+
+    /**
+     * Escape LIKE wildcards (and the escape character itself) for use with LIKE_ESCAPE
+     */
+    static String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    public static Specification<Booking> hasConfirmationStatus(Booking.ConfirmationStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("confirmationStatus"), status);
+    }
+
+    public static Specification<Booking> hasPaymentStatus(Booking.PaymentStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("paymentStatus"), status);
+    }
+
+    public static Specification<Booking> createdSince(LocalDateTime since) {
+        return (root, query, cb) -> since == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), since);
+    }
+
+    public static Specification<Booking> hasTour(Long tourId) {
+        return (root, query, cb) -> tourId == null ? null : cb.equal(root.get("tour").get("id"), tourId);
+    }
+
+    /**
+     * Bookings with at least one payment made with the given method (case-insensitive)
+     */
+    public static Specification<Booking> hasPaymentMethod(String paymentMethod) {
+        return (root, query, cb) -> {
+            if (paymentMethod == null || paymentMethod.isBlank() || paymentMethod.equalsIgnoreCase("all")) {
+                return null;
+            }
+            Subquery<Long> payments = query.subquery(Long.class);
+            Root<Payment> payment = payments.from(Payment.class);
+            payments.select(payment.get("id")).where(
+                cb.equal(payment.get("booking"), root),
+                cb.equal(cb.lower(payment.get("paymentMethod")), paymentMethod.trim().toLowerCase())
+            );
+            return cb.exists(payments);
+        };
+    }
+
+    /**
+     * Cancellation requests are managed in /admin/cancellations, never in the booking list
+     */
+    public static Specification<Booking> notCancellationRequested() {
+        return (root, query, cb) -> cb.notEqual(root.get("confirmationStatus"), Booking.ConfirmationStatus.CANCELLATION_REQUESTED);
+    }
+
+    /**
+     * Fetch tour, user and schedule in the same query so mapping a page costs no extra selects.
+     * Skipped for the count query of a Page, where fetch joins are not allowed.
+     */
+    public static Specification<Booking> fetchListAssociations() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("tour", JoinType.LEFT);
+                root.fetch("user", JoinType.LEFT);
+                root.fetch("schedule", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Combine admin list filters; null arguments are ignored
+     */
+    public static Specification<Booking> adminFilter(String search, Booking.ConfirmationStatus confirmationStatus,
+                                                     Booking.PaymentStatus paymentStatus, LocalDateTime createdSince) {
+        return adminFilter(search, confirmationStatus, paymentStatus, createdSince, null, null);
+    }
+
+    public static Specification<Booking> adminFilter(String search, Booking.ConfirmationStatus confirmationStatus,
+                                                     Booking.PaymentStatus paymentStatus, LocalDateTime createdSince,
+                                                     Long tourId, String paymentMethod) {
+        return Specification.allOf(
+                notCancellationRequested(),
+                matchesSearch(search),
+                hasConfirmationStatus(confirmationStatus),
+                hasPaymentStatus(paymentStatus),
+                createdSince(createdSince),
+                hasTour(tourId),
+                hasPaymentMethod(paymentMethod));
+    }
+}
@@ -0,0 +1,27 @@
+package backend.repository;
+
+import backend.entity.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    /**
+     * Invalidations written by other nodes since the given time, oldest first
+     */
+    @Query("SELECT ci FROM CacheInvalidation ci WHERE ci.createdAt >= :since AND ci.originNode <> :node ORDER BY ci.id")
+    List<CacheInvalidation> findFromOtherNodesSince(@Param("since") LocalDateTime since, @Param("node") String node);
+
+    @Modifying
+    @Transactional                           // Called from the sync job, outside any service transaction
+    @Query("DELETE FROM CacheInvalidation ci WHERE ci.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
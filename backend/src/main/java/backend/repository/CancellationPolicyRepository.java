@@ -2,10 +2,13 @@ package backend.repository;
 
 import backend.entity.CancellationPolicy;
 import backend.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +19,7 @@ import java.util.Optional;
 public interface CancellationPolicyRepository extends JpaRepository<CancellationPolicy, Long> {
 
     // Find active policies
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CancellationPolicy> findByStatusOrderByPriorityDesc(CancellationPolicy.PolicyStatus status);
 
     // Find policies by type
@@ -31,6 +35,7 @@ public interface CancellationPolicyRepository extends JpaRepository<Cancellation
     );
 
     // Find default policies (no category restriction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CancellationPolicy> findByCategoryIsNullAndStatusOrderByPriorityDesc(
             CancellationPolicy.PolicyStatus status
     );
@@ -42,6 +47,7 @@ public interface CancellationPolicyRepository extends JpaRepository<Cancellation
         AND (cp.category = :category OR cp.category IS NULL)
         ORDER BY cp.category DESC NULLS LAST, cp.priority DESC
         """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CancellationPolicy> findApplicablePolicies(
             @Param("status") CancellationPolicy.PolicyStatus status,
             @Param("category") Category category
@@ -55,6 +61,7 @@ public interface CancellationPolicyRepository extends JpaRepository<Cancellation
         ORDER BY cp.category DESC NULLS LAST, cp.priority DESC
         LIMIT 1
         """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CancellationPolicy> findBestMatchingPolicy(
             @Param("status") CancellationPolicy.PolicyStatus status,
             @Param("category") Category category
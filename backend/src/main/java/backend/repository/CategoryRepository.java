@@ -1,11 +1,14 @@
 package backend.repository;
 
-import backend.entity.Category;
 import backend.entity.Category.CategoryStatus;
+import backend.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,16 +21,19 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     /**
      * Find category by slug
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findBySlug(String slug);
     
     /**
      * Find categories by status
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByStatus(CategoryStatus status);
     
     /**
      * Find active categories only
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByStatusOrderByNameAsc(CategoryStatus status);
     
     /**
@@ -1,8 +1,11 @@
 package backend.repository;
 
 import backend.entity.Country;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,7 @@ import java.util.Optional;
 @Repository
 public interface CountryRepository extends JpaRepository<Country, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Country> findByCode(String code);
 
     List<Country> findByContinent(Country.Continent continent);
@@ -20,6 +24,7 @@ public interface CountryRepository extends JpaRepository<Country, Long> {
     List<Country> findByVisaRequired(@Param("visaRequired") Boolean visaRequired);
 
     @Query("SELECT c FROM Country c ORDER BY c.name ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Country> findAllOrderByName();
 
     @Query("SELECT DISTINCT c.continent FROM Country c ORDER BY c.continent")
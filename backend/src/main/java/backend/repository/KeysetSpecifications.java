@@ -0,0 +1,101 @@
+package backend.repository;
+
+import backend.dto.response.CursorPageResponse;
+import backend.exception.BadRequestException;
+import backend.util.KeysetCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over (createdAt, id) for any entity that has both attributes.
+ * Newest-first admin lists use this so page N costs one index range scan, like page 1.
+ *
+ * created_at is nullable in most legacy tables. MySQL (and H2) sort NULL below every value,
+ * so rows without a timestamp come last in DESC order and first in ASC order; the seek
+ * predicate follows the same order instead of dropping them.
+ */
+public final class KeysetSpecifications {
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * Seek predicate: rows strictly after (createdAt, id) in the given direction.
+     * A null id means the first page; a null createdAt with an id is a row without a timestamp.
+     */
+    public static <T> Specification<T> createdAfter(LocalDateTime createdAt, Long id, Sort.Direction direction) {
+        return (root, query, cb) -> id == null
+                ? null
+                : seekAfter(cb, root.get("createdAt"), createdAt, root.get("id"), id, direction);
+    }
+
+    /**
+     * (key, id) strictly after (value, afterId) in the given direction, with NULL keys
+     * ordered below every value as the database does
+     */
+    public static <C extends Comparable<? super C>> Predicate seekAfter(CriteriaBuilder cb, Path<C> key, C value,
+                                                                        Path<Long> idPath, Long afterId,
+                                                                        Sort.Direction direction) {
+        boolean desc = direction == Sort.Direction.DESC;
+        Predicate idAfter = desc ? cb.lessThan(idPath, afterId) : cb.greaterThan(idPath, afterId);
+        if (value == null) {
+            Predicate sameKey = cb.and(cb.isNull(key), idAfter);
+            return desc ? sameKey : cb.or(cb.isNotNull(key), sameKey);
+        }
+        Predicate after = cb.or(
+            desc ? cb.lessThan(key, value) : cb.greaterThan(key, value),
+            cb.and(cb.equal(key, value), idAfter)
+        );
+        return desc ? cb.or(after, cb.isNull(key)) : after;
+    }
+
+    /**
+     * (createdAt, id) in the given direction; id breaks ties between rows created in the same instant
+     */
+    public static Sort createdAtSort(Sort.Direction direction) {
+        return Sort.by(direction, "createdAt").and(Sort.by(direction, "id"));
+    }
+
+    public static KeysetCursor cursorOf(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt != null ? createdAt.toString() : null, id);
+    }
+
+    /**
+     * Fetch one page after the given cursor token.
+     * Reads size + 1 rows to know whether another page exists, so no COUNT query is run.
+     */
+    public static <T> CursorPageResponse<T> scroll(
+        JpaSpecificationExecutor<T> repository,
+        Specification<T> filter,
+        String cursor,
+        Sort.Direction direction,
+        int size,
+        Function<T, LocalDateTime> createdAt,
+        Function<T, Long> id
+    ) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        LocalDateTime after = null;
+        Long afterId = null;
+        if (position != null) {
+            try {
+                after = position.key() != null ? LocalDateTime.parse(position.key()) : null;
+                afterId = position.id();
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+        Specification<T> spec = Specification.allOf(filter, createdAfter(after, afterId, direction));
+        Sort sort = createdAtSort(direction);
+        List<T> rows = repository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+        return CursorPageResponse.of(rows, size, row -> cursorOf(createdAt.apply(row), id.apply(row)).encode());
+    }
+}
@@ -1,9 +1,12 @@
 package backend.repository;
 
-import backend.entity.LoyaltyConfig;
 import backend.entity.LoyaltyConfig.ConfigType;
+import backend.entity.LoyaltyConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +19,7 @@ public interface LoyaltyConfigRepository extends JpaRepository<LoyaltyConfig, Lo
     /**
      * Find config by key
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<LoyaltyConfig> findByConfigKey(String configKey);
     
     /**
@@ -27,18 +31,21 @@ public interface LoyaltyConfigRepository extends JpaRepository<LoyaltyConfig, Lo
      * Find active configs
      */
     @Query("SELECT lc FROM LoyaltyConfig lc WHERE lc.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LoyaltyConfig> findActiveConfigs();
     
     /**
      * Find active configs by type
      */
     @Query("SELECT lc FROM LoyaltyConfig lc WHERE lc.configType = :type AND lc.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LoyaltyConfig> findActiveConfigsByType(@Param("type") ConfigType type);
     
     /**
      * Get config value by key
      */
     @Query("SELECT lc.configValue FROM LoyaltyConfig lc WHERE lc.configKey = :key AND lc.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<String> getConfigValue(@Param("key") String key);
     
     /**
@@ -0,0 +1,79 @@
+package backend.repository;
+
+import backend.entity.OutboxMessage;
+import backend.entity.OutboxMessage.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox rows. Claiming is a conditional UPDATE tagged with a per-batch token, so relays on
+ * several nodes never deliver the same row twice.
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    @Query("SELECT m.id FROM OutboxMessage m WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt, m.id")
+    List<Long> findDueIds(@Param("status") Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional                           // Called from the relay, outside any service transaction
+    @Query("UPDATE OutboxMessage m SET m.status = :processing, m.claimToken = :token, m.claimedAt = :now " +
+           "WHERE m.id IN :ids AND m.status = :pending")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("pending") Status pending,
+              @Param("processing") Status processing, @Param("now") LocalDateTime now);
+
+    /**
+     * Read on the primary: the rows were claimed a moment ago
+     */
+    @Transactional
+    @Query("SELECT m FROM OutboxMessage m WHERE m.claimToken = :token AND m.status = :status")
+    List<OutboxMessage> findClaimed(@Param("token") String token, @Param("status") Status status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxMessage m SET m.status = :status, m.processedAt = :now, m.lastError = NULL WHERE m.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") Status status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxMessage m SET m.status = :status, m.attempts = m.attempts + 1, " +
+           "m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    int markAttemptFailed(@Param("id") Long id, @Param("status") Status status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Hand rows whose relay died mid-batch back to the queue
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxMessage m SET m.status = :pending WHERE m.status = :processing AND m.claimedAt < :before")
+    int releaseStale(@Param("processing") Status processing, @Param("pending") Status pending,
+                     @Param("before") LocalDateTime before);
+
+    /**
+     * Put dead-lettered rows back in the queue with a fresh attempt budget
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxMessage m SET m.status = :pending, m.attempts = 0, m.nextAttemptAt = :now WHERE m.status = :failed")
+    int requeueFailed(@Param("failed") Status failed, @Param("pending") Status pending, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxMessage m WHERE m.status = :status AND m.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") Status status, @Param("before") LocalDateTime before);
+
+    long countByStatus(Status status);
+
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMessage m WHERE m.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") Status status);
+}
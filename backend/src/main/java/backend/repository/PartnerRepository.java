@@ -5,6 +5,7 @@ import backend.entity.Partner.PartnerType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PartnerRepository extends JpaRepository<Partner, Long> {
+public interface PartnerRepository extends JpaRepository<Partner, Long>, JpaSpecificationExecutor<Partner> {
     
     /**
      * Find partner by slug
@@ -52,6 +53,23 @@ public interface PartnerRepository extends JpaRepository<Partner, Long> {
      */
     long countByType(PartnerType type);
     
+    /**
+     * Count partners by status
+     */
+    long countByStatus(Partner.PartnerStatus status);
+    
+    /**
+     * Count partners grouped by status (one query for all statuses)
+     */
+    @Query("SELECT p.status, COUNT(p) FROM Partner p GROUP BY p.status")
+    List<Object[]> countGroupByStatus();
+    
+    /**
+     * Count partners grouped by type (one query for all types)
+     */
+    @Query("SELECT p.type, COUNT(p) FROM Partner p GROUP BY p.type")
+    List<Object[]> countGroupByType();
+    
     /**
      * Find partners with tour itineraries count
      */
@@ -0,0 +1,103 @@
+package backend.repository;
+
+import backend.entity.Partner;
+import backend.util.KeysetCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Specifications for admin partner queries.
+ * Every filter is pushed down to SQL so the list endpoint never loads the whole table.
+ */
+public final class PartnerSpecifications {
+
+    /**
+     * Columns allowed as keyset sort keys (indexed; created_at may be NULL in old rows)
+     */
+    public static final Set<String> KEYSET_SORT_FIELDS = Set.of("id", "name", "createdAt");
+
+    private PartnerSpecifications() {
+    }
+
+    /**
+     * Search by name or email (case-insensitive, contains)
+     */
+    public static Specification<Partner> matchesSearch(String search) {
+        return (root, query, cb) -> {
+            if (search == null || search.isBlank()) {
+                return null;
+            }
+            String pattern = "%" + search.trim().toLowerCase() + "%";
+            return cb.or(
+                cb.like(cb.lower(root.get("name")), pattern),
+                cb.like(cb.lower(root.get("email")), pattern)
+            );
+        };
+    }
+
+    public static Specification<Partner> hasStatus(Partner.PartnerStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Partner> hasType(Partner.PartnerType type) {
+        return (root, query, cb) -> type == null ? null : cb.equal(root.get("type"), type);
+    }
+
+    /**
+     * Combine admin list filters; null arguments are ignored
+     */
+    public static Specification<Partner> adminFilter(String search, Partner.PartnerStatus status, Partner.PartnerType type) {
+        return Specification.allOf(matchesSearch(search), hasStatus(status), hasType(type));
+    }
+
+    /**
+     * Seek predicate: rows strictly after the cursor in (sortField, id) order.
+     * The cursor key is parsed here rather than at query time, so a malformed key
+     * surfaces to the caller as a DateTimeParseException.
+     */
+    public static Specification<Partner> after(KeysetCursor cursor, String sortField, Sort.Direction direction) {
+        if (cursor == null) {
+            return (root, query, cb) -> null;
+        }
+        boolean desc = direction == Sort.Direction.DESC;
+        LocalDateTime createdKey = "createdAt".equals(sortField) && cursor.key() != null
+                ? LocalDateTime.parse(cursor.key())
+                : null;
+        String nameKey = cursor.key() != null ? cursor.key() : "";
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            var idAfter = desc ? cb.lessThan(idPath, cursor.id()) : cb.greaterThan(idPath, cursor.id());
+
+            switch (sortField) {
+                case "name" -> {
+                    Path<String> namePath = root.get("name");
+                    return cb.or(
+                        desc ? cb.lessThan(namePath, nameKey) : cb.greaterThan(namePath, nameKey),
+                        cb.and(cb.equal(namePath, nameKey), idAfter)
+                    );
+                }
+                case "createdAt" -> {
+                    return KeysetSpecifications.seekAfter(cb, root.get("createdAt"), createdKey, idPath, cursor.id(), direction);
+                }
+                default -> {
+                    return idAfter;
+                }
+            }
+        };
+    }
+
+    /**
+     * Cursor pointing at the given partner for the given sort field
+     */
+    public static KeysetCursor cursorOf(Partner partner, String sortField) {
+        return switch (sortField) {
+            case "name" -> new KeysetCursor(partner.getName(), partner.getId());
+            case "createdAt" -> KeysetSpecifications.cursorOf(partner.getCreatedAt(), partner.getId());
+            default -> new KeysetCursor(null, partner.getId());
+        };
+    }
+}
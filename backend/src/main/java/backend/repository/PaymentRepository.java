@@ -2,10 +2,13 @@ package backend.repository;
 
 import backend.entity.Payment;
 import backend.entity.Payment.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -20,6 +23,14 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     List<Payment> findByBookingIdOrderByCreatedAtDesc(Long bookingId);
     
+    /**
+     * findById that always reads the primary: a read-write transaction is never routed to a
+     * read replica, so a payment created a moment ago (or just completed) is visible
+     */
+    @Transactional                           // Called from the IPN endpoint, outside any service transaction
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdOnPrimary(@Param("id") Long id);
+    
     /**
      * Find payment by transaction ID
      */
@@ -92,4 +103,12 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
            "LEFT JOIN FETCH b.promotion pr " +
            "WHERE p.id = :paymentId")
     Optional<Payment> findByIdWithBookingDetails(@Param("paymentId") Long paymentId);
+    
+    /**
+     * Find payment by ID and lock the row until the transaction ends, so concurrent
+     * provider notifications for the same payment are applied one after the other
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :paymentId")
+    Optional<Payment> findByIdForUpdate(@Param("paymentId") Long paymentId);
 }
@@ -6,6 +6,7 @@ import backend.entity.PointTransaction.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long>, JpaSpecificationExecutor<PointTransaction> {
     
     /**
      * Find transactions by user ID with pagination
@@ -14,9 +14,9 @@ import java.util.Optional;
 public interface ReferralRepository extends JpaRepository<Referral, Long> {
     
     /**
-     * Find referral by code
+     * Find a referral made with the code (a referrer's code is shared by all their referees)
      */
-    Optional<Referral> findByReferralCode(String referralCode);
+    Optional<Referral> findFirstByReferralCode(String referralCode);
     
     /**
      * Find referrals by referrer ID
@@ -0,0 +1,54 @@
+package backend.repository;
+
+import backend.entity.ReviewHelpfulVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewHelpfulVoteRepository extends JpaRepository<ReviewHelpfulVote, Long> {
+    
+    /**
+     * Record a vote unless it already exists
+     * @return 1 if the vote was inserted, 0 if the user had already voted
+     */
+    @Modifying
+    @Transactional                           // Also called from the legacy migration, outside any service transaction
+    @Query(value = "INSERT IGNORE INTO review_helpful_votes (review_id, user_id, created_at) " +
+                   "VALUES (:reviewId, :userId, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIfAbsent(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
+    
+    /**
+     * Remove a vote
+     * @return 1 if the vote existed, 0 otherwise
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewHelpfulVote v WHERE v.reviewId = :reviewId AND v.userId = :userId")
+    int deleteVote(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
+    
+    /**
+     * Which of the given reviews the user has voted helpful (one query for a whole page)
+     */
+    @Query("SELECT v.reviewId FROM ReviewHelpfulVote v WHERE v.userId = :userId AND v.reviewId IN :reviewIds")
+    List<Long> findVotedReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
+    
+    /**
+     * Delete all votes of a review
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewHelpfulVote v WHERE v.reviewId = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+    
+    /**
+     * Delete all votes on reviews of a tour
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewHelpfulVote v WHERE v.reviewId IN (SELECT r.id FROM Review r WHERE r.tour.id = :tourId)")
+    int deleteByTourId(@Param("tourId") Long tourId);
+}
@@ -5,15 +5,18 @@ import backend.entity.Review.ReviewStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, JpaSpecificationExecutor<Review> {
     
     /**
      * Find reviews by tour ID
@@ -75,6 +78,42 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.tour.id = :tourId AND r.status = :status GROUP BY r.rating")
     List<Object[]> countReviewsByRatingForTour(@Param("tourId") Long tourId, @Param("status") ReviewStatus status);
     
+    /**
+     * Count reviews by tour and rating (tourId, rating, count), for reconciling the tour aggregates
+     */
+    @Query("SELECT r.tour.id, r.rating, COUNT(r) FROM Review r WHERE r.status = :status GROUP BY r.tour.id, r.rating")
+    List<Object[]> countReviewsByTourAndRating(@Param("status") ReviewStatus status);
+    
+    /**
+     * Atomically add one helpful vote to the counter
+     */
+    @Modifying
+    @Query("UPDATE Review r SET r.helpfulCount = COALESCE(r.helpfulCount, 0) + 1 WHERE r.id = :reviewId")
+    int incrementHelpfulCount(@Param("reviewId") Long reviewId);
+    
+    /**
+     * Atomically remove one helpful vote from the counter (never below zero)
+     */
+    @Modifying
+    @Query("UPDATE Review r SET r.helpfulCount = r.helpfulCount - 1 WHERE r.id = :reviewId AND r.helpfulCount > 0")
+    int decrementHelpfulCount(@Param("reviewId") Long reviewId);
+    
+    /**
+     * Reviews still carrying the legacy comma-separated voter list (id, helpfulUserIds), by ascending id
+     */
+    @Transactional                           // Read on the primary: the migration re-reads rows it just cleared
+    @Query("SELECT r.id, r.helpfulUserIds FROM Review r WHERE r.helpfulUserIds IS NOT NULL AND r.id > :afterId ORDER BY r.id")
+    List<Object[]> findLegacyHelpfulVoters(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * Recount helpful votes from the vote table and drop the legacy voter list
+     */
+    @Modifying
+    @Transactional                           // Called from the legacy migration, outside any service transaction
+    @Query("UPDATE Review r SET r.helpfulUserIds = NULL, r.helpfulCount = " +
+           "(SELECT COUNT(v) FROM ReviewHelpfulVote v WHERE v.reviewId = r.id) WHERE r.id = :reviewId")
+    int finishLegacyHelpfulMigration(@Param("reviewId") Long reviewId);
+    
     /**
      * Find review by booking ID
      */
@@ -164,4 +203,17 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     @Query("SELECT r FROM Review r LEFT JOIN r.user LEFT JOIN r.tour WHERE r.rating <= 2 ORDER BY r.createdAt DESC")
     Page<Review> findNegativeReviews(Pageable pageable);
+    
+    /**
+     * Activity feed: newest reviews created after :since and strictly before the (before, beforeId) cursor.
+     * Served by the created_at index; pass PageRequest.of(0, n) to get a top-N without COUNT.
+     */
+    @Query("SELECT r FROM Review r LEFT JOIN FETCH r.user " +
+           "WHERE r.createdAt >= :since " +
+           "AND (r.createdAt < :before OR (r.createdAt = :before AND r.id < :beforeId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFeedPage(@Param("since") LocalDateTime since,
+                              @Param("before") LocalDateTime before,
+                              @Param("beforeId") Long beforeId,
+                              Pageable pageable);
 }
@@ -1,8 +1,11 @@
 package backend.repository;
 
 import backend.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,6 +16,7 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     /**
      * Find role by name
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
     
     /**
@@ -24,5 +28,6 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      * Find role by name (case insensitive)
      */
     @Query("SELECT r FROM Role r WHERE LOWER(r.name) = LOWER(:name)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByNameIgnoreCase(String name);
 }
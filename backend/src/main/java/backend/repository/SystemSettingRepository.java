@@ -1,18 +1,35 @@
 package backend.repository;
 
 import backend.entity.SystemSetting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SystemSettingRepository extends JpaRepository<SystemSetting, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SystemSetting> findByKey(String key);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SystemSetting> findByCategory(String category);
     
     boolean existsByKey(String key);
+    
+    List<SystemSetting> findByKeyIn(Collection<String> keys);
+    
+    /**
+     * findAll on the primary, for the settings snapshot: a replica may still miss the latest write
+     */
+    @Transactional                           // Read-write: never routed to a read replica
+    @Query("SELECT s FROM SystemSetting s")
+    List<SystemSetting> findAllOnPrimary();
 }
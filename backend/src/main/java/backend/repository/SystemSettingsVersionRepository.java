@@ -0,0 +1,25 @@
+package backend.repository;
+
+import backend.entity.SystemSettingsVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface SystemSettingsVersionRepository extends JpaRepository<SystemSettingsVersion, Long> {
+    
+    /**
+     * @return 0 if the counter row does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE SystemSettingsVersion v SET v.version = v.version + 1 WHERE v.id = 1")
+    int increment();
+    
+    @Transactional                           // Read-write: never routed to a read replica
+    @Query("SELECT v.version FROM SystemSettingsVersion v WHERE v.id = 1")
+    Optional<Long> findCurrent();
+}
@@ -0,0 +1,38 @@
+package backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Row-count estimates from the storage engine's table statistics.
+ * InnoDB answers TABLE_ROWS from sampled statistics without scanning, so this is O(1) where
+ * COUNT(*) on a multi-million-row table is a full index scan. Good for "about N rows", not exact.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class TableStatisticsRepository {
+
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Estimated number of rows in the table, or null when the database has no such statistic (e.g. H2)
+     */
+    public Long approximateRowCount(String tableName) {
+        try {
+            List<Long> rows = jdbcTemplate.queryForList(ESTIMATE_SQL, Long.class, tableName);
+            return rows.isEmpty() ? null : rows.get(0);
+        } catch (DataAccessException e) {
+            log.debug("No row estimate for table {}: {}", tableName, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package backend.repository;
 
 import backend.entity.TargetAudience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,11 +18,13 @@ public interface TargetAudienceRepository extends JpaRepository<TargetAudience,
     /**
      * Find target audience by name
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TargetAudience> findByName(String name);
     
     /**
      * Find all target audiences ordered by name
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TargetAudience> findAllByOrderByNameAsc();
     
     /**
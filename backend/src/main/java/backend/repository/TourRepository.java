@@ -1,13 +1,16 @@
 package backend.repository;
 
+import backend.entity.Review;
 import backend.entity.Tour;
 import backend.entity.Tour.TourStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -176,6 +179,15 @@ public interface TourRepository extends JpaRepository<Tour, Long> {
            "     ELSE 'Unknown' END")
     List<String> findDistinctLocations(@Param("status") TourStatus status);
     
+    /**
+     * Coordinates of active tours that show weather (latitude, longitude, destination)
+     * Used to pre-warm the weather cache
+     */
+    @Query("SELECT DISTINCT t.latitude, t.longitude, t.destination FROM Tour t " +
+           "WHERE t.status = :status AND t.deletedAt IS NULL AND t.weatherEnabled = true " +
+           "AND t.latitude IS NOT NULL AND t.longitude IS NOT NULL")
+    List<Object[]> findWeatherLocations(@Param("status") TourStatus status);
+    
     /**
      * Count bookings by tour ID
      */
@@ -277,4 +289,56 @@ public interface TourRepository extends JpaRepository<Tour, Long> {
            "LEFT JOIN FETCH t.category c " +
            "WHERE t.id = :tourId AND t.deletedAt IS NULL")
     Optional<Tour> findByIdWithCategory(@Param("tourId") Long tourId);
+    
+    /**
+     * Apply a review state transition to the running rating aggregates in one atomic UPDATE.
+     * averageRating is assigned first: MySQL evaluates SET clauses left to right, so it must
+     * read the pre-update sum and count.
+     */
+    @Modifying
+    @Query("UPDATE Tour t SET " +
+           "t.averageRating = CASE WHEN t.reviewCount + :countDelta > 0 " +
+           "    THEN (t.ratingSum + :sumDelta) * 1.0 / (t.reviewCount + :countDelta) ELSE 0.0 END, " +
+           "t.ratingSum = t.ratingSum + :sumDelta, " +
+           "t.reviewCount = t.reviewCount + :countDelta, " +
+           "t.rating1Count = t.rating1Count + :d1, " +
+           "t.rating2Count = t.rating2Count + :d2, " +
+           "t.rating3Count = t.rating3Count + :d3, " +
+           "t.rating4Count = t.rating4Count + :d4, " +
+           "t.rating5Count = t.rating5Count + :d5 " +
+           "WHERE t.id = :tourId")
+    int applyRatingDelta(@Param("tourId") Long tourId,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("countDelta") long countDelta,
+                         @Param("d1") long d1,
+                         @Param("d2") long d2,
+                         @Param("d3") long d3,
+                         @Param("d4") long d4,
+                         @Param("d5") long d5);
+    
+    /**
+     * Rating aggregates as stored on each tour:
+     * id, ratingSum, reviewCount, rating1Count..rating5Count
+     */
+    @Query("SELECT t.id, t.ratingSum, t.reviewCount, t.rating1Count, t.rating2Count, " +
+           "t.rating3Count, t.rating4Count, t.rating5Count FROM Tour t")
+    List<Object[]> findRatingAggregates();
+    
+    /**
+     * Rebuild the rating aggregates of the given tours from their reviews
+     */
+    @Modifying
+    @Transactional                           // Called from the reconcile job, outside any service transaction
+    @Query("UPDATE Tour t SET " +
+           "t.averageRating = COALESCE((SELECT AVG(r.rating) FROM Review r WHERE r.tour.id = t.id AND r.status = :status), 0.0), " +
+           "t.ratingSum = COALESCE((SELECT SUM(r.rating) FROM Review r WHERE r.tour.id = t.id AND r.status = :status), 0), " +
+           "t.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id AND r.status = :status), " +
+           "t.rating1Count = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id AND r.status = :status AND r.rating = 1), " +
+           "t.rating2Count = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id AND r.status = :status AND r.rating = 2), " +
+           "t.rating3Count = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id AND r.status = :status AND r.rating = 3), " +
+           "t.rating4Count = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id AND r.status = :status AND r.rating = 4), " +
+           "t.rating5Count = (SELECT COUNT(r) FROM Review r WHERE r.tour.id = t.id AND r.status = :status AND r.rating = 5) " +
+           "WHERE t.id IN :tourIds")
+    int recomputeRatingAggregates(@Param("tourIds") List<Long> tourIds,
+                                  @Param("status") Review.ReviewStatus status);
 }
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -124,4 +125,93 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
     String findMostCommonActivityTypeByUserId(@Param("userId") Long userId);
     
     int deleteByCreatedAtBefore(LocalDateTime cutoffDate);
+    
+    // ===== Risk scoring / failed login monitoring (served by the (activity_type, created_at) index) =====
+    
+    /**
+     * Per-user count of an activity type since :since, with the subset after :recentSince.
+     * Only users with at least :minCount events are returned. Rows of [userId, count, recentCount].
+     */
+    @Query("SELECT ua.user.id, COUNT(ua), SUM(CASE WHEN ua.createdAt >= :recentSince THEN 1 ELSE 0 END) " +
+           "FROM UserActivity ua WHERE ua.activityType = :activityType AND ua.createdAt >= :since " +
+           "GROUP BY ua.user.id HAVING COUNT(ua) >= :minCount")
+    List<Object[]> countByUserSince(@Param("activityType") String activityType,
+                                    @Param("since") LocalDateTime since,
+                                    @Param("recentSince") LocalDateTime recentSince,
+                                    @Param("minCount") long minCount);
+    
+    /**
+     * Count for the given users. Rows of [userId, count, recentCount].
+     */
+    @Query("SELECT ua.user.id, COUNT(ua), SUM(CASE WHEN ua.createdAt >= :recentSince THEN 1 ELSE 0 END) " +
+           "FROM UserActivity ua WHERE ua.activityType = :activityType AND ua.createdAt >= :since " +
+           "AND ua.user.id IN :userIds GROUP BY ua.user.id")
+    List<Object[]> countByUserSinceForUsers(@Param("activityType") String activityType,
+                                            @Param("since") LocalDateTime since,
+                                            @Param("recentSince") LocalDateTime recentSince,
+                                            @Param("userIds") Collection<Long> userIds);
+    
+    /**
+     * Newest activities of a type in a window, with the user loaded
+     */
+    @Query("SELECT ua FROM UserActivity ua JOIN FETCH ua.user " +
+           "WHERE ua.activityType = :activityType AND ua.createdAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY ua.createdAt DESC")
+    List<UserActivity> findRecentByType(@Param("activityType") String activityType,
+                                        @Param("startDate") LocalDateTime startDate,
+                                        @Param("endDate") LocalDateTime endDate,
+                                        Pageable pageable);
+    
+    /**
+     * Totals for a window: rows of [count, distinctUsers, distinctIps] (single row)
+     */
+    @Query("SELECT COUNT(ua), COUNT(DISTINCT ua.user.id), COUNT(DISTINCT ua.ipAddress) FROM UserActivity ua " +
+           "WHERE ua.activityType = :activityType AND ua.createdAt BETWEEN :startDate AND :endDate")
+    List<Object[]> summarizeByType(@Param("activityType") String activityType,
+                                   @Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Top emails for an activity type in a window, most events first. Rows of [email, count].
+     */
+    @Query("SELECT u.email, COUNT(ua) FROM UserActivity ua JOIN ua.user u " +
+           "WHERE ua.activityType = :activityType AND ua.createdAt BETWEEN :startDate AND :endDate " +
+           "GROUP BY u.email ORDER BY COUNT(ua) DESC")
+    List<Object[]> countByEmail(@Param("activityType") String activityType,
+                                @Param("startDate") LocalDateTime startDate,
+                                @Param("endDate") LocalDateTime endDate,
+                                Pageable pageable);
+    
+    /**
+     * Same as {@link #countByEmail} restricted to the given emails
+     */
+    @Query("SELECT u.email, COUNT(ua) FROM UserActivity ua JOIN ua.user u " +
+           "WHERE ua.activityType = :activityType AND ua.createdAt BETWEEN :startDate AND :endDate " +
+           "AND u.email IN :emails GROUP BY u.email")
+    List<Object[]> countByEmailIn(@Param("activityType") String activityType,
+                                  @Param("startDate") LocalDateTime startDate,
+                                  @Param("endDate") LocalDateTime endDate,
+                                  @Param("emails") Collection<String> emails);
+    
+    /**
+     * Top IPs for an activity type in a window, most events first. Rows of [ipAddress, count].
+     */
+    @Query("SELECT ua.ipAddress, COUNT(ua) FROM UserActivity ua " +
+           "WHERE ua.activityType = :activityType AND ua.createdAt BETWEEN :startDate AND :endDate " +
+           "AND ua.ipAddress IS NOT NULL GROUP BY ua.ipAddress ORDER BY COUNT(ua) DESC")
+    List<Object[]> countByIp(@Param("activityType") String activityType,
+                             @Param("startDate") LocalDateTime startDate,
+                             @Param("endDate") LocalDateTime endDate,
+                             Pageable pageable);
+    
+    /**
+     * Same as {@link #countByIp} restricted to the given IPs
+     */
+    @Query("SELECT ua.ipAddress, COUNT(ua) FROM UserActivity ua " +
+           "WHERE ua.activityType = :activityType AND ua.createdAt BETWEEN :startDate AND :endDate " +
+           "AND ua.ipAddress IN :ips GROUP BY ua.ipAddress")
+    List<Object[]> countByIpIn(@Param("activityType") String activityType,
+                               @Param("startDate") LocalDateTime startDate,
+                               @Param("endDate") LocalDateTime endDate,
+                               @Param("ips") Collection<String> ips);
 }
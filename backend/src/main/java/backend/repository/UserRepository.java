@@ -5,6 +5,7 @@ import backend.entity.User.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     
     /**
      * Find user by email
@@ -102,6 +103,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.status = 'Banned' AND u.deletedAt IS NULL")
     Long countBannedUsers();
     
+    /**
+     * Count users who signed up in (from, to)
+     */
+    @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt > :from AND u.createdAt < :to")
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * Sign-ups per day in (from, to): [date, count]
+     */
+    @Query("SELECT DATE(u.createdAt), COUNT(u) FROM User u WHERE u.createdAt > :from AND u.createdAt < :to GROUP BY DATE(u.createdAt) ORDER BY DATE(u.createdAt)")
+    List<Object[]> countCreatedPerDay(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * Count users grouped by status (one query for all statuses)
+     */
+    @Query("SELECT u.status, COUNT(u) FROM User u GROUP BY u.status")
+    List<Object[]> countGroupByStatus();
+    
     /**
      * Find verified users
      */
@@ -127,4 +146,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "AND u.deletedAt IS NULL " +
            "ORDER BY u.lastActivityAt DESC")
     List<User> findRecentActiveUsers(Pageable pageable);
+    
+    /**
+     * Activity feed: newest user registrations created after :since and strictly before the (before, beforeId) cursor.
+     * Served by the created_at index; pass PageRequest.of(0, n) to get a top-N without COUNT.
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.role " +
+           "WHERE u.createdAt >= :since " +
+           "AND (u.createdAt < :before OR (u.createdAt = :before AND u.id < :beforeId)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findFeedPage(@Param("since") LocalDateTime since,
+                            @Param("before") LocalDateTime before,
+                            @Param("beforeId") Long beforeId,
+                            Pageable pageable);
+    
+    /**
+     * Risk candidates by account state alone: banned, or inactive and created after :recentSince
+     */
+    @Query("SELECT u FROM User u WHERE u.status = :banned " +
+           "OR (u.status = :inactive AND u.createdAt >= :recentSince)")
+    List<User> findRiskCandidates(@Param("banned") UserStatus banned,
+                                  @Param("inactive") UserStatus inactive,
+                                  @Param("recentSince") LocalDateTime recentSince);
 }
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -180,4 +181,45 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>,
     List<UserSession> findByDeviceTypeOrderByLoginAtDesc(String deviceType);
     
     List<UserSession> findByCountryOrderByLoginAtDesc(String country);
+    
+    /**
+     * Activity feed: newest sessions (logins) created after :since and strictly before the (before, beforeId) cursor.
+     * Served by the created_at index; pass PageRequest.of(0, n) to get a top-N without COUNT.
+     */
+    @Query("SELECT s FROM UserSession s LEFT JOIN FETCH s.user " +
+           "WHERE s.createdAt >= :since " +
+           "AND (s.createdAt < :before OR (s.createdAt = :before AND s.id < :beforeId)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<UserSession> findFeedPage(@Param("since") LocalDateTime since,
+                                   @Param("before") LocalDateTime before,
+                                   @Param("beforeId") Long beforeId,
+                                   Pageable pageable);
+    
+    /**
+     * Risk signals: active session count and distinct IPs per user, only for users above either threshold.
+     * One grouped scan of the (is_active, user_id, ip_address) index instead of loading sessions.
+     * Returns rows of [userId, sessionCount, distinctIpCount].
+     */
+    @Query("SELECT s.user.id, COUNT(s), COUNT(DISTINCT s.ipAddress) FROM UserSession s " +
+           "WHERE s.isActive = true GROUP BY s.user.id " +
+           "HAVING COUNT(s) > :minSessions OR COUNT(DISTINCT s.ipAddress) > :minIps")
+    List<Object[]> findActiveSessionSignals(@Param("minSessions") long minSessions,
+                                            @Param("minIps") long minIps);
+    
+    /**
+     * Risk signals: (user, IP) pairs with more than :threshold active sessions.
+     * Returns rows of [userId, ipAddress, sessionCount].
+     */
+    @Query("SELECT s.user.id, s.ipAddress, COUNT(s) FROM UserSession s " +
+           "WHERE s.isActive = true AND s.ipAddress IS NOT NULL " +
+           "GROUP BY s.user.id, s.ipAddress HAVING COUNT(s) > :threshold")
+    List<Object[]> findSameIpSessionSignals(@Param("threshold") long threshold);
+    
+    /**
+     * Active session count and distinct IPs for the given users.
+     * Returns rows of [userId, sessionCount, distinctIpCount].
+     */
+    @Query("SELECT s.user.id, COUNT(s), COUNT(DISTINCT s.ipAddress) FROM UserSession s " +
+           "WHERE s.isActive = true AND s.user.id IN :userIds GROUP BY s.user.id")
+    List<Object[]> countActiveSessionsByUserIds(@Param("userIds") Collection<Long> userIds);
 }
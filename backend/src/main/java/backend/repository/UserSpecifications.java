@@ -0,0 +1,46 @@
+package backend.repository;
+
+import backend.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications for admin user queries.
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * Search by name or email (case-insensitive, contains)
+     */
+    public static Specification<User> matchesSearch(String search) {
+        return (root, query, cb) -> {
+            if (search == null || search.isBlank()) {
+                return null;
+            }
+            String pattern = "%" + search.trim().toLowerCase() + "%";
+            return cb.or(
+                cb.like(cb.lower(root.get("name")), pattern),
+                cb.like(cb.lower(root.get("email")), pattern)
+            );
+        };
+    }
+
+    public static Specification<User> hasStatus(User.UserStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<User> hasRole(String roleName) {
+        return (root, query, cb) -> roleName == null || roleName.isBlank()
+                ? null
+                : cb.equal(cb.upper(root.join("role").get("name")), roleName.trim().toUpperCase());
+    }
+
+    /**
+     * Combine admin list filters; null arguments are ignored
+     */
+    public static Specification<User> adminFilter(String search, User.UserStatus status, String roleName) {
+        return Specification.allOf(matchesSearch(search), hasStatus(status), hasRole(roleName));
+    }
+}
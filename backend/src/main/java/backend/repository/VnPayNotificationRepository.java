@@ -0,0 +1,65 @@
+package backend.repository;
+
+import backend.entity.VnPayNotification;
+import backend.entity.VnPayNotification.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inbox for VNPay IPNs. The state changes are single conditional UPDATEs, so two workers
+ * (or two nodes) can never both claim the same notification.
+ */
+@Repository
+public interface VnPayNotificationRepository extends JpaRepository<VnPayNotification, Long> {
+
+    boolean existsByTxnRefAndTransactionNo(String txnRef, String transactionNo);
+
+    /**
+     * Read on the primary: the worker loads a row that was inserted a moment ago
+     */
+    @Transactional
+    @Query("SELECT n FROM VnPayNotification n WHERE n.id = :id")
+    Optional<VnPayNotification> findForProcessing(@Param("id") Long id);
+
+    @Query("SELECT n.id FROM VnPayNotification n WHERE n.status = :status AND n.nextAttemptAt <= :now ORDER BY n.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional                           // Called from the IPN worker, outside any service transaction
+    @Query("UPDATE VnPayNotification n SET n.status = :processing, n.claimedAt = :now " +
+           "WHERE n.id = :id AND n.status = :pending AND n.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("pending") Status pending, @Param("processing") Status processing,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE VnPayNotification n SET n.status = :status, n.processedAt = :now, n.lastError = NULL WHERE n.id = :id")
+    int markProcessed(@Param("id") Long id, @Param("status") Status status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE VnPayNotification n SET n.status = :status, n.attempts = n.attempts + 1, " +
+           "n.nextAttemptAt = :nextAttemptAt, n.lastError = :error WHERE n.id = :id")
+    int markAttemptFailed(@Param("id") Long id, @Param("status") Status status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Hand rows whose worker died mid-processing back to the queue
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE VnPayNotification n SET n.status = :pending WHERE n.status = :processing AND n.claimedAt < :before")
+    int releaseStale(@Param("processing") Status processing, @Param("pending") Status pending,
+                     @Param("before") LocalDateTime before);
+
+    long countByStatus(Status status);
+}
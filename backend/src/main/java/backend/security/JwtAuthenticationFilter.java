@@ -1,6 +1,7 @@
 package backend.security;
 
 import backend.service.TokenBlacklistService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,23 +27,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
     
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, 
                                   @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
+            VerifiedTokenCache.VerifiedToken verified = jwt != null ? verifiedTokenCache.get(jwt) : null;
             
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                // Check if token is blacklisted
-                if (tokenBlacklistService.isTokenBlacklisted(jwt)) {
-                    log.warn("Attempted to use blacklisted token");
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.getWriter().write("{\"error\": \"Token has been revoked\"}");
-                    return;
+            if (jwt != null && verified == null) {
+                // Cache miss: verify signature once and check blacklist, then memoize
+                Claims claims = jwtUtils.parseVerifiedClaims(jwt);
+                if (claims != null) {
+                    if (tokenBlacklistService.isTokenBlacklisted(jwt)) {
+                        log.warn("Attempted to use blacklisted token");
+                        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                        response.getWriter().write("{\"error\": \"Token has been revoked\"}");
+                        return;
+                    }
+                    verified = verifiedTokenCache.put(jwt, claims);
                 }
-                
-                String email = jwtUtils.getEmailFromJwtToken(jwt);
+            }
+            
+            if (verified != null) {
+                String email = verified.email();
                 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
                 
@@ -3,6 +3,7 @@ package backend.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -21,6 +22,16 @@ public class JwtUtils {
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
     
+    // Decoding the secret and building the parser are not free; do it once
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+    
     /**
      * Generate JWT token from authentication
      */
@@ -51,16 +62,14 @@ public class JwtUtils {
      * Get signing key
      */
     private SecretKey key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        return signingKey;
     }
     
     /**
      * Get email from JWT token
      */
     public String getEmailFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
@@ -71,7 +80,7 @@ public class JwtUtils {
      */
     public boolean validateJwtToken(String authToken) {
         try {
-            Jwts.parser().verifyWith(key()).build().parseSignedClaims(authToken);
+            parser.parseSignedClaims(authToken);
             return true;
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
@@ -85,13 +94,32 @@ public class JwtUtils {
         return false;
     }
     
+    /**
+     * Verify signature and expiry and return the claims in a single parse.
+     * Returns null for invalid tokens (same logging as validateJwtToken).
+     */
+    public Claims parseVerifiedClaims(String authToken) {
+        try {
+            return parser.parseSignedClaims(authToken).getPayload();
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("JWT token is expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT signature is invalid: {}", e.getMessage());
+        }
+        return null;
+    }
+    
     /**
      * Get expiration date from token
      */
     public Date getExpirationDateFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload()
                 .getExpiration();
@@ -123,9 +151,7 @@ public class JwtUtils {
      */
     public boolean validateResetToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key())
-                    .build()
+            Claims claims = parser
                     .parseSignedClaims(token)
                     .getPayload();
             
@@ -142,9 +168,7 @@ public class JwtUtils {
      * Get email from reset token
      */
     public String getEmailFromResetToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
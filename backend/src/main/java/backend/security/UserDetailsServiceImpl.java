@@ -3,7 +3,9 @@ package backend.security;
 import backend.entity.User;
 import backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,7 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
     
@@ -28,4 +31,21 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         
         return UserDetailsImpl.build(user);
     }
+    
+    /**
+     * Called by DaoAuthenticationProvider after a successful login when the stored hash
+     * is outdated (legacy format, other algorithm or lower work factor)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        log.info("Upgraded password hash for user: {}", user.getId());
+        
+        return UserDetailsImpl.build(user);
+    }
 }
@@ -0,0 +1,127 @@
+package backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memoizes verified JWT claims so parallel API calls with the same token skip
+ * the HMAC verification and the blacklist lookup.
+ * Keys are SHA-256 digests (the raw token is never held as a key), entries expire
+ * at the token's own exp (capped by max-ttl), and the backing Caffeine map is
+ * lock-striped so concurrent lookups do not contend.
+ * Revocation through TokenBlacklistService calls {@link #invalidate(String)} which
+ * also remembers the digest, so a request racing with the revocation cannot re-insert it.
+ * Other nodes learn of the revocation from TokenBlacklistServiceImpl.syncRevocations, so a
+ * revoked token can still pass on another node for up to jwt.cache.revocation-sync-ms;
+ * max-ttl-seconds bounds that lag if the sync itself keeps failing.
+ */
+@Component
+public class VerifiedTokenCache {
+    
+    /**
+     * Verified token: subject and absolute expiry
+     */
+    public record VerifiedToken(String email, long expiresAtMillis) {
+    }
+    
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+    
+    private final long maxTtlNanos;
+    private final Cache<String, VerifiedToken> verified;
+    private final Cache<String, Boolean> revoked;
+    
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.cache.max-ttl-seconds:60}") long maxTtlSeconds) {
+        this.maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return ttlNanos(value.expiresAtMillis());
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return ttlNanos(value.expiresAtMillis());
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        // Revoked digests only need to outlive the verified entry they guard
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+    
+    /**
+     * Cached verified token, or null on miss
+     */
+    public VerifiedToken get(String token) {
+        return verified.getIfPresent(digest(token));
+    }
+    
+    /**
+     * Remember claims that were just verified (signature, expiry and blacklist).
+     * Returns null if the token was revoked meanwhile.
+     */
+    public VerifiedToken put(String token, Claims claims) {
+        String key = digest(token);
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(maxTtlNanos);
+        VerifiedToken value = new VerifiedToken(claims.getSubject(), expiresAt);
+        verified.put(key, value);
+        // Re-check after insert: a concurrent revocation either sees our entry or we see its marker
+        if (revoked.getIfPresent(key) != null) {
+            verified.invalidate(key);
+            return null;
+        }
+        return value;
+    }
+    
+    /**
+     * Drop a token immediately (logout / blacklist)
+     */
+    public void invalidate(String token) {
+        String key = digest(token);
+        revoked.put(key, Boolean.TRUE);
+        verified.invalidate(key);
+    }
+    
+    public long size() {
+        return verified.estimatedSize();
+    }
+    
+    private long ttlNanos(long expiresAtMillis) {
+        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(expiresAtMillis - System.currentTimeMillis());
+        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+    }
+    
+    private static String digest(String token) {
+        byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -0,0 +1,27 @@
+package backend.service;
+
+import backend.dto.response.ActivityFeedItem;
+import backend.dto.response.CursorPageResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public interface ActivityFeedService {
+    
+    /**
+     * Newest items of one source (top-N on created_at), optionally only those created after {@code since}
+     */
+    List<ActivityFeedItem> getLatest(ActivityFeedItem.Source source, LocalDateTime since, int limit);
+    
+    /**
+     * Merged feed across sources, newest first, with cursor-based "load more"
+     */
+    CursorPageResponse<ActivityFeedItem> getFeed(Set<ActivityFeedItem.Source> sources, String cursor, int limit);
+    
+    /**
+     * Subscribe to live feed items via Server-Sent Events
+     */
+    SseEmitter subscribe();
+}
@@ -1,13 +1,16 @@
 package backend.service;
 
 import backend.dto.response.BookingResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Booking;
 import backend.entity.Booking.BookingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -117,6 +120,36 @@ public interface BookingService {
      */
     List<Booking> getAllBookings();
     
+    /**
+     * Filtered admin booking list evaluated in the database (cancellation requests excluded);
+     * null filters are ignored and tour, user and schedule are fetched with the page.
+     * Pass Pageable.unpaged(sort) to get every match without a count query.
+     */
+    Page<Booking> searchBookingsForAdmin(
+        String search,
+        Booking.ConfirmationStatus confirmationStatus,
+        Booking.PaymentStatus paymentStatus,
+        LocalDateTime createdSince,
+        Long tourId,
+        String paymentMethod,
+        Pageable pageable
+    );
+    
+    /**
+     * Keyset-paginated admin booking list, newest first by default; null filters are ignored.
+     * approximateTotal is filled (from table statistics) only when includeTotal is set.
+     */
+    CursorPageResponse<Booking> scrollBookingsForAdmin(
+        String search,
+        Booking.ConfirmationStatus confirmationStatus,
+        Booking.PaymentStatus paymentStatus,
+        LocalDateTime createdSince,
+        Sort.Direction direction,
+        String cursor,
+        int size,
+        boolean includeTotal
+    );
+    
     /**
      * Confirm booking
      */
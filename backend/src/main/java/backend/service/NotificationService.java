@@ -1,8 +1,10 @@
 package backend.service;
 
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +20,7 @@ public interface NotificationService {
     
     // Admin methods
     Page<Notification> getAllNotifications(Pageable pageable);
+    CursorPageResponse<Notification> scrollNotifications(Notification.NotificationType type, Sort.Direction direction, String cursor, int size, boolean includeTotal);
     Page<Notification> getUnreadNotifications(Pageable pageable);
     Notification createNotification(Notification notification);
     Notification createNotificationForUser(Long userId, String title, String message, Notification.NotificationType type, String link);
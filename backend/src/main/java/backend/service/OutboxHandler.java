@@ -0,0 +1,12 @@
+package backend.service;
+
+/**
+ * Performs one type of outbox message. Throwing marks the attempt as failed and schedules a retry,
+ * so handle() must be safe to run again for the same payload.
+ */
+public interface OutboxHandler {
+
+    String type();
+
+    void handle(String payload) throws Exception;
+}
@@ -0,0 +1,21 @@
+package backend.service;
+
+import java.util.Map;
+
+public interface OutboxService {
+    
+    /**
+     * Record a side effect in the caller's transaction (or a new one); the relay performs it after commit
+     */
+    void enqueue(String type, Object payload);
+    
+    /**
+     * Queue depth, lag and relay counters
+     */
+    Map<String, Object> getStats();
+    
+    /**
+     * Put dead-lettered messages back in the queue; returns how many
+     */
+    int retryFailed();
+}
@@ -1,10 +1,13 @@
 package backend.service;
 
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Partner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PartnerService {
@@ -74,4 +77,37 @@ public interface PartnerService {
      * Change partner status (Admin)
      */
     Partner changePartnerStatus(Long id, Partner.PartnerStatus status);
+    
+    /**
+     * Search partners for admin list (filter, sort and page in the database)
+     */
+    Page<Partner> searchPartnersForAdmin(
+        String search,
+        Partner.PartnerStatus status,
+        Partner.PartnerType type,
+        Pageable pageable
+    );
+    
+    /**
+     * Keyset-paginated admin partner list; cost does not grow with page depth
+     */
+    CursorPageResponse<Partner> scrollPartnersForAdmin(
+        String search,
+        Partner.PartnerStatus status,
+        Partner.PartnerType type,
+        String sortBy,
+        Sort.Direction direction,
+        String cursor,
+        int size
+    );
+    
+    /**
+     * Partner counts: total, per status and per type (grouped queries)
+     */
+    Map<String, Object> getPartnerStats();
+    
+    /**
+     * Count partners by status
+     */
+    long countPartnersByStatus(Partner.PartnerStatus status);
 }
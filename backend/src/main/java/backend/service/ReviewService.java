@@ -1,10 +1,12 @@
 package backend.service;
 
 import backend.dto.request.ReviewCreateRequest;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.ReviewResponse;
 import backend.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -60,6 +62,11 @@ public interface ReviewService {
      */
     ReviewResponse voteHelpful(Long reviewId, Long userId);
     
+    /**
+     * Set votedHelpful on a page of reviews for the given user (one query)
+     */
+    void markHelpfulVotes(List<ReviewResponse> reviews, Long userId);
+    
     /**
      * Check if user has already reviewed a tour
      */
@@ -102,6 +109,19 @@ public interface ReviewService {
      */
     Page<ReviewResponse> getAllReviewsAdmin(Pageable pageable);
     
+    /**
+     * Keyset-paginated admin review list, newest first by default; null filters are ignored.
+     * approximateTotal is filled (from table statistics) only when includeTotal is set.
+     */
+    CursorPageResponse<ReviewResponse> scrollReviewsForAdmin(
+        Review.ReviewStatus status,
+        Long tourId,
+        Sort.Direction direction,
+        String cursor,
+        int size,
+        boolean includeTotal
+    );
+    
     /**
      * Get reviews by status (Admin)
      */
@@ -0,0 +1,20 @@
+package backend.service;
+
+import backend.dto.response.SuspiciousUserResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface SecurityMonitoringService {
+    
+    /**
+     * Users with the highest risk score (at least the reporting threshold), highest first
+     */
+    List<SuspiciousUserResponse> getSuspiciousUsers(int limit);
+    
+    /**
+     * Newest failed logins in the window plus per-email / per-IP totals and top offenders
+     */
+    Map<String, Object> getFailedLoginAttempts(LocalDateTime startDate, LocalDateTime endDate, int limit);
+}
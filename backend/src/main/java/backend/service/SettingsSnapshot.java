@@ -0,0 +1,95 @@
+package backend.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable view of all system settings at one point in time.
+ * Reads are plain map lookups; when a setting changes a new snapshot (next version) replaces this one.
+ * Typed getters fall back to the default when the key is missing or the value does not parse.
+ */
+public final class SettingsSnapshot {
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final Map<String, String> values;
+
+    public SettingsSnapshot(long version, Map<String, String> values) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));   // Values may be null
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = values.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = trimmed(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.equalsIgnoreCase("true") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0")) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = trimmed(key);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = trimmed(key);
+        try {
+            return value != null ? Long.parseLong(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public BigDecimal getDecimal(String key, BigDecimal defaultValue) {
+        String value = trimmed(key);
+        try {
+            return value != null ? new BigDecimal(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private String trimmed(String key) {
+        String value = values.get(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -8,6 +8,20 @@ import java.util.Optional;
 
 public interface SystemSettingService {
     
+    // Keys read by the backend (the admin settings page writes them)
+    String ENABLE_NOTIFICATIONS = "enableNotifications";
+    String AUTO_APPROVE_REVIEWS = "autoApproveReviews";
+    String RATE_LIMIT_GENERAL_PER_MINUTE = "rateLimitGeneralPerMinute";
+    String RATE_LIMIT_AUTH_PER_MINUTE = "rateLimitAuthPerMinute";
+    String RATE_LIMIT_CHATBOT_PER_MINUTE = "rateLimitChatbotPerMinute";
+    // "loyalty.<config_key>" overrides that loyalty_config rule (e.g. loyalty.review_basic_points)
+    String LOYALTY_RULE_PREFIX = "loyalty.";
+    
+    /**
+     * Current in-memory snapshot of all settings; no database access on the hot path
+     */
+    SettingsSnapshot getSnapshot();
+    
     /**
      * Get all settings
      */
@@ -34,7 +48,7 @@ public interface SystemSettingService {
     SystemSetting saveSetting(String key, String value, String type, String category);
     
     /**
-     * Batch update settings
+     * Batch update settings (one transaction; the snapshot is swapped after commit)
      */
     void batchUpdateSettings(Map<String, String> settings);
     
@@ -0,0 +1,13 @@
+package backend.service;
+
+import java.util.Set;
+
+/**
+ * Implemented by components that derive state from system settings (rate limits, toggles, ...).
+ * Called once the first snapshot is loaded (every key counts as changed) and after each committed
+ * change, with the new snapshot already in place.
+ */
+public interface SystemSettingsListener {
+
+    void onSettingsChanged(SettingsSnapshot snapshot, Set<String> changedKeys);
+}
@@ -1,12 +1,15 @@
 package backend.service;
 
+import backend.dto.response.CursorPageResponse;
 import backend.entity.User;
 import backend.entity.User.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserService {
@@ -41,6 +44,35 @@ public interface UserService {
      */
     Page<User> searchUsers(String keyword, Pageable pageable);
     
+    /**
+     * Keyset-paginated admin user list, newest first by default; null filters are ignored.
+     * approximateTotal is filled (from table statistics) only when includeTotal is set.
+     */
+    CursorPageResponse<User> scrollUsersForAdmin(
+        String search,
+        UserStatus status,
+        String roleName,
+        Sort.Direction direction,
+        String cursor,
+        int size,
+        boolean includeTotal
+    );
+    
+    /**
+     * Count users who signed up in (from, to)
+     */
+    long countUsersCreatedBetween(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Sign-ups per day in (from, to), keyed by ISO date, in date order
+     */
+    Map<String, Long> countRegistrationsPerDay(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Number of users in each status
+     */
+    Map<UserStatus, Long> countUsersByStatus();
+    
     /**
      * Get users by role
      */
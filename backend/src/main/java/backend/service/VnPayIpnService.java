@@ -0,0 +1,249 @@
+package backend.service;
+
+import backend.config.VnPayIpnProperties;
+import backend.entity.Payment;
+import backend.entity.VnPayNotification;
+import backend.entity.VnPayNotification.Status;
+import backend.repository.PaymentRepository;
+import backend.repository.VnPayNotificationRepository;
+import backend.util.RetryBackoff;
+import backend.util.VnPayUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * VNPay IPN pipeline: verify, record in the vnpay_notifications inbox, acknowledge.
+ *
+ * The payment/booking update and the email run on a background worker, so VNPay gets its
+ * answer without waiting on row locks or SMTP. A repeated IPN hits the unique key and is
+ * acknowledged without being queued again; failed attempts are retried with exponential
+ * backoff and end up FAILED after maxAttempts.
+ */
+@Service
+@Slf4j
+public class VnPayIpnService {
+
+    private final VnPayUtil vnPayUtil;
+    private final VnPayService vnPayService;
+    private final PaymentRepository paymentRepository;
+    private final VnPayNotificationRepository notificationRepository;
+    private final ObjectMapper objectMapper;
+    private final VnPayIpnProperties settings;
+    private final Executor ipnExecutor;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    public VnPayIpnService(VnPayUtil vnPayUtil,
+                           VnPayService vnPayService,
+                           PaymentRepository paymentRepository,
+                           VnPayNotificationRepository notificationRepository,
+                           ObjectMapper objectMapper,
+                           VnPayIpnProperties settings,
+                           @Qualifier("taskExecutor") Executor ipnExecutor) {
+        this.vnPayUtil = vnPayUtil;
+        this.vnPayService = vnPayService;
+        this.paymentRepository = paymentRepository;
+        this.notificationRepository = notificationRepository;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.ipnExecutor = ipnExecutor;
+    }
+
+    // ================================
+    // RECEIVE (request thread)
+    // ================================
+
+    /**
+     * Check and record an IPN; returns the RspCode/Message body VNPay expects
+     */
+    public Map<String, String> receive(Map<String, String> params) {
+        if (!vnPayUtil.validateSignature(params)) {
+            log.warn("VNPay IPN with invalid signature, TxnRef {}", params.get("vnp_TxnRef"));
+            return ack("97", "Invalid Checksum");
+        }
+
+        String txnRef = params.get("vnp_TxnRef");
+        Optional<Payment> payment = findPayment(txnRef);
+        if (payment.isEmpty()) {
+            return ack("01", "Order not found");
+        }
+        if (!amountMatches(payment.get(), params.get("vnp_Amount"))) {
+            log.warn("VNPay IPN amount {} does not match payment {}", params.get("vnp_Amount"), txnRef);
+            return ack("04", "Invalid amount");
+        }
+        if (payment.get().getStatus() == Payment.PaymentStatus.COMPLETED) {
+            return ack("02", "Order already confirmed");
+        }
+
+        Long id = record(txnRef, params);
+        if (id == null) {
+            duplicates.increment();
+            log.debug("Duplicate VNPay IPN for TxnRef {}, already queued", txnRef);
+        } else {
+            recorded.increment();
+            dispatch(id);
+        }
+        return ack("00", "Confirm Success");
+    }
+
+    private Optional<Payment> findPayment(String txnRef) {
+        try {
+            return txnRef != null ? paymentRepository.findByIdOnPrimary(Long.parseLong(txnRef)) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * vnp_Amount is the amount in VND multiplied by 100
+     */
+    private static boolean amountMatches(Payment payment, String vnpAmount) {
+        try {
+            return vnpAmount != null && new BigDecimal(vnpAmount).movePointLeft(2).compareTo(payment.getAmount()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Insert the inbox row; null if this notification is already there
+     */
+    private Long record(String txnRef, Map<String, String> params) {
+        String transactionNo = params.getOrDefault("vnp_TransactionNo", "");
+        if (notificationRepository.existsByTxnRefAndTransactionNo(txnRef, transactionNo)) {
+            return null;
+        }
+        VnPayNotification notification = new VnPayNotification();
+        notification.setTxnRef(txnRef);
+        notification.setTransactionNo(transactionNo);
+        notification.setResponseCode(params.get("vnp_ResponseCode"));
+        notification.setParams(toJson(params));
+        try {
+            return notificationRepository.saveAndFlush(notification).getId();
+        } catch (DataIntegrityViolationException e) {
+            return null;     // A concurrent delivery of the same notification won the insert
+        }
+    }
+
+    private void dispatch(Long id) {
+        try {
+            ipnExecutor.execute(() -> process(id));
+        } catch (RejectedExecutionException e) {
+            log.debug("IPN executor busy, notification {} left for the poller", id);
+        }
+    }
+
+    // ================================
+    // PROCESS (background)
+    // ================================
+
+    /**
+     * Apply one recorded notification if it is due and nobody else has claimed it
+     */
+    public void process(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        if (notificationRepository.claim(id, Status.PENDING, Status.PROCESSING, now) == 0) {
+            return;
+        }
+        VnPayNotification notification = notificationRepository.findForProcessing(id).orElse(null);
+        if (notification == null) {
+            return;
+        }
+        try {
+            vnPayService.applyPaymentResult(fromJson(notification.getParams()));
+            notificationRepository.markProcessed(id, Status.PROCESSED, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            int attempts = notification.getAttempts() + 1;
+            boolean exhausted = attempts >= settings.getMaxAttempts();
+            LocalDateTime next = LocalDateTime.now().plusSeconds(backoffSeconds(attempts));
+            notificationRepository.markAttemptFailed(id, exhausted ? Status.FAILED : Status.PENDING, next, RetryBackoff.truncateError(e.getMessage()));
+            if (exhausted) {
+                log.error("VNPay notification {} (TxnRef {}) failed {} times, giving up: {}",
+                        id, notification.getTxnRef(), attempts, e.getMessage());
+            } else {
+                log.warn("VNPay notification {} (TxnRef {}) attempt {} failed, retrying at {}: {}",
+                        id, notification.getTxnRef(), attempts, next, e.getMessage());
+            }
+        }
+    }
+
+    long backoffSeconds(int attempts) {
+        return RetryBackoff.delaySeconds(attempts, settings.getRetryBaseSeconds(), settings.getRetryMaxSeconds());
+    }
+
+    /**
+     * Retries, notifications the executor could not take, and rows of a worker that died
+     */
+    @Scheduled(fixedDelayString = "${app.payment.vnpay.ipn.poll-interval-ms:5000}",
+               initialDelayString = "${app.payment.vnpay.ipn.poll-interval-ms:5000}")
+    public void processDue() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int released = notificationRepository.releaseStale(Status.PROCESSING, Status.PENDING,
+                    now.minusSeconds(settings.getStaleAfterSeconds()));
+            if (released > 0) {
+                log.warn("Released {} stale VNPay notifications", released);
+            }
+            List<Long> due = notificationRepository.findDueIds(Status.PENDING, now, PageRequest.of(0, settings.getBatchSize()));
+            due.forEach(this::process);
+        } catch (RuntimeException e) {
+            log.warn("VNPay notification poll failed: {}", e.getMessage());
+        }
+    }
+
+    // ================================
+    // HELPERS
+    // ================================
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("recorded", recorded.sum());
+        stats.put("duplicates", duplicates.sum());
+        for (Status status : Status.values()) {
+            stats.put(status.name().toLowerCase(), notificationRepository.countByStatus(status));
+        }
+        return stats;
+    }
+
+    private static Map<String, String> ack(String code, String message) {
+        Map<String, String> response = new LinkedHashMap<>();
+        response.put("RspCode", code);
+        response.put("Message", message);
+        return response;
+    }
+
+    private String toJson(Map<String, String> params) {
+        try {
+            return objectMapper.writeValueAsString(new TreeMap<>(params));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize VNPay params", e);
+        }
+    }
+
+    private Map<String, String> fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, String>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read stored VNPay params", e);
+        }
+    }
+}
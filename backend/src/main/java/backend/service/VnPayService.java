@@ -7,16 +7,15 @@ import backend.entity.Payment;
 import backend.exception.ResourceNotFoundException;
 import backend.repository.BookingRepository;
 import backend.repository.PaymentRepository;
+import backend.util.CodeGenerator;
 import backend.util.VnPayUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +26,7 @@ public class VnPayService {
     private final BookingRepository bookingRepository;
     private final PaymentRepository paymentRepository;
     private final EmailService emailService;
+    private final CodeGenerator codeGenerator;
     
     @Transactional
     public VnPayPaymentResponse createPaymentUrl(VnPayPaymentRequest request, String ipAddress) {
@@ -48,7 +48,7 @@ public class VnPayService {
         payment.setAmount(request.getAmount());
         payment.setPaymentMethod("VNPay");
         payment.setPaymentProvider("VNPay");
-        payment.setPaymentCode("PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        payment.setPaymentCode(codeGenerator.nextPaymentCode());
         payment.setStatus(Payment.PaymentStatus.PENDING);
         
         String orderInfo = request.getOrderInfo() != null ? 
@@ -88,18 +88,26 @@ public class VnPayService {
             throw new IllegalArgumentException("Invalid payment signature");
         }
         
+        return applyPaymentResult(params);
+    }
+    
+    /**
+     * Apply a signature-checked VNPay result to its payment and booking.
+     * Idempotent: the payment row is locked, and a completed payment is never changed again
+     * (repeated IPNs and the browser return can all arrive for the same transaction).
+     */
+    @Transactional
+    public VnPayPaymentResponse applyPaymentResult(Map<String, String> params) {
         String vnpResponseCode = params.get("vnp_ResponseCode");
         String vnpTxnRef = params.get("vnp_TxnRef"); // Payment ID
         String vnpTransactionNo = params.get("vnp_TransactionNo");
-        String vnpAmount = params.get("vnp_Amount");
         String vnpBankCode = params.get("vnp_BankCode");
-        String vnpPayDate = params.get("vnp_PayDate");
         
         log.info("Payment response - Code: {}, TxnRef: {}, TransactionNo: {}", 
                 vnpResponseCode, vnpTxnRef, vnpTransactionNo);
         
-        // Lấy payment record
-        Payment payment = paymentRepository.findById(Long.parseLong(vnpTxnRef))
+        // Lấy payment record (khóa dòng để các thông báo trùng lặp xử lý tuần tự)
+        Payment payment = paymentRepository.findByIdForUpdate(Long.parseLong(vnpTxnRef))
                 .orElseThrow(() -> new ResourceNotFoundException("Payment", "id", vnpTxnRef));
         
         Booking booking = payment.getBooking();
@@ -108,6 +116,14 @@ public class VnPayService {
         response.setOrderId(payment.getId().toString());
         response.setTransactionNo(vnpTransactionNo);
         
+        if (payment.getStatus() == Payment.PaymentStatus.COMPLETED) {
+            // Đã xử lý trước đó - không cập nhật lại, không gửi email lần nữa
+            log.info("Payment {} already completed, ignoring repeated result {} ({})", 
+                    payment.getId(), vnpTransactionNo, vnpResponseCode);
+            response.setMessage("Payment successful");
+            return response;
+        }
+        
         if ("00".equals(vnpResponseCode)) {
             // Thanh toán thành công
             payment.setStatus(Payment.PaymentStatus.COMPLETED);
@@ -124,24 +140,15 @@ public class VnPayService {
             log.info("✅ Payment successful for booking: {}, payment: {}, transaction: {}", 
                     booking.getBookingCode(), payment.getId(), vnpTransactionNo);
             
-            // 📧 Send payment success email
-            try {
-                String userEmail = booking.getUser().getEmail();
-                String tourName = booking.getTour().getName();
-                String amount = String.format("%,.0f", payment.getAmount());
-                
-                emailService.sendPaymentSuccessEmail(
-                    userEmail,
-                    booking.getBookingCode(),
-                    tourName,
-                    amount,
-                    "VNPay - " + vnpBankCode
-                );
-                
-                log.info("📧 Payment success email sent to: {}", userEmail);
-            } catch (Exception e) {
-                log.error("Failed to send payment success email: {}", e.getMessage());
-            }
+            // 📧 Payment success email - queued in this transaction, sent by the outbox relay after commit
+            String userEmail = booking.getUser() != null ? booking.getUser().getEmail() : booking.getCustomerEmail();
+            emailService.sendPaymentSuccessEmail(
+                userEmail,
+                booking.getBookingCode(),
+                booking.getTour().getName(),
+                String.format("%,.0f", payment.getAmount()),
+                "VNPay - " + vnpBankCode
+            );
         } else {
             // Thanh toán thất bại
             payment.setStatus(Payment.PaymentStatus.FAILED);
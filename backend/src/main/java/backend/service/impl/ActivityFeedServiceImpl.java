@@ -0,0 +1,243 @@
+package backend.service.impl;
+
+import backend.dto.response.ActivityFeedItem;
+import backend.dto.response.ActivityFeedItem.Source;
+import backend.dto.response.CursorPageResponse;
+import backend.entity.Booking;
+import backend.entity.Review;
+import backend.entity.User;
+import backend.entity.UserSession;
+import backend.event.ActivityFeedEvent;
+import backend.exception.BadRequestException;
+import backend.repository.BookingRepository;
+import backend.repository.ReviewRepository;
+import backend.repository.UserRepository;
+import backend.repository.UserSessionRepository;
+import backend.service.ActivityFeedService;
+import backend.util.KeysetCursor;
+import backend.util.SortedMerge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Admin activity feed built from top-N queries on the indexed created_at columns
+ * of bookings, reviews, users and sessions, k-way merged in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ActivityFeedServiceImpl implements ActivityFeedService {
+
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final char CURSOR_KEY_SEPARATOR = '@';
+    private static final long SSE_TIMEOUT_MS = 30 * 60 * 1000L; // 30 minutes
+
+    private final BookingRepository bookingRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final UserSessionRepository userSessionRepository;
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public List<ActivityFeedItem> getLatest(Source source, LocalDateTime since, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return fetch(source, since != null ? since : MIN_TIME, MAX_TIME, Long.MAX_VALUE, limit);
+    }
+
+    @Override
+    public CursorPageResponse<ActivityFeedItem> getFeed(Set<Source> sources, String cursor, int limit) {
+        Set<Source> effectiveSources = sources == null || sources.isEmpty() ? EnumSet.allOf(Source.class) : sources;
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        LocalDateTime cursorTime = MAX_TIME;
+        Source cursorSource = null;
+        if (position != null) {
+            String key = position.key() != null ? position.key() : "";
+            int idx = key.indexOf(CURSOR_KEY_SEPARATOR);
+            try {
+                cursorSource = Source.valueOf(key.substring(0, idx));
+                cursorTime = LocalDateTime.parse(key.substring(idx + 1));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        // Each source is fetched with limit + 1 so the merged page knows whether more exist
+        List<List<ActivityFeedItem>> runs = new ArrayList<>();
+        for (Source source : effectiveSources) {
+            long beforeId = Long.MAX_VALUE;
+            if (cursorSource != null) {
+                // Ties on created_at are ordered by source, then id desc (see ActivityFeedItem.NEWEST_FIRST)
+                int cmp = source.compareTo(cursorSource);
+                beforeId = cmp > 0 ? Long.MAX_VALUE : cmp < 0 ? Long.MIN_VALUE : position.id();
+            }
+            runs.add(fetch(source, MIN_TIME, cursorTime, beforeId, limit + 1));
+        }
+
+        List<ActivityFeedItem> merged = SortedMerge.merge(runs, ActivityFeedItem.NEWEST_FIRST, limit + 1);
+        return CursorPageResponse.of(merged, limit, item -> new KeysetCursor(
+                item.getSource().name() + CURSOR_KEY_SEPARATOR + item.getTimestamp(), item.getEntityId()).encode());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        subscribers.add(emitter);
+
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(throwable -> subscribers.remove(emitter));
+
+        try {
+            emitter.send(SseEmitter.event()
+                .name("connected")
+                .data("{\"message\":\"Connected to activity stream\",\"timestamp\":\"" + LocalDateTime.now() + "\"}"));
+        } catch (IOException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
+
+        log.info("Admin subscribed to activity stream ({} subscribers)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Push new feed items to live subscribers once the producing transaction has committed
+     */
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onActivity(ActivityFeedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Optional<ActivityFeedItem> item = switch (event.source()) {
+            case BOOKING -> bookingRepository.findById(event.entityId()).map(this::fromBooking);
+            case REVIEW -> reviewRepository.findById(event.entityId()).map(this::fromReview);
+            case USER -> userRepository.findById(event.entityId()).map(this::fromUser);
+            case LOGIN -> userSessionRepository.findById(event.entityId()).map(this::fromSession);
+        };
+        item.ifPresent(this::broadcast);
+    }
+
+    private void broadcast(ActivityFeedItem item) {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event()
+                    .name("activity")
+                    .id(item.getId())
+                    .data(item));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping activity stream subscriber: {}", e.getMessage());
+                subscribers.remove(emitter);
+            }
+        }
+    }
+
+    private List<ActivityFeedItem> fetch(Source source, LocalDateTime since, LocalDateTime before, long beforeId, int limit) {
+        Pageable topN = PageRequest.of(0, limit);
+        return switch (source) {
+            case BOOKING -> bookingRepository.findFeedPage(since, before, beforeId, topN).stream().map(this::fromBooking).toList();
+            case REVIEW -> reviewRepository.findFeedPage(since, before, beforeId, topN).stream().map(this::fromReview).toList();
+            case USER -> userRepository.findFeedPage(since, before, beforeId, topN).stream().map(this::fromUser).toList();
+            case LOGIN -> userSessionRepository.findFeedPage(since, before, beforeId, topN).stream().map(this::fromSession).toList();
+        };
+    }
+
+    private ActivityFeedItem fromBooking(Booking booking) {
+        String tourName = booking.getTour() != null ? booking.getTour().getName() : "tour";
+        return ActivityFeedItem.builder()
+                .id(Source.BOOKING.getKey() + "_" + booking.getId())
+                .source(Source.BOOKING)
+                .entityId(booking.getId())
+                .type("BOOKING_CREATED")
+                .icon("📦")
+                .title("Booking mới")
+                .description((booking.getCustomerName() != null ? booking.getCustomerName() : "Khách hàng")
+                        + " đặt " + tourName + " (" + booking.getBookingCode() + ")")
+                .timestamp(booking.getCreatedAt())
+                .status(booking.getConfirmationStatus() != null ? booking.getConfirmationStatus().name() : "")
+                .userId(booking.getUser() != null ? booking.getUser().getId() : null)
+                .userName(booking.getUser() != null ? booking.getUser().getName() : booking.getCustomerName())
+                .amount(booking.getFinalAmount())
+                .build();
+    }
+
+    private ActivityFeedItem fromReview(Review review) {
+        String userName = review.getUser() != null && review.getUser().getName() != null ? review.getUser().getName() : "Khách";
+        return ActivityFeedItem.builder()
+                .id(Source.REVIEW.getKey() + "_" + review.getId())
+                .source(Source.REVIEW)
+                .entityId(review.getId())
+                .type("REVIEW_CREATED")
+                .icon("⭐")
+                .title("Đánh giá mới")
+                .description(userName + " đánh giá " + review.getRating() + "/5")
+                .timestamp(review.getCreatedAt())
+                .status(review.getStatus() != null ? review.getStatus().name() : "")
+                .userId(review.getUser() != null ? review.getUser().getId() : null)
+                .userName(userName)
+                .build();
+    }
+
+    private ActivityFeedItem fromUser(User user) {
+        return ActivityFeedItem.builder()
+                .id(Source.USER.getKey() + "_" + user.getId())
+                .source(Source.USER)
+                .entityId(user.getId())
+                .type("USER_REGISTRATION")
+                .icon("👤")
+                .title("User mới")
+                .description((user.getName() != null ? user.getName() : user.getEmail()) + " đăng ký tài khoản")
+                .timestamp(user.getCreatedAt())
+                .status("new")
+                .userId(user.getId())
+                .userName(user.getName())
+                .userRole(user.getRole() != null ? user.getRole().getName() : "Customer")
+                .build();
+    }
+
+    private ActivityFeedItem fromSession(UserSession session) {
+        User user = session.getUser();
+        return ActivityFeedItem.builder()
+                .id(Source.LOGIN.getKey() + "_" + session.getId())
+                .source(Source.LOGIN)
+                .entityId(session.getId())
+                .type("USER_LOGIN")
+                .icon("🔑")
+                .title("Đăng nhập")
+                .description("User đăng nhập từ " + (session.getCountry() != null ? session.getCountry() : session.getIpAddress()))
+                .timestamp(session.getCreatedAt())
+                .status(Boolean.TRUE.equals(session.getIsActive()) ? "active" : "ended")
+                .userId(user != null ? user.getId() : null)
+                .userName(user != null ? user.getName() : "Unknown")
+                .deviceType(session.getDeviceType())
+                .ipAddress(session.getIpAddress())
+                .build();
+    }
+}
@@ -2,10 +2,12 @@ package backend.service.impl;
 
 import backend.dto.request.LoginRequest;
 import backend.dto.request.RegisterRequest;
+import backend.dto.response.ActivityFeedItem;
 import backend.dto.response.AuthResponse;
 import backend.dto.response.UserResponse;
 import backend.entity.Role;
 import backend.entity.User;
+import backend.event.ActivityFeedEvent;
 import backend.exception.BadRequestException;
 import backend.exception.ResourceNotFoundException;
 import backend.repository.RoleRepository;
@@ -20,6 +22,7 @@ import backend.util.PasswordValidator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -43,6 +46,7 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService tokenBlacklistService;
     private final backend.service.EmailVerificationService emailVerificationService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public AuthResponse register(RegisterRequest request) {
@@ -87,6 +91,7 @@ public class AuthServiceImpl implements AuthService {
         user.setStatus(User.UserStatus.PENDING); // Set to PENDING until email verified
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new ActivityFeedEvent(ActivityFeedItem.Source.USER, savedUser.getId()));
         
         // Send verification email
         emailVerificationService.sendVerificationEmail(savedUser);
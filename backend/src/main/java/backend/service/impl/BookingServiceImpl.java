@@ -1,6 +1,8 @@
 package backend.service.impl;
 
+import backend.dto.response.ActivityFeedItem;
 import backend.dto.response.BookingResponse;
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Booking;
 import backend.entity.Booking.BookingStatus;
 import backend.entity.Booking.ConfirmationStatus;
@@ -9,26 +11,33 @@ import backend.entity.BookingCancellation;
 import backend.entity.Notification;
 import backend.entity.Promotion;
 import backend.entity.Tour;
+import backend.event.ActivityFeedEvent;
 import backend.exception.BadRequestException;
 import backend.mapper.BookingMapper;
 import backend.repository.BookingCancellationRepository;
 import backend.repository.BookingRepository;
+import backend.repository.BookingSpecifications;
+import backend.repository.KeysetSpecifications;
 import backend.repository.PromotionRepository;
+import backend.repository.TableStatisticsRepository;
 import backend.repository.TourRepository;
 import backend.security.UserDetailsImpl;
 import backend.service.BookingService;
 import backend.service.NotificationService;
+import backend.util.BookingPriceCalculator;
+import backend.util.CodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -50,6 +59,9 @@ public class BookingServiceImpl implements BookingService {
     private final backend.service.LoyaltyService loyaltyService;
     private final backend.service.ReferralService referralService;
     private final backend.service.EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CodeGenerator codeGenerator;
+    private final TableStatisticsRepository tableStatisticsRepository;
     
     @Override
     public Booking createBooking(Booking booking) {
@@ -87,6 +99,7 @@ public class BookingServiceImpl implements BookingService {
         Booking savedBooking = bookingRepository.save(booking);
         log.info("Booking created successfully with ID: {} and code: {}", 
                 savedBooking.getId(), savedBooking.getBookingCode());
+        eventPublisher.publishEvent(new ActivityFeedEvent(ActivityFeedItem.Source.BOOKING, savedBooking.getId()));
         
         // Send success notification
         sendBookingCreatedNotification(savedBooking);
@@ -96,20 +109,16 @@ public class BookingServiceImpl implements BookingService {
     
     private BigDecimal calculateBookingPrice(Booking booking) {
         Tour tour = booking.getTour();
-        BigDecimal basePrice = tour.getEffectivePrice();
         
-        // Calculate price for adults and children
-        BigDecimal adultPrice = basePrice.multiply(BigDecimal.valueOf(booking.getNumAdults()));
-        BigDecimal childPrice = basePrice.multiply(BigDecimal.valueOf(0.7)) // 30% discount for children
-                                        .multiply(BigDecimal.valueOf(booking.getNumChildren()));
-        
-        BigDecimal subtotal = adultPrice.add(childPrice);
+        // Calculate price for adults and children (30% discount for children)
+        BigDecimal subtotal = BookingPriceCalculator.subtotal(
+                tour.getEffectivePrice(), booking.getNumAdults(), booking.getNumChildren());
         
         // Apply promotion if exists
         BigDecimal discountAmount = BigDecimal.ZERO;
         if (booking.getPromotion() != null) {
             BigDecimal originalTotal = subtotal;
-            subtotal = applyPromotion(subtotal, booking.getPromotion());
+            subtotal = BookingPriceCalculator.applyPromotion(subtotal, booking.getPromotion());
             discountAmount = originalTotal.subtract(subtotal);
             booking.setDiscountAmount(discountAmount);
         }
@@ -117,25 +126,6 @@ public class BookingServiceImpl implements BookingService {
         return subtotal;
     }
     
-    private BigDecimal applyPromotion(BigDecimal totalPrice, Promotion promotion) {
-        BigDecimal discount = BigDecimal.ZERO;
-        
-        if (promotion.getType() == Promotion.PromotionType.PERCENTAGE) {
-            discount = totalPrice.multiply(promotion.getValue().divide(BigDecimal.valueOf(100)))
-                    .setScale(0, RoundingMode.HALF_UP);
-            
-            // Apply max discount if set
-            if (promotion.getMaxDiscount() != null && discount.compareTo(promotion.getMaxDiscount()) > 0) {
-                discount = promotion.getMaxDiscount();
-            }
-        } else {
-            // Fixed amount discount
-            discount = promotion.getValue();
-        }
-        
-        return totalPrice.subtract(discount);
-    }
-    
     @Override
     public Booking updateBooking(Long bookingId, Booking booking) {
         log.info("Updating booking with ID: {}", bookingId);
@@ -180,6 +170,9 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public Optional<Booking> getBookingByCode(String bookingCode) {
+        if (!CodeGenerator.mayExist(bookingCode, CodeGenerator.BOOKING_PREFIX)) {
+            return Optional.empty();
+        }
         Optional<Booking> booking = bookingRepository.findByBookingCode(bookingCode);
         
         // Force initialization of lazy-loaded relationships to avoid LazyInitializationException
@@ -288,6 +281,42 @@ public class BookingServiceImpl implements BookingService {
         return bookings;
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Booking> searchBookingsForAdmin(
+        String search,
+        ConfirmationStatus confirmationStatus,
+        PaymentStatus paymentStatus,
+        LocalDateTime createdSince,
+        Long tourId,
+        String paymentMethod,
+        Pageable pageable
+    ) {
+        return bookingRepository.findAll(
+                BookingSpecifications.adminFilter(search, confirmationStatus, paymentStatus, createdSince, tourId, paymentMethod)
+                        .and(BookingSpecifications.fetchListAssociations()),
+                pageable);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Booking> scrollBookingsForAdmin(
+        String search,
+        ConfirmationStatus confirmationStatus,
+        PaymentStatus paymentStatus,
+        LocalDateTime createdSince,
+        Sort.Direction direction,
+        String cursor,
+        int size,
+        boolean includeTotal
+    ) {
+        CursorPageResponse<Booking> page = KeysetSpecifications.scroll(bookingRepository,
+                BookingSpecifications.adminFilter(search, confirmationStatus, paymentStatus, createdSince)
+                        .and(BookingSpecifications.fetchListAssociations()),
+                cursor, direction, size, Booking::getCreatedAt, Booking::getId);
+        return includeTotal ? page.withApproximateTotal(tableStatisticsRepository.approximateRowCount("bookings")) : page;
+    }
+    
     @Override
     public Booking confirmBooking(Long bookingId) {
         log.info("Confirming booking with ID: {}", bookingId);
@@ -401,19 +430,14 @@ public class BookingServiceImpl implements BookingService {
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
         
-        BigDecimal basePrice = tour.getEffectivePrice();
-        BigDecimal adultPrice = basePrice.multiply(BigDecimal.valueOf(adults));
-        BigDecimal childPrice = basePrice.multiply(BigDecimal.valueOf(0.7))
-                                        .multiply(BigDecimal.valueOf(children));
-        
-        BigDecimal totalPrice = adultPrice.add(childPrice);
+        BigDecimal totalPrice = BookingPriceCalculator.subtotal(tour.getEffectivePrice(), adults, children);
         
         // Apply promotion if provided
         if (promotionCode != null && !promotionCode.isEmpty()) {
             Optional<Promotion> promotion = promotionRepository.findValidPromotionByCode(
                     promotionCode, LocalDateTime.now());
             if (promotion.isPresent()) {
-                totalPrice = applyPromotion(totalPrice, promotion.get());
+                totalPrice = BookingPriceCalculator.applyPromotion(totalPrice, promotion.get());
             }
         }
         
@@ -450,19 +474,8 @@ public class BookingServiceImpl implements BookingService {
     
     @Override
     public String generateBookingCode() {
-        String prefix = "BK";
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String randomSuffix = String.valueOf((int) (Math.random() * 1000));
-        
-        String bookingCode = prefix + timestamp.substring(timestamp.length() - 8) + randomSuffix;
-        
-        // Ensure uniqueness
-        while (bookingRepository.existsByBookingCode(bookingCode)) {
-            randomSuffix = String.valueOf((int) (Math.random() * 1000));
-            bookingCode = prefix + timestamp.substring(timestamp.length() - 8) + randomSuffix;
-        }
-        
-        return bookingCode;
+        // Unique per node by construction, no existsByBookingCode probing
+        return codeGenerator.nextBookingCode();
     }
     
     @Override
@@ -774,7 +787,7 @@ public class BookingServiceImpl implements BookingService {
                 tourName
             );
             
-            log.info("📧 Booking confirmation email sent to: {}", userEmail);
+            log.info("📧 Booking confirmation email queued for: {}", userEmail);
         } catch (Exception e) {
             log.error("Failed to send booking confirmation email", e);
         }
@@ -0,0 +1,58 @@
+package backend.service.impl;
+
+import backend.service.OutboxHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends emails queued by EmailServiceImpl. The HTML is rendered when the email is queued,
+ * so this only talks to SMTP; any error propagates and the relay retries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxHandler implements OutboxHandler {
+
+    public static final String TYPE = "email";
+
+    public record Message(String to, String subject, String html) {
+    }
+
+    private final JavaMailSender mailSender;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.email.from}")
+    private String fromEmail;
+
+    @Value("${app.email.from-name}")
+    private String fromName;
+
+    @Value("${spring.mail.username:#{null}}")
+    private String mailUsername;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        Message email = objectMapper.readValue(payload, Message.class);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(mailUsername != null ? mailUsername : fromEmail, fromName);
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.html(), true);
+
+        mailSender.send(message);
+        log.info("✅ Email \"{}\" sent to: {}", email.subject(), email.to());
+    }
+}
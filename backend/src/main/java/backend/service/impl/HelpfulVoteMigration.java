@@ -0,0 +1,92 @@
+package backend.service.impl;
+
+import backend.repository.ReviewHelpfulVoteRepository;
+import backend.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves the legacy comma-separated voter lists (reviews.helpful_user_ids) into
+ * review_helpful_votes on startup. Each review is idempotent on its own: votes are inserted
+ * with INSERT IGNORE and the list is only cleared, together with a recount of helpful_count,
+ * after its votes are stored. A crashed or concurrent run (several nodes) just redoes the work.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HelpfulVoteMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewHelpfulVoteRepository helpfulVoteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        try {
+            migrate();
+        } catch (RuntimeException e) {
+            log.warn("Helpful vote migration failed, will retry on next start: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return number of reviews migrated
+     */
+    public int migrate() {
+        int reviews = 0;
+        long votes = 0;
+        long afterId = 0;
+        List<Object[]> batch;
+        do {
+            batch = reviewRepository.findLegacyHelpfulVoters(afterId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : batch) {
+                Long reviewId = (Long) row[0];
+                for (Long userId : parseVoters((String) row[1])) {
+                    votes += helpfulVoteRepository.insertIfAbsent(reviewId, userId);
+                }
+                reviewRepository.finishLegacyHelpfulMigration(reviewId);
+                afterId = reviewId;
+                reviews++;
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (reviews > 0) {
+            log.info("Migrated {} legacy helpful vote(s) from {} review(s)", votes, reviews);
+        }
+        return reviews;
+    }
+
+    /**
+     * Parse "1,5,12" into user IDs, skipping blanks, junk and duplicates
+     */
+    static Set<Long> parseVoters(String legacy) {
+        Set<Long> voters = new LinkedHashSet<>();
+        if (legacy == null) {
+            return voters;
+        }
+        for (String token : legacy.split(",")) {
+            String trimmed = token.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                long userId = Long.parseLong(trimmed);
+                if (userId > 0) {
+                    voters.add(userId);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Skipping invalid legacy voter id '{}'", trimmed);
+            }
+        }
+        return voters;
+    }
+}
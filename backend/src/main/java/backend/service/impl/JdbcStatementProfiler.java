@@ -0,0 +1,293 @@
+package backend.service.impl;
+
+import backend.config.JdbcProfilerProperties;
+import backend.util.SqlNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC statement profiler, fed by the datasource-proxy wrapper around the application DataSource.
+ *
+ * Per statement shape (SQL normalized by {@link SqlNormalizer}) it keeps a count, error count,
+ * total/max time and a fixed-bucket latency histogram, all lock-free. Statements at or above
+ * slowQueryMs are written to the "backend.jdbc.slow-query" logger as key=value lines. Within an
+ * HTTP request (see JdbcProfilerConfig) executions are also counted per shape; a shape repeated
+ * repeatedStatementThreshold times is reported as N+1 against the controller method.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.jdbc.profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class JdbcStatementProfiler implements QueryExecutionListener {
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("backend.jdbc.slow-query");
+
+    static final String OTHER = "(other)";
+
+    // Histogram bucket upper bounds in ms; the last bucket is open-ended
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final JdbcProfilerProperties settings;
+
+    // Raw SQL -> normalized; Hibernate reuses the same strings, so this is nearly always a hit
+    private final Cache<String, String> normalizedSql = Caffeine.newBuilder().maximumSize(2_000).build();
+
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final Map<String, NPlusOneStats> nPlusOne = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestScope> currentRequest = new ThreadLocal<>();
+
+    private final LongAdder totalStatements = new LongAdder();
+    private final LongAdder slowStatements = new LongAdder();
+    private volatile LocalDateTime since = LocalDateTime.now();
+
+    public JdbcStatementProfiler(JdbcProfilerProperties settings) {
+        this.settings = settings;
+    }
+
+    // ================================
+    // DATASOURCE-PROXY CALLBACKS
+    // ================================
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Timing is measured by datasource-proxy around the execution
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = normalizedSql.get(queryInfoList.get(0).getQuery(), SqlNormalizer::normalize);
+        long elapsedMs = execInfo.getElapsedTime();
+
+        totalStatements.increment();
+        statsFor(sql).record(elapsedMs, execInfo.isSuccess());
+
+        RequestScope request = currentRequest.get();
+        if (request != null) {
+            request.executions.merge(sql, 1, Integer::sum);
+        }
+
+        if (elapsedMs >= settings.getSlowQueryMs()) {
+            slowStatements.increment();
+            SLOW_QUERY_LOG.warn("slow_query elapsed_ms={} handler={} datasource={} batch_size={} success={} sql=\"{}\"",
+                    elapsedMs,
+                    request != null ? request.handler : "-",
+                    execInfo.getDataSourceName(),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : queryInfoList.size(),
+                    execInfo.isSuccess(),
+                    truncate(sql));
+        }
+    }
+
+    private StatementStats statsFor(String sql) {
+        StatementStats stats = statements.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String key = statements.size() < settings.getMaxStatements() ? sql : OTHER;
+        return statements.computeIfAbsent(key, k -> new StatementStats());
+    }
+
+    // ================================
+    // REQUEST SCOPE (N+1 DETECTION)
+    // ================================
+
+    /**
+     * Start counting statements for the current thread's request
+     */
+    public void beginRequest(String handler) {
+        currentRequest.set(new RequestScope(handler));
+    }
+
+    /**
+     * Stop counting and report statement shapes repeated at least repeatedStatementThreshold times
+     */
+    public void endRequest() {
+        RequestScope request = currentRequest.get();
+        currentRequest.remove();
+        if (request == null) {
+            return;
+        }
+        int threshold = settings.getRepeatedStatementThreshold();
+        request.executions.forEach((sql, count) -> {
+            if (count < threshold || OTHER.equals(sql)) {
+                return;
+            }
+            String key = request.handler + "\n" + sql;
+            NPlusOneStats stats = nPlusOne.get(key);
+            if (stats == null) {
+                if (nPlusOne.size() >= settings.getMaxStatements()) {
+                    return;
+                }
+                stats = nPlusOne.computeIfAbsent(key, k -> new NPlusOneStats(request.handler, sql));
+            }
+            stats.record(count);
+            log.warn("n_plus_one handler={} executions={} sql=\"{}\"", request.handler, count, truncate(sql));
+        });
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    /**
+     * Top statements by total time and the N+1 offenders, for the admin dashboard
+     */
+    public Map<String, Object> stats(int limit) {
+        List<Map<String, Object>> top = statements.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, StatementStats> e) -> e.getValue().totalMs.sum()).reversed())
+                .limit(limit)
+                .map(e -> e.getValue().toMap(truncate(e.getKey())))
+                .toList();
+
+        List<Map<String, Object>> offenders = nPlusOne.values().stream()
+                .sorted(Comparator.comparingLong((NPlusOneStats s) -> s.requests.sum()).reversed())
+                .limit(limit)
+                .map(NPlusOneStats::toMap)
+                .toList();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("since", since);
+        stats.put("slowQueryMs", settings.getSlowQueryMs());
+        stats.put("repeatedStatementThreshold", settings.getRepeatedStatementThreshold());
+        stats.put("totalStatements", totalStatements.sum());
+        stats.put("slowStatements", slowStatements.sum());
+        stats.put("trackedStatements", statements.size());
+        stats.put("topStatements", top);
+        stats.put("nPlusOne", offenders);
+        return stats;
+    }
+
+    public void reset() {
+        statements.clear();
+        nPlusOne.clear();
+        totalStatements.reset();
+        slowStatements.reset();
+        since = LocalDateTime.now();
+    }
+
+    private String truncate(String sql) {
+        int max = settings.getMaxSqlLength();
+        return sql.length() <= max ? sql : sql.substring(0, max) + "...";
+    }
+
+    /**
+     * Upper bound (ms) of the bucket holding the given percentile; the open bucket reports the max
+     */
+    static long percentile(AtomicLongArray buckets, long count, long maxMs, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(BUCKET_BOUNDS_MS[i], maxMs);
+            }
+        }
+        return maxMs;
+    }
+
+    static int bucketOf(long elapsedMs) {
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            if (elapsedMs <= BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+
+    private static final class RequestScope {
+        private final String handler;
+        private final Map<String, Integer> executions = new HashMap<>();   // Confined to the request thread
+
+        private RequestScope(String handler) {
+            this.handler = handler;
+        }
+    }
+
+    private static final class StatementStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final AtomicLong maxMs = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+
+        void record(long elapsedMs, boolean success) {
+            count.increment();
+            if (!success) {
+                errors.increment();
+            }
+            totalMs.add(elapsedMs);
+            maxMs.accumulateAndGet(elapsedMs, Math::max);
+            buckets.incrementAndGet(bucketOf(elapsedMs));
+        }
+
+        Map<String, Object> toMap(String sql) {
+            long n = count.sum();
+            long total = totalMs.sum();
+            long max = maxMs.get();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("sql", sql);
+            map.put("count", n);
+            map.put("errors", errors.sum());
+            map.put("totalMs", total);
+            map.put("avgMs", n > 0 ? Math.round(total * 100.0 / n) / 100.0 : 0.0);
+            map.put("p50Ms", percentile(buckets, n, max, 0.50));
+            map.put("p95Ms", percentile(buckets, n, max, 0.95));
+            map.put("p99Ms", percentile(buckets, n, max, 0.99));
+            map.put("maxMs", max);
+            return map;
+        }
+    }
+
+    private final class NPlusOneStats {
+        private final String handler;
+        private final String sql;
+        private final LongAdder requests = new LongAdder();
+        private final AtomicLong maxExecutions = new AtomicLong();
+        private volatile LocalDateTime lastSeen;
+
+        private NPlusOneStats(String handler, String sql) {
+            this.handler = handler;
+            this.sql = sql;
+        }
+
+        void record(int executions) {
+            requests.increment();
+            maxExecutions.accumulateAndGet(executions, Math::max);
+            lastSeen = LocalDateTime.now();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("handler", handler);
+            map.put("sql", truncate(sql));
+            map.put("requests", requests.sum());
+            map.put("maxExecutionsPerRequest", maxExecutions.get());
+            map.put("lastSeen", lastSeen);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package backend.service.impl;
+
+import backend.service.SettingsSnapshot;
+import backend.service.SystemSettingService;
+import backend.service.SystemSettingsListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loyalty rules overridden through system settings: "loyalty.review_basic_points" = "80" takes
+ * precedence over the review_basic_points row of loyalty_config. Rebuilt only when a loyalty.*
+ * setting changes, so LoyaltyServiceImpl reads it as a plain map lookup.
+ */
+@Component
+@Slf4j
+public class LoyaltyRuleOverrides implements SystemSettingsListener {
+
+    private volatile Map<String, String> overrides = Map.of();
+
+    @Override
+    public void onSettingsChanged(SettingsSnapshot snapshot, Set<String> changedKeys) {
+        if (changedKeys.stream().noneMatch(key -> key.startsWith(SystemSettingService.LOYALTY_RULE_PREFIX))) {
+            return;
+        }
+        Map<String, String> next = new HashMap<>();
+        snapshot.asMap().forEach((key, value) -> {
+            if (key.startsWith(SystemSettingService.LOYALTY_RULE_PREFIX) && value != null && !value.isBlank()) {
+                next.put(key.substring(SystemSettingService.LOYALTY_RULE_PREFIX.length()), value.trim());
+            }
+        });
+        overrides = Map.copyOf(next);
+        log.info("Loyalty rule overrides from system settings: {}", overrides);
+    }
+
+    /**
+     * Overridden value of a loyalty_config key, or null to use loyalty_config
+     */
+    public String get(String configKey) {
+        return overrides.get(configKey);
+    }
+}
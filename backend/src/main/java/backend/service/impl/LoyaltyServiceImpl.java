@@ -33,6 +33,7 @@ public class LoyaltyServiceImpl implements LoyaltyService {
     private final LoyaltyLevelHistoryRepository levelHistoryRepository;
     private final UserRepository userRepository;
     private final backend.service.EmailService emailService;
+    private final LoyaltyRuleOverrides ruleOverrides;
     
     @Override
     public LoyaltyPoints getOrCreateLoyaltyPoints(Long userId) {
@@ -399,6 +400,10 @@ public class LoyaltyServiceImpl implements LoyaltyService {
     }
     
     private String getConfigValue(String key, String defaultValue) {
+        String override = ruleOverrides.get(key);
+        if (override != null) {
+            return override;
+        }
         return loyaltyConfigRepository.getConfigValue(key).orElse(defaultValue);
     }
 
@@ -1,14 +1,19 @@
 package backend.service.impl;
 
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Notification;
 import backend.entity.User;
+import backend.repository.KeysetSpecifications;
 import backend.repository.NotificationRepository;
+import backend.repository.TableStatisticsRepository;
 import backend.repository.UserRepository;
 import backend.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +28,7 @@ public class NotificationServiceImpl implements NotificationService {
     
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final TableStatisticsRepository tableStatisticsRepository;
     
     @Override
     @Transactional(readOnly = true)
@@ -66,6 +72,16 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Notification> scrollNotifications(Notification.NotificationType type, Sort.Direction direction,
+                                                                String cursor, int size, boolean includeTotal) {
+        Specification<Notification> filter = (root, query, cb) -> type == null ? null : cb.equal(root.get("type"), type);
+        CursorPageResponse<Notification> page = KeysetSpecifications.scroll(notificationRepository, filter,
+                cursor, direction, size, Notification::getCreatedAt, Notification::getId);
+        return includeTotal ? page.withApproximateTotal(tableStatisticsRepository.approximateRowCount("notifications")) : page;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Page<Notification> getUnreadNotifications(Pageable pageable) {
@@ -0,0 +1,257 @@
+package backend.service.impl;
+
+import backend.config.OutboxProperties;
+import backend.entity.OutboxMessage;
+import backend.entity.OutboxMessage.Status;
+import backend.repository.OutboxMessageRepository;
+import backend.service.OutboxHandler;
+import backend.util.RetryBackoff;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains outbox_messages: claims a batch of due rows, delivers them in parallel on the
+ * outboxExecutor, then marks the successes SENT in one UPDATE. Failures are retried with
+ * exponential backoff and end up FAILED (dead letter) after maxAttempts.
+ *
+ * Runs every pollIntervalMs and right after a transaction that enqueued something commits.
+ * A drain only claims and hands off: results are recorded, and the next batch claimed, from the
+ * completion of the deliveries, so the calling (scheduler) thread never waits on SMTP.
+ * At most one batch is in flight per node.
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private static final long PURGE_INTERVAL_MS = 3_600_000;
+
+    private final OutboxMessageRepository outboxRepository;
+    private final Map<String, OutboxHandler> handlers;
+    private final OutboxProperties settings;
+    private final Executor workers;
+    private final Executor wakeUpExecutor;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private volatile int lastBatchSize;
+    private volatile long lastBatchMillis;
+    private volatile String lastError;
+    private volatile long lastPurgeMs;
+
+    public OutboxRelay(OutboxMessageRepository outboxRepository,
+                       List<OutboxHandler> handlers,
+                       OutboxProperties settings,
+                       @Qualifier("outboxExecutor") Executor workers,
+                       @Qualifier("taskExecutor") Executor wakeUpExecutor) {
+        this.outboxRepository = outboxRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(OutboxHandler::type, Function.identity()));
+        this.settings = settings;
+        this.workers = workers;
+        this.wakeUpExecutor = wakeUpExecutor;
+    }
+
+    /**
+     * Start a drain now instead of at the next poll; called after a commit that enqueued messages
+     */
+    public void wakeUp() {
+        if (draining.get()) {
+            wakeUpRequested.set(true);
+            return;
+        }
+        try {
+            wakeUpExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Busy: the next poll picks the messages up
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}",
+               initialDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            wakeUpRequested.set(true);
+            return;
+        }
+        wakeUpRequested.set(false);
+        try {
+            releaseStale();
+            purgeSent();
+        } catch (RuntimeException e) {
+            finish(e);
+            return;
+        }
+        relayFrom(0);
+    }
+
+    /**
+     * Hand off the next batch; keeps going from its completion while batches come back full,
+     * up to maxBatchesPerPoll
+     */
+    private void relayFrom(int batches) {
+        CompletableFuture<Integer> batch;
+        try {
+            batch = relayBatch();
+        } catch (RuntimeException e) {
+            finish(e);
+            return;
+        }
+        batch.whenComplete((due, error) -> {
+            if (error == null && due >= settings.getBatchSize() && batches + 1 < settings.getMaxBatchesPerPoll()) {
+                relayFrom(batches + 1);
+            } else {
+                finish(error);
+            }
+        });
+    }
+
+    private void finish(Throwable error) {
+        if (error == null) {
+            lastError = null;
+        } else {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (lastError == null) {
+                log.warn("Outbox relay failed, retrying every {} ms: {}", settings.getPollIntervalMs(), cause.getMessage());
+            }
+            lastError = cause.getMessage();
+        }
+        draining.set(false);
+        if (wakeUpRequested.getAndSet(false)) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Claim one batch and start delivering it; the future completes with how many rows were due
+     * once every delivery has finished and its outcome is stored
+     */
+    CompletableFuture<Integer> relayBatch() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = outboxRepository.findDueIds(Status.PENDING, now, PageRequest.of(0, settings.getBatchSize()));
+        if (due.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        String token = UUID.randomUUID().toString();
+        if (outboxRepository.claim(due, token, Status.PENDING, Status.PROCESSING, now) == 0) {
+            return CompletableFuture.completedFuture(due.size());   // Another node claimed them first
+        }
+        List<OutboxMessage> claimed = outboxRepository.findClaimed(token, Status.PROCESSING);
+
+        Set<Long> delivered = ConcurrentHashMap.newKeySet();
+        CompletableFuture<?>[] deliveries = new CompletableFuture<?>[claimed.size()];
+        for (int i = 0; i < claimed.size(); i++) {
+            OutboxMessage message = claimed.get(i);
+            deliveries[i] = CompletableFuture.supplyAsync(() -> deliver(message), workers)
+                    .thenAccept(failure -> {
+                        if (failure == null) {
+                            delivered.add(message.getId());
+                        } else {
+                            recordFailure(message, failure);
+                        }
+                    });
+        }
+
+        return CompletableFuture.allOf(deliveries).thenApply(ignored -> {
+            List<Long> sentIds = claimed.stream().map(OutboxMessage::getId).filter(delivered::contains).toList();
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, Status.SENT, LocalDateTime.now());
+                sent.add(sentIds.size());
+            }
+            lastBatchSize = claimed.size();
+            lastBatchMillis = System.currentTimeMillis() - started;
+            log.debug("Outbox batch: {} delivered, {} failed in {} ms",
+                    sentIds.size(), claimed.size() - sentIds.size(), lastBatchMillis);
+            return due.size();
+        });
+    }
+
+    /**
+     * Run the handler; returns the failure, or null on success
+     */
+    private Throwable deliver(OutboxMessage message) {
+        OutboxHandler handler = handlers.get(message.getType());
+        if (handler == null) {
+            return new IllegalStateException("No outbox handler for type " + message.getType());
+        }
+        try {
+            handler.handle(message.getPayload());
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private void recordFailure(OutboxMessage message, Throwable failure) {
+        int attempts = message.getAttempts() + 1;
+        boolean exhausted = attempts >= settings.getMaxAttempts();
+        LocalDateTime next = LocalDateTime.now().plusSeconds(backoffSeconds(attempts));
+        outboxRepository.markAttemptFailed(message.getId(), exhausted ? Status.FAILED : Status.PENDING, next,
+                RetryBackoff.truncateError(failure.getMessage()));
+        failedAttempts.increment();
+        if (exhausted) {
+            deadLettered.increment();
+            log.error("Outbox message {} ({}) failed {} times, giving up: {}",
+                    message.getId(), message.getType(), attempts, failure.getMessage());
+        } else {
+            log.warn("Outbox message {} ({}) attempt {} failed, retrying at {}: {}",
+                    message.getId(), message.getType(), attempts, next, failure.getMessage());
+        }
+    }
+
+    long backoffSeconds(int attempts) {
+        return RetryBackoff.delaySeconds(attempts, settings.getRetryBaseSeconds(), settings.getRetryMaxSeconds());
+    }
+
+    private void releaseStale() {
+        int released = outboxRepository.releaseStale(Status.PROCESSING, Status.PENDING,
+                LocalDateTime.now().minusSeconds(settings.getStaleAfterSeconds()));
+        if (released > 0) {
+            log.warn("Released {} stale outbox messages", released);
+        }
+    }
+
+    private void purgeSent() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurgeMs >= PURGE_INTERVAL_MS) {
+            lastPurgeMs = now;
+            outboxRepository.deleteProcessedBefore(Status.SENT, LocalDateTime.now().minusDays(settings.getRetentionDays()));
+        }
+    }
+
+    /**
+     * Counters since start, for the admin dashboard
+     */
+    Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sent", sent.sum());
+        stats.put("failedAttempts", failedAttempts.sum());
+        stats.put("deadLettered", deadLettered.sum());
+        stats.put("lastBatchSize", lastBatchSize);
+        stats.put("lastBatchMillis", lastBatchMillis);
+        stats.put("handlers", handlers.keySet());
+        stats.put("lastError", lastError);
+        return stats;
+    }
+}
@@ -0,0 +1,84 @@
+package backend.service.impl;
+
+import backend.entity.OutboxMessage;
+import backend.entity.OutboxMessage.Status;
+import backend.repository.OutboxMessageRepository;
+import backend.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxMessageRepository outboxRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder enqueued = new LongAdder();
+
+    @Override
+    @Transactional
+    public void enqueue(String type, Object payload) {
+        OutboxMessage message = new OutboxMessage();
+        message.setType(type);
+        message.setPayload(toJson(payload));
+        outboxRepository.save(message);
+        enqueued.increment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStats() {
+        LocalDateTime oldestPending = outboxRepository.findOldestCreatedAt(Status.PENDING);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enqueued", enqueued.sum());
+        stats.put("pending", outboxRepository.countByStatus(Status.PENDING));
+        stats.put("processing", outboxRepository.countByStatus(Status.PROCESSING));
+        stats.put("failed", outboxRepository.countByStatus(Status.FAILED));
+        stats.put("lagSeconds", oldestPending != null ? Duration.between(oldestPending, LocalDateTime.now()).toSeconds() : 0);
+        stats.putAll(outboxRelay.stats());
+        return stats;
+    }
+
+    @Override
+    public int retryFailed() {
+        int requeued = outboxRepository.requeueFailed(Status.FAILED, Status.PENDING, LocalDateTime.now());
+        log.info("Requeued {} dead-lettered outbox messages", requeued);
+        if (requeued > 0) {
+            outboxRelay.wakeUp();
+        }
+        return requeued;
+    }
+}
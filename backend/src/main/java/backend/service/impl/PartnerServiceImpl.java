@@ -1,18 +1,27 @@
 package backend.service.impl;
 
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Partner;
+import backend.exception.BadRequestException;
 import backend.repository.PartnerRepository;
+import backend.repository.PartnerSpecifications;
 import backend.service.PartnerService;
+import backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -187,4 +196,82 @@ public class PartnerServiceImpl implements PartnerService {
         log.info("Partner status changed successfully for ID: {}", id);
         return updatedPartner;
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Partner> searchPartnersForAdmin(
+        String search,
+        Partner.PartnerStatus status,
+        Partner.PartnerType type,
+        Pageable pageable
+    ) {
+        return partnerRepository.findAll(PartnerSpecifications.adminFilter(search, status, type), pageable);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Partner> scrollPartnersForAdmin(
+        String search,
+        Partner.PartnerStatus status,
+        Partner.PartnerType type,
+        String sortBy,
+        Sort.Direction direction,
+        String cursor,
+        int size
+    ) {
+        if (!PartnerSpecifications.KEYSET_SORT_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Invalid sortBy: " + sortBy);
+        }
+        String sortField = sortBy;
+        Sort sort = "id".equals(sortField)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+        
+        Specification<Partner> spec;
+        try {
+            spec = PartnerSpecifications.adminFilter(search, status, type)
+                    .and(PartnerSpecifications.after(KeysetCursor.decode(cursor), sortField, direction));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        
+        // Fetch one extra row to know whether another page exists (no COUNT query)
+        List<Partner> rows = partnerRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+        return CursorPageResponse.of(rows, size, p -> PartnerSpecifications.cursorOf(p, sortField).encode());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPartnerStats() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (Partner.PartnerStatus status : Partner.PartnerStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        long total = 0;
+        for (Object[] row : partnerRepository.countGroupByStatus()) {
+            long count = ((Number) row[1]).longValue();
+            byStatus.put(((Partner.PartnerStatus) row[0]).name(), count);
+            total += count;
+        }
+        
+        Map<String, Long> byType = new LinkedHashMap<>();
+        for (Partner.PartnerType type : Partner.PartnerType.values()) {
+            byType.put(type.name(), 0L);
+        }
+        for (Object[] row : partnerRepository.countGroupByType()) {
+            byType.put(((Partner.PartnerType) row[0]).name(), ((Number) row[1]).longValue());
+        }
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", total);
+        stats.put("byStatus", byStatus);
+        stats.put("byType", byType);
+        return stats;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countPartnersByStatus(Partner.PartnerStatus status) {
+        return partnerRepository.countByStatus(status);
+    }
 }
@@ -12,6 +12,7 @@ import backend.repository.PointVoucherRepository;
 import backend.repository.UserRepository;
 import backend.service.LoyaltyService;
 import backend.service.PointVoucherService;
+import backend.util.CodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -37,6 +38,7 @@ public class PointVoucherServiceImpl implements PointVoucherService {
     private final LoyaltyService loyaltyService;
     private final LoyaltyConfigRepository configRepository;
     private final backend.service.EmailService emailService;
+    private final CodeGenerator codeGenerator;
     
     @Override
     public PointVoucher redeemPointsForVoucher(Long userId, Integer points,
@@ -104,6 +106,9 @@ public class PointVoucherServiceImpl implements PointVoucherService {
     
     @Override
     public PointVoucher getVoucherByCode(String voucherCode) {
+        if (!CodeGenerator.mayExist(voucherCode, CodeGenerator.VOUCHER_PREFIX)) {
+            throw new RuntimeException("Voucher không tồn tại");
+        }
         // Use fetch join to avoid lazy loading issues
         return voucherRepository.findByVoucherCodeWithUser(voucherCode)
             .orElseThrow(() -> new RuntimeException("Voucher không tồn tại"));
@@ -126,6 +131,9 @@ public class PointVoucherServiceImpl implements PointVoucherService {
     
     @Override
     public PointVoucher useVoucher(String voucherCode, Long userId, Long bookingId) {
+        if (!CodeGenerator.mayExist(voucherCode, CodeGenerator.VOUCHER_PREFIX)) {
+            throw new RuntimeException("Voucher không tồn tại hoặc không thuộc về bạn");
+        }
         // Use query with user ID to avoid lazy loading and ownership issues
         PointVoucher voucher = voucherRepository.findByVoucherCodeAndUserId(voucherCode, userId)
             .orElseThrow(() -> new RuntimeException("Voucher không tồn tại hoặc không thuộc về bạn"));
@@ -155,6 +163,11 @@ public class PointVoucherServiceImpl implements PointVoucherService {
     
     @Override
     public boolean validateVoucher(String voucherCode, Long userId, BigDecimal bookingAmount) {
+        // A mistyped code fails its check character, no lookup needed
+        if (!CodeGenerator.mayExist(voucherCode, CodeGenerator.VOUCHER_PREFIX)) {
+            return false;
+        }
+        
         // Use fetch join to avoid lazy loading issues
         Optional<PointVoucher> voucherOpt = voucherRepository.findByVoucherCodeWithUser(voucherCode);
         
@@ -270,12 +283,7 @@ public class PointVoucherServiceImpl implements PointVoucherService {
     
     @Override
     public String generateVoucherCode() {
-        String code;
-        do {
-            code = "PV" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        } while (voucherRepository.existsByVoucherCode(code));
-        
-        return code;
+        return codeGenerator.nextVoucherCode();
     }
     
     private String getConfigValue(String key, String defaultValue) {
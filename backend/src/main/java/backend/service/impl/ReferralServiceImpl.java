@@ -9,6 +9,7 @@ import backend.repository.ReferralRepository;
 import backend.repository.UserRepository;
 import backend.service.LoyaltyService;
 import backend.service.ReferralService;
+import backend.util.CodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,7 +19,6 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -37,13 +37,8 @@ public class ReferralServiceImpl implements ReferralService {
         userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        // Generate unique code based on user ID and random string
-        String code;
-        do {
-            code = "REF" + userId + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
-        } while (referralRepository.existsByReferralCode(code));
-        
-        return code;
+        // Derived from the user id, so the same code is returned every time without storing it
+        return CodeGenerator.referralCode(userId);
     }
     
     @Override
@@ -62,19 +57,23 @@ public class ReferralServiceImpl implements ReferralService {
     @Override
     public Referral applyReferralCode(String referralCode, Long newUserId) {
         // Find referrer by code
-        Referral existingReferral = referralRepository.findByReferralCode(referralCode)
+        Referral existingReferral = referralRepository.findFirstByReferralCode(referralCode)
             .orElse(null);
         
         Long referrerId;
         if (existingReferral != null) {
             referrerId = existingReferral.getReferrer().getId();
+        } else if (CodeGenerator.isValidReferralCode(referralCode)) {
+            referrerId = CodeGenerator.decodeReferralCode(referralCode);
         } else {
-            // Extract user ID from code (format: REF{userId}{random})
+            // Legacy format: REF{userId} + 6 random characters
             try {
-                String userIdPart = referralCode.substring(3);
-                userIdPart = userIdPart.replaceAll("[^0-9]", "");
-                referrerId = Long.parseLong(userIdPart);
-            } catch (Exception e) {
+                if (!referralCode.startsWith(CodeGenerator.REFERRAL_PREFIX)) {
+                    throw new IllegalArgumentException(referralCode);
+                }
+                referrerId = Long.parseLong(referralCode.substring(CodeGenerator.REFERRAL_PREFIX.length(),
+                        referralCode.length() - 6));
+            } catch (RuntimeException e) {
                 throw new RuntimeException("Invalid referral code");
             }
         }
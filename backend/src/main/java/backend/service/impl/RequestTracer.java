@@ -0,0 +1,375 @@
+package backend.service.impl;
+
+import backend.config.TracingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request-scoped tracer for the hot path.
+ *
+ * A sampled request gets a trace on its thread (see TracingConfig): the root SERVER span, then
+ * nested spans opened by TracingAspect for controllers, services and repositories and by the
+ * RestTemplate interceptor for outbound HTTP. Spans are plain objects on a thread-local stack;
+ * nothing is shared until the finished trace is handed to {@link TraceExporter}. Unsampled
+ * requests cost one random draw and a null check per advised call.
+ *
+ * Work handed to the @Async executors is wrapped by {@link #wrap(Runnable)}: the worker records
+ * its own segment under the same trace id, parented to the span that submitted it.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTracer {
+
+    public enum SpanKind {
+        SERVER, CONTROLLER, SERVICE, REPOSITORY, CLIENT, ASYNC
+    }
+
+    private static final SpanKind[] SUMMARY_KINDS = {
+            SpanKind.CONTROLLER, SpanKind.SERVICE, SpanKind.REPOSITORY, SpanKind.CLIENT
+    };
+
+    private final TracingProperties settings;
+    private final TraceExporter exporter;
+    private final ThreadLocal<TraceContext> current = new ThreadLocal<>();
+
+    private final LongAdder sampledRequests = new LongAdder();
+    private final LongAdder unsampledRequests = new LongAdder();
+    private final LongAdder asyncSegments = new LongAdder();
+    private final LongAdder recordedSpans = new LongAdder();
+    private final LongAdder truncatedSpans = new LongAdder();
+
+    public RequestTracer(TracingProperties settings, TraceExporter exporter) {
+        this.settings = settings;
+        this.exporter = exporter;
+    }
+
+    // ================================
+    // REQUEST LIFECYCLE
+    // ================================
+
+    /**
+     * Decide sampling and open the root span for this thread's request.
+     * An incoming W3C traceparent with the sampled flag is always honoured and continued.
+     *
+     * @return the root span, or null when the request is not traced
+     */
+    public Span startRequest(String name, String traceparent) {
+        String[] parent = parseTraceparent(traceparent);
+        boolean sampled = settings.isDebugHeaders()
+                || (parent != null && (Integer.parseInt(parent[2], 16) & 1) == 1)
+                || ThreadLocalRandom.current().nextDouble() < settings.getSampleRate();
+        if (!sampled) {
+            unsampledRequests.increment();
+            return null;
+        }
+        sampledRequests.increment();
+        TraceContext context = new TraceContext(parent != null ? parent[0] : randomHex(16));
+        current.set(context);
+        return context.open(SpanKind.SERVER, name, parent != null ? parent[1] : null);
+    }
+
+    /**
+     * Close the root span and hand the trace over for export
+     */
+    public void finishRequest(Span root, Throwable error) {
+        TraceContext context = current.get();
+        current.remove();
+        if (context == null) {
+            return;
+        }
+        context.close(root, error);
+        export(context);
+    }
+
+    // ================================
+    // SPANS
+    // ================================
+
+    public boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * Open a child of the current span; null when this thread is not tracing
+     */
+    public Span startSpan(SpanKind kind, String name) {
+        TraceContext context = current.get();
+        return context != null ? context.open(kind, name, null) : null;
+    }
+
+    public void endSpan(Span span, Throwable error) {
+        TraceContext context = current.get();
+        if (context != null && span != null) {
+            context.close(span, error);
+        }
+    }
+
+    /**
+     * W3C traceparent for an outbound call made inside the given span
+     */
+    public String traceparent(Span span) {
+        return "00-" + span.traceId + "-" + span.spanId + "-01";
+    }
+
+    public String currentTraceId() {
+        TraceContext context = current.get();
+        return context != null ? context.traceId : null;
+    }
+
+    /**
+     * Server-Timing header value for the current request so far. Only the outermost span of
+     * each kind is summed, so a service calling another service is not counted twice.
+     */
+    public String serverTiming() {
+        TraceContext context = current.get();
+        return context != null ? context.serverTiming() : null;
+    }
+
+    // ================================
+    // ASYNC PROPAGATION
+    // ================================
+
+    /**
+     * Carry the current trace into a task run on another thread (TaskDecorator)
+     */
+    public Runnable wrap(Runnable task) {
+        TraceContext submitter = current.get();
+        if (submitter == null) {
+            return task;
+        }
+        String traceId = submitter.traceId;
+        Span parent = submitter.stack.peek();
+        String parentSpanId = parent != null ? parent.spanId : null;
+        return () -> {
+            TraceContext previous = current.get();
+            TraceContext context = new TraceContext(traceId);
+            current.set(context);
+            asyncSegments.increment();
+            Span root = context.open(SpanKind.ASYNC, "async " + threadPool(), parentSpanId);
+            Throwable error = null;
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                error = e;
+                throw e;
+            } finally {
+                context.close(root, error);
+                export(context);
+                if (previous != null) {
+                    current.set(previous);
+                } else {
+                    current.remove();
+                }
+            }
+        };
+    }
+
+    private void export(TraceContext context) {
+        recordedSpans.add(context.finished.size());
+        truncatedSpans.add(context.truncated);
+        exporter.submit(context.finished);
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sampleRate", settings.getSampleRate());
+        stats.put("debugHeaders", settings.isDebugHeaders());
+        stats.put("sampledRequests", sampledRequests.sum());
+        stats.put("unsampledRequests", unsampledRequests.sum());
+        stats.put("asyncSegments", asyncSegments.sum());
+        stats.put("recordedSpans", recordedSpans.sum());
+        stats.put("truncatedSpans", truncatedSpans.sum());
+        stats.put("exporter", exporter.stats());
+        return stats;
+    }
+
+    // ================================
+    // HELPERS
+    // ================================
+
+    /**
+     * @return {traceId, parentSpanId, flags}, or null when missing or malformed
+     */
+    static String[] parseTraceparent(String header) {
+        if (header == null) {
+            return null;
+        }
+        String[] parts = header.trim().split("-");
+        if (parts.length < 4 || !"00".equals(parts[0])
+                || !isHex(parts[1], 32) || !isHex(parts[2], 16) || !isHex(parts[3], 2)
+                || parts[1].chars().allMatch(c -> c == '0') || parts[2].chars().allMatch(c -> c == '0')) {
+            return null;
+        }
+        return new String[]{parts[1], parts[2], parts[3]};
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String randomHex(int bytes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            int b = random.nextInt(256);
+            hex.append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * "email-3" -> "email", so segments group by executor rather than by worker
+     */
+    private static String threadPool() {
+        String name = Thread.currentThread().getName();
+        int end = name.length();
+        while (end > 1 && (Character.isDigit(name.charAt(end - 1)) || name.charAt(end - 1) == '-')) {
+            end--;
+        }
+        return name.substring(0, end);
+    }
+
+    /**
+     * One timed operation. Times are taken from System.nanoTime and anchored to the wall clock
+     * once per trace segment.
+     */
+    public static final class Span {
+        final String traceId;
+        final String spanId;
+        final String parentSpanId;
+        final SpanKind kind;
+        String name;
+        final long startEpochNanos;
+        final long startNanos;
+        long durationNanos;
+        String error;
+        Map<String, String> attributes;
+        final boolean recorded;
+        final boolean outermost;
+
+        private Span(String traceId, String parentSpanId, SpanKind kind, String name,
+                     long startEpochNanos, long startNanos, boolean recorded, boolean outermost) {
+            this.traceId = traceId;
+            this.spanId = randomHex(8);
+            this.parentSpanId = parentSpanId;
+            this.kind = kind;
+            this.name = name;
+            this.startEpochNanos = startEpochNanos;
+            this.startNanos = startNanos;
+            this.recorded = recorded;
+            this.outermost = outermost;
+        }
+
+        public boolean isOutermost() {
+            return outermost;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setAttribute(String key, Object value) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Spans of one trace segment; confined to the thread that runs it
+     */
+    private final class TraceContext {
+        private final String traceId;
+        private final Deque<Span> stack = new ArrayDeque<>();
+        private final List<Span> finished = new ArrayList<>();
+        private final long epochNanos = System.currentTimeMillis() * 1_000_000L;
+        private final long originNanos = System.nanoTime();
+        private final int[] depth = new int[SpanKind.values().length];
+        private final int[] calls = new int[SpanKind.values().length];
+        private final long[] outermostNanos = new long[SpanKind.values().length];
+        private int opened;
+        private int truncated;
+
+        private TraceContext(String traceId) {
+            this.traceId = traceId;
+        }
+
+        Span open(SpanKind kind, String name, String remoteParentSpanId) {
+            Span parent = stack.peek();
+            long now = System.nanoTime();
+            boolean recorded = opened++ < settings.getMaxSpansPerTrace();
+            if (!recorded) {
+                truncated++;
+            }
+            Span span = new Span(traceId, parent != null ? parent.spanId : remoteParentSpanId, kind, name,
+                    epochNanos + (now - originNanos), now, recorded, depth[kind.ordinal()]++ == 0);
+            calls[kind.ordinal()]++;
+            stack.push(span);
+            return span;
+        }
+
+        void close(Span span, Throwable error) {
+            if (!stack.contains(span)) {
+                return;
+            }
+            // Pop anything left open above it (a span whose advice never completed)
+            Span top;
+            do {
+                top = stack.pop();
+                top.durationNanos = System.nanoTime() - top.startNanos;
+                depth[top.kind.ordinal()]--;
+                if (top.outermost) {
+                    outermostNanos[top.kind.ordinal()] += top.durationNanos;
+                }
+                if (top.recorded) {
+                    finished.add(top);
+                }
+            } while (top != span);
+            if (error != null) {
+                span.error = error.getClass().getSimpleName()
+                        + (error.getMessage() != null ? ": " + error.getMessage() : "");
+            }
+        }
+
+        String serverTiming() {
+            StringBuilder header = new StringBuilder();
+            for (SpanKind kind : SUMMARY_KINDS) {
+                int i = kind.ordinal();
+                if (calls[i] == 0) {
+                    continue;
+                }
+                header.append(kind.name().toLowerCase())
+                        .append(";desc=\"").append(calls[i]).append(calls[i] == 1 ? " call" : " calls")
+                        .append("\";dur=").append(millis(outermostNanos[i]))
+                        .append(", ");
+            }
+            return header.append("total;dur=").append(millis(System.nanoTime() - originNanos)).toString();
+        }
+
+        private String millis(long nanos) {
+            return String.valueOf(Math.round(nanos / 10_000.0) / 100.0);
+        }
+    }
+}
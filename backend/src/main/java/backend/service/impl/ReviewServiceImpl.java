@@ -1,6 +1,8 @@
 package backend.service.impl;
 
 import backend.dto.request.ReviewCreateRequest;
+import backend.dto.response.ActivityFeedItem;
+import backend.dto.response.CursorPageResponse;
 import backend.dto.response.ReviewResponse;
 import backend.entity.Booking;
 import backend.entity.Notification;
@@ -8,22 +10,29 @@ import backend.entity.Review;
 import backend.entity.Review.ReviewStatus;
 import backend.entity.Tour;
 import backend.entity.User;
+import backend.event.ActivityFeedEvent;
 import backend.mapper.EntityMapper;
 import backend.repository.BookingRepository;
+import backend.repository.KeysetSpecifications;
+import backend.repository.ReviewHelpfulVoteRepository;
 import backend.repository.ReviewRepository;
+import backend.repository.TableStatisticsRepository;
 import backend.repository.TourRepository;
 import backend.repository.UserRepository;
 import backend.service.NotificationService;
 import backend.service.ReviewService;
+import backend.service.SystemSettingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,6 +44,7 @@ import java.util.stream.Collectors;
 public class ReviewServiceImpl implements ReviewService {
     
     private final ReviewRepository reviewRepository;
+    private final ReviewHelpfulVoteRepository helpfulVoteRepository;
     private final UserRepository userRepository;
     private final TourRepository tourRepository;
     private final BookingRepository bookingRepository;
@@ -42,9 +52,16 @@ public class ReviewServiceImpl implements ReviewService {
     private final NotificationService notificationService;
     private final backend.service.LoyaltyService loyaltyService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final SystemSettingService systemSettingService;
     
     @org.springframework.beans.factory.annotation.Value("${app.chatbot.url:http://localhost:5000}")
     private String chatbotUrl;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.beans.factory.annotation.Qualifier("chatbotRestTemplate")
+    private org.springframework.web.client.RestTemplate chatbotRestTemplate;
     
     @Override
     @Transactional(readOnly = true)
@@ -101,7 +118,9 @@ public class ReviewServiceImpl implements ReviewService {
         review.setBooking(booking);
         review.setRating(request.getRating());
         review.setComment(request.getComment());
-        review.setStatus(ReviewStatus.APPROVED); // Auto-approve
+        boolean autoApprove = systemSettingService.getSnapshot()
+                .getBoolean(SystemSettingService.AUTO_APPROVE_REVIEWS, true);
+        review.setStatus(autoApprove ? ReviewStatus.APPROVED : ReviewStatus.PENDING);
         review.setHelpfulCount(0);
         
         // Save images as JSON string if provided
@@ -117,9 +136,10 @@ public class ReviewServiceImpl implements ReviewService {
         }
         
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ActivityFeedEvent(ActivityFeedItem.Source.REVIEW, savedReview.getId()));
         
         // Update tour rating
-        updateTourRating(request.getTourId());
+        applyRatingChange(request.getTourId(), null, null, savedReview.getRating(), savedReview.getStatus());
         
         // Award loyalty points for review
         try {
@@ -150,6 +170,9 @@ public class ReviewServiceImpl implements ReviewService {
             throw new RuntimeException("You can only update your own reviews");
         }
         
+        Integer oldRating = review.getRating();
+        ReviewStatus oldStatus = review.getStatus();
+        
         // Update review
         review.setRating(request.getRating());
         review.setComment(request.getComment());
@@ -174,7 +197,7 @@ public class ReviewServiceImpl implements ReviewService {
         Review updatedReview = reviewRepository.save(review);
         
         // Update tour rating
-        updateTourRating(review.getTour().getId());
+        applyRatingChange(review.getTour().getId(), oldRating, oldStatus, updatedReview.getRating(), updatedReview.getStatus());
         
         log.info("Review updated successfully");
         return mapper.toReviewResponse(updatedReview);
@@ -193,10 +216,11 @@ public class ReviewServiceImpl implements ReviewService {
         }
         
         Long tourId = review.getTour().getId();
+        helpfulVoteRepository.deleteByReviewId(reviewId);
         reviewRepository.delete(review);
         
         // Update tour rating
-        updateTourRating(tourId);
+        applyRatingChange(tourId, review.getRating(), review.getStatus(), null, null);
         
         log.info("Review deleted successfully");
     }
@@ -249,37 +273,42 @@ public class ReviewServiceImpl implements ReviewService {
     public ReviewResponse voteHelpful(Long reviewId, Long userId) {
         log.info("User {} voting review {} as helpful", userId, reviewId);
         
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found with ID: " + reviewId));
-        
-        // Get current voted user IDs
-        String currentVoters = review.getHelpfulUserIds();
-        java.util.Set<String> voterSet = new java.util.HashSet<>();
-        
-        if (currentVoters != null && !currentVoters.isEmpty()) {
-            voterSet.addAll(java.util.Arrays.asList(currentVoters.split(",")));
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new RuntimeException("Review not found with ID: " + reviewId);
         }
         
-        String userIdStr = userId.toString();
-        
-        // Toggle vote
-        if (voterSet.contains(userIdStr)) {
-            // User already voted - remove vote (unlike)
-            voterSet.remove(userIdStr);
-            review.setHelpfulCount(Math.max(0, review.getHelpfulCount() - 1));
+        // Toggle vote: the counter only moves when a vote row was actually deleted or inserted,
+        // so concurrent or repeated clicks can never drift helpfulCount from the vote table
+        boolean voted;
+        if (helpfulVoteRepository.deleteVote(reviewId, userId) > 0) {
+            reviewRepository.decrementHelpfulCount(reviewId);
+            voted = false;
             log.info("User {} removed helpful vote from review {}", userId, reviewId);
         } else {
-            // User hasn't voted - add vote
-            voterSet.add(userIdStr);
-            review.setHelpfulCount(review.getHelpfulCount() + 1);
-            log.info("User {} added helpful vote to review {}", userId, reviewId);
+            if (helpfulVoteRepository.insertIfAbsent(reviewId, userId) > 0) {
+                reviewRepository.incrementHelpfulCount(reviewId);
+                log.info("User {} added helpful vote to review {}", userId, reviewId);
+            }
+            voted = true;
         }
         
-        // Save back to comma-separated string
-        review.setHelpfulUserIds(voterSet.isEmpty() ? null : String.join(",", voterSet));
-        
-        Review updatedReview = reviewRepository.save(review);
-        return mapper.toReviewResponse(updatedReview);
+        // Loaded after the bulk updates so the response carries the new count
+        Review updatedReview = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found with ID: " + reviewId));
+        ReviewResponse response = mapper.toReviewResponse(updatedReview);
+        response.setVotedHelpful(voted);
+        return response;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void markHelpfulVotes(List<ReviewResponse> reviews, Long userId) {
+        if (userId == null || reviews == null || reviews.isEmpty()) {
+            return;
+        }
+        List<Long> reviewIds = reviews.stream().map(ReviewResponse::getId).collect(Collectors.toList());
+        java.util.Set<Long> voted = new java.util.HashSet<>(helpfulVoteRepository.findVotedReviewIds(userId, reviewIds));
+        reviews.forEach(review -> review.setVotedHelpful(voted.contains(review.getId())));
     }
     
     @Override
@@ -353,7 +382,6 @@ public class ReviewServiceImpl implements ReviewService {
         try {
             String url = chatbotUrl + "/SumaryReview";
             
-            org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate();
             org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
             headers.setContentType(org.springframework.http.MediaType.APPLICATION_JSON);
             
@@ -366,7 +394,7 @@ public class ReviewServiceImpl implements ReviewService {
             @SuppressWarnings("unchecked")
             org.springframework.http.ResponseEntity<java.util.Map<String, Object>> response = 
                 (org.springframework.http.ResponseEntity<java.util.Map<String, Object>>) 
-                (org.springframework.http.ResponseEntity<?>) restTemplate.postForEntity(
+                (org.springframework.http.ResponseEntity<?>) chatbotRestTemplate.postForEntity(
                     url, 
                     entity, 
                     java.util.Map.class
@@ -425,49 +453,53 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public Double calculateAverageRating(Long tourId) {
-        return reviewRepository.calculateAverageRatingByTour(tourId, ReviewStatus.APPROVED);
+        // Read from the running aggregates on the tour (null when there are no approved reviews)
+        Tour tour = tourRepository.findById(tourId)
+                .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
+        return tour.getReviewCount() != null && tour.getReviewCount() > 0 ? tour.getAverageRating() : null;
     }
     
     @Override
     @Transactional(readOnly = true)
     public Map<Integer, Long> getRatingDistribution(Long tourId) {
-        List<Object[]> distribution = reviewRepository.countReviewsByRatingForTour(
-                tourId, ReviewStatus.APPROVED);
-        
-        // Normalize to ensure all ratings 1-5 are present (with 0 if no reviews)
-        Map<Integer, Long> result = new HashMap<>();
-        for (int i = 1; i <= 5; i++) {
-            result.put(i, 0L);
-        }
-        
-        // Fill in actual counts
-        distribution.forEach(row -> {
-            Integer rating = (Integer) row[0];
-            Long count = (Long) row[1];
-            result.put(rating, count);
-        });
-        
-        return result;
+        // Histogram counters are kept on the tour, so no GROUP BY over reviews per page view
+        Tour tour = tourRepository.findById(tourId)
+                .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
+        return tour.ratingDistribution();
     }
     
     /**
-     * Helper method to update tour rating cache
-     * Updates the cached averageRating and reviewCount fields in Tour entity
-     * This is called whenever a review is approved, rejected, or deleted
+     * Apply a review state transition to the tour's running rating aggregates.
+     * Only approved reviews count: the old contribution (if it was approved) is removed and the
+     * new one (if it is approved) is added, in a single atomic UPDATE on the tour row.
+     * Pass null rating/status for the side that does not exist (create or delete).
      */
-    private void updateTourRating(Long tourId) {
-        Tour tour = tourRepository.findById(tourId)
-                .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
-        
-        Double avgRating = reviewRepository.calculateAverageRatingByTour(tourId, ReviewStatus.APPROVED);
-        long reviewCount = reviewRepository.countByTourIdAndStatus(tourId, ReviewStatus.APPROVED);
-        
-        // Update cached fields
-        tour.setAverageRating(avgRating != null ? avgRating : 0.0);
-        tour.setReviewCount(reviewCount);
-        tourRepository.save(tour);
+    private void applyRatingChange(Long tourId, Integer oldRating, ReviewStatus oldStatus,
+                                   Integer newRating, ReviewStatus newStatus) {
+        long[] histogram = new long[6];
+        long sumDelta = 0;
+        long countDelta = 0;
+        if (oldStatus == ReviewStatus.APPROVED && isValidRating(oldRating)) {
+            histogram[oldRating]--;
+            sumDelta -= oldRating;
+            countDelta--;
+        }
+        if (newStatus == ReviewStatus.APPROVED && isValidRating(newRating)) {
+            histogram[newRating]++;
+            sumDelta += newRating;
+            countDelta++;
+        }
+        if (countDelta == 0 && sumDelta == 0) {
+            return;   // Not approved before or after, or approved with the same rating
+        }
         
-        log.info("Updated tour {} rating cache: {} stars ({} reviews)", tourId, tour.getAverageRating(), tour.getReviewCount());
+        tourRepository.applyRatingDelta(tourId, sumDelta, countDelta,
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]);
+        log.info("Applied rating delta to tour {}: sum {}, count {}", tourId, sumDelta, countDelta);
+    }
+    
+    private static boolean isValidRating(Integer rating) {
+        return rating != null && rating >= 1 && rating <= 5;
     }
     
     // ========== ADMIN METHODS ==========
@@ -479,6 +511,25 @@ public class ReviewServiceImpl implements ReviewService {
         return reviews.map(mapper::toReviewResponse);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReviewResponse> scrollReviewsForAdmin(
+        ReviewStatus status,
+        Long tourId,
+        Sort.Direction direction,
+        String cursor,
+        int size,
+        boolean includeTotal
+    ) {
+        Specification<Review> filter = Specification.allOf(
+                (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status),
+                (root, query, cb) -> tourId == null ? null : cb.equal(root.get("tour").get("id"), tourId));
+        CursorPageResponse<ReviewResponse> page = KeysetSpecifications.scroll(reviewRepository, filter,
+                        cursor, direction, size, Review::getCreatedAt, Review::getId)
+                .map(mapper::toReviewResponse);
+        return includeTotal ? page.withApproximateTotal(tableStatisticsRepository.approximateRowCount("reviews")) : page;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Page<ReviewResponse> getReviewsByStatus(String status, Pageable pageable) {
@@ -495,13 +546,14 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new RuntimeException("Review not found with ID: " + reviewId));
         
         // Check if review was pending (not yet awarded points)
-        boolean wasPending = review.getStatus() == ReviewStatus.PENDING;
+        ReviewStatus oldStatus = review.getStatus();
+        boolean wasPending = oldStatus == ReviewStatus.PENDING;
         
         review.setStatus(ReviewStatus.APPROVED);
         Review approvedReview = reviewRepository.save(review);
         
         // Update tour rating
-        updateTourRating(review.getTour().getId());
+        applyRatingChange(review.getTour().getId(), review.getRating(), oldStatus, review.getRating(), ReviewStatus.APPROVED);
         
         // Award loyalty points if review was just approved (not auto-approved)
         if (wasPending) {
@@ -533,12 +585,16 @@ public class ReviewServiceImpl implements ReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found with ID: " + reviewId));
         
+        ReviewStatus oldStatus = review.getStatus();
         review.setStatus(ReviewStatus.REJECTED);
         // Note: Review entity doesn't have rejectionReason field
         // You may want to add it if needed
         
         Review rejectedReview = reviewRepository.save(review);
         
+        // Update tour rating (rejecting an approved review removes it from the aggregates)
+        applyRatingChange(review.getTour().getId(), review.getRating(), oldStatus, review.getRating(), ReviewStatus.REJECTED);
+        
         log.info("Review rejected successfully: {}", reviewId);
         return mapper.toReviewResponse(rejectedReview);
     }
@@ -555,10 +611,8 @@ public class ReviewServiceImpl implements ReviewService {
         review.setStatus(newStatus);
         Review updatedReview = reviewRepository.save(review);
         
-        // Update tour rating if status is Approved or if it was Approved before
-        if (newStatus == ReviewStatus.APPROVED || oldStatus == ReviewStatus.APPROVED) {
-            updateTourRating(review.getTour().getId());
-        }
+        // Update tour rating (no-op unless the review enters or leaves Approved)
+        applyRatingChange(review.getTour().getId(), review.getRating(), oldStatus, review.getRating(), newStatus);
         
         // Send notification if status changed
         if (oldStatus != newStatus) {
@@ -614,10 +668,11 @@ public class ReviewServiceImpl implements ReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found with ID: " + reviewId));
         
+        helpfulVoteRepository.deleteByReviewId(reviewId);
         reviewRepository.delete(review);
         
         // Update tour rating
-        updateTourRating(review.getTour().getId());
+        applyRatingChange(review.getTour().getId(), review.getRating(), review.getStatus(), null, null);
         
         log.info("Review deleted successfully by admin: {}", reviewId);
     }
@@ -0,0 +1,306 @@
+package backend.service.impl;
+
+import backend.config.CacheRegions;
+import backend.config.SecondLevelCacheProperties;
+import backend.entity.CacheInvalidation;
+import backend.repository.CacheInvalidationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the Hibernate second-level cache consistent across nodes.
+ *
+ * Committed inserts, updates and deletes of cached entities are queued here (Hibernate post-commit
+ * listener) and written to cache_invalidations by the background job, which also evicts the rows
+ * written by other nodes. Remote changes are therefore visible within one poll interval; the region
+ * TTL bounds staleness if an invalidation is ever lost.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.cache.l2", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SecondLevelCacheSynchronizer
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationRepository invalidationRepository;
+    private final SecondLevelCacheProperties.Invalidation settings;
+    private final String nodeId;
+
+    private final ConcurrentLinkedQueue<CacheInvalidation> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final Map<Long, Long> applied = new ConcurrentHashMap<>();   // Remote invalidation id -> applied at (ms)
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private volatile String lastError;
+    private volatile long lastPurgeMs;
+
+    public SecondLevelCacheSynchronizer(EntityManagerFactory entityManagerFactory,
+                                        CacheInvalidationRepository invalidationRepository,
+                                        SecondLevelCacheProperties properties) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.invalidationRepository = invalidationRepository;
+        this.settings = properties.getInvalidation();
+        this.nodeId = StringUtils.hasText(settings.getNodeId()) ? settings.getNodeId() : UUID.randomUUID().toString();
+
+        if (settings.isEnabled()) {
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+            registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+            registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+            log.info("L2 cache invalidation enabled, node id {}", nodeId);
+        }
+    }
+
+    // ================================
+    // LOCAL CHANGES (post-commit)
+    // ================================
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getPersister(), event.getId());   // New row: other nodes' cached query results are stale
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rolled back: nothing changed in the database
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void changed(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache()) {
+            enqueue(persister.getEntityName(), id != null ? id.toString() : null);
+        }
+    }
+
+    private void enqueue(String entityName, String entityId) {
+        if (pendingCount.incrementAndGet() > settings.getMaxPending()) {
+            pendingCount.decrementAndGet();
+            overflowed.set(true);    // Sent as a single "evict everything" on the next flush
+            return;
+        }
+        pending.add(new CacheInvalidation(null, entityName, entityId, nodeId, null));
+    }
+
+    /**
+     * Evict every region on this node and, with invalidation enabled, on all other nodes
+     */
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        if (settings.isEnabled()) {
+            enqueue(CacheInvalidation.ALL, null);
+        }
+        log.info("L2 cache evicted on request");
+    }
+
+    // ================================
+    // BACKGROUND SYNC
+    // ================================
+
+    @Scheduled(fixedDelayString = "${app.cache.l2.invalidation.poll-interval-ms:2000}",
+               initialDelayString = "${app.cache.l2.invalidation.poll-interval-ms:2000}")
+    public void synchronize() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        try {
+            publishPending();
+            applyRemote();
+            purgeExpired();
+            lastError = null;
+        } catch (RuntimeException e) {
+            if (lastError == null) {
+                log.warn("L2 cache invalidation sync failed, retrying every {} ms: {}", settings.getPollIntervalMs(), e.getMessage());
+            }
+            lastError = e.getMessage();
+        }
+    }
+
+    private void publishPending() {
+        List<CacheInvalidation> batch = new ArrayList<>();
+        if (overflowed.getAndSet(false)) {
+            batch.add(new CacheInvalidation(null, CacheInvalidation.ALL, null, nodeId, null));
+        }
+        CacheInvalidation next;
+        while ((next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            invalidationRepository.saveAll(batch);
+            published.add(batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach(invalidation -> enqueue(invalidation.getEntityName(), invalidation.getEntityId()));
+            throw e;
+        }
+    }
+
+    private void applyRemote() {
+        long now = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minusSeconds(settings.getLookbackSeconds());
+
+        // The look-back window re-reads recent rows so a transaction that committed late is not skipped;
+        // ids already applied are remembered for the length of the window
+        boolean evicted = false;
+        for (CacheInvalidation invalidation : invalidationRepository.findFromOtherNodesSince(since, nodeId)) {
+            if (applied.putIfAbsent(invalidation.getId(), now) == null) {
+                evictLocal(invalidation.getEntityName(), invalidation.getEntityId());
+                received.increment();
+                evicted = true;
+            }
+        }
+        if (evicted) {
+            sessionFactory.getCache().evictQueryRegions();
+        }
+        long forgetBefore = now - 2 * settings.getLookbackSeconds() * 1000;
+        applied.values().removeIf(appliedAt -> appliedAt < forgetBefore);
+    }
+
+    private void evictLocal(String entityName, String entityId) {
+        Cache cache = sessionFactory.getCache();
+        if (CacheInvalidation.ALL.equals(entityName)) {
+            cache.evictAllRegions();
+            return;
+        }
+        try {
+            Object id = entityId != null ? parseId(entityName, entityId) : null;
+            if (id != null) {
+                cache.evictEntityData(entityName, id);
+            } else {
+                cache.evictEntityData(entityName);
+            }
+        } catch (RuntimeException e) {
+            // Entity unknown to this node (e.g. mid-deploy with a different version): play safe
+            log.debug("Evicting all regions for unknown invalidation {}#{}: {}", entityName, entityId, e.getMessage());
+            cache.evictAllRegions();
+        }
+    }
+
+    /**
+     * Identifier of the given entity from its string form; null if the id type is not a simple one
+     */
+    private Object parseId(String entityName, String entityId) {
+        Class<?> idType = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName)
+                .getIdentifierMapping().getJavaType().getJavaTypeClass();
+        if (idType == Long.class) {
+            return Long.valueOf(entityId);
+        }
+        if (idType == Integer.class) {
+            return Integer.valueOf(entityId);
+        }
+        return idType == String.class ? entityId : null;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurgeMs >= PURGE_INTERVAL_MS) {
+            lastPurgeMs = now;
+            invalidationRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(settings.getRetentionMinutes()));
+        }
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    /**
+     * Hit/miss/put counters per region plus invalidation counters, for the admin dashboard
+     */
+    public Map<String, Object> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<Map<String, Object>> regions = new ArrayList<>();
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            try {
+                regions.add(regionStats(region, statistics.getDomainDataRegionStatistics(region)));
+            } catch (IllegalArgumentException e) {
+                // Region not used by any mapped entity
+            }
+        }
+        CacheRegionStatistics queryRegion = statistics.getQueryRegionStatistics(CacheRegions.QUERY_RESULTS);
+        if (queryRegion != null) {
+            regions.add(regionStats(CacheRegions.QUERY_RESULTS, queryRegion));
+        }
+
+        Map<String, Object> invalidation = new LinkedHashMap<>();
+        invalidation.put("enabled", settings.isEnabled());
+        invalidation.put("nodeId", nodeId);
+        invalidation.put("published", published.sum());
+        invalidation.put("received", received.sum());
+        invalidation.put("pending", pendingCount.get());
+        invalidation.put("lastError", lastError);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("regions", regions);
+        stats.put("invalidation", invalidation);
+        return stats;
+    }
+
+    private static Map<String, Object> regionStats(String name, CacheRegionStatistics region) {
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("region", name);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", region.getPutCount());
+        stats.put("hitRatio", hits + misses > 0 ? Math.round(hits * 1000.0 / (hits + misses)) / 10.0 : null);
+        return stats;
+    }
+}
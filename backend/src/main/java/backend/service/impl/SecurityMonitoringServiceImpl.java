@@ -0,0 +1,306 @@
+package backend.service.impl;
+
+import backend.dto.response.SuspiciousUserResponse;
+import backend.entity.User;
+import backend.entity.UserActivity;
+import backend.repository.UserActivityRepository;
+import backend.repository.UserRepository;
+import backend.repository.UserSessionRepository;
+import backend.service.SecurityMonitoringService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Set-based risk scoring for the admin security view.
+ * Every signal comes from one grouped query with a HAVING threshold, so only users that
+ * can reach the reporting score are ever loaded; ranking uses a bounded top-K heap.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SecurityMonitoringServiceImpl implements SecurityMonitoringService {
+
+    static final int REPORT_THRESHOLD = 30;
+
+    // Signal thresholds and weights
+    static final long MAX_ACTIVE_SESSIONS = 3;
+    static final long MAX_DISTINCT_IPS = 3;
+    static final long MAX_SESSIONS_PER_IP = 5;
+    static final long FAILED_LOGINS_24H = 5;
+    static final long FAILED_LOGINS_7D = 10;
+
+    private static final int SCORE_BANNED = 100;
+    private static final int SCORE_INACTIVE = 20;
+    private static final int SCORE_MANY_SESSIONS = 30;
+    private static final int SCORE_MANY_IPS = 40;
+    private static final int SCORE_RECENT_ACCOUNT = 15;
+    private static final int SCORE_SAME_IP = 25;
+    private static final int SCORE_FAILED_24H = 35;
+    private static final int SCORE_FAILED_7D = 20;
+
+    private static final int MAX_LIMIT = 1000;
+    private static final int TOP_OFFENDERS = 5;
+    private static final long EMAIL_FLAG_THRESHOLD = 5;
+    private static final long IP_FLAG_THRESHOLD = 10;
+
+    private final UserRepository userRepository;
+    private final UserSessionRepository userSessionRepository;
+    private final UserActivityRepository userActivityRepository;
+
+    @Override
+    public List<SuspiciousUserResponse> getSuspiciousUsers(int limit) {
+        int k = clamp(limit);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since7d = now.minusDays(7);
+        LocalDateTime since24h = now.minusDays(1);
+
+        // [sessionCount, distinctIps] for users above either threshold
+        Map<Long, long[]> sessionSignals = new HashMap<>();
+        for (Object[] row : userSessionRepository.findActiveSessionSignals(MAX_ACTIVE_SESSIONS, MAX_DISTINCT_IPS)) {
+            sessionSignals.put((Long) row[0], new long[] {toLong(row[1]), toLong(row[2])});
+        }
+
+        // Largest per-IP session count for users above the threshold
+        Map<Long, Long> sameIpSignals = new HashMap<>();
+        for (Object[] row : userSessionRepository.findSameIpSessionSignals(MAX_SESSIONS_PER_IP)) {
+            sameIpSignals.merge((Long) row[0], toLong(row[2]), Math::max);
+        }
+
+        // [failed7d, failed24h] for users that reach either failed-login threshold
+        Map<Long, long[]> failedSignals = new HashMap<>();
+        for (Object[] row : userActivityRepository.countByUserSince(UserActivity.ActivityType.FAILED_LOGIN,
+                since7d, since24h, Math.min(FAILED_LOGINS_24H, FAILED_LOGINS_7D))) {
+            failedSignals.put((Long) row[0], new long[] {toLong(row[1]), toLong(row[2])});
+        }
+
+        // Candidates: anyone with a signal, plus accounts flagged by state alone
+        Map<Long, User> candidates = new HashMap<>();
+        for (User user : userRepository.findRiskCandidates(User.UserStatus.BANNED, User.UserStatus.INACTIVE, since7d)) {
+            candidates.put(user.getId(), user);
+        }
+        Set<Long> missing = new HashSet<>();
+        missing.addAll(sessionSignals.keySet());
+        missing.addAll(sameIpSignals.keySet());
+        missing.addAll(failedSignals.keySet());
+        missing.removeAll(candidates.keySet());
+        if (!missing.isEmpty()) {
+            userRepository.findAllById(missing).forEach(user -> candidates.put(user.getId(), user));
+        }
+
+        // Bounded min-heap on risk: the head is the weakest of the current top K
+        PriorityQueue<SuspiciousUserResponse> top = new PriorityQueue<>(k + 1, SuspiciousUserResponse.HIGHEST_RISK_FIRST.reversed());
+        for (User user : candidates.values()) {
+            SuspiciousUserResponse scored = score(user, since7d,
+                    sessionSignals.get(user.getId()), sameIpSignals.get(user.getId()), failedSignals.get(user.getId()));
+            if (scored.getSuspicionScore() < REPORT_THRESHOLD) {
+                continue;
+            }
+            top.offer(scored);
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+
+        List<SuspiciousUserResponse> result = new ArrayList<>(top);
+        result.sort(SuspiciousUserResponse.HIGHEST_RISK_FIRST);
+        fillBelowThresholdCounts(result, sessionSignals, failedSignals, since7d, since24h);
+
+        log.info("Scored {} risk candidates, returning top {}", candidates.size(), result.size());
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getFailedLoginAttempts(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        String type = UserActivity.ActivityType.FAILED_LOGIN;
+        List<UserActivity> recent = userActivityRepository.findRecentByType(type, startDate, endDate, PageRequest.of(0, clamp(limit)));
+
+        // Window totals for the emails / IPs that appear on this page
+        Set<String> emails = new HashSet<>();
+        Set<String> ips = new HashSet<>();
+        for (UserActivity activity : recent) {
+            if (activity.getUser() != null && activity.getUser().getEmail() != null) {
+                emails.add(activity.getUser().getEmail());
+            }
+            if (activity.getIpAddress() != null) {
+                ips.add(activity.getIpAddress());
+            }
+        }
+        Map<String, Long> attemptsByEmail = emails.isEmpty() ? Map.of()
+                : toCountMap(userActivityRepository.countByEmailIn(type, startDate, endDate, emails));
+        Map<String, Long> attemptsByIP = ips.isEmpty() ? Map.of()
+                : toCountMap(userActivityRepository.countByIpIn(type, startDate, endDate, ips));
+
+        List<Map<String, Object>> attempts = new ArrayList<>();
+        for (UserActivity activity : recent) {
+            String email = activity.getUser() != null ? activity.getUser().getEmail() : null;
+            String ip = activity.getIpAddress();
+
+            Map<String, Object> attempt = new HashMap<>();
+            attempt.put("id", activity.getId());
+            attempt.put("timestamp", activity.getCreatedAt());
+            attempt.put("ipAddress", ip);
+            attempt.put("userAgent", activity.getUserAgent());
+            attempt.put("email", email);
+            attempt.put("reason", "Invalid credentials");
+
+            List<String> flags = new ArrayList<>();
+            if (email != null) {
+                long emailCount = attemptsByEmail.getOrDefault(email, 0L);
+                attempt.put("emailAttemptCount", emailCount);
+                if (emailCount > EMAIL_FLAG_THRESHOLD) {
+                    flags.add("Multiple attempts on same email");
+                }
+            }
+            if (ip != null) {
+                long ipCount = attemptsByIP.getOrDefault(ip, 0L);
+                attempt.put("ipAttemptCount", ipCount);
+                if (ipCount > IP_FLAG_THRESHOLD) {
+                    flags.add("Multiple attempts from same IP");
+                }
+            }
+            attempt.put("suspicious", !flags.isEmpty());
+            attempt.put("flags", flags);
+            attempts.add(attempt);
+        }
+
+        List<Object[]> totals = userActivityRepository.summarizeByType(type, startDate, endDate);
+        Object[] total = totals.isEmpty() ? new Object[] {0L, 0L, 0L} : totals.get(0);
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalAttempts", toLong(total[0]));
+        summary.put("uniqueEmails", toLong(total[1]));
+        summary.put("uniqueIPs", toLong(total[2]));
+        summary.put("dateRange", Map.of("start", startDate, "end", endDate));
+        summary.put("topEmails", userActivityRepository.countByEmail(type, startDate, endDate, PageRequest.of(0, TOP_OFFENDERS))
+                .stream()
+                .map(row -> Map.of("email", row[0], "attempts", toLong(row[1])))
+                .toList());
+        summary.put("topIPs", userActivityRepository.countByIp(type, startDate, endDate, PageRequest.of(0, TOP_OFFENDERS))
+                .stream()
+                .map(row -> Map.of("ip", row[0], "attempts", toLong(row[1])))
+                .toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("attempts", attempts);
+        response.put("summary", summary);
+        return response;
+    }
+
+    private SuspiciousUserResponse score(User user, LocalDateTime since7d, long[] sessions, Long sameIp, long[] failed) {
+        List<String> reasons = new ArrayList<>();
+        int score = 0;
+
+        if (user.getStatus() == User.UserStatus.BANNED) {
+            reasons.add("Account banned");
+            score += SCORE_BANNED;
+        } else if (user.getStatus() == User.UserStatus.INACTIVE) {
+            reasons.add("Account inactive");
+            score += SCORE_INACTIVE;
+        }
+
+        long sessionCount = sessions != null ? sessions[0] : 0;
+        long distinctIps = sessions != null ? sessions[1] : 0;
+        if (sessionCount > MAX_ACTIVE_SESSIONS) {
+            reasons.add(String.format("Multiple active sessions (%d)", sessionCount));
+            score += SCORE_MANY_SESSIONS;
+        }
+        if (distinctIps > MAX_DISTINCT_IPS) {
+            reasons.add(String.format("Multiple IP addresses (%d)", distinctIps));
+            score += SCORE_MANY_IPS;
+        }
+
+        if (user.getCreatedAt() != null && user.getCreatedAt().isAfter(since7d)) {
+            reasons.add("Recently created account");
+            score += SCORE_RECENT_ACCOUNT;
+        }
+
+        if (sameIp != null && sameIp > MAX_SESSIONS_PER_IP) {
+            reasons.add(String.format("Multiple sessions from same IP (%d)", sameIp));
+            score += SCORE_SAME_IP;
+        }
+
+        long failed7d = failed != null ? failed[0] : 0;
+        long failed24h = failed != null ? failed[1] : 0;
+        if (failed24h >= FAILED_LOGINS_24H) {
+            reasons.add(String.format("Failed logins in last 24h (%d)", failed24h));
+            score += SCORE_FAILED_24H;
+        } else if (failed7d >= FAILED_LOGINS_7D) {
+            reasons.add(String.format("Failed logins in last 7 days (%d)", failed7d));
+            score += SCORE_FAILED_7D;
+        }
+
+        return SuspiciousUserResponse.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .status(user.getStatus() != null ? user.getStatus().toString() : null)
+                .createdAt(user.getCreatedAt())
+                .suspicionScore(score)
+                .reasons(reasons)
+                .activeSessions(sessionCount)
+                .distinctIPs(distinctIps)
+                .failedLogins24h(failed24h)
+                .failedLogins7d(failed7d)
+                .build();
+    }
+
+    /**
+     * Signal queries only return users above a threshold; fetch exact counts for the
+     * (at most K) reported users that were below it, so the table shows real numbers
+     */
+    private void fillBelowThresholdCounts(List<SuspiciousUserResponse> result,
+                                          Map<Long, long[]> sessionSignals,
+                                          Map<Long, long[]> failedSignals,
+                                          LocalDateTime since7d,
+                                          LocalDateTime since24h) {
+        Map<Long, SuspiciousUserResponse> withoutSessions = new HashMap<>();
+        Map<Long, SuspiciousUserResponse> withoutFailed = new HashMap<>();
+        for (SuspiciousUserResponse user : result) {
+            if (!sessionSignals.containsKey(user.getUserId())) {
+                withoutSessions.put(user.getUserId(), user);
+            }
+            if (!failedSignals.containsKey(user.getUserId())) {
+                withoutFailed.put(user.getUserId(), user);
+            }
+        }
+
+        if (!withoutSessions.isEmpty()) {
+            for (Object[] row : userSessionRepository.countActiveSessionsByUserIds(withoutSessions.keySet())) {
+                SuspiciousUserResponse user = withoutSessions.get((Long) row[0]);
+                user.setActiveSessions(toLong(row[1]));
+                user.setDistinctIPs(toLong(row[2]));
+            }
+        }
+        if (!withoutFailed.isEmpty()) {
+            for (Object[] row : userActivityRepository.countByUserSinceForUsers(UserActivity.ActivityType.FAILED_LOGIN,
+                    since7d, since24h, withoutFailed.keySet())) {
+                SuspiciousUserResponse user = withoutFailed.get((Long) row[0]);
+                user.setFailedLogins7d(toLong(row[1]));
+                user.setFailedLogins24h(toLong(row[2]));
+            }
+        }
+    }
+
+    private static Map<String, Long> toCountMap(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], toLong(row[1]));
+        }
+        return counts;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
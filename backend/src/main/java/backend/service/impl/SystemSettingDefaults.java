@@ -0,0 +1,42 @@
+package backend.service.impl;
+
+import backend.service.SystemSettingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Stores the defaults of backend-read toggles on startup when they are missing, so the admin
+ * settings page shows (and saves back) the value the backend actually uses. Existing values are
+ * never touched; on a concurrent start the unique key makes the second insert fail harmlessly.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SystemSettingDefaults {
+
+    static final Map<String, String> DEFAULTS = Map.of(
+            SystemSettingService.AUTO_APPROVE_REVIEWS, "true",
+            SystemSettingService.ENABLE_NOTIFICATIONS, "true"
+    );
+
+    private final SystemSettingService systemSettingService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        DEFAULTS.forEach((key, value) -> {
+            try {
+                if (systemSettingService.getSettingByKey(key).isEmpty()) {
+                    systemSettingService.saveSetting(key, value, "BOOLEAN", "GENERAL");
+                    log.info("Seeded system setting {} = {}", key, value);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not seed system setting {}: {}", key, e.getMessage());
+            }
+        });
+    }
+}
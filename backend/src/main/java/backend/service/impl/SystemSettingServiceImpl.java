@@ -1,16 +1,35 @@
 package backend.service.impl;
 
 import backend.entity.SystemSetting;
+import backend.event.SystemSettingsChangedEvent;
+import backend.entity.SystemSettingsVersion;
 import backend.repository.SystemSettingRepository;
+import backend.repository.SystemSettingsVersionRepository;
+import backend.service.SettingsSnapshot;
 import backend.service.SystemSettingService;
+import backend.service.SystemSettingsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +38,22 @@ import java.util.stream.Collectors;
 public class SystemSettingServiceImpl implements SystemSettingService {
     
     private final SystemSettingRepository systemSettingRepository;
+    private final SystemSettingsVersionRepository versionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<SystemSettingsListener> listeners;
+    
+    private final AtomicReference<SettingsSnapshot> snapshot = new AtomicReference<>();
+    // Not synchronized: the reload queries the database, which would pin a virtual thread
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    
+    // Settings version the current snapshot was loaded at; compared against the database to pick up other nodes' changes
+    private volatile long loadedVersion = -1;
+    
+    @Override
+    public SettingsSnapshot getSnapshot() {
+        SettingsSnapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
     
     @Override
     @Transactional(readOnly = true)
@@ -39,11 +74,8 @@ public class SystemSettingServiceImpl implements SystemSettingService {
     }
     
     @Override
-    @Transactional(readOnly = true)
     public String getSettingValue(String key, String defaultValue) {
-        return systemSettingRepository.findByKey(key)
-                .map(SystemSetting::getValue)
-                .orElse(defaultValue);
+        return getSnapshot().getString(key, defaultValue);
     }
     
     @Override
@@ -58,6 +90,8 @@ public class SystemSettingServiceImpl implements SystemSettingService {
         setting.setCategory(category);
         
         SystemSetting saved = systemSettingRepository.save(setting);
+        bumpVersion();
+        eventPublisher.publishEvent(new SystemSettingsChangedEvent(Set.of(key)));
         log.info("Saved setting: {} = {}", key, value);
         
         return saved;
@@ -66,14 +100,28 @@ public class SystemSettingServiceImpl implements SystemSettingService {
     @Override
     @Transactional
     public void batchUpdateSettings(Map<String, String> settings) {
-        for (Map.Entry<String, String> entry : settings.entrySet()) {
-            SystemSetting setting = systemSettingRepository.findByKey(entry.getKey())
-                    .orElse(new SystemSetting(entry.getKey(), entry.getValue(), "STRING", "GENERAL"));
-            
-            setting.setValue(entry.getValue());
-            systemSettingRepository.save(setting);
+        if (settings.isEmpty()) {
+            return;
         }
         
+        // One lookup for all keys instead of one per entry
+        Map<String, SystemSetting> existing = systemSettingRepository.findByKeyIn(settings.keySet()).stream()
+                .collect(Collectors.toMap(SystemSetting::getKey, Function.identity()));
+        
+        List<SystemSetting> toSave = settings.entrySet().stream()
+                .map(entry -> {
+                    SystemSetting setting = existing.get(entry.getKey());
+                    if (setting == null) {
+                        return new SystemSetting(entry.getKey(), entry.getValue(), "STRING", "GENERAL");
+                    }
+                    setting.setValue(entry.getValue());
+                    return setting;
+                })
+                .toList();
+        systemSettingRepository.saveAll(toSave);
+        bumpVersion();
+        eventPublisher.publishEvent(new SystemSettingsChangedEvent(Set.copyOf(settings.keySet())));
+        
         log.info("Batch updated {} settings", settings.size());
     }
     
@@ -82,17 +130,113 @@ public class SystemSettingServiceImpl implements SystemSettingService {
     public void deleteSetting(String key) {
         systemSettingRepository.findByKey(key).ifPresent(setting -> {
             systemSettingRepository.delete(setting);
+            bumpVersion();
+            eventPublisher.publishEvent(new SystemSettingsChangedEvent(Set.of(key)));
             log.info("Deleted setting: {}", key);
         });
     }
     
     @Override
-    @Transactional(readOnly = true)
     public Map<String, String> getAllSettingsAsMap() {
-        return systemSettingRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        SystemSetting::getKey,
-                        SystemSetting::getValue
-                ));
+        return getSnapshot().asMap();
+    }
+    
+    // ================================
+    // SNAPSHOT
+    // ================================
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        getSnapshot();
+    }
+    
+    /**
+     * Swap in a fresh snapshot once a write on this node has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSettingsChanged(SystemSettingsChangedEvent event) {
+        log.debug("Settings changed: {}", event.keys());
+        reload();
+    }
+    
+    /**
+     * Picks up changes committed by other nodes (settings version differs from the loaded snapshot)
+     */
+    @Scheduled(fixedDelayString = "${app.settings.refresh-interval-ms:30000}",
+               initialDelayString = "${app.settings.refresh-interval-ms:30000}")
+    public void refreshIfChangedElsewhere() {
+        if (snapshot.get() == null) {
+            return;   // Nothing loaded yet: the first read loads it
+        }
+        try {
+            if (currentVersion() != loadedVersion) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not check system settings for changes: {}", e.getMessage());
+        }
+    }
+    
+    private SettingsSnapshot reload() {
+        reloadLock.lock();
+        try {
+            // Version first: a write landing between the two reads is then picked up by the next refresh
+            long version = currentVersion();
+            Map<String, String> values = new HashMap<>();
+            for (SystemSetting setting : systemSettingRepository.findAllOnPrimary()) {
+                values.put(setting.getKey(), setting.getValue());
+            }
+            loadedVersion = version;
+            
+            SettingsSnapshot previous = snapshot.get();
+            Set<String> changedKeys = changedKeys(previous, values);
+            if (previous != null && changedKeys.isEmpty()) {
+                return previous;
+            }
+            
+            SettingsSnapshot next = new SettingsSnapshot(previous != null ? previous.getVersion() + 1 : 1, values);
+            snapshot.set(next);
+            log.info("System settings snapshot v{} loaded ({} settings, {} changed)",
+                    next.getVersion(), values.size(), changedKeys.size());
+            
+            notifyListeners(next, changedKeys);
+            return next;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+    
+    /**
+     * Bump the shared settings version in the writing transaction; creates the counter row on first use
+     */
+    private void bumpVersion() {
+        if (versionRepository.increment() == 0) {
+            versionRepository.save(new SystemSettingsVersion(SystemSettingsVersion.ROW_ID, 1L));
+        }
+    }
+    
+    private long currentVersion() {
+        return versionRepository.findCurrent().orElse(0L);
+    }
+    
+    private static Set<String> changedKeys(SettingsSnapshot previous, Map<String, String> values) {
+        if (previous == null) {
+            return Set.copyOf(values.keySet());
+        }
+        Set<String> keys = new HashSet<>(values.keySet());
+        keys.addAll(previous.asMap().keySet());
+        keys.removeIf(key -> Objects.equals(previous.asMap().get(key), values.get(key)));
+        return Set.copyOf(keys);
+    }
+    
+    private void notifyListeners(SettingsSnapshot next, Set<String> changedKeys) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onSettingsChanged(next, changedKeys);
+            } catch (RuntimeException e) {
+                // One broken listener must not keep the others on stale settings
+                log.error("Settings listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        });
     }
 }
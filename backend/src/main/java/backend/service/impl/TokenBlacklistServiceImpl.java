@@ -3,15 +3,19 @@ package backend.service.impl;
 import backend.entity.BlacklistedToken;
 import backend.repository.BlacklistedTokenRepository;
 import backend.security.JwtUtils;
+import backend.security.VerifiedTokenCache;
 import backend.service.TokenBlacklistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -20,10 +24,18 @@ public class TokenBlacklistServiceImpl implements TokenBlacklistService {
     
     private final BlacklistedTokenRepository blacklistedTokenRepository;
     private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
+    
+    // Revocations written by other nodes are re-read with this much overlap (clock skew, late commits)
+    @Value("${jwt.cache.revocation-sync-overlap-seconds:60}")
+    private long revocationSyncOverlapSeconds;
     
     @Override
     @Transactional
     public void blacklistToken(String token, String userEmail, String reason, String ipAddress) {
+        // Drop memoized verification first so the token stops working on this node immediately
+        verifiedTokenCache.invalidate(token);
+        
         // Check if already blacklisted
         if (blacklistedTokenRepository.existsByToken(token)) {
             log.debug("Token already blacklisted: {}", token.substring(0, Math.min(20, token.length())));
@@ -56,8 +68,29 @@ public class TokenBlacklistServiceImpl implements TokenBlacklistService {
         log.info("Token blacklisted for user: {} - Reason: {}", userEmail, reason);
     }
     
+    /**
+     * Drop tokens revoked on any node from this node's verified-token cache, so a logout
+     * elsewhere stops working here within one sync interval rather than the cache TTL.
+     * Not read-only on purpose: read-only transactions go to a (lagging) read replica.
+     */
+    @Scheduled(fixedDelayString = "${jwt.cache.revocation-sync-ms:5000}",
+               initialDelayString = "${jwt.cache.revocation-sync-ms:5000}")
+    @Transactional
+    public void syncRevocations() {
+        if (verifiedTokenCache.size() == 0) {
+            return;   // Nothing cached that could be stale
+        }
+        try {
+            List<String> revoked = blacklistedTokenRepository.findTokensBlacklistedSince(
+                    LocalDateTime.now().minusSeconds(revocationSyncOverlapSeconds));
+            revoked.forEach(verifiedTokenCache::invalidate);
+        } catch (RuntimeException e) {
+            log.warn("Could not sync token revocations: {}", e.getMessage());
+        }
+    }
+    
     @Override
-    @Transactional(readOnly = true)
+    @Transactional                           // Primary, like syncRevocations: a revocation must be seen at once
     public boolean isTokenBlacklisted(String token) {
         return blacklistedTokenRepository.existsByToken(token);
     }
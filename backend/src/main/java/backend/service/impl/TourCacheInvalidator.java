@@ -0,0 +1,102 @@
+package backend.service.impl;
+
+import backend.entity.Tour;
+import backend.entity.Tour.TourStatus;
+import backend.event.TourChangedEvent;
+import backend.repository.TourRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Targeted invalidation of tour caches driven by {@link TourChangedEvent}.
+ * Only the keys touched by a change are evicted; the hot "featured" list is
+ * recomputed in the background and swapped in, so readers never see a cold miss.
+ */
+@Service
+@Slf4j
+public class TourCacheInvalidator {
+
+    static final String FEATURED_KEY = "featured";
+
+    private final CacheManager cacheManager;
+    private final TourRepository tourRepository;
+    private final Executor refreshExecutor;
+
+    // Latest requested featured refresh; an older refresh finishing late must not overwrite a newer one
+    private final AtomicLong featuredGeneration = new AtomicLong();
+
+    public TourCacheInvalidator(CacheManager cacheManager,
+                                TourRepository tourRepository,
+                                @Qualifier("taskExecutor") Executor refreshExecutor) {
+        this.cacheManager = cacheManager;
+        this.tourRepository = tourRepository;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Evict per-tour, per-category and per-destination entries once the change is committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictAffectedKeys(TourChangedEvent event) {
+        Cache details = cacheManager.getCache("tourDetails");
+        if (details != null) {
+            event.slugs().forEach(details::evict);
+        }
+
+        Cache byCategory = cacheManager.getCache("toursByCategory");
+        if (byCategory != null) {
+            event.categoryIds().forEach(byCategory::evict);
+        }
+
+        Cache byDestination = cacheManager.getCache("toursByDestination");
+        if (byDestination != null) {
+            event.destinations().forEach(byDestination::evict);
+        }
+
+        if (event.affectsFeatured()) {
+            long generation = featuredGeneration.incrementAndGet();
+            try {
+                refreshExecutor.execute(() -> refreshFeatured(generation));
+            } catch (RejectedExecutionException e) {
+                Cache tours = cacheManager.getCache("tours");
+                if (tours != null) {
+                    tours.evict(FEATURED_KEY);
+                }
+            }
+        }
+
+        log.debug("Evicted tour caches for tour {}: slugs={}, categories={}, destinations={}",
+                event.tourId(), event.slugs(), event.categoryIds(), event.destinations());
+    }
+
+    /**
+     * Refresh-ahead for the featured list: recompute after commit and replace the entry in place
+     */
+    private void refreshFeatured(long generation) {
+        Cache tours = cacheManager.getCache("tours");
+        if (tours == null) {
+            return;
+        }
+        try {
+            List<Tour> featured = tourRepository.findFeaturedTours(TourStatus.ACTIVE);
+            if (generation == featuredGeneration.get()) {
+                tours.put(FEATURED_KEY, featured);
+                log.debug("Refreshed featured tours cache ({} tours)", featured.size());
+            }
+        } catch (RuntimeException e) {
+            // Fall back to a plain eviction; the next reader reloads it
+            log.warn("Featured tours refresh failed, evicting instead: {}", e.getMessage());
+            tours.evict(FEATURED_KEY);
+        }
+    }
+}
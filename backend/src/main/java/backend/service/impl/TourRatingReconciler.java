@@ -0,0 +1,88 @@
+package backend.service.impl;
+
+import backend.entity.Review.ReviewStatus;
+import backend.repository.ReviewRepository;
+import backend.repository.TourRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically checks the running rating aggregates on tours against the approved reviews
+ * and rebuilds the tours that drifted (lost updates, manual SQL edits, freshly added columns).
+ * Both sides are read with one aggregate query each; only drifting tours are rewritten.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TourRatingReconciler {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final TourRepository tourRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Scheduled(fixedDelayString = "${app.reviews.rating-reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.reviews.rating-reconcile-initial-delay-ms:60000}")
+    public void reconcileScheduled() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Tour rating reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return number of tours whose aggregates were rebuilt
+     */
+    public int reconcile() {
+        // Expected histogram per tour: index 0 = sum, 1..5 = count per star
+        Map<Long, long[]> expected = new HashMap<>();
+        for (Object[] row : reviewRepository.countReviewsByTourAndRating(ReviewStatus.APPROVED)) {
+            Long tourId = (Long) row[0];
+            Integer rating = (Integer) row[1];
+            long count = ((Number) row[2]).longValue();
+            if (rating == null || rating < 1 || rating > 5) {
+                continue;
+            }
+            long[] buckets = expected.computeIfAbsent(tourId, id -> new long[6]);
+            buckets[rating] += count;
+            buckets[0] += rating * count;
+        }
+
+        List<Long> drifted = new ArrayList<>();
+        for (Object[] row : tourRepository.findRatingAggregates()) {
+            Long tourId = (Long) row[0];
+            long[] buckets = expected.getOrDefault(tourId, new long[6]);
+            long expectedCount = buckets[1] + buckets[2] + buckets[3] + buckets[4] + buckets[5];
+            boolean matches = value(row[1]) == buckets[0] && value(row[2]) == expectedCount;
+            for (int star = 1; matches && star <= 5; star++) {
+                matches = value(row[2 + star]) == buckets[star];
+            }
+            if (!matches) {
+                drifted.add(tourId);
+            }
+        }
+
+        if (drifted.isEmpty()) {
+            log.debug("Tour rating aggregates are consistent");
+            return 0;
+        }
+        for (int from = 0; from < drifted.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = drifted.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, drifted.size()));
+            tourRepository.recomputeRatingAggregates(chunk, ReviewStatus.APPROVED);
+        }
+        log.info("Rebuilt rating aggregates for {} tour(s)", drifted.size());
+        return drifted.size();
+    }
+
+    private static long value(Object column) {
+        return column != null ? ((Number) column).longValue() : 0L;
+    }
+}
@@ -5,6 +5,7 @@ import backend.dto.response.TourResponse;
 import backend.entity.Category;
 import backend.entity.Tour;
 import backend.entity.Tour.TourStatus;
+import backend.event.TourChangedEvent;
 import backend.mapper.TourMapper;
 import backend.repository.CategoryRepository;
 import backend.repository.TourRepository;
@@ -12,8 +13,8 @@ import backend.repository.ReviewRepository;
 import backend.service.TourService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,6 +37,7 @@ public class TourServiceImpl implements TourService {
     
     private final TourRepository tourRepository;
     private final ReviewRepository reviewRepository;
+    private final backend.repository.ReviewHelpfulVoteRepository helpfulVoteRepository;
     private final CategoryRepository categoryRepository;
     private final TourMapper tourMapper;
     private final backend.repository.TourItineraryRepository itineraryRepository;
@@ -45,9 +47,9 @@ public class TourServiceImpl implements TourService {
     private final backend.repository.TourPriceRepository priceRepository;
     private final backend.repository.WishlistRepository wishlistRepository;
     private final jakarta.persistence.EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
-    @CacheEvict(value = {"tours", "tourDetails", "toursByCategory", "toursByDestination"}, allEntries = true)
     public Tour createTour(Tour tour) {
         log.info("Creating new tour: {}", tour.getName());
         
@@ -72,17 +74,18 @@ public class TourServiceImpl implements TourService {
         }
         
         Tour savedTour = tourRepository.save(tour);
+        eventPublisher.publishEvent(TourChangedEvent.created(savedTour));
         log.info("Tour created successfully with ID: {}", savedTour.getId());
         return savedTour;
     }
     
     @Override
-    @CacheEvict(value = {"tours", "tourDetails", "toursByCategory", "toursByDestination"}, allEntries = true)
     public Tour updateTour(Long tourId, Tour tour) {
         log.info("Updating tour with ID: {}", tourId);
         
         Tour existingTour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
+        TourChangedEvent.State before = TourChangedEvent.State.of(existingTour);
         
         // Update fields
         if (tour.getName() != null) {
@@ -111,6 +114,7 @@ public class TourServiceImpl implements TourService {
         }
         
         Tour updatedTour = tourRepository.save(existingTour);
+        eventPublisher.publishEvent(TourChangedEvent.updated(tourId, before, updatedTour));
         log.info("Tour updated successfully with ID: {}", updatedTour.getId());
         return updatedTour;
     }
@@ -213,37 +217,38 @@ public class TourServiceImpl implements TourService {
     }
     
     @Override
-    @CacheEvict(value = {"tours", "tourDetails"}, allEntries = true)
     public Tour setFeaturedTour(Long tourId, boolean featured) {
         log.info("Setting tour {} as featured: {}", tourId, featured);
         
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
         
+        TourChangedEvent.State before = TourChangedEvent.State.of(tour);
         tour.setIsFeatured(featured);
         Tour updatedTour = tourRepository.save(tour);
+        eventPublisher.publishEvent(TourChangedEvent.updated(tourId, before, updatedTour));
         
         log.info("Tour featured status updated successfully for ID: {}", tourId);
         return updatedTour;
     }
     
     @Override
-    @CacheEvict(value = {"tours", "tourDetails"}, allEntries = true)
     public Tour changeTourStatus(Long tourId, TourStatus status) {
         log.info("Changing status of tour {} to: {}", tourId, status);
         
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
         
+        TourChangedEvent.State before = TourChangedEvent.State.of(tour);
         tour.setStatus(status);
         Tour updatedTour = tourRepository.save(tour);
+        eventPublisher.publishEvent(TourChangedEvent.updated(tourId, before, updatedTour));
         
         log.info("Tour status changed successfully for ID: {}", tourId);
         return updatedTour;
     }
     
     @Override
-    @CacheEvict(value = {"tours", "tourDetails", "toursByCategory", "toursByDestination"}, allEntries = true)
     public void deleteTour(Long tourId) {
         log.info("Deleting tour with ID: {}", tourId);
         
@@ -257,6 +262,8 @@ public class TourServiceImpl implements TourService {
             throw new RuntimeException("Cannot delete tour with " + bookingCount + " existing booking(s). Please set status to Inactive instead.");
         }
         
+        TourChangedEvent.State before = TourChangedEvent.State.of(tour);
+        
         // Delete related entities manually to avoid foreign key issues
         log.info("Deleting related entities for tour ID: {}", tourId);
         
@@ -265,6 +272,7 @@ public class TourServiceImpl implements TourService {
             wishlistRepository.deleteByTourId(tourId);
             
             // Delete reviews (might have dependencies on bookings, but we checked bookings above)
+            helpfulVoteRepository.deleteByTourId(tourId);
             reviewRepository.deleteByTourId(tourId);
             
             // Delete schedules
@@ -288,6 +296,7 @@ public class TourServiceImpl implements TourService {
             // Now delete the tour itself
             tourRepository.delete(tour);
             entityManager.flush();
+            eventPublisher.publishEvent(TourChangedEvent.deleted(tourId, before));
             
             log.info("✅ Tour deleted successfully with ID: {}", tourId);
             
@@ -438,6 +447,7 @@ public class TourServiceImpl implements TourService {
         
         // Save tour first (to get ID)
         Tour savedTour = tourRepository.save(tour);
+        eventPublisher.publishEvent(TourChangedEvent.created(savedTour));
         
         // Save images if provided
         if (request.getImages() != null && !request.getImages().isEmpty()) {
@@ -512,6 +522,7 @@ public class TourServiceImpl implements TourService {
         // Find existing tour
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new RuntimeException("Tour not found with ID: " + tourId));
+        TourChangedEvent.State before = TourChangedEvent.State.of(tour);
         
         // Update entity from DTO
         tourMapper.updateEntity(tour, request);
@@ -534,6 +545,7 @@ public class TourServiceImpl implements TourService {
         
         // Save tour first
         Tour updatedTour = tourRepository.save(tour);
+        eventPublisher.publishEvent(TourChangedEvent.updated(tourId, before, updatedTour));
         
         // Update images if provided
         if (request.getImages() != null) {
@@ -613,11 +625,14 @@ public class TourServiceImpl implements TourService {
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new RuntimeException("Tour not found with id: " + tourId));
         
+        TourChangedEvent.State before = TourChangedEvent.State.of(tour);
+        
         // Convert to uppercase to handle both PascalCase and UPPERCASE
         tour.setStatus(TourStatus.valueOf(status.toUpperCase()));
         tour.setUpdatedAt(LocalDateTime.now());
         
         Tour updated = tourRepository.save(tour);
+        eventPublisher.publishEvent(TourChangedEvent.updated(tourId, before, updated));
         
         return tourMapper.toResponse(updated);
     }
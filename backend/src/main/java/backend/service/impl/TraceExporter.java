@@ -0,0 +1,219 @@
+package backend.service.impl;
+
+import backend.config.TracingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ships finished traces off the request path.
+ *
+ * Request threads only offer to a bounded queue; when it is full the trace is dropped and
+ * counted rather than blocking. A scheduled flush drains the queue and writes either JSON
+ * lines to a local file (rolled over to a single ".1" backup) or one OTLP/HTTP JSON request
+ * per flush to a collector.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TraceExporter {
+
+    private static final int OTLP_KIND_INTERNAL = 1;
+    private static final int OTLP_KIND_SERVER = 2;
+    private static final int OTLP_KIND_CLIENT = 3;
+    private static final int OTLP_STATUS_ERROR = 2;
+
+    private final TracingProperties settings;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<List<RequestTracer.Span>> queue;
+    private final HttpClient httpClient;
+
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private final LongAdder failedExports = new LongAdder();
+    private volatile String lastError;
+
+    public TraceExporter(TracingProperties settings, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+        this.httpClient = settings.getExporter() == TracingProperties.Exporter.OTLP
+                ? HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build()
+                : null;
+    }
+
+    /**
+     * Queue a finished trace; never blocks
+     */
+    public void submit(List<RequestTracer.Span> spans) {
+        if (spans.isEmpty() || settings.getExporter() == TracingProperties.Exporter.NONE) {
+            return;
+        }
+        if (!queue.offer(spans)) {
+            droppedTraces.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.tracing.export-interval-ms:2000}")
+    public void flush() {
+        List<List<RequestTracer.Span>> traces = new ArrayList<>();
+        queue.drainTo(traces);
+        if (traces.isEmpty()) {
+            return;
+        }
+        List<RequestTracer.Span> spans = new ArrayList<>();
+        traces.forEach(spans::addAll);
+        try {
+            if (settings.getExporter() == TracingProperties.Exporter.OTLP) {
+                exportOtlp(spans);
+            } else {
+                exportFile(spans);
+            }
+            exportedSpans.add(spans.size());
+        } catch (IOException | RuntimeException e) {
+            failedExports.increment();
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.warn("Trace export failed, {} span(s) lost: {}", spans.size(), lastError);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("type", settings.getExporter());
+        stats.put("target", settings.getExporter() == TracingProperties.Exporter.OTLP
+                ? settings.getOtlpEndpoint() : settings.getFilePath());
+        stats.put("queued", queue.size());
+        stats.put("exportedSpans", exportedSpans.sum());
+        stats.put("droppedTraces", droppedTraces.sum());
+        stats.put("failedExports", failedExports.sum());
+        stats.put("lastError", lastError);
+        return stats;
+    }
+
+    // ================================
+    // FILE
+    // ================================
+
+    private void exportFile(List<RequestTracer.Span> spans) throws IOException {
+        Path file = Path.of(settings.getFilePath());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file) && Files.size(file) >= settings.getFileMaxBytes()) {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (RequestTracer.Span span : spans) {
+                writer.write(objectMapper.writeValueAsString(toFileLine(span)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private Map<String, Object> toFileLine(RequestTracer.Span span) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("traceId", span.traceId);
+        line.put("spanId", span.spanId);
+        line.put("parentSpanId", span.parentSpanId);
+        line.put("kind", span.kind);
+        line.put("name", span.name);
+        line.put("startUnixNano", span.startEpochNanos);
+        line.put("durationMs", span.durationNanos / 1_000_000.0);
+        if (span.attributes != null) {
+            line.put("attributes", span.attributes);
+        }
+        if (span.error != null) {
+            line.put("error", span.error);
+        }
+        return line;
+    }
+
+    // ================================
+    // OTLP/HTTP JSON
+    // ================================
+
+    private void exportOtlp(List<RequestTracer.Span> spans) throws IOException, InterruptedException {
+        Map<String, Object> scopeSpans = new LinkedHashMap<>();
+        scopeSpans.put("scope", Map.of("name", "backend.tracing"));
+        scopeSpans.put("spans", spans.stream().map(this::toOtlpSpan).toList());
+
+        Map<String, Object> resourceSpans = new LinkedHashMap<>();
+        resourceSpans.put("resource", Map.of("attributes", List.of(attribute("service.name", settings.getServiceName()))));
+        resourceSpans.put("scopeSpans", List.of(scopeSpans));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(settings.getOtlpEndpoint()))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        objectMapper.writeValueAsBytes(Map.of("resourceSpans", List.of(resourceSpans)))))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IOException("collector answered HTTP " + response.statusCode());
+        }
+    }
+
+    private Map<String, Object> toOtlpSpan(RequestTracer.Span span) {
+        Map<String, Object> otlp = new LinkedHashMap<>();
+        otlp.put("traceId", span.traceId);
+        otlp.put("spanId", span.spanId);
+        if (span.parentSpanId != null) {
+            otlp.put("parentSpanId", span.parentSpanId);
+        }
+        otlp.put("name", span.name);
+        otlp.put("kind", switch (span.kind) {
+            case SERVER -> OTLP_KIND_SERVER;
+            case CLIENT -> OTLP_KIND_CLIENT;
+            default -> OTLP_KIND_INTERNAL;
+        });
+        // 64-bit nanosecond timestamps are strings in OTLP JSON
+        otlp.put("startTimeUnixNano", String.valueOf(span.startEpochNanos));
+        otlp.put("endTimeUnixNano", String.valueOf(span.startEpochNanos + span.durationNanos));
+
+        List<Map<String, Object>> attributes = new ArrayList<>();
+        attributes.add(attribute("span.layer", span.kind.name().toLowerCase()));
+        if (span.attributes != null) {
+            span.attributes.forEach((key, value) -> attributes.add(attribute(key, value)));
+        }
+        otlp.put("attributes", attributes);
+        if (span.error != null) {
+            otlp.put("status", Map.of("code", OTLP_STATUS_ERROR, "message", span.error));
+        }
+        return otlp;
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        return Map.of("key", key, "value", Map.of("stringValue", value));
+    }
+}
@@ -1,21 +1,29 @@
 package backend.service.impl;
 
+import backend.dto.response.CursorPageResponse;
 import backend.entity.Role;
 import backend.entity.User;
 import backend.entity.User.UserStatus;
+import backend.repository.KeysetSpecifications;
 import backend.repository.RoleRepository;
+import backend.repository.TableStatisticsRepository;
 import backend.repository.UserRepository;
+import backend.repository.UserSpecifications;
 import backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -27,6 +35,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TableStatisticsRepository tableStatisticsRepository;
     
     @Override
     public User createUser(User user) {
@@ -138,6 +147,51 @@ public class UserServiceImpl implements UserService {
         return userRepository.searchActiveUsers(keyword, pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<User> scrollUsersForAdmin(
+        String search,
+        UserStatus status,
+        String roleName,
+        Sort.Direction direction,
+        String cursor,
+        int size,
+        boolean includeTotal
+    ) {
+        CursorPageResponse<User> page = KeysetSpecifications.scroll(userRepository,
+                UserSpecifications.adminFilter(search, status, roleName),
+                cursor, direction, size, User::getCreatedAt, User::getId);
+        return includeTotal ? page.withApproximateTotal(tableStatisticsRepository.approximateRowCount("users")) : page;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countUsersCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return userRepository.countCreatedBetween(from, to);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> countRegistrationsPerDay(LocalDateTime from, LocalDateTime to) {
+        Map<String, Long> perDay = new LinkedHashMap<>();
+        for (Object[] row : userRepository.countCreatedPerDay(from, to)) {
+            perDay.put(row[0].toString(), ((Number) row[1]).longValue());  // java.sql.Date or LocalDate, both ISO
+        }
+        return perDay;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UserStatus, Long> countUsersByStatus() {
+        Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+        for (Object[] row : userRepository.countGroupByStatus()) {
+            if (row[0] != null) {
+                byStatus.put((UserStatus) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return byStatus;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<User> getUsersByRole(String roleName) {
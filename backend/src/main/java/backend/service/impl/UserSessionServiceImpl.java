@@ -1,12 +1,15 @@
 package backend.service.impl;
 
+import backend.dto.response.ActivityFeedItem;
 import backend.entity.User;
 import backend.entity.UserSession;
+import backend.event.ActivityFeedEvent;
 import backend.repository.UserRepository;
 import backend.repository.UserSessionRepository;
 import backend.service.UserSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -25,6 +28,7 @@ public class UserSessionServiceImpl implements UserSessionService {
     
     private final UserSessionRepository userSessionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public UserSession createSession(Long userId, String sessionId, String ipAddress, String userAgent,
@@ -59,6 +63,7 @@ public class UserSessionServiceImpl implements UserSessionService {
             user.setLastLoginAt(LocalDateTime.now());
             user.updateLastActivity();
             userRepository.save(user);
+            eventPublisher.publishEvent(new ActivityFeedEvent(ActivityFeedItem.Source.LOGIN, saved.getId()));
             
             log.info("Created session: {} for user: {}", sessionId, userId);
             return saved;
@@ -0,0 +1,146 @@
+package backend.service.impl;
+
+import backend.config.VirtualThreadProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Watches for virtual threads pinned to their carrier (blocking inside synchronized or a
+ * native frame), which on JDK 21 turns a virtual thread back into a platform one and can
+ * starve the carrier pool under load.
+ *
+ * An in-process JFR stream on jdk.VirtualThreadPinned groups events by the first application
+ * frame; each new site is logged once at WARN with its stack, later hits are only counted.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "app.virtual-threads", name = "pinning-monitor", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "backend.";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int REPORTED_SITES = 20;
+
+    private final VirtualThreadProperties settings;
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder pinnedEvents = new LongAdder();
+    private volatile RecordingStream stream;
+    private volatile String startError;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties settings) {
+        this.settings = settings;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(settings.getPinningThresholdMs()))
+                    .withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::record);
+            recording.startAsync();
+            stream = recording;
+            log.info("Virtual thread pinning monitor started (threshold {} ms)", settings.getPinningThresholdMs());
+        } catch (RuntimeException e) {
+            // JFR can be unavailable (e.g. disabled in the runtime image); the app runs without it
+            startError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.warn("Virtual thread pinning monitor not started: {}", startError);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    void record(RecordedEvent event) {
+        pinnedEvents.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String location = location(frames);
+        long millis = event.getDuration().toMillis();
+
+        boolean[] first = new boolean[1];
+        Site site = sites.computeIfAbsent(location, key -> {
+            first[0] = true;
+            return new Site();
+        });
+        site.count.increment();
+        site.maxMillis.accumulateAndGet(millis, Math::max);
+        if (first[0]) {
+            log.warn("Virtual thread pinned for {} ms at {}{}", millis, location, stack(frames));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", stream != null);
+        stats.put("thresholdMs", settings.getPinningThresholdMs());
+        stats.put("pinnedEvents", pinnedEvents.sum());
+        stats.put("sites", sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Site> entry) -> entry.getValue().count.sum()).reversed())
+                .limit(REPORTED_SITES)
+                .map(entry -> Map.of(
+                        "location", entry.getKey(),
+                        "count", entry.getValue().count.sum(),
+                        "maxMs", entry.getValue().maxMillis.get()))
+                .toList());
+        if (startError != null) {
+            stats.put("error", startError);
+        }
+        return stats;
+    }
+
+    /**
+     * First frame in our code, else the top frame (pinning inside a library)
+     */
+    private static String location(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String stack(List<RecordedFrame> frames) {
+        StringBuilder stack = new StringBuilder();
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+        return stack.toString();
+    }
+
+    private static final class Site {
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+    }
+}
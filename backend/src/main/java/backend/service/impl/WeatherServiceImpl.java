@@ -1,29 +1,50 @@
 package backend.service.impl;
 
 import backend.dto.response.WeatherResponse;
+import backend.entity.Tour.TourStatus;
+import backend.repository.TourRepository;
 import backend.service.WeatherService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.TextStyle;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Weather gateway over OpenWeatherMap.
+ * Current weather and the 5-day forecast are fetched concurrently on virtual threads,
+ * the hourly view is derived from the same forecast payload, and concurrent misses for
+ * the same location share one in-flight call via the async "weatherData" cache.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class WeatherServiceImpl implements WeatherService {
+public class WeatherServiceImpl implements WeatherService, DisposableBean {
+    
+    private static final int HOURLY_SLOTS = 8;          // 8 x 3h = next 24 hours
+    private static final int PREWARM_CONCURRENCY = 4;   // Stay well under the upstream rate limit
     
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final TourRepository tourRepository;
+    private final CacheManager weatherCacheManager;
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
     
     @Value("${weather.api.key:384ec2b8713781d926f1826d65dea929}")
     private String apiKey;
@@ -31,76 +52,209 @@ public class WeatherServiceImpl implements WeatherService {
     @Value("${weather.api.base-url:https://api.openweathermap.org/data/2.5}")
     private String baseUrl;
     
-    private static final int CACHE_DURATION_MINUTES = 30;
+    @Value("${weather.api.geo-url:https://api.openweathermap.org/geo/1.0}")
+    private String geoUrl;
+    
+    @Value("${weather.prewarm.enabled:true}")
+    private boolean prewarmEnabled;
+    
+    private volatile CompletableFuture<Void> prewarmRun;
+    
+    public WeatherServiceImpl(RestTemplate restTemplate,
+                              ObjectMapper objectMapper,
+                              TourRepository tourRepository,
+                              @Qualifier("weatherCacheManager") CacheManager weatherCacheManager) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.tourRepository = tourRepository;
+        this.weatherCacheManager = weatherCacheManager;
+    }
+    
+    /**
+     * Resolved city coordinates (cached in "geocoding")
+     */
+    record GeoLocation(double latitude, double longitude, String name) {
+    }
     
     @Override
-    @Cacheable(value = "weatherData", key = "#latitude + ',' + #longitude")
     public WeatherResponse getWeatherData(Double latitude, Double longitude, String locationName) {
-        log.info("🌤️ Fetching weather data for coordinates: {}, {}", latitude, longitude);
+        log.info("🌤️ Weather data requested for coordinates: {}, {}", latitude, longitude);
         
         try {
-            // Fetch current weather
-            WeatherResponse.CurrentWeather current = getCurrentWeather(latitude, longitude);
-            
-            // Fetch forecast (includes both daily and hourly)
-            List<WeatherResponse.DailyForecast> forecast = getWeatherForecast(latitude, longitude);
-            
-            // Get hourly forecast for next 24 hours
-            List<WeatherResponse.HourlyForecast> hourlyForecast = getHourlyForecast(latitude, longitude);
-            
-            WeatherResponse response = new WeatherResponse();
-            response.setCurrent(current);
-            response.setForecast(forecast);
-            response.setHourlyForecast(hourlyForecast);
-            response.setLocation(locationName);
-            response.setLastUpdated(LocalDateTime.now());
-            
-            log.info("✅ Weather data fetched successfully for {}", locationName);
-            return response;
-            
-        } catch (Exception e) {
-            log.error("❌ Error fetching weather data: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch weather data: " + e.getMessage());
+            WeatherResponse weather = weatherCache()
+                .retrieve(locationKey(latitude, longitude), () -> fetchWeather(latitude, longitude))
+                .join();
+            return withLocation(weather, locationName);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("❌ Error fetching weather data: {}", cause.getMessage(), cause);
+            throw new RuntimeException("Failed to fetch weather data: " + cause.getMessage());
         }
     }
     
     @Override
-    @Cacheable(value = "weatherData", key = "#cityName")
     public WeatherResponse getWeatherByCity(String cityName) {
-        log.info("🌤️ Fetching weather data for city: {}", cityName);
+        log.info("🌤️ Weather data requested for city: {}", cityName);
         
+        GeoLocation location;
         try {
-            // Get coordinates from city name first
-            String geoUrl = String.format(
-                "https://api.openweathermap.org/geo/1.0/direct?q=%s,VN&limit=1&appid=%s",
-                cityName, apiKey
-            );
-            
-            JsonNode[] geoResponse = restTemplate.getForObject(geoUrl, JsonNode[].class);
-            
-            if (geoResponse == null || geoResponse.length == 0) {
-                throw new RuntimeException("City not found: " + cityName);
-            }
-            
-            JsonNode location = geoResponse[0];
-            double lat = location.get("lat").asDouble();
-            double lon = location.get("lon").asDouble();
-            String name = location.has("local_names") && location.get("local_names").has("vi")
-                ? location.get("local_names").get("vi").asText()
-                : location.get("name").asText();
-            
-            return getWeatherData(lat, lon, name);
-            
-        } catch (Exception e) {
-            log.error("❌ Error fetching weather by city: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch weather by city: " + e.getMessage());
+            String cityKey = cityName.trim().toLowerCase(Locale.ROOT);
+            location = geocodingCache().get(cityKey, () -> geocode(cityName.trim()));
+        } catch (Cache.ValueRetrievalException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("❌ Error fetching weather by city: {}", cause.getMessage());
+            throw new RuntimeException("Failed to fetch weather by city: " + cause.getMessage());
         }
+        
+        return getWeatherData(location.latitude(), location.longitude(), location.name());
     }
     
     @Override
-    @CacheEvict(value = "weatherData", allEntries = true)
     public void clearCache() {
         log.info("🗑️ Clearing weather cache");
+        weatherCache().clear();
+    }
+    
+    /**
+     * Refresh weather for every active tour location before the 30-minute cache entries expire,
+     * so tour detail pages never wait on the upstream API. Only starts the refresh: the fetches
+     * complete on the weather executor, never on the (shared) scheduler thread.
+     */
+    @Scheduled(fixedDelayString = "${weather.prewarm.interval-ms:1500000}",
+               initialDelayString = "${weather.prewarm.initial-delay-ms:60000}")
+    public void prewarmTourLocations() {
+        if (!prewarmEnabled) {
+            return;
+        }
+        if (prewarmRun != null && !prewarmRun.isDone()) {
+            log.warn("Weather pre-warm still running, skipping this round");
+            return;
+        }
+        prewarmRun = refreshTourLocations();
+    }
+    
+    /**
+     * Fetch every distinct active tour location into the cache, at most PREWARM_CONCURRENCY
+     * at a time; the returned future completes once each location has been refreshed or failed
+     */
+    public CompletableFuture<Void> refreshTourLocations() {
+        // Tours a few hundred metres apart share one cache key
+        Map<String, double[]> locations = new LinkedHashMap<>();
+        for (Object[] row : tourRepository.findWeatherLocations(TourStatus.ACTIVE)) {
+            double lat = ((Number) row[0]).doubleValue();
+            double lon = ((Number) row[1]).doubleValue();
+            locations.putIfAbsent(locationKey(lat, lon), new double[] {lat, lon});
+        }
+        if (locations.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        log.info("🌤️ Pre-warming weather for {} tour locations", locations.size());
+        Queue<Map.Entry<String, double[]>> pending = new ConcurrentLinkedQueue<>(locations.entrySet());
+        Cache cache = weatherCache();
+        
+        // Each worker chains its next fetch onto the completion of the previous one
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(PREWARM_CONCURRENCY, locations.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = refreshNext(pending, cache);
+        }
+        return CompletableFuture.allOf(workers);
+    }
+    
+    private CompletableFuture<Void> refreshNext(Queue<Map.Entry<String, double[]>> pending, Cache cache) {
+        Map.Entry<String, double[]> entry = pending.poll();
+        if (entry == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        double[] coordinates = entry.getValue();
+        return fetchWeather(coordinates[0], coordinates[1])
+            .handle((weather, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    log.warn("Weather pre-warm failed for {}: {}", entry.getKey(), cause.getMessage());
+                } else {
+                    cache.put(entry.getKey(), weather);
+                }
+                return null;
+            })
+            .thenCompose(ignored -> refreshNext(pending, cache));
+    }
+    
+    @Override
+    public void destroy() {
+        fetchExecutor.shutdownNow();
+    }
+    
+    /**
+     * Fan out: current weather and forecast in parallel, each upstream resource fetched once
+     */
+    private CompletableFuture<WeatherResponse> fetchWeather(double latitude, double longitude) {
+        CompletableFuture<WeatherResponse.CurrentWeather> current =
+            CompletableFuture.supplyAsync(() -> getCurrentWeather(latitude, longitude), fetchExecutor);
+        CompletableFuture<JsonNode> forecast =
+            CompletableFuture.supplyAsync(() -> getForecastPayload(latitude, longitude), fetchExecutor);
+        
+        return current.thenCombine(forecast, (currentWeather, forecastPayload) -> {
+            WeatherResponse response = new WeatherResponse();
+            response.setCurrent(currentWeather);
+            response.setForecast(toDailyForecast(forecastPayload));
+            response.setHourlyForecast(toHourlyForecast(forecastPayload));
+            response.setLastUpdated(LocalDateTime.now());
+            log.info("✅ Weather data fetched for {}, {}", latitude, longitude);
+            return response;
+        });
+    }
+    
+    /**
+     * Cached entries are shared between callers; each caller gets its own location label
+     */
+    private WeatherResponse withLocation(WeatherResponse cached, String locationName) {
+        return new WeatherResponse(
+            cached.getCurrent(),
+            cached.getForecast(),
+            cached.getHourlyForecast(),
+            locationName,
+            cached.getLastUpdated()
+        );
+    }
+    
+    /**
+     * Cache key rounded to 2 decimals (~1 km)
+     */
+    static String locationKey(double latitude, double longitude) {
+        return String.format(Locale.ROOT, "%.2f,%.2f", latitude, longitude);
+    }
+    
+    private Cache weatherCache() {
+        return Objects.requireNonNull(weatherCacheManager.getCache("weatherData"), "weatherData cache not configured");
+    }
+    
+    private Cache geocodingCache() {
+        return Objects.requireNonNull(weatherCacheManager.getCache("geocoding"), "geocoding cache not configured");
+    }
+    
+    /**
+     * Resolve a Vietnamese city name to coordinates via the OpenWeatherMap geocoding API
+     */
+    private GeoLocation geocode(String cityName) {
+        String url = UriComponentsBuilder.fromUriString(geoUrl)
+            .path("/direct")
+            .queryParam("q", cityName + ",VN")
+            .queryParam("limit", 1)
+            .queryParam("appid", apiKey)
+            .build()
+            .toUriString();
+        
+        JsonNode[] geoResponse = restTemplate.getForObject(url, JsonNode[].class);
+        if (geoResponse == null || geoResponse.length == 0) {
+            throw new RuntimeException("City not found: " + cityName);
+        }
+        
+        JsonNode location = geoResponse[0];
+        String name = location.has("local_names") && location.get("local_names").has("vi")
+            ? location.get("local_names").get("vi").asText()
+            : location.get("name").asText();
+        return new GeoLocation(location.get("lat").asDouble(), location.get("lon").asDouble(), name);
     }
     
     /**
@@ -143,9 +297,9 @@ public class WeatherServiceImpl implements WeatherService {
     }
     
     /**
-     * Get weather forecast from OpenWeatherMap API
+     * Get 5-day / 3-hour forecast payload from OpenWeatherMap API (shared by daily and hourly views)
      */
-    private List<WeatherResponse.DailyForecast> getWeatherForecast(Double latitude, Double longitude) {
+    private JsonNode getForecastPayload(Double latitude, Double longitude) {
         String url = String.format(
             "%s/forecast?lat=%s&lon=%s&appid=%s&units=metric&lang=vi",
             baseUrl, latitude, longitude, apiKey
@@ -158,6 +312,19 @@ public class WeatherServiceImpl implements WeatherService {
                 throw new RuntimeException("Empty forecast response");
             }
             
+            return response;
+            
+        } catch (Exception e) {
+            log.error("Error fetching forecast: {}", e.getMessage());
+            throw new RuntimeException("Failed to fetch forecast", e);
+        }
+    }
+    
+    /**
+     * Aggregate the 3-hour forecast into daily forecasts (max 5 days)
+     */
+    private List<WeatherResponse.DailyForecast> toDailyForecast(JsonNode response) {
+        try {
             JsonNode forecastList = response.get("list");
             
             // Group forecast by day
@@ -256,31 +423,22 @@ public class WeatherServiceImpl implements WeatherService {
             return forecasts;
             
         } catch (Exception e) {
-            log.error("Error fetching forecast: {}", e.getMessage());
-            throw new RuntimeException("Failed to fetch forecast", e);
+            log.error("Error parsing forecast: {}", e.getMessage());
+            throw new RuntimeException("Failed to parse forecast", e);
         }
     }
     
     /**
-     * Get hourly forecast for next 24 hours (3-hour intervals)
+     * Hourly forecast for next 24 hours (first 8 three-hour slots of the forecast payload)
      */
-    private List<WeatherResponse.HourlyForecast> getHourlyForecast(Double latitude, Double longitude) {
-        String url = String.format(
-            "%s/forecast?lat=%s&lon=%s&appid=%s&units=metric&lang=vi&cnt=8",
-            baseUrl, latitude, longitude, apiKey
-        );
-        
+    private List<WeatherResponse.HourlyForecast> toHourlyForecast(JsonNode response) {
         try {
-            JsonNode response = restTemplate.getForObject(url, JsonNode.class);
-            
-            if (response == null || !response.has("list")) {
-                return new ArrayList<>();
-            }
-            
             JsonNode forecastList = response.get("list");
             List<WeatherResponse.HourlyForecast> hourlyForecasts = new ArrayList<>();
             
             for (JsonNode item : forecastList) {
+                if (hourlyForecasts.size() >= HOURLY_SLOTS) break;
+                
                 WeatherResponse.HourlyForecast hourly = new WeatherResponse.HourlyForecast();
                 
                 String dateTime = item.get("dt_txt").asText(); // Format: "2025-10-20 12:00:00"
@@ -309,7 +467,7 @@ public class WeatherServiceImpl implements WeatherService {
             return hourlyForecasts;
             
         } catch (Exception e) {
-            log.error("Error fetching hourly forecast: {}", e.getMessage());
+            log.error("Error parsing hourly forecast: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
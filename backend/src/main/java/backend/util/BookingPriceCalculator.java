@@ -0,0 +1,51 @@
+package backend.util;
+
+import backend.entity.Promotion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Booking price math shared by booking creation and the price preview endpoint.
+ * Pure functions, no repository access.
+ */
+public final class BookingPriceCalculator {
+
+    private static final BigDecimal CHILD_RATE = BigDecimal.valueOf(0.7); // Trẻ em giảm 30%
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private BookingPriceCalculator() {
+    }
+
+    /**
+     * Subtotal before promotions: adults at the base price, children at 70% of it
+     */
+    public static BigDecimal subtotal(BigDecimal basePrice, int adults, int children) {
+        BigDecimal adultPrice = basePrice.multiply(BigDecimal.valueOf(adults));
+        BigDecimal childPrice = basePrice.multiply(CHILD_RATE)
+                                         .multiply(BigDecimal.valueOf(children));
+        return adultPrice.add(childPrice);
+    }
+
+    /**
+     * Total after the promotion: percentage (rounded, capped by maxDiscount) or fixed amount
+     */
+    public static BigDecimal applyPromotion(BigDecimal totalPrice, Promotion promotion) {
+        BigDecimal discount;
+
+        if (promotion.getType() == Promotion.PromotionType.PERCENTAGE) {
+            discount = totalPrice.multiply(promotion.getValue().divide(HUNDRED))
+                    .setScale(0, RoundingMode.HALF_UP);
+
+            // Apply max discount if set
+            if (promotion.getMaxDiscount() != null && discount.compareTo(promotion.getMaxDiscount()) > 0) {
+                discount = promotion.getMaxDiscount();
+            }
+        } else {
+            // Fixed amount discount
+            discount = promotion.getValue();
+        }
+
+        return totalPrice.subtract(discount);
+    }
+}
@@ -0,0 +1,227 @@
+package backend.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Coordination-free generator for business codes (booking, voucher, payment, referral).
+ *
+ * Ids are Snowflake-style 63-bit values: 41 bits of milliseconds since 2024-01-01,
+ * 10 bits of node id and 12 bits of per-millisecond sequence. They are unique per node
+ * without any database lookup and roughly time-ordered. Codes render the id as 13
+ * Crockford base32 characters plus a Luhn mod 32 check character, e.g. "BK" + "0A1B2C3D4E5F6" + "K".
+ * The check character comes from the same alphabet, so every code can be typed and dropped into
+ * a URL or a VNPay reference as is.
+ *
+ * Referral codes encode the referrer's user id instead (stable per user, no storage needed)
+ * as 7 characters with the same kind of check character.
+ */
+@Component
+public class CodeGenerator {
+
+    public static final String BOOKING_PREFIX = "BK";
+    public static final String VOUCHER_PREFIX = "PV";
+    public static final String PAYMENT_PREFIX = "PAY-";
+    public static final String REFERRAL_PREFIX = "REF";
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final int ENCODED_LENGTH = 13; // ceil(63 / 5)
+    private static final int REFERRAL_LENGTH = 7; // 35 bits of user id
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (millis since epoch << SEQUENCE_BITS) | sequence of the last issued id.
+    // Incrementing it rolls the sequence into the next millisecond, so bursts above
+    // 4096/ms and small clock steps backwards never produce duplicates.
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public CodeGenerator(@Value("${app.id.node-id:0}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    CodeGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.id.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Next unique id for this node
+     */
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = Math.max(last + 1, now);
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Next code with the given prefix: prefix + 13 base32 chars + check character
+     */
+    public String nextCode(String prefix) {
+        return prefix + encode(nextId());
+    }
+
+    public String nextBookingCode() {
+        return nextCode(BOOKING_PREFIX);
+    }
+
+    public String nextVoucherCode() {
+        return nextCode(VOUCHER_PREFIX);
+    }
+
+    public String nextPaymentCode() {
+        return nextCode(PAYMENT_PREFIX);
+    }
+
+    /**
+     * Fixed-width Crockford base32 rendering of the id followed by its check character
+     */
+    public static String encode(long id) {
+        return render(id, ENCODED_LENGTH);
+    }
+
+    /**
+     * Decode the id from a code produced by {@link #nextCode(String)}.
+     * Input is normalized the Crockford way (case-insensitive, I/L read as 1, O as 0).
+     *
+     * @throws IllegalArgumentException if the code is malformed or the check character does not match
+     */
+    public static long decode(String code, String prefix) {
+        if (code == null || !code.regionMatches(true, 0, prefix, 0, prefix.length())
+                || code.length() != prefix.length() + ENCODED_LENGTH + 1) {
+            throw new IllegalArgumentException("Invalid code: " + code);
+        }
+        return parse(code, prefix.length(), ENCODED_LENGTH);
+    }
+
+    /**
+     * True if the code is well-formed and its check character matches (catches typos before a DB lookup)
+     */
+    public static boolean isValid(String code, String prefix) {
+        try {
+            decode(code, prefix);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * False only for a code that has the generated length but fails {@link #isValid}: such a code
+     * was never issued, so the lookup can be skipped. Codes issued before this generator are shorter
+     * and always pass.
+     */
+    public static boolean mayExist(String code, String prefix) {
+        return code == null || code.length() != prefix.length() + ENCODED_LENGTH + 1 || isValid(code, prefix);
+    }
+
+    /**
+     * Referral code of a user: "REF" + the id as 7 base32 chars + a Luhn mod 32 check character
+     */
+    public static String referralCode(long userId) {
+        if (userId < 0 || userId >= 1L << (5 * REFERRAL_LENGTH)) {
+            throw new IllegalArgumentException("User id out of range for a referral code: " + userId);
+        }
+        return REFERRAL_PREFIX + render(userId, REFERRAL_LENGTH);
+    }
+
+    /**
+     * Referrer's user id from a code produced by {@link #referralCode(long)}
+     *
+     * @throws IllegalArgumentException if the code is malformed or the check character does not match
+     */
+    public static long decodeReferralCode(String code) {
+        if (code == null || !code.regionMatches(true, 0, REFERRAL_PREFIX, 0, REFERRAL_PREFIX.length())
+                || code.length() != REFERRAL_PREFIX.length() + REFERRAL_LENGTH + 1) {
+            throw new IllegalArgumentException("Invalid referral code: " + code);
+        }
+        return parse(code, REFERRAL_PREFIX.length(), REFERRAL_LENGTH);
+    }
+
+    public static boolean isValidReferralCode(String code) {
+        try {
+            decodeReferralCode(code);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * value as length base32 chars (most significant first) + Luhn mod 32 check character
+     */
+    private static String render(long value, int length) {
+        char[] chars = new char[length + 1];
+        long rest = value;
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (rest & 31));
+            rest >>>= 5;
+        }
+        chars[length] = ALPHABET.charAt((32 - luhnSum(chars, length, 2) % 32) % 32);
+        return new String(chars);
+    }
+
+    /**
+     * Inverse of {@link #render}: the length chars after offset, followed by their check character
+     */
+    private static long parse(String code, int offset, int length) {
+        char[] chars = normalize(code.substring(offset)).toCharArray();
+        long value = 0;
+        for (int i = 0; i < chars.length; i++) {
+            int digit = ALPHABET.indexOf(chars[i]);
+            if (digit < 0 || (i == 0 && length == ENCODED_LENGTH && digit > 7)) { // ids are non-negative 63-bit values
+                throw new IllegalArgumentException("Invalid code: " + code);
+            }
+            if (i < length) {
+                value = (value << 5) | digit;
+            }
+        }
+        // Including the check character, the sum of a valid code is a multiple of 32
+        if (luhnSum(chars, chars.length, 1) % 32 != 0) {
+            throw new IllegalArgumentException("Invalid code check character: " + code);
+        }
+        return value;
+    }
+
+    /**
+     * Luhn mod N sum of the first length characters, doubling from the right starting with factor
+     */
+    private static int luhnSum(char[] chars, int length, int factor) {
+        int sum = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            int addend = factor * ALPHABET.indexOf(chars[i]);
+            sum += addend / 32 + addend % 32;
+            factor = 3 - factor;
+        }
+        return sum;
+    }
+
+    /**
+     * Crockford normalization: case-insensitive, I/L read as 1, O as 0
+     */
+    private static String normalize(String body) {
+        return body.toUpperCase(Locale.ROOT).replace('I', '1').replace('L', '1').replace('O', '0');
+    }
+}
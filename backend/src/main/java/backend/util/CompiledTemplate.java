@@ -0,0 +1,99 @@
+package backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template split once into static UTF-8 segments and the slots between them.
+ * {{name}} slots are HTML-escaped, {{{name}}} slots are written as is (pre-built HTML).
+ */
+public final class CompiledTemplate {
+
+    private final String name;
+    private final byte[][] segments;         // segments.length == slots.length + 1
+    private final String[] slots;
+    private final boolean[] raw;
+
+    private CompiledTemplate(String name, byte[][] segments, String[] slots, boolean[] raw) {
+        this.name = name;
+        this.segments = segments;
+        this.slots = slots;
+        this.raw = raw;
+    }
+
+    public static CompiledTemplate compile(String name, String source) {
+        List<byte[]> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                break;
+            }
+            boolean triple = source.startsWith("{{{", open);
+            String close = triple ? "}}}" : "}}";
+            int end = source.indexOf(close, open);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at " + open);
+            }
+            String slot = source.substring(open + (triple ? 3 : 2), end).trim();
+            if (slot.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in template " + name + " at " + open);
+            }
+            segments.add(source.substring(position, open).getBytes(StandardCharsets.UTF_8));
+            slots.add(slot.intern());
+            raw.add(triple);
+            position = end + close.length();
+        }
+        segments.add(source.substring(position).getBytes(StandardCharsets.UTF_8));
+
+        boolean[] rawSlots = new boolean[raw.size()];
+        for (int i = 0; i < rawSlots.length; i++) {
+            rawSlots[i] = raw.get(i);
+        }
+        return new CompiledTemplate(name, segments.toArray(new byte[0][]), slots.toArray(new String[0]), rawSlots);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Append the rendered template; model is name/value pairs, a missing or null value renders empty
+     */
+    void renderTo(RenderBuffer out, Object[] model, ValueFormatter formatter) {
+        out.write(segments[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = formatter.format(lookup(model, slots[i]));
+            if (value != null) {
+                if (raw[i]) {
+                    out.writeUtf8(value);
+                } else {
+                    out.writeEscaped(value);
+                }
+            }
+            out.write(segments[i + 1]);
+        }
+    }
+
+    private static Object lookup(Object[] model, String slot) {
+        for (int i = 0; i < model.length; i += 2) {
+            Object key = model[i];
+            if (key == slot || slot.equals(key)) {     // Literal keys are interned like the slots
+                return model[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Turns a model value into text (numbers, amounts, ...)
+     */
+    @FunctionalInterface
+    interface ValueFormatter {
+        String format(Object value);
+    }
+}
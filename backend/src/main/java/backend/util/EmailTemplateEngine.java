@@ -0,0 +1,120 @@
+package backend.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Email templates from classpath:templates/email/*.html, compiled once at startup.
+ *
+ * Rendering copies the pre-encoded static segments into a per-thread buffer and escapes
+ * the model values into it. Amounts (BigDecimal, double) are formatted for app.email.locale
+ * and cached per value, since a newsletter campaign formats the same few amounts over and over.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+    private static final String LOCATION = "classpath*:templates/email/*.html";
+    private static final int INITIAL_BUFFER_BYTES = 16 * 1024;
+    private static final int MAX_RETAINED_BUFFER_BYTES = 256 * 1024;   // Larger buffers are not kept per thread
+
+    private final Map<String, CompiledTemplate> templates;
+    private final ThreadLocal<RenderBuffer> buffers = ThreadLocal.withInitial(() -> new RenderBuffer(INITIAL_BUFFER_BYTES));
+    private final ThreadLocal<NumberFormat> moneyFormats;
+    private final Cache<BigDecimal, String> formattedMoney = Caffeine.newBuilder().maximumSize(10_000).build();
+    private final CompiledTemplate.ValueFormatter formatter = this::formatValue;
+
+    @Autowired
+    public EmailTemplateEngine(@Value("${app.email.locale:}") String locale) {
+        // Empty: the JVM format locale, i.e. exactly what String.format("%,.0f") produced before
+        this(loadTemplates(), locale.isBlank() ? Locale.getDefault(Locale.Category.FORMAT) : Locale.forLanguageTag(locale));
+    }
+
+    EmailTemplateEngine(Map<String, CompiledTemplate> templates, Locale locale) {
+        this.templates = Map.copyOf(templates);
+        this.moneyFormats = ThreadLocal.withInitial(() -> {
+            NumberFormat format = NumberFormat.getNumberInstance(locale);
+            format.setMaximumFractionDigits(0);
+            format.setRoundingMode(RoundingMode.HALF_UP);     // Same rounding as %,.0f
+            return format;
+        });
+        log.info("Loaded {} email templates: {}", this.templates.size(), this.templates.keySet());
+    }
+
+    private static Map<String, CompiledTemplate> loadTemplates() {
+        Map<String, CompiledTemplate> templates = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String filename = resource.getFilename();
+                String name = filename.substring(0, filename.length() - ".html".length());
+                try (InputStream in = resource.getInputStream()) {
+                    templates.put(name, CompiledTemplate.compile(name, new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load email templates from " + LOCATION, e);
+        }
+        return templates;
+    }
+
+    /**
+     * Render a template; model is alternating slot names and values, e.g. render("welcome", "email", to)
+     */
+    public String render(String templateName, Object... model) {
+        CompiledTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        if (model.length % 2 != 0) {
+            throw new IllegalArgumentException("Model for " + templateName + " must be name/value pairs");
+        }
+        RenderBuffer buffer = buffers.get();
+        buffer.reset();
+        template.renderTo(buffer, model, formatter);
+        String html = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_BYTES) {
+            buffers.remove();
+        }
+        return html;
+    }
+
+    /**
+     * Amount without decimals, grouped for the configured locale (e.g. 1.500.000 for vi-VN, 1,500,000 for en)
+     */
+    public String formatMoney(BigDecimal amount) {
+        if (amount == null) {
+            return "";
+        }
+        return formattedMoney.get(amount, value -> moneyFormats.get().format(value));
+    }
+
+    private String formatValue(Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof BigDecimal amount) {
+            return formatMoney(amount);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return formatMoney(BigDecimal.valueOf(((Number) value).doubleValue()));
+        }
+        return value.toString();
+    }
+}
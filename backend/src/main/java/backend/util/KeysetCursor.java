@@ -0,0 +1,43 @@
+package backend.util;
+
+import backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset (seek) pagination.
+ * Holds the sort key and id of the last row returned so the next page can
+ * continue with "WHERE (key, id) > (:key, :id)" instead of an OFFSET scan.
+ */
+public record KeysetCursor(String key, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode cursor as a URL-safe token
+     */
+    public String encode() {
+        String raw = (key != null ? key : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}; returns null for a blank token (first page)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            String key = raw.substring(0, idx);
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            return new KeysetCursor(key.isEmpty() ? null : key, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
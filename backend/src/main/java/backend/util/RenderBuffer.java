@@ -0,0 +1,114 @@
+package backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 byte buffer reused per thread by EmailTemplateEngine, so rendering
+ * allocates only the resulting String.
+ */
+final class RenderBuffer {
+
+    private byte[] bytes;
+    private int length;
+
+    RenderBuffer(int initialCapacity) {
+        bytes = new byte[initialCapacity];
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    int capacity() {
+        return bytes.length;
+    }
+
+    void write(byte[] segment) {
+        ensureCapacity(segment.length);
+        System.arraycopy(segment, 0, bytes, length, segment.length);
+        length += segment.length;
+    }
+
+    void writeUtf8(String value) {
+        int n = value.length();
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                ensureCapacity(1);
+                bytes[length++] = (byte) c;
+            } else {
+                i = writeNonAscii(value, i);
+            }
+        }
+    }
+
+    void writeEscaped(String value) {
+        int n = value.length();
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> writeAscii("&amp;");
+                case '<' -> writeAscii("&lt;");
+                case '>' -> writeAscii("&gt;");
+                case '"' -> writeAscii("&quot;");
+                case '\'' -> writeAscii("&#39;");
+                default -> {
+                    if (c < 0x80) {
+                        ensureCapacity(1);
+                        bytes[length++] = (byte) c;
+                    } else {
+                        i = writeNonAscii(value, i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Encode the char (or surrogate pair) at index; returns the index of its last char
+     */
+    private int writeNonAscii(String value, int index) {
+        ensureCapacity(4);
+        char c = value.charAt(index);
+        if (c < 0x800) {
+            bytes[length++] = (byte) (0xC0 | (c >> 6));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            return index;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        }
+        if (Character.isSurrogate(c)) {
+            bytes[length++] = (byte) '?';        // Lone surrogate, same as String.getBytes(UTF_8)
+            return index;
+        }
+        bytes[length++] = (byte) (0xE0 | (c >> 12));
+        bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        bytes[length++] = (byte) (0x80 | (c & 0x3F));
+        return index;
+    }
+
+    private void writeAscii(String entity) {
+        ensureCapacity(entity.length());
+        for (int i = 0; i < entity.length(); i++) {
+            bytes[length++] = (byte) entity.charAt(i);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
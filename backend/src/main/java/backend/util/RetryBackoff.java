@@ -0,0 +1,31 @@
+package backend.util;
+
+/**
+ * Retry bookkeeping shared by the background pipelines (outbox relay, VNPay IPN inbox):
+ * exponential backoff between attempts and the error text stored with a failed attempt.
+ */
+public final class RetryBackoff {
+
+    public static final int MAX_ERROR_LENGTH = 500;   // Width of the last_error columns
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * Delay before the next attempt: baseSeconds doubled per failed attempt, capped at maxSeconds
+     */
+    public static long delaySeconds(int attempts, long baseSeconds, long maxSeconds) {
+        long delay = baseSeconds << Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(delay, maxSeconds);
+    }
+
+    /**
+     * Error message cut to MAX_ERROR_LENGTH characters (null stays null)
+     */
+    public static String truncateError(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,47 @@
+package backend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of already-sorted runs using a min-heap of run heads.
+ * Costs O(limit * log k) instead of concatenating and re-sorting everything.
+ */
+public final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    /**
+     * Merge runs that are each sorted by {@code comparator}, returning at most {@code limit} items
+     */
+    public static <T> List<T> merge(List<? extends List<T>> runs, Comparator<? super T> comparator, int limit) {
+        List<T> merged = new ArrayList<>(Math.max(limit, 0));
+        if (limit <= 0 || runs.isEmpty()) {
+            return merged;
+        }
+
+        PriorityQueue<Head<T>> heap = new PriorityQueue<>(runs.size(), (a, b) -> comparator.compare(a.value, b.value));
+        for (List<T> run : runs) {
+            Iterator<T> it = run.iterator();
+            if (it.hasNext()) {
+                heap.add(new Head<>(it.next(), it));
+            }
+        }
+
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Head<T> head = heap.poll();
+            merged.add(head.value);
+            if (head.rest.hasNext()) {
+                heap.add(new Head<>(head.rest.next(), head.rest));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+}
@@ -0,0 +1,98 @@
+package backend.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape, so executions that only differ in literals, comments,
+ * whitespace or IN-list length are aggregated under one key.
+ *
+ * "select * from t where a = 'x' and b in (1, 2, 3)" becomes
+ * "select * from t where a = ? and b in (?...)"; comments are dropped.
+ */
+public final class SqlNormalizer {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\(\\?\\.\\.\\.\\)|\\(\\?\\))(?:\\s*,\\s*(?:\\(\\?\\.\\.\\.\\)|\\(\\?\\)))+");
+
+    private SqlNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        boolean pendingSpace = false;
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            // Comments (Hibernate use_sql_comments, hints)
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = true;
+                continue;
+            }
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+                pendingSpace = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (pendingSpace && !out.isEmpty()) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+
+            // String literal, with '' and backslash escapes
+            if (c == '\'') {
+                i++;
+                while (i < length) {
+                    char s = sql.charAt(i);
+                    if (s == '\\' && i + 1 < length) {
+                        i += 2;
+                    } else if (s == '\'' && i + 1 < length && sql.charAt(i + 1) == '\'') {
+                        i += 2;
+                    } else if (s == '\'') {
+                        i++;
+                        break;
+                    } else {
+                        i++;
+                    }
+                }
+                out.append('?');
+                continue;
+            }
+
+            // Numeric literal, but not digits inside identifiers such as t1_0 or table2
+            if (Character.isDigit(c) && !endsWithIdentifierChar(out)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+                continue;
+            }
+
+            out.append(c);
+            i++;
+        }
+
+        String normalized = IN_LIST.matcher(out).replaceAll("(?...)");
+        return VALUES_ROWS.matcher(normalized).replaceAll("$1, ...");
+    }
+
+    private static boolean endsWithIdentifierChar(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$' || last == '`' || last == '"';
+    }
+}
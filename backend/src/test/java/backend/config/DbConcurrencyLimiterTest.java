@@ -0,0 +1,73 @@
+package backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DbConcurrencyLimiterTest {
+
+    @Test
+    void permitIsHeldUntilTheConnectionIsClosed() throws Exception {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 50);
+        DataSource limited = limiter.wrap(pool());
+
+        Connection first = limited.getConnection();
+        assertEquals(1, limiter.stats().get("inUse"));
+        assertThrows(SQLTransientConnectionException.class, limited::getConnection);
+        assertEquals(1L, limiter.stats().get("timeouts"));
+
+        first.close();
+        first.close();   // A second close must not hand out an extra permit
+        assertEquals(0, limiter.stats().get("inUse"));
+
+        try (Connection second = limited.getConnection()) {
+            assertNotNull(second);
+        }
+        assertEquals(2L, limiter.stats().get("acquired"));
+    }
+
+    @Test
+    void failedCheckoutReturnsThePermit() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 50);
+
+        assertThrows(SQLException.class, limiter.wrap(target)::getConnection);
+        assertEquals(0, limiter.stats().get("inUse"));
+    }
+
+    @Test
+    void waiterProceedsWhenAConnectionIsReleased() throws Exception {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 5000);
+        DataSource limited = limiter.wrap(pool());
+        Connection held = limited.getConnection();
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try (Connection connection = limited.getConnection()) {
+                assertNotNull(connection);
+            } catch (SQLException e) {
+                fail(e);
+            }
+        });
+        while (limiter.stats().get("waiting").equals(0)) {
+            Thread.onSpinWait();
+        }
+        held.close();
+        waiter.join();
+
+        assertEquals(1L, limiter.stats().get("waited"));
+        assertEquals(0, limiter.stats().get("inUse"));
+    }
+
+    private static DataSource pool() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return target;
+    }
+}
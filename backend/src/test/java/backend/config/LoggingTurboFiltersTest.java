@@ -0,0 +1,108 @@
+package backend.config;
+
+import backend.dto.request.BookingCreateRequest;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoggingTurboFiltersTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(org.slf4j.MDC.getMDCAdapter());
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        context.getLogger("org.springframework").setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void payloadGuardReplacesDtosLongStringsAndLargeCollections() {
+        LogPayloadGuard guard = new LogPayloadGuard();
+        guard.setMaxChars(20);
+        guard.setMaxItems(3);
+        guard.setContext(context);
+        guard.start();
+        context.addTurboFilter(guard);
+
+        Logger log = context.getLogger("backend.controller.BookingController");
+        log.info("Booking request: {}", new BookingCreateRequest());
+        log.info("Notes: {}", "x".repeat(50));
+        log.info("Ids: {} page {}", new ArrayList<>(List.of(1, 2, 3, 4, 5)), 2);
+        log.info("Tour {} - {}", 7L, "Phú Quốc");
+        log.debug("Ignored arguments on a disabled level: {}", new BookingCreateRequest());
+
+        List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals("Booking request: <BookingCreateRequest>", messages.get(0));
+        assertEquals("Notes: " + "x".repeat(20) + "...(50 chars)", messages.get(1));
+        assertEquals("Ids: ArrayList(size=5) page 2", messages.get(2));
+        assertEquals("Tour 7 - Phú Quốc", messages.get(3));
+        assertEquals(4, messages.size());
+    }
+
+    @Test
+    void samplingKeepsOneInNForListedLoggersAndAlwaysKeepsWarnings() {
+        LogSamplingFilter sampling = new LogSamplingFilter();
+        sampling.setLoggers("org.springframework.web, backend.security");
+        sampling.setKeepOneIn(3);
+        sampling.setContext(context);
+        sampling.start();
+        context.addTurboFilter(sampling);
+
+        Logger chatty = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        Logger other = context.getLogger("backend.controller.TourController");
+        for (int i = 0; i < 6; i++) {
+            chatty.debug("request {}", i);
+            other.info("request {}", i);
+        }
+        chatty.warn("always kept");
+
+        assertEquals(List.of("request 0", "request 3", "always kept"), messagesOf(chatty.getName()));
+        assertEquals(6, messagesOf(other.getName()).size());
+    }
+
+    @Test
+    void samplingDecidesAtTheEnabledCheckSoGuardedMessagesAreNotBuilt() {
+        LogSamplingFilter sampling = new LogSamplingFilter();
+        sampling.setLoggers("org.springframework.security");
+        sampling.setKeepOneIn(2);
+        sampling.setContext(context);
+        sampling.start();
+        context.addTurboFilter(sampling);
+
+        Logger security = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        int built = 0;
+        for (int i = 0; i < 4; i++) {
+            if (security.isDebugEnabled()) {
+                built++;
+                security.debug("Securing GET /api/tours " + i);
+            }
+        }
+
+        assertEquals(2, built);
+        assertEquals(List.of("Securing GET /api/tours 0", "Securing GET /api/tours 2"), messagesOf(security.getName()));
+    }
+
+    private List<String> messagesOf(String loggerName) {
+        return appender.list.stream()
+                .filter(event -> event.getLoggerName().equals(loggerName))
+                .map(ILoggingEvent::getFormattedMessage)
+                .toList();
+    }
+}
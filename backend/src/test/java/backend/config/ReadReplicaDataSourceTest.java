@@ -0,0 +1,118 @@
+package backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing over two in-memory H2 databases: each has a one-row "node" table naming itself,
+ * and the replica has a replica_lag table standing in for SHOW REPLICA STATUS.
+ */
+public class ReadReplicaDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadReplicaDataSource replicas;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary");
+        replica = pool("replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE node (name VARCHAR(20)); INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE node (name VARCHAR(20)); INSERT INTO node VALUES ('replica');"
+                + "CREATE TABLE replica_lag (seconds BIGINT); INSERT INTO replica_lag VALUES (0)");
+
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setMaxLagSeconds(5);
+        properties.setHealthCheckIntervalMs(3_600_000); // checks are triggered by the tests
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        replicas = new ReadReplicaDataSource(primary, Map.of("replica-1", replica), properties);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicas);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicas.destroy();
+        primary.close();
+    }
+
+    @Test
+    void readOnlyTransactions_GoToReplica_OthersToPrimary() {
+        assertEquals("replica", readOnly.execute(status -> node()));
+        assertEquals("primary", readWrite.execute(status -> node()));
+        assertEquals("primary", node()); // no transaction: primary
+
+        assertEquals(1L, replicaStats().get("connectionsServed"));
+        assertEquals(0L, replicas.stats().get("fallbacksToPrimary"));
+    }
+
+    @Test
+    void laggingReplica_FallsBackToPrimary_UntilItCatchesUp() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 60");
+        replicas.checkHealth();
+
+        assertEquals("primary", readOnly.execute(status -> node()));
+        assertEquals(false, replicaStats().get("healthy"));
+        assertEquals(60L, replicaStats().get("lagSeconds"));
+        assertEquals(1L, replicas.stats().get("fallbacksToPrimary"));
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 1");
+        replicas.checkHealth();
+
+        assertEquals("replica", readOnly.execute(status -> node()));
+        assertEquals(true, replicaStats().get("healthy"));
+    }
+
+    @Test
+    void unreachableReplica_FallsBackToPrimary_AndLeavesRotation() {
+        replica.close();
+
+        assertEquals("primary", readOnly.execute(status -> node()));
+        assertEquals(false, replicaStats().get("healthy"));
+
+        replicas.checkHealth();
+        assertEquals("primary", readOnly.execute(status -> node()));
+        assertEquals(2L, replicas.stats().get("fallbacksToPrimary"));
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> replicaStats() {
+        return ((List<Map<String, Object>>) replicas.stats().get("replicas")).get(0);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(500);
+        return new HikariDataSource(config);
+    }
+}
@@ -82,6 +82,9 @@ class TourControllerTest {
     @MockBean
     private backend.security.JwtUtils jwtUtils;
 
+    @MockBean(name = "chatbotRestTemplate")
+    private org.springframework.web.client.RestTemplate chatbotRestTemplate;
+
     private Tour mockTour;
     private TourResponse mockTourResponse;
     private Category mockCategory;
@@ -0,0 +1,99 @@
+package backend.controller.admin;
+
+import backend.config.SecurityConfig;
+import backend.dto.response.ActivityFeedItem;
+import backend.dto.response.ActivityFeedItem.Source;
+import backend.dto.response.CursorPageResponse;
+import backend.exception.BadRequestException;
+import backend.security.JwtAuthenticationFilter;
+import backend.security.RateLimitFilter;
+import backend.service.ActivityFeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = AdminActivityController.class,
+            excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientWebSecurityAutoConfiguration.class
+            },
+            excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    SecurityConfig.class,
+                    JwtAuthenticationFilter.class,
+                    RateLimitFilter.class
+                })
+            })
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Admin Activity Controller Tests")
+class AdminActivityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ActivityFeedService activityFeedService;
+
+    @MockBean
+    private backend.security.UserDetailsServiceImpl userDetailsService;
+
+    @MockBean
+    private backend.service.TokenBlacklistService tokenBlacklistService;
+
+    @MockBean
+    private backend.security.JwtUtils jwtUtils;
+
+    @Test
+    @DisplayName("Feed passes the source filter, cursor and a clamped limit to the service")
+    void getActivityFeed_ReturnsThePageForTheRequestedSources() throws Exception {
+        ActivityFeedItem item = ActivityFeedItem.builder()
+                .id("booking_7")
+                .source(Source.BOOKING)
+                .entityId(7L)
+                .type("BOOKING_CREATED")
+                .timestamp(LocalDateTime.of(2026, 3, 1, 9, 0))
+                .build();
+        when(activityFeedService.getFeed(any(), any(), anyInt()))
+                .thenReturn(new CursorPageResponse<>(List.of(item), 100, true, "next-token", null));
+
+        mockMvc.perform(get("/api/admin/activities/feed")
+                        .param("sources", "BOOKING", "REVIEW")
+                        .param("cursor", "abc")
+                        .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].id").value("booking_7"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"));
+
+        verify(activityFeedService).getFeed(EnumSet.of(Source.BOOKING, Source.REVIEW), "abc", 100);
+    }
+
+    @Test
+    @DisplayName("An invalid cursor is a 400")
+    void getActivityFeed_InvalidCursorIsABadRequest() throws Exception {
+        when(activityFeedService.getFeed(any(), eq("broken"), anyInt()))
+                .thenThrow(new BadRequestException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/admin/activities/feed").param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
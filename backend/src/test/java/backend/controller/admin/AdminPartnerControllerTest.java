@@ -0,0 +1,111 @@
+package backend.controller.admin;
+
+import backend.config.SecurityConfig;
+import backend.dto.response.CursorPageResponse;
+import backend.entity.Partner;
+import backend.security.JwtAuthenticationFilter;
+import backend.security.RateLimitFilter;
+import backend.service.PartnerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The paged list and /scroll parse filters and sorting the same way: unknown values are a 400
+ */
+@WebMvcTest(controllers = AdminPartnerController.class,
+            excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientWebSecurityAutoConfiguration.class
+            },
+            excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    SecurityConfig.class,
+                    JwtAuthenticationFilter.class,
+                    RateLimitFilter.class
+                })
+            })
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Admin Partner Controller Tests")
+class AdminPartnerControllerTest {
+
+    private static final String[] ENDPOINTS = {"/api/admin/partners", "/api/admin/partners/scroll"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PartnerService partnerService;
+
+    @MockBean
+    private backend.mapper.EntityMapper mapper;
+
+    @MockBean
+    private backend.security.UserDetailsServiceImpl userDetailsService;
+
+    @MockBean
+    private backend.service.TokenBlacklistService tokenBlacklistService;
+
+    @MockBean
+    private backend.security.JwtUtils jwtUtils;
+
+    @Test
+    @DisplayName("Unknown status, type, sortBy or direction is a 400 on both endpoints")
+    void invalidParameters_AreRejectedByBothEndpoints() throws Exception {
+        for (String endpoint : ENDPOINTS) {
+            mockMvc.perform(get(endpoint).param("status", "DELETED"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+            mockMvc.perform(get(endpoint).param("type", "Airline"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(endpoint).param("sortBy", "rating"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(endpoint).param("direction", "sideways"))
+                    .andExpect(status().isBadRequest());
+        }
+        verifyNoInteractions(partnerService);
+    }
+
+    @Test
+    @DisplayName("Filter values from the admin UI map to enum constants on both endpoints")
+    void uiFilterValues_AreParsedTheSameWayByBothEndpoints() throws Exception {
+        when(partnerService.searchPartnersForAdmin(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        when(partnerService.scrollPartnersForAdmin(any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(new CursorPageResponse<>(List.of(), 20, false, null, null));
+
+        for (String endpoint : ENDPOINTS) {
+            mockMvc.perform(get(endpoint)
+                            .param("type", "TourOperator")
+                            .param("status", "active")
+                            .param("sortBy", "createdAt")
+                            .param("direction", "DESC"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true));
+        }
+
+        verify(partnerService).searchPartnersForAdmin(isNull(), eq(Partner.PartnerStatus.ACTIVE),
+                eq(Partner.PartnerType.TOUR_OPERATOR),
+                argThat(p -> Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")).equals(p.getSort())));
+        verify(partnerService).scrollPartnersForAdmin(isNull(), eq(Partner.PartnerStatus.ACTIVE),
+                eq(Partner.PartnerType.TOUR_OPERATOR), eq("createdAt"), eq(Sort.Direction.DESC), isNull(), eq(20));
+    }
+}
@@ -0,0 +1,75 @@
+package backend.repository;
+
+import backend.entity.Booking;
+import backend.util.CodeGenerator;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class BookingSpecificationsTest {
+
+    private Root<Booking> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder cb;
+    private Path<String> bookingCode;
+
+    @BeforeEach
+    void setUp() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        cb = mock(CriteriaBuilder.class);
+        bookingCode = mock(Path.class);
+        doReturn(mock(Path.class)).when(root).get(anyString());
+        doReturn(bookingCode).when(root).get("bookingCode");
+    }
+
+    @Test
+    void matchesSearch_GeneratedBookingCodeIsAPrefixMatchOnTheCodeColumn() {
+        CodeGenerator codeGenerator = new CodeGenerator(3);
+        for (int i = 0; i < 200; i++) {
+            String code = codeGenerator.nextBookingCode();
+            clearInvocations(cb);
+
+            BookingSpecifications.matchesSearch(" " + code.toLowerCase() + " ").toPredicate(root, query, cb);
+
+            verify(cb).like(bookingCode, code + "%", '!');
+            verify(cb, never()).or(any(), any(), any());
+        }
+    }
+
+    @Test
+    void matchesSearch_FreeTextSearchesAllColumns() {
+        when(cb.lower(any(Expression.class))).thenReturn(mock(Expression.class));
+
+        BookingSpecifications.matchesSearch("Nguyen").toPredicate(root, query, cb);
+
+        verify(cb, never()).like(bookingCode, "NGUYEN%", '!');
+        verify(cb, times(3)).like(any(Expression.class), eq("%nguyen%"), eq('!'));
+    }
+
+    @Test
+    void matchesSearch_NameStartingWithBkIsFreeText() {
+        when(cb.lower(any(Expression.class))).thenReturn(mock(Expression.class));
+
+        BookingSpecifications.matchesSearch("Bkhanh").toPredicate(root, query, cb);
+
+        verify(cb, never()).like(eq(bookingCode), anyString(), anyChar());
+        verify(cb, times(3)).like(any(Expression.class), eq("%bkhanh%"), eq('!'));
+    }
+
+    @Test
+    void matchesSearch_WildcardsAreMatchedLiterally() {
+        when(cb.lower(any(Expression.class))).thenReturn(mock(Expression.class));
+
+        BookingSpecifications.matchesSearch("50%_off!").toPredicate(root, query, cb);
+
+        verify(cb, times(3)).like(any(Expression.class), eq("%50!%!_off!!%"), eq('!'));
+    }
+}
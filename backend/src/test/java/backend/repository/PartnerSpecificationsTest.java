@@ -0,0 +1,44 @@
+package backend.repository;
+
+import backend.entity.Partner;
+import backend.util.KeysetCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class PartnerSpecificationsTest {
+
+    @Test
+    void createdAtCursor_RoundTripsAPartnerWithoutTimestamp() {
+        Partner partner = new Partner();
+        partner.setId(42L);
+
+        KeysetCursor cursor = KeysetCursor.decode(PartnerSpecifications.cursorOf(partner, "createdAt").encode());
+        assertNull(cursor.key());
+        assertEquals(42L, cursor.id());
+
+        Root<Partner> root = mock(Root.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Path<LocalDateTime> createdAt = mock(Path.class);
+        Path<Object> id = mock(Path.class);
+        doReturn(createdAt).when(root).get("createdAt");
+        doReturn(id).when(root).get("id");
+
+        // DESC: NULL sorts last, so the rest of the page is the NULL rows with a smaller id
+        PartnerSpecifications.after(cursor, "createdAt", Sort.Direction.DESC)
+                .toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        verify(cb).isNull(createdAt);
+        verify(cb, never()).isNotNull(any());
+        verify(cb, never()).lessThan(eq(createdAt), any(LocalDateTime.class));
+    }
+}
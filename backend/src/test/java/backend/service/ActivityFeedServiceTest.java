@@ -0,0 +1,196 @@
+package backend.service;
+
+import backend.dto.response.ActivityFeedItem;
+import backend.dto.response.ActivityFeedItem.Source;
+import backend.dto.response.CursorPageResponse;
+import backend.entity.Booking;
+import backend.entity.Review;
+import backend.entity.User;
+import backend.entity.UserSession;
+import backend.exception.BadRequestException;
+import backend.repository.BookingRepository;
+import backend.repository.ReviewRepository;
+import backend.repository.UserRepository;
+import backend.repository.UserSessionRepository;
+import backend.service.impl.ActivityFeedServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivityFeedServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSessionRepository userSessionRepository;
+
+    private ActivityFeedService feedService;
+
+    private final List<Booking> bookings = new ArrayList<>();
+    private final List<Review> reviews = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+    private final List<UserSession> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        feedService = new ActivityFeedServiceImpl(bookingRepository, reviewRepository, userRepository, userSessionRepository);
+
+        // Several rows share a timestamp across sources and within a source to exercise the tie-breakers
+        for (long id = 1; id <= 6; id++) {
+            Booking booking = new Booking();
+            booking.setId(id);
+            booking.setBookingCode("BK" + id);
+            booking.setCreatedAt(T0.plusMinutes(id / 2));
+            bookings.add(booking);
+        }
+        for (long id = 1; id <= 4; id++) {
+            Review review = new Review();
+            review.setId(id);
+            review.setRating(5);
+            review.setCreatedAt(T0.plusMinutes(id));
+            reviews.add(review);
+        }
+        for (long id = 1; id <= 3; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setName("User " + id);
+            user.setCreatedAt(T0.plusMinutes(id * 2 - 1));
+            users.add(user);
+        }
+        for (long id = 1; id <= 2; id++) {
+            UserSession session = new UserSession();
+            session.setId(id);
+            session.setIpAddress("10.0.0." + id);
+            session.setCreatedAt(T0.plusMinutes(2));
+            sessions.add(session);
+        }
+
+        lenient().when(bookingRepository.findFeedPage(any(), any(), anyLong(), any(Pageable.class)))
+                .thenAnswer(feedPage(bookings, Booking::getCreatedAt, Booking::getId));
+        lenient().when(reviewRepository.findFeedPage(any(), any(), anyLong(), any(Pageable.class)))
+                .thenAnswer(feedPage(reviews, Review::getCreatedAt, Review::getId));
+        lenient().when(userRepository.findFeedPage(any(), any(), anyLong(), any(Pageable.class)))
+                .thenAnswer(feedPage(users, User::getCreatedAt, User::getId));
+        lenient().when(userSessionRepository.findFeedPage(any(), any(), anyLong(), any(Pageable.class)))
+                .thenAnswer(feedPage(sessions, UserSession::getCreatedAt, UserSession::getId));
+    }
+
+    @Test
+    void getFeed_MergesAllSourcesNewestFirstWithSourceAndIdTieBreakers() {
+        CursorPageResponse<ActivityFeedItem> page = feedService.getFeed(null, null, 100);
+
+        List<ActivityFeedItem> items = page.getContent();
+        assertEquals(bookings.size() + reviews.size() + users.size() + sessions.size(), items.size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        for (int i = 1; i < items.size(); i++) {
+            assertTrue(ActivityFeedItem.NEWEST_FIRST.compare(items.get(i - 1), items.get(i)) < 0,
+                    "out of order at " + i + ": " + items.get(i - 1).getId() + " then " + items.get(i).getId());
+        }
+        // T0+3 holds booking 6, review 3 and user 2: ties go BOOKING, REVIEW, USER, LOGIN
+        assertEquals(List.of("user_3", "review_4", "booking_6", "review_3", "user_2", "booking_5"),
+                items.subList(0, 6).stream().map(ActivityFeedItem::getId).toList());
+    }
+
+    @Test
+    void getFeed_CursorPagesVisitEveryItemOnceInOrder() {
+        List<ActivityFeedItem> all = feedService.getFeed(null, null, 100).getContent();
+
+        List<ActivityFeedItem> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<ActivityFeedItem> page = feedService.getFeed(null, cursor, 4);
+            assertTrue(page.getContent().size() <= 4);
+            paged.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            assertEquals(cursor != null, page.isHasNext());
+            pages++;
+        } while (cursor != null && pages < 20);
+
+        assertEquals(all.stream().map(ActivityFeedItem::getId).toList(),
+                paged.stream().map(ActivityFeedItem::getId).toList());
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void getFeed_FilteredBySourceOnlyQueriesAndReturnsThoseSources() {
+        Set<Source> wanted = EnumSet.of(Source.USER, Source.LOGIN);
+
+        List<ActivityFeedItem> items = feedService.getFeed(wanted, null, 100).getContent();
+
+        assertEquals(users.size() + sessions.size(), items.size());
+        assertTrue(items.stream().allMatch(item -> wanted.contains(item.getSource())));
+        assertEquals(Set.of("USER_REGISTRATION", "USER_LOGIN"),
+                Set.copyOf(items.stream().map(ActivityFeedItem::getType).toList()));
+        verifyNoInteractions(bookingRepository, reviewRepository);
+    }
+
+    @Test
+    void getFeed_SourceFilterKeepsPagingStable() {
+        String cursor = feedService.getFeed(EnumSet.of(Source.BOOKING), null, 2).getNextCursor();
+
+        List<ActivityFeedItem> next = feedService.getFeed(EnumSet.of(Source.BOOKING), cursor, 2).getContent();
+
+        assertEquals(List.of("booking_4", "booking_3"), next.stream().map(ActivityFeedItem::getId).toList());
+    }
+
+    @Test
+    void getFeed_MalformedCursorIsABadRequest() {
+        assertThrows(BadRequestException.class, () -> feedService.getFeed(null, "not-a-cursor", 10));
+    }
+
+    @Test
+    void getLatest_ReturnsOneSourceNewestFirstSinceTheGivenTime() {
+        List<ActivityFeedItem> latest = feedService.getLatest(Source.REVIEW, T0.plusMinutes(2), 10);
+
+        assertEquals(List.of("review_4", "review_3", "review_2"), latest.stream().map(ActivityFeedItem::getId).toList());
+        assertTrue(feedService.getLatest(Source.REVIEW, null, 0).isEmpty());
+    }
+
+    /**
+     * Same semantics as the findFeedPage queries: created_at >= since, strictly before
+     * (before, beforeId), ORDER BY created_at DESC, id DESC, top-N
+     */
+    private static <T> Answer<List<T>> feedPage(List<T> rows, Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        return invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            LocalDateTime before = invocation.getArgument(1);
+            long beforeId = invocation.getArgument(2);
+            Pageable pageable = invocation.getArgument(3);
+            return rows.stream()
+                    .filter(row -> !createdAt.apply(row).isBefore(since))
+                    .filter(row -> createdAt.apply(row).isBefore(before)
+                            || (createdAt.apply(row).isEqual(before) && id.apply(row) < beforeId))
+                    .sorted(Comparator.comparing(createdAt).reversed().thenComparing(id, Comparator.reverseOrder()))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        };
+    }
+}
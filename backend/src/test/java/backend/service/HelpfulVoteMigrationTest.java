@@ -0,0 +1,55 @@
+package backend.service;
+
+import backend.repository.ReviewHelpfulVoteRepository;
+import backend.repository.ReviewRepository;
+import backend.service.impl.HelpfulVoteMigration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class HelpfulVoteMigrationTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewHelpfulVoteRepository helpfulVoteRepository;
+
+    private HelpfulVoteMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new HelpfulVoteMigration(reviewRepository, helpfulVoteRepository);
+    }
+
+    @Test
+    void movesLegacyVotersIntoVoteTableThenClearsTheList() {
+        when(reviewRepository.findLegacyHelpfulVoters(eq(0L), any())).thenReturn(List.of(
+                new Object[]{7L, "1, 5,12,5,,abc"},
+                new Object[]{9L, ""}));
+        when(helpfulVoteRepository.insertIfAbsent(anyLong(), anyLong())).thenReturn(1);
+
+        assertEquals(2, migration.migrate());
+
+        InOrder order = inOrder(helpfulVoteRepository, reviewRepository);
+        order.verify(helpfulVoteRepository).insertIfAbsent(7L, 1L);
+        order.verify(helpfulVoteRepository).insertIfAbsent(7L, 5L);
+        order.verify(helpfulVoteRepository).insertIfAbsent(7L, 12L);
+        order.verify(reviewRepository).finishLegacyHelpfulMigration(7L);
+        verify(helpfulVoteRepository, times(3)).insertIfAbsent(eq(7L), anyLong());
+        verify(helpfulVoteRepository, never()).insertIfAbsent(eq(9L), anyLong());
+        verify(reviewRepository).finishLegacyHelpfulMigration(9L);
+        // Short batch: no second page requested
+        verify(reviewRepository, times(1)).findLegacyHelpfulVoters(anyLong(), any());
+    }
+}
@@ -0,0 +1,157 @@
+package backend.service;
+
+import backend.config.OutboxProperties;
+import backend.entity.OutboxMessage;
+import backend.entity.OutboxMessage.Status;
+import backend.repository.OutboxMessageRepository;
+import backend.service.impl.OutboxRelay;
+import backend.service.impl.OutboxServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock
+    private OutboxMessageRepository outboxRepository;
+
+    private final OutboxProperties settings = new OutboxProperties();
+    private final List<String> handled = new ArrayList<>();
+    private ExecutorService workers;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxHandler handler = new OutboxHandler() {
+            @Override
+            public String type() {
+                return "test";
+            }
+
+            @Override
+            public void handle(String payload) {
+                if (payload.contains("fail")) {
+                    throw new IllegalStateException("SMTP unavailable");
+                }
+                synchronized (handled) {
+                    handled.add(payload);
+                }
+            }
+        };
+        workers = Executors.newFixedThreadPool(4);
+        relay = new OutboxRelay(outboxRepository, List.of(handler), settings, workers, Runnable::run);
+    }
+
+    private static OutboxMessage message(long id, String type, String payload, int attempts) {
+        OutboxMessage message = new OutboxMessage();
+        message.setId(id);
+        message.setType(type);
+        message.setPayload(payload);
+        message.setAttempts(attempts);
+        message.setStatus(Status.PROCESSING);
+        return message;
+    }
+
+    @Test
+    void testDrain_DeliversBatchInParallelAndRetriesFailures() {
+        List<OutboxMessage> batch = List.of(
+                message(1L, "test", "{\"n\":1}", 0),
+                message(2L, "test", "{\"n\":\"fail\"}", 0),
+                message(3L, "test", "{\"n\":3}", 0),
+                message(4L, "unknown", "{}", settings.getMaxAttempts() - 1));
+        when(outboxRepository.findDueIds(eq(Status.PENDING), any(), any()))
+                .thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(outboxRepository.claim(anyCollection(), anyString(), eq(Status.PENDING), eq(Status.PROCESSING), any()))
+                .thenReturn(4);
+        when(outboxRepository.findClaimed(anyString(), eq(Status.PROCESSING))).thenReturn(batch);
+
+        relay.drain();
+        awaitWorkers();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markSent(sent.capture(), eq(Status.SENT), any());
+        assertEquals(List.of(1L, 3L), new ArrayList<>(sent.getValue()));
+        assertEquals(2, handled.size());
+
+        verify(outboxRepository).markAttemptFailed(eq(2L), eq(Status.PENDING), any(), eq("SMTP unavailable"));
+        verify(outboxRepository).markAttemptFailed(eq(4L), eq(Status.FAILED), any(), contains("No outbox handler"));
+
+        Map<String, Object> stats = relayStats();
+        assertEquals(2L, stats.get("sent"));
+        assertEquals(1L, stats.get("deadLettered"));
+    }
+
+    @Test
+    void testDrain_NothingDue_DoesNotClaim() {
+        when(outboxRepository.findDueIds(eq(Status.PENDING), any(), any())).thenReturn(List.of());
+
+        relay.drain();
+        awaitWorkers();
+
+        verify(outboxRepository, never()).claim(anyCollection(), anyString(), any(), any(), any());
+        verify(outboxRepository, never()).markSent(anyCollection(), any(), any());
+    }
+
+    @Test
+    void testDrain_ReturnsWithoutWaitingForDeliveries() throws Exception {
+        CountDownLatch smtp = new CountDownLatch(1);
+        OutboxHandler slow = new OutboxHandler() {
+            @Override
+            public String type() {
+                return "slow";
+            }
+
+            @Override
+            public void handle(String payload) throws Exception {
+                smtp.await();
+            }
+        };
+        relay = new OutboxRelay(outboxRepository, List.of(slow), settings, workers, Runnable::run);
+        when(outboxRepository.findDueIds(eq(Status.PENDING), any(), any())).thenReturn(List.of(1L));
+        when(outboxRepository.claim(anyCollection(), anyString(), eq(Status.PENDING), eq(Status.PROCESSING), any()))
+                .thenReturn(1);
+        when(outboxRepository.findClaimed(anyString(), eq(Status.PROCESSING)))
+                .thenReturn(List.of(message(1L, "slow", "{}", 0)));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> relay.drain());
+        verify(outboxRepository, never()).markSent(anyCollection(), any(), any());
+
+        smtp.countDown();
+        awaitWorkers();
+        verify(outboxRepository).markSent(eq(List.of(1L)), eq(Status.SENT), any());
+    }
+
+    private void awaitWorkers() {
+        workers.shutdown();
+        try {
+            assertTrue(workers.awaitTermination(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+
+    private Map<String, Object> relayStats() {
+        return new OutboxServiceImpl(outboxRepository, relay, new ObjectMapper()).getStats();
+    }
+}
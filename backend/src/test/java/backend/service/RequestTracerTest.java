@@ -0,0 +1,106 @@
+package backend.service;
+
+import backend.config.TracingProperties;
+import backend.service.impl.RequestTracer;
+import backend.service.impl.RequestTracer.SpanKind;
+import backend.service.impl.TraceExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestTracerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Mock
+    private TraceExporter exporter;
+
+    private TracingProperties settings;
+    private RequestTracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        settings = new TracingProperties();
+        settings.setSampleRate(0.0);
+        tracer = new RequestTracer(settings, exporter);
+    }
+
+    @Test
+    void unsampledRequestOpensNoSpans() {
+        assertNull(tracer.startRequest("GET /api/tours", null));
+        assertFalse(tracer.isActive());
+        assertNull(tracer.startSpan(SpanKind.SERVICE, "TourServiceImpl.getAllTours"));
+        verifyNoInteractions(exporter);
+    }
+
+    @Test
+    void sampledTraceparentIsContinuedAndNestedSpansShareTheTrace() {
+        RequestTracer.Span root = tracer.startRequest("GET /api/tours",
+                "00-" + TRACE_ID + "-00f067aa0ba902b7-01");
+        assertNotNull(root);
+        assertEquals(TRACE_ID, tracer.currentTraceId());
+
+        RequestTracer.Span service = tracer.startSpan(SpanKind.SERVICE, "TourServiceImpl.getAllTours");
+        RequestTracer.Span nested = tracer.startSpan(SpanKind.SERVICE, "CategoryServiceImpl.getById");
+        RequestTracer.Span repository = tracer.startSpan(SpanKind.REPOSITORY, "TourRepository.findAll");
+        tracer.endSpan(repository, null);
+        tracer.endSpan(nested, null);
+        tracer.endSpan(service, null);
+        assertTrue(service.isOutermost());
+        assertFalse(nested.isOutermost());
+
+        String timing = tracer.serverTiming();
+        assertTrue(timing.contains("service;desc=\"2 calls\""), timing);
+        assertTrue(timing.contains("repository;desc=\"1 call\""), timing);
+        assertTrue(timing.startsWith("service") && timing.contains("total;dur="), timing);
+
+        tracer.finishRequest(root, null);
+        assertFalse(tracer.isActive());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RequestTracer.Span>> spans = ArgumentCaptor.forClass(List.class);
+        verify(exporter).submit(spans.capture());
+        assertEquals(4, spans.getValue().size());
+        assertSame(root, spans.getValue().get(3));
+        assertTrue(tracer.traceparent(repository).startsWith("00-" + TRACE_ID + "-"));
+    }
+
+    @Test
+    void malformedOrUnsampledTraceparentFallsBackToTheSampleRate() {
+        assertNull(tracer.startRequest("GET /api/tours", "00-" + TRACE_ID + "-00f067aa0ba902b7-00"));
+        assertNull(tracer.startRequest("GET /api/tours", "garbage"));
+        assertNull(tracer.startRequest("GET /api/tours", "00-" + "0".repeat(32) + "-00f067aa0ba902b7-01"));
+    }
+
+    @Test
+    void asyncTaskRecordsItsOwnSegmentUnderTheSameTrace() throws Exception {
+        settings.setDebugHeaders(true);
+        RequestTracer.Span root = tracer.startRequest("POST /api/bookings", null);
+        String traceId = tracer.currentTraceId();
+        String[] seen = new String[1];
+
+        Runnable task = tracer.wrap(() -> {
+            seen[0] = tracer.currentTraceId();
+            tracer.endSpan(tracer.startSpan(SpanKind.SERVICE, "EmailServiceImpl.send"), null);
+        });
+        Thread worker = new Thread(task, "email-1");
+        worker.start();
+        worker.join();
+        tracer.finishRequest(root, null);
+
+        assertEquals(traceId, seen[0]);
+        // Worker segment (async root + service span), then the request itself
+        verify(exporter, times(2)).submit(anyList());
+        assertEquals(1L, tracer.stats().get("asyncSegments"));
+    }
+}
@@ -0,0 +1,97 @@
+package backend.service;
+
+import backend.entity.SystemSetting;
+import backend.entity.SystemSettingsVersion;
+import backend.repository.SystemSettingRepository;
+import backend.repository.SystemSettingsVersionRepository;
+import backend.service.impl.LoyaltyRuleOverrides;
+import backend.service.impl.SystemSettingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SystemSettingServiceTest {
+
+    @Mock
+    private SystemSettingRepository systemSettingRepository;
+
+    @Mock
+    private SystemSettingsVersionRepository versionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<SystemSettingsListener> listeners;
+
+    private final LoyaltyRuleOverrides loyaltyRules = new LoyaltyRuleOverrides();
+
+    private SystemSettingServiceImpl settingService;
+
+    @BeforeEach
+    void setUp() {
+        settingService = new SystemSettingServiceImpl(systemSettingRepository, versionRepository, eventPublisher, listeners);
+        lenient().when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(loyaltyRules));
+    }
+
+    @Test
+    void refreshIfChangedElsewhere_ReloadsWhenTheVersionMoves() {
+        when(versionRepository.findCurrent()).thenReturn(Optional.of(3L));
+        when(systemSettingRepository.findAllOnPrimary()).thenReturn(List.of(setting("autoApproveReviews", "true")));
+        assertTrue(settingService.getSnapshot().getBoolean(SystemSettingService.AUTO_APPROVE_REVIEWS, true));
+
+        // Same version: nothing to load
+        settingService.refreshIfChangedElsewhere();
+        verify(systemSettingRepository, times(1)).findAllOnPrimary();
+
+        // Another node saved within the same second: only the version tells
+        when(versionRepository.findCurrent()).thenReturn(Optional.of(4L));
+        when(systemSettingRepository.findAllOnPrimary()).thenReturn(List.of(setting("autoApproveReviews", "false")));
+        settingService.refreshIfChangedElsewhere();
+
+        assertFalse(settingService.getSnapshot().getBoolean(SystemSettingService.AUTO_APPROVE_REVIEWS, true));
+        assertEquals(2, settingService.getSnapshot().getVersion());
+    }
+
+    @Test
+    void batchUpdateSettings_BumpsTheVersionAndCreatesTheCounterOnFirstUse() {
+        when(systemSettingRepository.findByKeyIn(anyCollection())).thenReturn(List.of());
+        when(versionRepository.increment()).thenReturn(0, 1);
+
+        settingService.batchUpdateSettings(Map.of("siteName", "Tours"));
+        settingService.batchUpdateSettings(Map.of("siteName", "More tours"));
+
+        verify(versionRepository, times(2)).increment();
+        verify(versionRepository, times(1)).save(new SystemSettingsVersion(SystemSettingsVersion.ROW_ID, 1L));
+    }
+
+    @Test
+    void loyaltySettingsOverrideLoyaltyConfigRules() {
+        when(systemSettingRepository.findAllOnPrimary()).thenReturn(List.of(
+                setting("loyalty.review_basic_points", " 80 "),
+                setting("autoApproveReviews", "true")));
+
+        settingService.getSnapshot();
+
+        assertEquals("80", loyaltyRules.get("review_basic_points"));
+        assertNull(loyaltyRules.get("autoApproveReviews"));
+    }
+
+    private static SystemSetting setting(String key, String value) {
+        return new SystemSetting(key, value, "STRING", "GENERAL");
+    }
+}
@@ -0,0 +1,65 @@
+package backend.service;
+
+import backend.entity.Review.ReviewStatus;
+import backend.repository.ReviewRepository;
+import backend.repository.TourRepository;
+import backend.service.impl.TourRatingReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TourRatingReconcilerTest {
+
+    @Mock
+    private TourRepository tourRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private TourRatingReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new TourRatingReconciler(tourRepository, reviewRepository);
+    }
+
+    @Test
+    void rebuildsOnlyToursThatDrifted() {
+        // Tour 1: two 5-star + one 3-star; tour 2: one 4-star; tour 3: no approved reviews
+        when(reviewRepository.countReviewsByTourAndRating(ReviewStatus.APPROVED)).thenReturn(List.of(
+                new Object[]{1L, 5, 2L},
+                new Object[]{1L, 3, 1L},
+                new Object[]{2L, 4, 1L}));
+        // id, sum, count, r1..r5
+        when(tourRepository.findRatingAggregates()).thenReturn(List.of(
+                new Object[]{1L, 13L, 3L, 0L, 0L, 1L, 0L, 2L},   // consistent
+                new Object[]{2L, 0L, 0L, 0L, 0L, 0L, 0L, 0L},    // never backfilled
+                new Object[]{3L, 5L, 1L, 0L, 0L, 0L, 0L, 1L}));  // counts a review that is gone
+
+        int rebuilt = reconciler.reconcile();
+
+        assertEquals(2, rebuilt);
+        verify(tourRepository).recomputeRatingAggregates(List.of(2L, 3L), ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void leavesConsistentToursAlone() {
+        when(reviewRepository.countReviewsByTourAndRating(ReviewStatus.APPROVED)).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 2, 1L}));
+        when(tourRepository.findRatingAggregates()).thenReturn(List.of(
+                new Object[]{1L, 2L, 1L, 0L, 1L, 0L, 0L, 0L},
+                new Object[]{2L, 0L, 0L, 0L, 0L, 0L, 0L, 0L}));
+
+        assertEquals(0, reconciler.reconcile());
+        verify(tourRepository, never()).recomputeRatingAggregates(anyList(), any());
+    }
+}
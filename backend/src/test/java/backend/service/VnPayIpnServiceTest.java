@@ -0,0 +1,189 @@
+package backend.service;
+
+import backend.config.VnPayIpnProperties;
+import backend.entity.Payment;
+import backend.entity.VnPayNotification;
+import backend.entity.VnPayNotification.Status;
+import backend.repository.PaymentRepository;
+import backend.repository.VnPayNotificationRepository;
+import backend.util.VnPayUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VnPayIpnServiceTest {
+
+    @Mock
+    private VnPayUtil vnPayUtil;
+
+    @Mock
+    private VnPayService vnPayService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private VnPayNotificationRepository notificationRepository;
+
+    private final VnPayIpnProperties settings = new VnPayIpnProperties();
+
+    // In-memory inbox with the same unique key as vnpay_notifications
+    private final Map<String, VnPayNotification> inbox = new ConcurrentHashMap<>();
+    private final Map<Long, VnPayNotification> byId = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private VnPayIpnService ipnService;
+
+    @BeforeEach
+    void setUp() {
+        // Executor runs inline so the test sees the processed state when receive() returns
+        ipnService = new VnPayIpnService(vnPayUtil, vnPayService, paymentRepository, notificationRepository,
+                new ObjectMapper(), settings, Runnable::run);
+
+        lenient().when(vnPayUtil.validateSignature(anyMap())).thenReturn(true);
+        lenient().when(paymentRepository.findByIdOnPrimary(anyLong())).thenAnswer(invocation -> {
+            Payment payment = new Payment();
+            payment.setId(invocation.getArgument(0));
+            payment.setAmount(new BigDecimal("500000.00"));
+            payment.setStatus(Payment.PaymentStatus.PENDING);
+            return Optional.of(payment);
+        });
+        lenient().when(notificationRepository.existsByTxnRefAndTransactionNo(anyString(), anyString()))
+                .thenAnswer(invocation -> inbox.containsKey(invocation.getArgument(0) + "/" + invocation.getArgument(1)));
+        lenient().when(notificationRepository.saveAndFlush(any(VnPayNotification.class))).thenAnswer(invocation -> {
+            VnPayNotification notification = invocation.getArgument(0);
+            if (inbox.putIfAbsent(notification.getTxnRef() + "/" + notification.getTransactionNo(), notification) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_vnpay_notifications_txn'");
+            }
+            notification.setId(ids.incrementAndGet());
+            byId.put(notification.getId(), notification);
+            return notification;
+        });
+        lenient().when(notificationRepository.claim(anyLong(), eq(Status.PENDING), eq(Status.PROCESSING), any()))
+                .thenAnswer(invocation -> {
+                    VnPayNotification notification = byId.get(invocation.<Long>getArgument(0));
+                    synchronized (notification) {
+                        if (notification.getStatus() != Status.PENDING) {
+                            return 0;
+                        }
+                        notification.setStatus(Status.PROCESSING);
+                        return 1;
+                    }
+                });
+        lenient().when(notificationRepository.findForProcessing(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(byId.get(invocation.<Long>getArgument(0))));
+        lenient().when(notificationRepository.markProcessed(anyLong(), eq(Status.PROCESSED), any()))
+                .thenAnswer(invocation -> {
+                    byId.get(invocation.<Long>getArgument(0)).setStatus(Status.PROCESSED);
+                    return 1;
+                });
+    }
+
+    private static Map<String, String> ipn(long paymentId, String transactionNo) {
+        Map<String, String> params = new HashMap<>();
+        params.put("vnp_TxnRef", String.valueOf(paymentId));
+        params.put("vnp_TransactionNo", transactionNo);
+        params.put("vnp_ResponseCode", "00");
+        params.put("vnp_Amount", "50000000");
+        params.put("vnp_BankCode", "NCB");
+        params.put("vnp_SecureHash", "signature");
+        return params;
+    }
+
+    @Test
+    void testDuplicateStorm_RecordsAndAppliesEachNotificationOnce() throws Exception {
+        int transactions = 20;
+        int deliveriesPerTransaction = 50;
+        ExecutorService senders = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, String>>> acks = new ArrayList<>();
+
+        try {
+            for (int delivery = 0; delivery < deliveriesPerTransaction; delivery++) {
+                for (int txn = 1; txn <= transactions; txn++) {
+                    long paymentId = txn;
+                    acks.add(senders.submit(() -> {
+                        start.await();
+                        return ipnService.receive(ipn(paymentId, "1400" + paymentId));
+                    }));
+                }
+            }
+
+            assertTimeout(Duration.ofSeconds(10), () -> {
+                start.countDown();
+                for (Future<Map<String, String>> ack : acks) {
+                    assertEquals("00", ack.get().get("RspCode"));
+                }
+            });
+        } finally {
+            senders.shutdownNow();
+        }
+
+        assertEquals(transactions, inbox.size());
+        assertTrue(byId.values().stream().allMatch(n -> n.getStatus() == Status.PROCESSED));
+        verify(vnPayService, times(transactions)).applyPaymentResult(anyMap());
+        assertEquals((long) transactions, ipnService.stats().get("recorded"));
+        assertEquals((long) transactions * (deliveriesPerTransaction - 1), ipnService.stats().get("duplicates"));
+    }
+
+    @Test
+    void testReceive_InvalidSignature_IsRejectedAndNotRecorded() {
+        when(vnPayUtil.validateSignature(anyMap())).thenReturn(false);
+
+        Map<String, String> ack = ipnService.receive(ipn(1L, "14001"));
+
+        assertEquals("97", ack.get("RspCode"));
+        assertTrue(inbox.isEmpty());
+        verifyNoInteractions(vnPayService);
+    }
+
+    @Test
+    void testReceive_AmountMismatch_IsRejected() {
+        Map<String, String> params = ipn(1L, "14001");
+        params.put("vnp_Amount", "100");
+
+        assertEquals("04", ipnService.receive(params).get("RspCode"));
+        assertTrue(inbox.isEmpty());
+    }
+
+    @Test
+    void testProcess_FailureIsRetriedWithBackoffThenDeadLettered() {
+        when(vnPayService.applyPaymentResult(anyMap())).thenThrow(new IllegalStateException("Lock wait timeout"));
+
+        ipnService.receive(ipn(1L, "14001"));
+        VnPayNotification notification = byId.get(1L);
+        verify(notificationRepository).markAttemptFailed(eq(1L), eq(Status.PENDING), any(), eq("Lock wait timeout"));
+
+        notification.setStatus(Status.PENDING);
+        notification.setAttempts(settings.getMaxAttempts() - 1);
+        ipnService.process(1L);
+        verify(notificationRepository).markAttemptFailed(eq(1L), eq(Status.FAILED), any(), eq("Lock wait timeout"));
+
+        assertEquals(settings.getRetryBaseSeconds(), ipnService.backoffSeconds(1));
+        assertEquals(settings.getRetryBaseSeconds() * 4, ipnService.backoffSeconds(3));
+        assertEquals(settings.getRetryMaxSeconds(), ipnService.backoffSeconds(30));
+    }
+}
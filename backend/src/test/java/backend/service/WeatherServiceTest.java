@@ -0,0 +1,192 @@
+package backend.service;
+
+import backend.config.CacheConfig;
+import backend.dto.response.WeatherResponse;
+import backend.entity.Tour.TourStatus;
+import backend.repository.TourRepository;
+import backend.service.impl.WeatherServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * WeatherServiceImpl against a local OpenWeatherMap stub (MockRestServiceServer):
+ * one upstream call per resource, coalesced concurrent misses, geocoding cache and pre-warming.
+ */
+public class WeatherServiceTest {
+
+    private static final String CURRENT_JSON = """
+            {"main":{"temp":30.4,"feels_like":34.2,"humidity":70,"pressure":1008},
+             "weather":[{"description":"mây rải rác","icon":"03d"}],
+             "wind":{"speed":3.5},"visibility":10000,"sys":{"sunrise":1760000000,"sunset":1760043000}}
+            """;
+
+    private static final String GEO_JSON = """
+            [{"name":"Da Lat","local_names":{"vi":"Đà Lạt"},"lat":11.9404,"lon":108.4583}]
+            """;
+
+    private MockRestServiceServer server;
+    private TourRepository tourRepository;
+    private WeatherServiceImpl weatherService;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        tourRepository = mock(TourRepository.class);
+
+        weatherService = new WeatherServiceImpl(restTemplate, new ObjectMapper(), tourRepository,
+                new CacheConfig().weatherCacheManager());
+        ReflectionTestUtils.setField(weatherService, "apiKey", "test-key");
+        ReflectionTestUtils.setField(weatherService, "baseUrl", "http://weather.stub/data/2.5");
+        ReflectionTestUtils.setField(weatherService, "geoUrl", "http://weather.stub/geo/1.0");
+        ReflectionTestUtils.setField(weatherService, "prewarmEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        weatherService.destroy();
+    }
+
+    @Test
+    void getWeatherData_FetchesEachUpstreamResourceOnce() {
+        expectCurrent(once(), withSuccess(CURRENT_JSON, MediaType.APPLICATION_JSON));
+        expectForecast(once(), withSuccess(forecastJson(), MediaType.APPLICATION_JSON));
+
+        WeatherResponse first = weatherService.getWeatherData(10.7769, 106.7009, "TP.HCM");
+        WeatherResponse second = weatherService.getWeatherData(10.7769, 106.7009, "Sài Gòn");
+
+        server.verify();
+        assertEquals(30, first.getCurrent().getTemperature());
+        assertEquals(5, first.getForecast().size());
+        assertEquals(8, first.getHourlyForecast().size());
+        assertEquals("TP.HCM", first.getLocation());
+        assertEquals("Sài Gòn", second.getLocation());
+    }
+
+    @Test
+    void getWeatherData_CoalescesConcurrentMisses() throws Exception {
+        expectCurrent(once(), delayed(withSuccess(CURRENT_JSON, MediaType.APPLICATION_JSON)));
+        expectForecast(once(), delayed(withSuccess(forecastJson(), MediaType.APPLICATION_JSON)));
+
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<WeatherResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return weatherService.getWeatherData(16.0544, 108.2022, "Đà Nẵng");
+                }));
+            }
+            start.countDown();
+            for (Future<WeatherResponse> result : results) {
+                assertNotNull(result.get().getCurrent());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        server.verify();
+    }
+
+    @Test
+    void getWeatherByCity_CachesGeocodingSeparatelyFromWeather() {
+        server.expect(once(), requestTo(containsString("/geo/1.0/direct?")))
+                .andRespond(withSuccess(GEO_JSON, MediaType.APPLICATION_JSON));
+        expectCurrent(times(2), withSuccess(CURRENT_JSON, MediaType.APPLICATION_JSON));
+        expectForecast(times(2), withSuccess(forecastJson(), MediaType.APPLICATION_JSON));
+
+        WeatherResponse weather = weatherService.getWeatherByCity("Da Lat");
+        weatherService.getWeatherByCity("da lat");
+
+        // Clearing weather keeps the geocoding entry: only weather is fetched again
+        weatherService.clearCache();
+        weatherService.getWeatherByCity("Da Lat");
+
+        server.verify();
+        assertEquals("Đà Lạt", weather.getLocation());
+    }
+
+    @Test
+    void prewarmTourLocations_LoadsEachDistinctLocationOnce() {
+        when(tourRepository.findWeatherLocations(TourStatus.ACTIVE)).thenReturn(List.of(
+                new Object[] {21.0285, 105.8542, "Hà Nội"},
+                new Object[] {21.0287, 105.8544, "Hà Nội"},   // same rounded key
+                new Object[] {10.2899, 103.9840, "Phú Quốc"}
+        ));
+        expectCurrent(times(2), withSuccess(CURRENT_JSON, MediaType.APPLICATION_JSON));
+        expectForecast(times(2), withSuccess(forecastJson(), MediaType.APPLICATION_JSON));
+
+        weatherService.refreshTourLocations().join();
+        WeatherResponse hanoi = weatherService.getWeatherData(21.0285, 105.8542, "Hà Nội");
+
+        server.verify();
+        assertEquals("Hà Nội", hanoi.getLocation());
+    }
+
+    private void expectCurrent(ExpectedCount count, ResponseCreator response) {
+        server.expect(count, requestTo(containsString("/data/2.5/weather?"))).andRespond(response);
+    }
+
+    private void expectForecast(ExpectedCount count, ResponseCreator response) {
+        server.expect(count, requestTo(containsString("/data/2.5/forecast?"))).andRespond(response);
+    }
+
+    private static ResponseCreator delayed(ResponseCreator delegate) {
+        return request -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.createResponse(request);
+        };
+    }
+
+    /**
+     * 5 days x 8 three-hour slots, starting today
+     */
+    private static String forecastJson() {
+        StringBuilder list = new StringBuilder();
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < 5; day++) {
+            for (int slot = 0; slot < 8; slot++) {
+                if (list.length() > 0) {
+                    list.append(',');
+                }
+                list.append(String.format(
+                        "{\"dt_txt\":\"%s %02d:00:00\",\"main\":{\"temp\":%d.5,\"humidity\":75},"
+                                + "\"weather\":[{\"description\":\"mưa nhẹ\",\"icon\":\"10d\"}],"
+                                + "\"wind\":{\"speed\":2.0},\"rain\":{\"3h\":0.4}}",
+                        today.plusDays(day), slot * 3, 25 + slot));
+            }
+        }
+        return "{\"list\":[" + list + "]}";
+    }
+}
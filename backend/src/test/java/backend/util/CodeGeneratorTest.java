@@ -0,0 +1,160 @@
+package backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CodeGeneratorTest {
+
+    private static final long NOW = CodeGenerator.EPOCH_MILLIS + 86_400_000L * 500;
+
+    @Test
+    void nextId_UniqueAcrossThreadsAtMillionsOfIds() throws Exception {
+        CodeGenerator generator = new CodeGenerator(7);
+        int threads = 8;
+        int perThread = 500_000;
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    long[] ids = new long[perThread];
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[threads * perThread];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                for (int i = 1; i < ids.length; i++) {
+                    assertTrue(ids[i] > ids[i - 1], "ids must increase within a thread");
+                }
+                System.arraycopy(ids, 0, all, offset, ids.length);
+                offset += ids.length;
+            }
+
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertNotEquals(all[i - 1], all[i], "duplicate id");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void nextId_BurstAboveSequenceCapacityWithFrozenClock() {
+        CodeGenerator generator = new CodeGenerator(1, () -> NOW);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {   // > 4096 ids in the same millisecond
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void nextId_ClockMovingBackwardsNeverRepeats() {
+        AtomicLong clock = new AtomicLong(NOW);
+        CodeGenerator generator = new CodeGenerator(1, clock::get);
+
+        long beforeStep = 0;
+        for (int i = 0; i < 100; i++) {
+            beforeStep = generator.nextId();
+        }
+        clock.addAndGet(-5_000);
+        assertTrue(generator.nextId() > beforeStep);
+    }
+
+    @Test
+    void nextId_DifferentNodesNeverCollide() {
+        CodeGenerator node1 = new CodeGenerator(1, () -> NOW);
+        CodeGenerator node2 = new CodeGenerator(2, () -> NOW);
+
+        assertNotEquals(node1.nextId(), node2.nextId());
+        assertThrows(IllegalArgumentException.class, () -> new CodeGenerator(CodeGenerator.MAX_NODE_ID + 1, () -> NOW));
+        assertThrows(IllegalArgumentException.class, () -> new CodeGenerator(-1, () -> NOW));
+    }
+
+    @Test
+    void nextCode_RoundTripsAndDetectsTypos() {
+        CodeGenerator generator = new CodeGenerator(3, () -> NOW);
+
+        long id = generator.nextId();
+        String code = CodeGenerator.BOOKING_PREFIX + CodeGenerator.encode(id);
+
+        assertEquals(16, code.length());
+        assertEquals(id, CodeGenerator.decode(code, CodeGenerator.BOOKING_PREFIX));
+        assertEquals(id, CodeGenerator.decode(code.toLowerCase(), CodeGenerator.BOOKING_PREFIX));
+        assertTrue(CodeGenerator.isValid(generator.nextBookingCode(), CodeGenerator.BOOKING_PREFIX));
+
+        // Every code is typeable, and every single-character substitution is caught by the check character
+        String alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        assertTrue(code.substring(2).chars().allMatch(c -> alphabet.indexOf(c) >= 0), code);
+        for (int pos = 2; pos < code.length(); pos++) {
+            for (char c : alphabet.toCharArray()) {
+                if (c == code.charAt(pos)) {
+                    continue;
+                }
+                String typo = code.substring(0, pos) + c + code.substring(pos + 1);
+                assertFalse(CodeGenerator.isValid(typo, CodeGenerator.BOOKING_PREFIX), typo);
+            }
+        }
+
+        assertFalse(CodeGenerator.isValid("BK123", CodeGenerator.BOOKING_PREFIX));
+        assertFalse(CodeGenerator.isValid(code, CodeGenerator.VOUCHER_PREFIX));
+    }
+
+    @Test
+    void mayExist_RejectsOnlyGeneratedLengthCodesWithABadCheckCharacter() {
+        String voucher = new CodeGenerator(3, () -> NOW).nextVoucherCode();
+        char last = voucher.charAt(voucher.length() - 1);
+        String typo = voucher.substring(0, voucher.length() - 1) + (last == '0' ? '1' : '0');
+
+        assertTrue(CodeGenerator.mayExist(voucher, CodeGenerator.VOUCHER_PREFIX));
+        assertFalse(CodeGenerator.mayExist(typo, CodeGenerator.VOUCHER_PREFIX));
+        assertTrue(CodeGenerator.mayExist("PV1A2B3C4D", CodeGenerator.VOUCHER_PREFIX));   // issued before the generator
+    }
+
+    @Test
+    void referralCode_IsStablePerUserAndUsesOnlyTheBase32Alphabet() {
+        String code = CodeGenerator.referralCode(42);
+
+        assertEquals(code, CodeGenerator.referralCode(42));
+        assertEquals(11, code.length());
+        assertTrue(code.substring(3).chars().allMatch(c -> "0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(c) >= 0), code);
+        assertEquals(42L, CodeGenerator.decodeReferralCode(code));
+        assertEquals(42L, CodeGenerator.decodeReferralCode(code.toLowerCase()));
+
+        // Single-character typos are rejected by the Luhn mod 32 check character
+        String alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        for (int pos = 3; pos < code.length(); pos++) {
+            for (char c : alphabet.toCharArray()) {
+                if (c == code.charAt(pos)) {
+                    continue;
+                }
+                String typo = code.substring(0, pos) + c + code.substring(pos + 1);
+                assertFalse(CodeGenerator.isValidReferralCode(typo), typo);
+            }
+        }
+        assertFalse(CodeGenerator.isValidReferralCode("REF42A1B2C3"));
+    }
+}
@@ -0,0 +1,63 @@
+package backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmailTemplateEngineTest {
+
+    private static EmailTemplateEngine engine(String name, String source, Locale locale) {
+        return new EmailTemplateEngine(Map.of(name, CompiledTemplate.compile(name, source)), locale);
+    }
+
+    @Test
+    void render_EscapesValuesAndKeepsRawSlots() {
+        EmailTemplateEngine engine = engine("t", "<p>{{name}}</p>{{{html}}}<a href=\"{{url}}\">x</a>", Locale.US);
+
+        String html = engine.render("t",
+                "name", "Tom & \"Jerry\" <script>",
+                "html", "<strong>15%</strong>",
+                "url", "http://x/?a=1&b=2");
+
+        assertEquals("<p>Tom &amp; &quot;Jerry&quot; &lt;script&gt;</p><strong>15%</strong>"
+                + "<a href=\"http://x/?a=1&amp;b=2\">x</a>", html);
+    }
+
+    @Test
+    void render_MultibyteTextAndMissingValues() {
+        EmailTemplateEngine engine = engine("t", "Xin chào {{userName}} 🎉 {{missing}}|{{points}}", Locale.US);
+
+        assertEquals("Xin chào Nguyễn Văn Á 😀 🎉 |1200", engine.render("t", "userName", "Nguyễn Văn Á 😀", "points", 1200));
+    }
+
+    @Test
+    void render_AmountsUseLocaleGrouping() {
+        assertEquals("1,500,000", engine("t", "{{amount}}", Locale.US).render("t", "amount", new BigDecimal("1500000")));
+        assertEquals("1.500.000", engine("t", "{{amount}}", Locale.forLanguageTag("vi-VN"))
+                .render("t", "amount", new BigDecimal("1500000.40")));
+        assertEquals(String.format(Locale.US, "%,.0f", 2500.5), engine("t", "{{amount}}", Locale.US).render("t", "amount", 2500.5));
+    }
+
+    @Test
+    void classpathTemplates_RenderWithoutLeftoverPlaceholders() {
+        EmailTemplateEngine engine = new EmailTemplateEngine("en-US");
+
+        for (String template : new String[] {"welcome", "new-tour", "promotion", "booking-confirmation", "password-reset",
+                "verification", "points-earned", "level-up", "voucher-redeemed", "payment-success",
+                "cancellation-request", "cancellation-approved", "cancellation-rejected", "refund-completed"}) {
+            String html = engine.render(template, "bookingCode", "BK1", "frontendUrl", "http://localhost:5173");
+            assertTrue(html.startsWith("<!DOCTYPE html>"), template);
+            assertFalse(html.contains("{{"), template);
+            assertFalse(html.contains("%%"), template);
+        }
+    }
+
+    @Test
+    void compile_RejectsUnclosedPlaceholder() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("t", "<p>{{name</p>"));
+    }
+}
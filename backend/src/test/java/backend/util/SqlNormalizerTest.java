@@ -0,0 +1,34 @@
+package backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlNormalizerTest {
+
+    @Test
+    void normalize_KeepsHibernateAliasesAndPlaceholders() {
+        String sql = "select t1_0.id,t1_0.name from tours t1_0 where t1_0.id=?";
+        assertEquals(sql, SqlNormalizer.normalize(sql));
+    }
+
+    @Test
+    void normalize_ReplacesLiteralsAndDropsComments() {
+        assertEquals("select * from tours where id = ? and name = ? and price > ?",
+                SqlNormalizer.normalize("/* load Tour */ select *\n  from tours where id = 42 and name = 'O''Brien' -- x\n and price > 1.5"));
+    }
+
+    @Test
+    void normalize_CollapsesInListsAndMultiRowValues() {
+        assertEquals(SqlNormalizer.normalize("select * from t where id in (?, ?)"),
+                SqlNormalizer.normalize("select * from t where id in (?,?,?,?,?)"));
+        assertEquals("insert into v (a,b) values (?...), ...",
+                SqlNormalizer.normalize("insert into v (a,b) values (?, ?), (?, ?), (?, ?)"));
+    }
+
+    @Test
+    void normalize_HandlesBackslashEscapesInStrings() {
+        assertEquals("update table2 set col3 = ? where id=?",
+                SqlNormalizer.normalize("update table2 set col3 = 'a\\'b' where id=7"));
+    }
+}
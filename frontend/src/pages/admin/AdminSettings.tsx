@@ -10,7 +10,7 @@ const AdminSettings: React.FC = () => {
     timezone: 'Asia/Ho_Chi_Minh',
     enableNotifications: true,
     enableReviews: true,
-    autoApproveReviews: false,
+    autoApproveReviews: true,
   });
   const [loading, setLoading] = useState(false);
   const [saveSuccess, setSaveSuccess] = useState(false);
@@ -30,9 +30,10 @@ const AdminSettings: React.FC = () => {
           siteEmail: apiSettings.siteEmail || 'admin@tourmanagement.com',
           currency: apiSettings.currency || 'VND',
           timezone: apiSettings.timezone || 'Asia/Ho_Chi_Minh',
-          enableNotifications: apiSettings.enableNotifications === 'true',
-          enableReviews: apiSettings.enableReviews === 'true',
-          autoApproveReviews: apiSettings.autoApproveReviews === 'true',
+          // Unset toggles are on in the backend too; only an explicit 'false' turns them off
+          enableNotifications: apiSettings.enableNotifications !== 'false',
+          enableReviews: apiSettings.enableReviews !== 'false',
+          autoApproveReviews: apiSettings.autoApproveReviews !== 'false',
         });
       }
     } catch (error) {